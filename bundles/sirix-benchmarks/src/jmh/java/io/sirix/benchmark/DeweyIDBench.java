@@ -0,0 +1,119 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sirix.node.PackedDeweyID;
+import org.sirix.node.PackedDeweyIDBatch;
+import org.sirix.node.SirixDeweyID;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting, ancestor tests and decoding of {@link SirixDeweyID} objects compared to the packed,
+ * byte-comparable form of {@link PackedDeweyID} and {@link PackedDeweyIDBatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DeweyIDBench {
+
+  @Param({"1000000"})
+  int numberOfDeweyIDs;
+
+  private List<SirixDeweyID> deweyIDs;
+
+  private byte[][] bytes;
+
+  private byte[][] packed;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final var random = new Random(42);
+    deweyIDs = new ArrayList<>(numberOfDeweyIDs);
+    bytes = new byte[numberOfDeweyIDs][];
+    packed = new byte[numberOfDeweyIDs][];
+
+    for (int i = 0; i < numberOfDeweyIDs; i++) {
+      // Document-like DeweyIDs with up to 12 levels and mostly small divisions.
+      final int[] divisionValues = new int[2 + random.nextInt(12)];
+      divisionValues[0] = 1;
+      for (int j = 1; j < divisionValues.length; j++) {
+        divisionValues[j] = random.nextInt(10) == 0 ? random.nextInt(1 << 20) : 1 + 2 * random.nextInt(64);
+      }
+
+      final var deweyID = new SirixDeweyID(divisionValues);
+      deweyIDs.add(deweyID);
+      bytes[i] = deweyID.toBytes();
+      packed[i] = PackedDeweyID.pack(deweyID);
+    }
+  }
+
+  @Benchmark
+  public List<SirixDeweyID> sortObjects() {
+    final List<SirixDeweyID> sortedDeweyIDs = new ArrayList<>(deweyIDs);
+    Collections.sort(sortedDeweyIDs);
+    return sortedDeweyIDs;
+  }
+
+  @Benchmark
+  public PackedDeweyIDBatch sortPackedOnHeap() {
+    return sortPacked(false);
+  }
+
+  @Benchmark
+  public PackedDeweyIDBatch sortPackedOffHeap() {
+    return sortPacked(true);
+  }
+
+  private PackedDeweyIDBatch sortPacked(final boolean direct) {
+    final var batch = new PackedDeweyIDBatch(numberOfDeweyIDs, direct);
+    for (final byte[] packedDeweyID : packed) {
+      batch.add(packedDeweyID);
+    }
+    batch.sort();
+    return batch;
+  }
+
+  @Benchmark
+  public int isAncestorOfObjects() {
+    int ancestors = 0;
+    for (int i = 1; i < numberOfDeweyIDs; i++) {
+      if (deweyIDs.get(i - 1).isAncestorOf(deweyIDs.get(i))) {
+        ancestors++;
+      }
+    }
+    return ancestors;
+  }
+
+  @Benchmark
+  public int isAncestorOfPacked() {
+    int ancestors = 0;
+    for (int i = 1; i < numberOfDeweyIDs; i++) {
+      if (PackedDeweyID.isAncestorOf(packed[i - 1], packed[i])) {
+        ancestors++;
+      }
+    }
+    return ancestors;
+  }
+
+  @Benchmark
+  public void decodeBytes(final Blackhole blackhole) {
+    for (final byte[] deweyID : bytes) {
+      blackhole.consume(new SirixDeweyID(deweyID));
+    }
+  }
+
+  @Benchmark
+  public void decodePacked(final Blackhole blackhole) {
+    for (final byte[] deweyID : packed) {
+      blackhole.consume(PackedDeweyID.unpack(deweyID));
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.service.json.serialize.JsonByteSerializer;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Export throughput of the character based {@link JsonSerializer} and the byte based
+ * {@link JsonByteSerializer}, sequentially and in parallel. The output is discarded, such that only the serialization is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class JsonSerializerBench {
+
+  public static final Path DB_PATH = Paths.get(System.getProperty("user.home"), "sirix-data", "json-serializer-db");
+
+  public static final Path JSON_PATH = DB_PATH.resolveSibling("json-serializer-bench.json");
+
+  private static final String RESOURCE = "resource";
+
+  @Param({"false", "true"})
+  boolean withMetaData;
+
+  @Param({"64"})
+  int sizeInMB;
+
+  private Database<JsonResourceManager> database;
+
+  private JsonResourceManager manager;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    createJsonFile(JSON_PATH, sizeInMB * 1024L * 1024L);
+
+    if (Databases.existsDatabase(DB_PATH)) {
+      Databases.removeDatabase(DB_PATH);
+    }
+
+    Databases.createJsonDatabase(new DatabaseConfiguration(DB_PATH));
+    database = Databases.openJsonDatabase(DB_PATH);
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).build());
+    manager = database.openResourceManager(RESOURCE);
+
+    try (final var wtx = manager.beginNodeTrx()) {
+      new JsonShredder.Builder(wtx, JsonShredder.createFileReader(JSON_PATH), InsertPosition.AS_FIRST_CHILD)
+          .commitAfterwards()
+          .build()
+          .call();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    manager.close();
+    database.close();
+    Databases.removeDatabase(DB_PATH);
+    Files.deleteIfExists(JSON_PATH);
+  }
+
+  @Benchmark
+  public void serializeWithWriter() throws IOException {
+    try (final Writer writer = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(),
+                                                                         StandardCharsets.UTF_8), 1 << 16)) {
+      new JsonSerializer.Builder(manager, writer).withMetaData(withMetaData).build().call();
+    }
+  }
+
+  @Benchmark
+  public void serializeBytes() {
+    new JsonByteSerializer.Builder(manager, OutputStream.nullOutputStream()).withMetaData(withMetaData).build().call();
+  }
+
+  @Benchmark
+  public void serializeBytesInParallel() {
+    new JsonByteSerializer.Builder(manager, OutputStream.nullOutputStream()).withMetaData(withMetaData)
+                                                                            .parallelism(Runtime.getRuntime()
+                                                                                                .availableProcessors())
+                                                                            .build()
+                                                                            .call();
+  }
+
+  private static void createJsonFile(final Path path, final long minSize) {
+    try {
+      Files.createDirectories(path.getParent());
+
+      try (final BufferedWriter writer = Files.newBufferedWriter(path)) {
+        writer.write('[');
+
+        long size = 1;
+        for (int i = 0; size < minSize; i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+
+          final String record = "{\"id\":" + i + ",\"name\":\"user\\t" + i + "\",\"active\":" + (i % 2 == 0)
+              + ",\"score\":" + (i * 0.5) + ",\"tags\":[\"a\",\"b\",null],\"address\":{\"city\":\"city" + (i % 100)
+              + "\",\"zip\":" + (10_000 + i % 90_000) + "}}";
+          writer.write(record);
+          size += record.length() + 1;
+        }
+
+        writer.write(']');
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.service.xml.shredder.InsertPosition;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import throughput of the JSON shredder with and without tokenizing the input on a separate thread.
+ * The auxiliary counters report the imported bytes and nodes per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class JsonShredderBench {
+
+  public static final Path DB_PATH = Paths.get(System.getProperty("user.home"), "sirix-data", "json-shredder-db");
+
+  public static final Path JSON_PATH = DB_PATH.resolveSibling("json-shredder-bench.json");
+
+  @Param({"false", "true"})
+  boolean pipelined;
+
+  @Param({"256"})
+  int sizeInMB;
+
+  private Database<JsonResourceManager> database;
+
+  private long fileSize;
+
+  private int numberOfImports;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    createJsonFile(JSON_PATH, sizeInMB * 1024L * 1024L);
+
+    try {
+      fileSize = Files.size(JSON_PATH);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    if (Databases.existsDatabase(DB_PATH)) {
+      Databases.removeDatabase(DB_PATH);
+    }
+
+    Databases.createJsonDatabase(new DatabaseConfiguration(DB_PATH));
+    database = Databases.openJsonDatabase(DB_PATH);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    database.close();
+    Databases.removeDatabase(DB_PATH);
+    Files.deleteIfExists(JSON_PATH);
+  }
+
+  @Benchmark
+  public void importFile(final Counters counters) {
+    final var resource = "resource" + numberOfImports++;
+    database.createResource(ResourceConfiguration.newBuilder(resource).build());
+
+    try (final var manager = database.openResourceManager(resource)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        final var reader =
+            pipelined ? JsonShredder.createPipelinedFileReader(JSON_PATH) : JsonShredder.createFileReader(JSON_PATH);
+        new JsonShredder.Builder(wtx, reader, InsertPosition.AS_FIRST_CHILD).commitAfterwards().build().call();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveToDocumentRoot();
+        counters.nodes += rtx.getDescendantCount();
+      }
+    }
+
+    counters.bytes += fileSize;
+  }
+
+  /**
+   * Counters, which are reported as rates, that is bytes per second and nodes per second.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Counters {
+    public long bytes;
+
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+      nodes = 0;
+    }
+  }
+
+  private static void createJsonFile(final Path path, final long minSize) {
+    try {
+      Files.createDirectories(path.getParent());
+
+      try (final BufferedWriter writer = Files.newBufferedWriter(path)) {
+        writer.write('[');
+
+        long size = 1;
+        for (int i = 0; size < minSize; i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+
+          final String record = "{\"id\":" + i + ",\"name\":\"user" + i + "\",\"active\":" + (i % 2 == 0)
+              + ",\"score\":" + (i * 0.5) + ",\"tags\":[\"a\",\"b\",null],\"address\":{\"city\":\"city" + (i % 100)
+              + "\",\"zip\":" + (10_000 + i % 90_000) + "}}";
+          writer.write(record);
+          size += record.length() + 1;
+        }
+
+        writer.write(']');
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.service.xml.serialize.SAXSerializer;
+import org.sirix.service.xml.serialize.StAXSerializer;
+import org.sirix.service.xml.serialize.XmlSerializer;
+import org.sirix.service.xml.shredder.XmlShredder;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Export of the XMark document {@code auction.xml} of the {@link StorageBench} with the push-based
+ * {@link XmlSerializer} and {@link SAXSerializer} and the pull-based {@link StAXSerializer}. The
+ * output is discarded, such that only the serialization is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XmlSerializerBench {
+
+  public static final Path DB_PATH = StorageBench.DB_PATH.resolveSibling("xml-serializer-db");
+
+  private static final String RESOURCE = "resource";
+
+  @Param({"false", "true"})
+  boolean prettyPrint;
+
+  private Database<XmlResourceManager> database;
+
+  private XmlResourceManager manager;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (Databases.existsDatabase(DB_PATH)) {
+      Databases.removeDatabase(DB_PATH);
+    }
+
+    Databases.createXmlDatabase(new DatabaseConfiguration(DB_PATH));
+    database = Databases.openXmlDatabase(DB_PATH);
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).build());
+    manager = database.openResourceManager(RESOURCE);
+
+    try (final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(
+          XmlShredder.createStringReader(Files.readString(StorageBench.RESOURCES.resolve("auction.xml"))));
+      wtx.commit();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    manager.close();
+    database.close();
+    Databases.removeDatabase(DB_PATH);
+  }
+
+  @Benchmark
+  public void serialize() {
+    final var builder = XmlSerializer.newBuilder(manager, OutputStream.nullOutputStream());
+    if (prettyPrint) {
+      builder.prettyPrint();
+    }
+    builder.build().call();
+  }
+
+  @Benchmark
+  public void serializeWithSAX() {
+    new SAXSerializer(manager, new DefaultHandler(), manager.getMostRecentRevisionNumber()).call();
+  }
+
+  @Benchmark
+  public void serializeWithStAX(final Blackhole blackhole) throws XMLStreamException {
+    final var serializer = new StAXSerializer(manager.beginNodeReadOnlyTrx());
+    try {
+      while (serializer.hasNext()) {
+        blackhole.consume(serializer.nextEvent());
+      }
+    } finally {
+      serializer.close();
+    }
+  }
+}
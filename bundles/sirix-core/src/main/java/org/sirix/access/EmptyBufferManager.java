@@ -3,6 +3,10 @@ package org.sirix.access;
 import org.sirix.cache.RBIndexKey;
 import org.sirix.cache.Cache;
 import org.sirix.cache.EmptyCache;
+import org.sirix.cache.NodeIndexKey;
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.path.summary.PathSummaryData;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
@@ -18,6 +22,14 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
 
   private static final EmptyCache<RBIndexKey, RBNode<?, ?>> AVL_NODE_CACHE = new EmptyCache<>();
 
+  private static final EmptyCache<NodeIndexKey, ArrayPositionIndex> ARRAY_POSITION_INDEX_CACHE =
+      new EmptyCache<>();
+
+  private static final EmptyCache<NodeIndexKey, ObjectFieldDirectory> OBJECT_FIELD_DIRECTORY_CACHE =
+      new EmptyCache<>();
+
+  private static final EmptyCache<Integer, PathSummaryData> PATH_SUMMARY_CACHE = new EmptyCache<>();
+
   EmptyBufferManager() {
   }
 
@@ -41,6 +53,21 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
     return AVL_NODE_CACHE;
   }
 
+  @Override
+  public Cache<NodeIndexKey, ArrayPositionIndex> getArrayPositionIndexCache() {
+    return ARRAY_POSITION_INDEX_CACHE;
+  }
+
+  @Override
+  public Cache<NodeIndexKey, ObjectFieldDirectory> getObjectFieldDirectoryCache() {
+    return OBJECT_FIELD_DIRECTORY_CACHE;
+  }
+
+  @Override
+  public Cache<Integer, PathSummaryData> getPathSummaryCache() {
+    return PATH_SUMMARY_CACHE;
+  }
+
   @Override
   public void close() {
   }
@@ -206,6 +206,9 @@ public final class ResourceConfiguration {
 
   private final boolean storeDiffs;
 
+  /** Determines if per revision statistics should be stored or not. */
+  private final boolean storeStatistics;
+
   // END MEMBERS FOR FIXED FIELDS
 
   /**
@@ -238,6 +241,7 @@ public final class ResourceConfiguration {
     nodeHashFunction = builder.hashFunction;
     storeChildCount = builder.storeChildCount;
     storeDiffs = builder.storeDiffs;
+    storeStatistics = builder.storeStatistics;
   }
 
   ResourceConfiguration setDatabaseConfiguration(final DatabaseConfiguration config) {
@@ -329,6 +333,15 @@ public final class ResourceConfiguration {
     return storeDiffs;
   }
 
+  /**
+   * Determines if per revision statistics are stored in the revision root pages.
+   *
+   * @return {@code true}, if statistics are stored, {@code false} otherwise
+   */
+  public boolean storeStatistics() {
+    return storeStatistics;
+  }
+
   /**
    * Get the configuration file.
    *
@@ -347,7 +360,8 @@ public final class ResourceConfiguration {
    */
   private static final String[] JSONNAMES =
       {"revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind", "hashKind",
-          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter", "storeDiffs"};
+          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter", "storeDiffs",
+          "storeStatistics"};
 
   /**
    * Serialize the configuration.
@@ -391,6 +405,8 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[11]).value(config.recordPersister.getClass().getName());
       // Diffs.
       jsonWriter.name(JSONNAMES[12]).value(config.storeDiffs);
+      // Statistics.
+      jsonWriter.name(JSONNAMES[13]).value(config.storeStatistics);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -481,6 +497,13 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[12]);
       final boolean storeDiffs = jsonReader.nextBoolean();
+      // Statistics (optional for resources created with an older version).
+      boolean storeStatistics = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[13]);
+        storeStatistics = jsonReader.nextBoolean();
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -500,7 +523,8 @@ public final class ResourceConfiguration {
              .useTextCompression(compression)
              .buildPathSummary(pathSummary)
              .useDeweyIDs(deweyIDsStored)
-             .storeDiffs(storeDiffs);
+             .storeDiffs(storeDiffs)
+             .storeStatistics(storeStatistics);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -520,6 +544,9 @@ public final class ResourceConfiguration {
     /** Determines if diffs should be stored or not. */
     public boolean storeDiffs = true;
 
+    /** Determines if per revision statistics should be stored or not. */
+    private boolean storeStatistics;
+
     /** Hashing function for hashing nodes. */
     private HashFunction hashFunction = Hashing.sha256();
 
@@ -605,6 +632,18 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set to {@code true} if per revision statistics (node counts per kind, references per path class
+     * and the total number of value bytes) should be maintained in the revision root pages.
+     *
+     * @param storeStatistics {code true}, if statistics should be stored, {@code false} if not
+     * @return reference to the builder object
+     */
+    public Builder storeStatistics(final boolean storeStatistics) {
+      this.storeStatistics = storeStatistics;
+      return this;
+    }
+
     /**
      * Set the versioning algorithm to use.
      *
@@ -697,6 +736,7 @@ public final class ResourceConfiguration {
                         .add("PathSummary", pathSummary)
                         .add("TextCompression", useTextCompression)
                         .add("Store diffs", storeDiffs)
+                        .add("Store statistics", storeStatistics)
                         .toString();
     }
 
@@ -0,0 +1,351 @@
+package org.sirix.access;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Process-wide execution layer, which is shared by all resource managers and transactions instead
+ * of creating thread pools per instance. It consists of
+ * <ul>
+ * <li>a scheduler for time based tasks, for instance the auto-commit of write transactions,</li>
+ * <li>a bounded pool for short-lived background tasks, for instance reading revision information,
+ * and</li>
+ * <li>an elastic pool for long-running producer tasks of concurrent axes, which block until their
+ * results are consumed and thus must not occupy the bounded pool.</li>
+ * </ul>
+ * All threads are daemon threads and idle pool threads are terminated. The executors are configured
+ * via {@link #configure(Configuration)} before they are used for the first time.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SirixExecutors {
+
+  /**
+   * Keep-alive time of idle threads in seconds.
+   */
+  private static final long KEEP_ALIVE_TIME = 60;
+
+  /**
+   * The configuration of the executors, which are created on first use.
+   */
+  private static Configuration configuration = Configuration.DEFAULT;
+
+  /**
+   * The process-wide instance.
+   */
+  private static volatile SirixExecutors instance;
+
+  /**
+   * Scheduler for time based tasks.
+   */
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  /**
+   * Bounded pool for short-lived background tasks.
+   */
+  private final ThreadPoolExecutor backgroundPool;
+
+  /**
+   * Elastic pool for long-running producer tasks.
+   */
+  private final ThreadPoolExecutor producerPool;
+
+  private final TaskMetrics schedulerMetrics = new TaskMetrics();
+
+  private final TaskMetrics backgroundMetrics = new TaskMetrics();
+
+  private final TaskMetrics producerMetrics = new TaskMetrics();
+
+  private SirixExecutors(final Configuration configuration) {
+    scheduler = new ScheduledThreadPoolExecutor(configuration.numberOfSchedulerThreads(),
+                                                new DaemonThreadFactory("sirix-scheduler"));
+    scheduler.setRemoveOnCancelPolicy(true);
+
+    backgroundPool = new ThreadPoolExecutor(configuration.numberOfBackgroundThreads(),
+                                            configuration.numberOfBackgroundThreads(),
+                                            KEEP_ALIVE_TIME,
+                                            TimeUnit.SECONDS,
+                                            new LinkedBlockingQueue<>(configuration.maxBackgroundQueueSize()),
+                                            new DaemonThreadFactory("sirix-background"),
+                                            new ThreadPoolExecutor.CallerRunsPolicy());
+    backgroundPool.allowCoreThreadTimeOut(true);
+
+    producerPool = new ThreadPoolExecutor(0,
+                                          Integer.MAX_VALUE,
+                                          KEEP_ALIVE_TIME,
+                                          TimeUnit.SECONDS,
+                                          new SynchronousQueue<>(),
+                                          new DaemonThreadFactory("sirix-producer"));
+  }
+
+  /**
+   * Configure the executors. Must be called before the executors are used for the first time.
+   *
+   * @param configuration the configuration
+   * @throws IllegalStateException if the executors are already in use
+   */
+  public static synchronized void configure(@Nonnull final Configuration configuration) {
+    checkNotNull(configuration);
+
+    if (instance != null) {
+      throw new IllegalStateException("The executors are already in use and can not be reconfigured anymore.");
+    }
+
+    SirixExecutors.configuration = configuration;
+  }
+
+  /**
+   * Get the process-wide executors, which are created on first use.
+   *
+   * @return the executors
+   */
+  public static SirixExecutors getInstance() {
+    SirixExecutors executors = instance;
+
+    if (executors == null) {
+      synchronized (SirixExecutors.class) {
+        executors = instance;
+
+        if (executors == null) {
+          executors = new SirixExecutors(configuration);
+          instance = executors;
+        }
+      }
+    }
+
+    return executors;
+  }
+
+  /**
+   * Schedule a periodic task on the shared scheduler. The task is executed for the first time after
+   * the initial delay and subsequently with the given delay between the termination of one execution
+   * and the commencement of the next.
+   *
+   * @param task         the task
+   * @param initialDelay the delay before the first execution
+   * @param delay        the delay between two executions
+   * @param unit         the time unit of the delays
+   * @return the future to cancel the task
+   */
+  public ScheduledFuture<?> scheduleWithFixedDelay(@Nonnull final Runnable task, @Nonnegative final long initialDelay,
+      @Nonnegative final long delay, @Nonnull final TimeUnit unit) {
+    checkNotNull(task);
+    schedulerMetrics.submitted();
+    return scheduler.scheduleWithFixedDelay(measured(task), initialDelay, delay, unit);
+  }
+
+  /**
+   * Schedule a periodic task on the shared scheduler. The task is executed for the first time after
+   * the initial delay and subsequently with the given period between the commencements of two
+   * executions. If an execution takes longer than the period, the next one starts late, but never
+   * concurrently.
+   *
+   * @param task         the task
+   * @param initialDelay the delay before the first execution
+   * @param period       the period between the commencements of two executions
+   * @param unit         the time unit of the delay and the period
+   * @return the future to cancel the task
+   */
+  public ScheduledFuture<?> scheduleAtFixedRate(@Nonnull final Runnable task, @Nonnegative final long initialDelay,
+      @Nonnegative final long period, @Nonnull final TimeUnit unit) {
+    checkNotNull(task);
+    schedulerMetrics.submitted();
+    return scheduler.scheduleAtFixedRate(measured(task), initialDelay, period, unit);
+  }
+
+  private Runnable measured(final Runnable task) {
+    return () -> {
+      final long start = System.nanoTime();
+      try {
+        task.run();
+      } finally {
+        schedulerMetrics.completed(start);
+      }
+    };
+  }
+
+  /**
+   * Submit a short-lived task to the bounded background pool. If the queue of the pool is full, the
+   * task is executed by the calling thread.
+   *
+   * @param task the task
+   * @param <T>  the type of the result
+   * @return the future of the result
+   */
+  public <T> Future<T> submit(@Nonnull final Callable<T> task) {
+    checkNotNull(task);
+    final long submitted = backgroundMetrics.submitted();
+    return backgroundPool.submit(() -> {
+      try {
+        return task.call();
+      } finally {
+        backgroundMetrics.completed(submitted);
+      }
+    });
+  }
+
+  /**
+   * Submit a long-running producer task, which might block until its results are consumed.
+   *
+   * @param task the task
+   * @return the future to wait for or to cancel the task
+   */
+  public Future<?> submitProducer(@Nonnull final Runnable task) {
+    checkNotNull(task);
+    final long submitted = producerMetrics.submitted();
+    return producerPool.submit(() -> {
+      try {
+        task.run();
+      } finally {
+        producerMetrics.completed(submitted);
+      }
+    });
+  }
+
+  /**
+   * Get the metrics of the scheduler. The latency is the execution time of a single run of a
+   * periodic task.
+   *
+   * @return the metrics
+   */
+  public Metrics getSchedulerMetrics() {
+    return schedulerMetrics.toMetrics(scheduler);
+  }
+
+  /**
+   * Get the metrics of the background pool. The latency is the time from submitting a task until it
+   * is completed.
+   *
+   * @return the metrics
+   */
+  public Metrics getBackgroundMetrics() {
+    return backgroundMetrics.toMetrics(backgroundPool);
+  }
+
+  /**
+   * Get the metrics of the producer pool. The latency is the time from submitting a task until it is
+   * completed.
+   *
+   * @return the metrics
+   */
+  public Metrics getProducerMetrics() {
+    return producerMetrics.toMetrics(producerPool);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("scheduler", getSchedulerMetrics())
+                      .add("background", getBackgroundMetrics())
+                      .add("producer", getProducerMetrics())
+                      .toString();
+  }
+
+  /**
+   * The configuration of the executors.
+   *
+   * @param numberOfSchedulerThreads  the number of threads of the scheduler
+   * @param numberOfBackgroundThreads the maximum number of threads of the background pool
+   * @param maxBackgroundQueueSize    the maximum number of queued tasks of the background pool
+   */
+  public record Configuration(int numberOfSchedulerThreads, int numberOfBackgroundThreads,
+      int maxBackgroundQueueSize) {
+
+    /**
+     * The default configuration.
+     */
+    public static final Configuration DEFAULT =
+        new Configuration(1, Runtime.getRuntime().availableProcessors(), 10_000);
+
+    public Configuration {
+      checkArgument(numberOfSchedulerThreads > 0, "numberOfSchedulerThreads must be > 0.");
+      checkArgument(numberOfBackgroundThreads > 0, "numberOfBackgroundThreads must be > 0.");
+      checkArgument(maxBackgroundQueueSize > 0, "maxBackgroundQueueSize must be > 0.");
+    }
+  }
+
+  /**
+   * A snapshot of the metrics of an executor.
+   *
+   * @param submittedTasks      the number of submitted tasks
+   * @param completedTasks      the number of completed tasks (executions of periodic tasks)
+   * @param activeTasks         the number of currently executing tasks
+   * @param queueDepth          the number of queued tasks
+   * @param averageLatencyNanos the average latency of completed tasks in nanoseconds
+   * @param maxLatencyNanos     the maximum latency of completed tasks in nanoseconds
+   */
+  public record Metrics(long submittedTasks, long completedTasks, int activeTasks, int queueDepth,
+      long averageLatencyNanos, long maxLatencyNanos) {
+  }
+
+  private static final class TaskMetrics {
+    private final LongAdder submittedTasks = new LongAdder();
+
+    private final LongAdder completedTasks = new LongAdder();
+
+    private final LongAdder totalLatency = new LongAdder();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    long submitted() {
+      submittedTasks.increment();
+      return System.nanoTime();
+    }
+
+    void completed(final long start) {
+      final long latency = System.nanoTime() - start;
+      completedTasks.increment();
+      totalLatency.add(latency);
+      maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    Metrics toMetrics(final ThreadPoolExecutor executor) {
+      final BlockingQueue<Runnable> queue = executor.getQueue();
+      final long completed = completedTasks.sum();
+      return new Metrics(submittedTasks.sum(),
+                         completed,
+                         executor.getActiveCount(),
+                         queue.size(),
+                         completed == 0 ? 0 : totalLatency.sum() / completed,
+                         maxLatency.get());
+    }
+  }
+
+  private static final class DaemonThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    DaemonThreadFactory(final String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable runnable) {
+      final var thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+
+      thread.setPriority(Thread.NORM_PRIORITY);
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
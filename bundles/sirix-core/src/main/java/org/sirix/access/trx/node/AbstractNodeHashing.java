@@ -13,6 +13,8 @@ import org.sirix.page.PageKind;
 
 import javax.annotation.Nonnegative;
 import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeMap;
 
 public abstract class AbstractNodeHashing {
 
@@ -43,6 +45,24 @@ public abstract class AbstractNodeHashing {
 
   private boolean autoCommit;
 
+  /**
+   * {@code true} if the propagation of rolling hashes of updated nodes to their ancestors is
+   * deferred, {@code false} otherwise
+   */
+  private boolean deferUpdates;
+
+  /**
+   * {@code true} if the hashes and descendant counts of the ancestors of all inserted, removed and
+   * updated nodes are adapted lazily, {@code false} otherwise
+   */
+  private boolean lazy;
+
+  /**
+   * The accumulated changes of descendants, which still have to be applied to the nodes with the
+   * given node keys and to their ancestors.
+   */
+  private final TreeMap<Long, DeferredChange> deferredChanges = new TreeMap<>();
+
   /**
    * Constructor.
    *
@@ -66,6 +86,92 @@ public abstract class AbstractNodeHashing {
     return this;
   }
 
+  /**
+   * Enable or disable deferring the propagation of rolling hashes of updated nodes. If enabled,
+   * updates only adapt the hash of the updated node itself and the hash deltas of all updates are
+   * propagated to the ancestors in one pass, such that shared ancestors are modified once instead of
+   * once per update. Disabling propagates all deferred hash deltas.
+   *
+   * @param value {@code true} to defer the propagation, {@code false} otherwise
+   * @return this instance
+   */
+  public AbstractNodeHashing setDeferUpdates(boolean value) {
+    if (!value && !lazy) {
+      propagateDeferredHashes();
+    }
+    this.deferUpdates = value;
+    return this;
+  }
+
+  /**
+   * Enable or disable lazy hashing. If enabled, inserts, removals and updates only adapt the inserted,
+   * removed or updated node itself. The changes of the hashes and descendant counts of the ancestors
+   * are accumulated and applied in one bottom-up pass, in which each ancestor is modified once, when
+   * {@link #propagateDeferredHashes()} is called, at the latest during the commit. Disabling
+   * propagates all deferred changes.
+   *
+   * @param value {@code true} to enable lazy hashing, {@code false} otherwise
+   * @return this instance
+   */
+  public AbstractNodeHashing setLazy(boolean value) {
+    if (!value) {
+      propagateDeferredHashes();
+    }
+    this.lazy = value;
+    return this;
+  }
+
+  public boolean isLazy() {
+    return lazy;
+  }
+
+  /**
+   * Determines if changes of descendants have not been propagated yet.
+   *
+   * @return {@code true}, if changes have been deferred, {@code false} otherwise
+   */
+  public boolean hasDeferredChanges() {
+    return !deferredChanges.isEmpty();
+  }
+
+  /**
+   * Propagate the deferred changes of the hashes and descendant counts to the ancestors of the
+   * inserted, removed and updated nodes. The nodes are processed in descending order of their node
+   * keys, thus grouped by record page. As a parent node is always created before its children, all
+   * changes of its descendants are accumulated before a node is modified and each ancestor is
+   * modified once.
+   */
+  public void propagateDeferredHashes() {
+    if (deferredChanges.isEmpty()) {
+      return;
+    }
+
+    while (!deferredChanges.isEmpty()) {
+      final Map.Entry<Long, DeferredChange> entry = deferredChanges.pollLastEntry();
+      final DeferredChange change = entry.getValue();
+      final Node node = pageTrx.prepareRecordForModification(entry.getKey(), IndexType.DOCUMENT, -1);
+      final BigInteger hashDelta = change.childHashDelta.add(change.updateHashDelta).multiply(PRIME);
+      node.setHash(Node.to128BitsAtMaximumBigInteger(node.getHash().add(hashDelta)));
+
+      if (change.descendantCountDelta != 0 && node instanceof StructNode) {
+        final StructNode structNode = (StructNode) node;
+        structNode.setDescendantCount(structNode.getDescendantCount() + change.descendantCountDelta);
+      }
+
+      if (node.hasParent()) {
+        // The hash of this node changes by the child hash delta multiplied with the prime, whereas
+        // updates change the hashes of all ancestors by the same delta.
+        deferChange(node.getParentKey(),
+                    Node.to128BitsAtMaximumBigInteger(change.childHashDelta.multiply(PRIME)),
+                    change.updateHashDelta,
+                    change.descendantCountDelta);
+      }
+    }
+
+    // Reload the current node, as its hash might have changed.
+    nodeReadOnlyTrx.moveTo(getCurrentNode().getNodeKey());
+  }
+
   /**
    * Adapting the structure with a hash for all ancestors only with insert.
    *
@@ -75,7 +181,12 @@ public abstract class AbstractNodeHashing {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingAdd();
+          propagateDeferredChangesOfSubtree();
+          if (lazy) {
+            deferredRollingAdd();
+          } else {
+            rollingAdd();
+          }
           break;
         case POSTORDER:
           postorderAdd();
@@ -95,7 +206,12 @@ public abstract class AbstractNodeHashing {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingRemove();
+          propagateDeferredChangesOfSubtree();
+          if (lazy) {
+            deferredRollingRemove();
+          } else {
+            rollingRemove();
+          }
           break;
         case POSTORDER:
           postorderRemove();
@@ -116,7 +232,11 @@ public abstract class AbstractNodeHashing {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingUpdate(oldHash);
+          if (deferUpdates || lazy) {
+            deferredRollingUpdate(oldHash);
+          } else {
+            rollingUpdate(oldHash);
+          }
           break;
         case POSTORDER:
           postorderAdd();
@@ -224,6 +344,101 @@ public abstract class AbstractNodeHashing {
     setCurrentNode(newNode);
   }
 
+  /**
+   * Adapting the rolling hash of the updated node and recording the hash delta for its ancestors,
+   * which is propagated in {@link #propagateDeferredHashes()}.
+   *
+   * @param oldHash the old hash of the node, which has been updated
+   */
+  private void deferredRollingUpdate(final BigInteger oldHash) {
+    final ImmutableNode newNode = getCurrentNode();
+    final BigInteger hashDelta = newNode.computeHash().subtract(oldHash);
+
+    final Node node = pageTrx.prepareRecordForModification(newNode.getNodeKey(), IndexType.DOCUMENT, -1);
+    node.setHash(Node.to128BitsAtMaximumBigInteger(node.getHash().add(hashDelta)));
+
+    if (node.hasParent()) {
+      deferChange(node.getParentKey(), BigInteger.ZERO, hashDelta, 0);
+    }
+
+    setCurrentNode(node);
+  }
+
+  /**
+   * Adapting the rolling hash of the inserted node and recording the changes of its ancestors, which
+   * are propagated in {@link #propagateDeferredHashes()}.
+   */
+  private void deferredRollingAdd() {
+    final ImmutableNode startNode = getCurrentNode();
+    final long oldDescendantCount = getStructuralNode().getDescendantCount();
+    final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
+    final BigInteger hashToAdd = startNode.getHash() == null || BigInteger.ZERO.equals(startNode.getHash())
+        ? startNode.computeHash()
+        : startNode.getHash();
+
+    if (!isValueNode(startNode)) {
+      final Node node = pageTrx.prepareRecordForModification(startNode.getNodeKey(), IndexType.DOCUMENT, -1);
+      node.setHash(hashToAdd);
+    }
+
+    if (startNode.hasParent()) {
+      deferChange(startNode.getParentKey(),
+                  hashToAdd,
+                  BigInteger.ZERO,
+                  startNode instanceof StructNode ? descendantCount : 0);
+    }
+
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Adapting the rolling hash of the removed node and recording the changes of its ancestors, which
+   * are propagated in {@link #propagateDeferredHashes()}.
+   */
+  private void deferredRollingRemove() {
+    final ImmutableNode startNode = getCurrentNode();
+    final BigInteger hashToRemove = startNode.getHash();
+
+    final Node node = pageTrx.prepareRecordForModification(startNode.getNodeKey(), IndexType.DOCUMENT, -1);
+    node.setHash(BigInteger.ZERO);
+
+    if (startNode.hasParent()) {
+      deferChange(startNode.getParentKey(),
+                  hashToRemove.negate(),
+                  BigInteger.ZERO,
+                  startNode instanceof StructNode ? -((StructNode) startNode).getDescendantCount() - 1 : 0);
+    }
+
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Propagate the deferred changes, if the subtree of the current node might have deferred changes.
+   * The hash and the descendant count of the current node have to be up to date before it is
+   * inserted or removed. As a parent node is always created before its children, only nodes with a
+   * greater node key might be descendants of the current node.
+   */
+  private void propagateDeferredChangesOfSubtree() {
+    if (!deferredChanges.isEmpty() && deferredChanges.ceilingKey(getCurrentNode().getNodeKey()) != null) {
+      propagateDeferredHashes();
+    }
+  }
+
+  private void deferChange(final long nodeKey, final BigInteger childHashDelta, final BigInteger updateHashDelta,
+      final long descendantCountDelta) {
+    final DeferredChange change = deferredChanges.computeIfAbsent(nodeKey, unused -> new DeferredChange());
+    change.childHashDelta = change.childHashDelta.add(childHashDelta);
+    change.updateHashDelta = change.updateHashDelta.add(updateHashDelta);
+    change.descendantCountDelta += descendantCountDelta;
+  }
+
+  private static boolean isValueNode(final ImmutableNode node) {
+    final NodeKind kind = node.getKind();
+    return kind == NodeKind.STRING_VALUE || kind == NodeKind.OBJECT_STRING_VALUE || kind == NodeKind.BOOLEAN_VALUE
+        || kind == NodeKind.OBJECT_BOOLEAN_VALUE || kind == NodeKind.NUMBER_VALUE
+        || kind == NodeKind.OBJECT_NUMBER_VALUE || kind == NodeKind.NULL_VALUE || kind == NodeKind.OBJECT_NULL_VALUE;
+  }
+
   /**
    * Adapting the structure with a rolling hash for all ancestors only with remove.
    */
@@ -286,10 +501,7 @@ public abstract class AbstractNodeHashing {
     BigInteger newHash;
     BigInteger possibleOldHash = BigInteger.ZERO;
 
-    if (startNode.getKind() == NodeKind.STRING_VALUE || startNode.getKind() == NodeKind.OBJECT_STRING_VALUE
-        || startNode.getKind() == NodeKind.BOOLEAN_VALUE || startNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE
-        || startNode.getKind() == NodeKind.NUMBER_VALUE || startNode.getKind() == NodeKind.OBJECT_NUMBER_VALUE
-        || startNode.getKind() == NodeKind.NULL_VALUE || startNode.getKind() == NodeKind.OBJECT_NULL_VALUE) {
+    if (isValueNode(startNode)) {
       nodeReadOnlyTrx.moveTo(startNode.getParentKey());
     }
 
@@ -403,4 +615,25 @@ public abstract class AbstractNodeHashing {
   public boolean isBulkInsert() {
     return bulkInsert;
   }
+
+  /**
+   * Changes of the descendants of a node, which have not been applied yet.
+   */
+  private static final class DeferredChange {
+    /**
+     * The sum of the hash deltas of the children, which is added multiplied with the prime.
+     */
+    private BigInteger childHashDelta = BigInteger.ZERO;
+
+    /**
+     * The sum of the hash deltas of updated descendants, which is added multiplied with the prime to
+     * all ancestors.
+     */
+    private BigInteger updateHashDelta = BigInteger.ZERO;
+
+    /**
+     * The sum of the descendant count deltas.
+     */
+    private long descendantCountDelta;
+  }
 }
@@ -4,6 +4,7 @@ import org.brackit.xquery.xdm.DocumentException;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.ResourceStore;
+import org.sirix.access.SirixExecutors;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.xml.XmlResourceManagerImpl;
 import org.sirix.access.trx.page.NodePageReadOnlyTrx;
@@ -15,17 +16,21 @@ import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.RBIndexKey;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.Cache;
+import org.sirix.cache.NodeIndexKey;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexType;
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.node.interfaces.Node;
 import org.sirix.page.PageKind;
+import org.sirix.page.RevisionStatistics;
 import org.sirix.page.UberPage;
 import org.sirix.settings.Fixed;
 
@@ -40,7 +45,9 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -54,11 +61,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     implements ResourceManager<R, W>, InternalResourceManager<R, W> {
 
-  /**
-   * Thread pool.
-   */
-  final ExecutorService threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
   /**
    * The database.
    */
@@ -193,6 +195,16 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     return bufferManager.getIndexCache();
   }
 
+  @Override
+  public Cache<NodeIndexKey, ArrayPositionIndex> getArrayPositionIndexCache() {
+    return bufferManager.getArrayPositionIndexCache();
+  }
+
+  @Override
+  public Cache<NodeIndexKey, ObjectFieldDirectory> getObjectFieldDirectoryCache() {
+    return bufferManager.getObjectFieldDirectoryCache();
+  }
+
   /**
    * Create a new {@link PageTrx}.
    *
@@ -245,7 +257,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
 
     for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(SirixExecutors.getInstance().submit(new RevisionInfoRunnable(this, revision)));
     }
 
     return getResult(revisionInfos);
@@ -259,7 +271,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
         revision--) {
-      revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+      revisionInfos.add(SirixExecutors.getInstance().submit(new RevisionInfoRunnable(this, revision)));
     }
 
     return getResult(revisionInfos);
@@ -277,6 +289,39 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     }
   }
 
+  @Override
+  public Optional<RevisionStatistics> getRevisionStatistics(final @Nonnegative int revision) {
+    assertAccess(revision);
+
+    try (final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision)) {
+      return pageReadTrx.getActualRevisionRootPage().getStatistics();
+    }
+  }
+
+  @Override
+  public NavigableMap<Integer, RevisionStatistics> getRevisionStatistics(final @Nonnegative int fromRevision,
+      final @Nonnegative int toRevision) {
+    assertAccess(fromRevision);
+    assertAccess(toRevision);
+
+    checkArgument(fromRevision <= toRevision);
+
+    final var statistics = new TreeMap<Integer, RevisionStatistics>();
+
+    try (final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(toRevision)) {
+      for (int revision = fromRevision; revision <= toRevision; revision++) {
+        // Revisions without statistics, for instance revisions committed before statistics have been
+        // stored, are skipped.
+        final int currentRevision = revision;
+        pageReadTrx.loadRevRoot(revision)
+                   .getStatistics()
+                   .ifPresent(revisionStatistics -> statistics.put(currentRevision, revisionStatistics));
+      }
+    }
+
+    return statistics;
+  }
+
   @Override
   public Path getResourcePath() {
     assertNotClosed();
@@ -425,13 +470,6 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   @Override
   public synchronized void close() {
     if (!isClosed) {
-      threadPool.shutdown();
-      try {
-        threadPool.awaitTermination(5, TimeUnit.SECONDS);
-      } catch (InterruptedException e) {
-        throw new IllegalStateException(e);
-      }
-
       // Close all open node transactions.
       for (NodeReadOnlyTrx rtx : nodeTrxMap.values()) {
         if (rtx instanceof XmlNodeTrx) {
@@ -639,7 +677,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     assertAccess(revision);
 
     final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-    return PathSummaryReader.getInstance(pageReadTrx, this);
+    return PathSummaryReader.getInstance(pageReadTrx, this, bufferManager.getPathSummaryCache());
   }
 
   @Override
@@ -309,6 +309,16 @@ public abstract class AbstractForwardingJsonNodeReadOnlyTrx extends ForwardingOb
     return delegate().moveToFirstChild();
   }
 
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToChildAtIndex(int index) {
+    return delegate().moveToChildAtIndex(index);
+  }
+
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToField(String name) {
+    return delegate().moveToField(name);
+  }
+
   @Override
   public Move<? extends JsonNodeReadOnlyTrx> moveToLastChild() {
     return delegate().moveToLastChild();
@@ -17,10 +17,15 @@ import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.cache.NodeIndexCache;
 import org.sirix.diff.JsonDiffSerializer;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.node.NodeKind;
+import org.sirix.node.PackedDeweyID;
+import org.sirix.node.PackedDeweyIDBatch;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.immutable.json.*;
 import org.sirix.node.interfaces.Node;
@@ -38,12 +43,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -165,59 +167,52 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     checkNotNull(rootDeweyId);
 
     final var updateOperations = getUpdateOperations();
+    final byte[] packedRootDeweyId = PackedDeweyID.pack(rootDeweyId);
 
-    final var filteredAndSortedUpdateOperations = updateOperations.stream()
-                                                                  .filter(filterAncestorOperations(rootDeweyId,
-                                                                                                   maxDepth))
-                                                                  .sorted(sortByDeweyID())
-                                                                  .collect(Collectors.toList());
-
-    return filteredAndSortedUpdateOperations;
-  }
-
-  private Comparator<JsonObject> sortByDeweyID() {
-    return Comparator.comparing(updateOperation -> {
-      if (updateOperation.has("insert")) {
-        return getDeweyID(updateOperation, "insert");
-      } else if (updateOperation.has("delete")) {
-        return getDeweyID(updateOperation, "delete");
-      } else if (updateOperation.has("update")) {
-        return getDeweyID(updateOperation, "update");
-      } else if (updateOperation.has("replace")) {
-        return getDeweyID(updateOperation, "replace");
-      }
-      throw new IllegalStateException(updateOperation + " not known.");
-    });
-  }
-
-  private Predicate<JsonObject> filterAncestorOperations(SirixDeweyID rootDeweyId, long maxDepth) {
-    return updateOperation -> {
-      if (updateOperation.has("insert")) {
-        return isDescendatOrSelfOf(rootDeweyId, updateOperation, "insert", maxDepth);
-      } else if (updateOperation.has("delete")) {
-        return isDescendatOrSelfOf(rootDeweyId, updateOperation, "delete", maxDepth);
-      } else if (updateOperation.has("update")) {
-        return isDescendatOrSelfOf(rootDeweyId, updateOperation, "update", maxDepth);
-      } else if (updateOperation.has("replace")) {
-        return isDescendatOrSelfOf(rootDeweyId, updateOperation, "replace", maxDepth);
-      } else {
-        throw new IllegalStateException(updateOperation + " not known.");
+    // Every DeweyID is parsed only once. The ancestor test and the sort in document order are done on
+    // the packed bytes.
+    final var deweyIds = new PackedDeweyIDBatch(updateOperations.size(), false);
+    final var filteredUpdateOperations = new ArrayList<JsonObject>();
+
+    for (final JsonObject updateOperation : updateOperations) {
+      final SirixDeweyID deweyId = getDeweyID(updateOperation);
+      final byte[] packedDeweyId = PackedDeweyID.pack(deweyId);
+
+      if (PackedDeweyID.isAncestorOrSelfOf(packedRootDeweyId, packedDeweyId)
+          && deweyId.getLevel() - rootDeweyId.getLevel() <= maxDepth) {
+        deweyIds.add(packedDeweyId);
+        filteredUpdateOperations.add(updateOperation);
       }
-    };
-  }
+    }
 
-  private SirixDeweyID getDeweyID(final JsonObject updateOperation, final String operation) {
-    final var opAsJsonObject = updateOperation.getAsJsonObject(operation);
-    return new SirixDeweyID(opAsJsonObject.getAsJsonPrimitive("deweyID").getAsString());
+    deweyIds.sort();
+
+    final var sortedUpdateOperations = new ArrayList<JsonObject>(deweyIds.size());
+
+    for (int i = 0; i < deweyIds.size(); i++) {
+      sortedUpdateOperations.add(filteredUpdateOperations.get(deweyIds.indexAt(i)));
+    }
+
+    return sortedUpdateOperations;
   }
 
-  private boolean isDescendatOrSelfOf(final SirixDeweyID rootDeweyId, final JsonObject updateOperation,
-      final String operation, final long maxDepth) {
-    final var opAsJsonObject = updateOperation.getAsJsonObject(operation);
+  private SirixDeweyID getDeweyID(final JsonObject updateOperation) {
+    final String operation;
 
-    final var deweyId = new SirixDeweyID(opAsJsonObject.getAsJsonPrimitive("deweyID").getAsString());
+    if (updateOperation.has("insert")) {
+      operation = "insert";
+    } else if (updateOperation.has("delete")) {
+      operation = "delete";
+    } else if (updateOperation.has("update")) {
+      operation = "update";
+    } else if (updateOperation.has("replace")) {
+      operation = "replace";
+    } else {
+      throw new IllegalStateException(updateOperation + " not known.");
+    }
 
-    return deweyId.isDescendantOrSelfOf(rootDeweyId) && deweyId.getLevel() - rootDeweyId.getLevel() <= maxDepth;
+    final var opAsJsonObject = updateOperation.getAsJsonObject(operation);
+    return new SirixDeweyID(opAsJsonObject.getAsJsonPrimitive("deweyID").getAsString());
   }
 
   @Override
@@ -323,6 +318,84 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     };
   }
 
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToChildAtIndex(final int index) {
+    assertNotClosed();
+    checkArgument(index >= 0, "index must be >= 0.");
+
+    // Write transactions maintain their own positional indexes, which must not be shared.
+    if (isArray() && getChildCount() >= ArrayPositionIndex.MIN_NUMBER_OF_CHILDREN
+        && !(pageReadOnlyTrx instanceof PageTrx)) {
+      final ArrayPositionIndex positionIndex = NodeIndexCache.getOrBuild(resourceManager.getArrayPositionIndexCache(),
+                                                                         getNodeKey(),
+                                                                         getRevisionNumber(),
+                                                                         () -> ArrayPositionIndex.of(this));
+
+      synchronized (positionIndex) {
+        if (index >= positionIndex.size()) {
+          return Move.notMoved();
+        }
+        return moveTo(positionIndex.getNodeKey(index));
+      }
+    }
+
+    final long nodeKey = getNodeKey();
+
+    if (!moveToFirstChild().hasMoved()) {
+      return Move.notMoved();
+    }
+
+    for (int i = 0; i < index; i++) {
+      if (!moveToRightSibling().hasMoved()) {
+        moveTo(nodeKey);
+        return Move.notMoved();
+      }
+    }
+
+    return Move.moved(this);
+  }
+
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToField(final String name) {
+    assertNotClosed();
+    checkNotNull(name);
+
+    if (!isObject()) {
+      return Move.notMoved();
+    }
+
+    // Write transactions maintain their own field directories, which must not be shared.
+    if (getChildCount() >= ObjectFieldDirectory.MIN_NUMBER_OF_CHILDREN && !(pageReadOnlyTrx instanceof PageTrx)) {
+      final ObjectFieldDirectory directory = NodeIndexCache.getOrBuild(resourceManager.getObjectFieldDirectoryCache(),
+                                                                       getNodeKey(),
+                                                                       getRevisionNumber(),
+                                                                       () -> ObjectFieldDirectory.of(this));
+
+      final long nodeKey = directory.getNodeKey(name);
+
+      if (nodeKey == ObjectFieldDirectory.NOT_FOUND) {
+        return Move.notMoved();
+      }
+
+      if (nodeKey != ObjectFieldDirectory.AMBIGUOUS) {
+        return moveTo(nodeKey);
+      }
+    }
+
+    final long nodeKey = getNodeKey();
+
+    if (moveToFirstChild().hasMoved()) {
+      do {
+        if (name.equals(getName().getLocalName())) {
+          return Move.moved(this);
+        }
+      } while (moveToRightSibling().hasMoved());
+    }
+
+    moveTo(nodeKey);
+    return Move.notMoved();
+  }
+
   @Override
   public boolean isArray() {
     assertNotClosed();
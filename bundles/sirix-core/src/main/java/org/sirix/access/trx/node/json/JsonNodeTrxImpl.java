@@ -29,30 +29,35 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.SirixExecutors;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.*;
 import org.sirix.access.trx.node.InternalResourceManager.Abort;
-import org.sirix.access.trx.node.json.objectvalue.ObjectRecordValue;
+import org.sirix.access.trx.node.json.objectvalue.*;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
+import org.sirix.api.Move;
 import org.sirix.api.PageTrx;
 import org.sirix.api.PostCommitHook;
 import org.sirix.api.PreCommitHook;
+import org.sirix.api.json.JsonMutation;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.DescendantAxis;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.PostOrderAxis;
+import org.sirix.cache.NodeIndexCache;
 import org.sirix.diff.DiffDepth;
 import org.sirix.diff.DiffFactory;
 import org.sirix.diff.DiffTuple;
 import org.sirix.diff.JsonDiffSerializer;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
-import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexType;
+import org.sirix.index.field.ObjectFieldDirectory;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.path.summary.PathSummaryWriter;
 import org.sirix.index.path.summary.PathSummaryWriter.OPType;
 import org.sirix.node.NodeKind;
@@ -81,9 +86,7 @@ import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -146,10 +149,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   private final HashType hashType;
 
   /**
-   * Scheduled executor service.
+   * The auto-commit task on the shared scheduler, if committing is time based.
    */
-  private final ScheduledExecutorService threadPool =
-      Executors.newScheduledThreadPool(1, new JsonNodeTrxThreadFactory());
+  private final ScheduledFuture<?> autoCommitTask;
 
   /**
    * {@link InternalJsonNodeReadOnlyTrx} reference.
@@ -231,11 +233,42 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private boolean canRemoveValue;
 
+  /**
+   * The roots of unlinked subtrees, whose nodes are removed during the next commit.
+   */
+  private final List<Long> deferredSubtreeRemovals = new ArrayList<>();
+
+  /**
+   * The positional indexes of large arrays, which are maintained during modifications and shared
+   * once the transaction commits.
+   */
+  private final Map<Long, ArrayPositionIndex> arrayPositionIndexes = new HashMap<>();
+
+  /**
+   * The field directories of objects with many fields, which are maintained during modifications
+   * and shared once the transaction commits.
+   */
+  private final Map<Long, ObjectFieldDirectory> objectFieldDirectories = new HashMap<>();
+
   /**
    * The revision number before bulk-inserting nodes.
    */
   private int beforeBulkInsertionRevisionNumber;
 
+  /**
+   * The keys of bulk inserted nodes, whose subtrees might still grow, from the most recently inserted
+   * node up to the root of the inserted subtree. {@code null}, if hashes are not computed while
+   * bulk inserting a subtree.
+   */
+  private Deque<Long> incompleteBulkInsertedNodes;
+
+  /**
+   * {@code true}, while a subtree is bulk inserted into the empty document of the first revision. No
+   * update operations are recorded in this case, as no diff is stored for the first revision and there
+   * are no positional indexes or field directories of existing nodes to maintain.
+   */
+  private boolean isInitialLoad;
+
   /**
    * {@code true}, if transaction is auto-committing, {@code false} if not.
    */
@@ -304,9 +337,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
     isAutoCommitting = maxNodeCount > 0 || maxTime > 0;
 
-    if (maxTime > 0) {
-      threadPool.scheduleWithFixedDelay(() -> commit("autoCommit"), maxTime, maxTime, timeUnit);
-    }
+    autoCommitTask = maxTime > 0
+        ? SirixExecutors.getInstance().scheduleWithFixedDelay(() -> commit("autoCommit"), maxTime, maxTime, timeUnit)
+        : null;
 
     // Synchronize commit and other public methods if needed.
     lock = maxTime > 0 ? new ReentrantLock() : null;
@@ -472,13 +505,6 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         default -> throw new UnsupportedOperationException();
       }
 
-      checkAccessAndCommit();
-      beforeBulkInsertionRevisionNumber = nodeReadOnlyTrx.getRevisionNumber();
-      nodeHashing.setBulkInsert(true);
-      if (isAutoCommitting) {
-        nodeHashing.setAutoCommit(true);
-      }
-      var nodeKey = getCurrentNode().getNodeKey();
       final var shredderBuilder = new JsonShredder.Builder(this, reader, insertionPosition);
 
       if (skipRootJsonToken) {
@@ -486,34 +512,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       }
 
       final var shredder = shredderBuilder.build();
-      shredder.call();
-      moveTo(nodeKey);
-
-      switch (insertionPosition) {
-        case AS_FIRST_CHILD:
-          moveToFirstChild();
-          break;
-        case AS_LAST_CHILD:
-          moveToLastChild();
-          break;
-        case AS_LEFT_SIBLING:
-          moveToLeftSibling();
-          break;
-        case AS_RIGHT_SIBLING:
-          moveToRightSibling();
-          break;
-        default:
-          // May not happen.
-      }
-
-      adaptUpdateOperationsForInsert(getDeweyID(), getNodeKey());
-
-      // bulk inserts will be disabled for auto-commits after the first commit
-      if (!isAutoCommitting) {
-        adaptHashesInPostorderTraversal();
-      }
-
-      nodeHashing.setBulkInsert(false);
+      bulkInsert(insertionPosition, skipRootJsonToken, shredder::call);
 
       if (commit == Commit.Implicit) {
         commit();
@@ -530,12 +529,280 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     return this;
   }
 
+  @Override
+  public JsonNodeTrx copySubtreeAsFirstChild(final JsonNodeReadOnlyTrx rtx) {
+    return copySubtree(rtx, InsertPosition.AS_FIRST_CHILD);
+  }
+
+  @Override
+  public JsonNodeTrx copySubtreeAsLastChild(final JsonNodeReadOnlyTrx rtx) {
+    return copySubtree(rtx, InsertPosition.AS_LAST_CHILD);
+  }
+
+  @Override
+  public JsonNodeTrx copySubtreeAsLeftSibling(final JsonNodeReadOnlyTrx rtx) {
+    return copySubtree(rtx, InsertPosition.AS_LEFT_SIBLING);
+  }
+
+  @Override
+  public JsonNodeTrx copySubtreeAsRightSibling(final JsonNodeReadOnlyTrx rtx) {
+    return copySubtree(rtx, InsertPosition.AS_RIGHT_SIBLING);
+  }
+
+  private JsonNodeTrx copySubtree(final JsonNodeReadOnlyTrx rtx, final InsertPosition insertionPosition) {
+    nodeReadOnlyTrx.assertNotClosed();
+    checkNotNull(rtx);
+    assert insertionPosition != null;
+
+    if (rtx == this) {
+      throw new SirixUsageException("The subtree to copy must not be read by the transaction, which inserts the copy.");
+    }
+
+    acquireLockIfNecessary();
+
+    // The source is traversed directly, such that uncommitted changes of another write transaction are
+    // copied, too.
+    final long startNodeKey = rtx.getNodeKey();
+
+    try {
+      checkState();
+
+      if (rtx.getKind() == NodeKind.JSON_DOCUMENT && !rtx.moveToFirstChild().hasMoved()) {
+        throw new SirixUsageException("The document to copy is empty.");
+      }
+
+      final boolean asChild =
+          insertionPosition == InsertPosition.AS_FIRST_CHILD || insertionPosition == InsertPosition.AS_LAST_CHILD;
+
+      if (rtx.getKind() == NodeKind.OBJECT_KEY) {
+        if (asChild ? getKind() != NodeKind.OBJECT : getKind() != NodeKind.OBJECT_KEY) {
+          throw new SirixUsageException("An object record can only be copied into an object.");
+        }
+      } else if (asChild
+          ? getKind() != NodeKind.ARRAY && getKind() != NodeKind.JSON_DOCUMENT
+          : getParentKind() != NodeKind.ARRAY) {
+        throw new SirixUsageException("Values can only be copied into an array or the document root.");
+      }
+
+      bulkInsert(insertionPosition, false, () -> copy(rtx, insertionPosition));
+    } finally {
+      rtx.moveTo(startNodeKey);
+      unLockIfNecessary();
+    }
+    return this;
+  }
+
+  /**
+   * Copy the subtree rooted at the current node of the read-only transaction in preorder. The write
+   * transaction is moved in lockstep with the read-only transaction to the copy of the current node.
+   *
+   * @param rtx               the read-only transaction, located at the root of the subtree to copy
+   * @param insertionPosition the position of the copy relative to the current node
+   */
+  private void copy(final JsonNodeReadOnlyTrx rtx, final InsertPosition insertionPosition) {
+    final long rootKey = rtx.getNodeKey();
+    copyNode(rtx, insertionPosition);
+
+    while (true) {
+      if ((rtx.getKind() == NodeKind.OBJECT || rtx.getKind() == NodeKind.ARRAY) && rtx.hasFirstChild()) {
+        rtx.moveToFirstChild();
+        copyNode(rtx, InsertPosition.AS_FIRST_CHILD);
+        continue;
+      }
+
+      while (rtx.getNodeKey() != rootKey && !rtx.hasRightSibling()) {
+        rtx.moveToParent();
+        moveToParent();
+      }
+
+      if (rtx.getNodeKey() == rootKey) {
+        return;
+      }
+
+      rtx.moveToRightSibling();
+      copyNode(rtx, InsertPosition.AS_RIGHT_SIBLING);
+    }
+  }
+
+  /**
+   * Insert a copy of the current node of the read-only transaction. Object keys are inserted together
+   * with their value, that is both transactions are located at the value afterwards.
+   *
+   * @param rtx               the read-only transaction
+   * @param insertionPosition the position of the copy relative to the current node
+   */
+  private void copyNode(final JsonNodeReadOnlyTrx rtx, final InsertPosition insertionPosition) {
+    // $CASES-OMITTED$
+    switch (rtx.getKind()) {
+      case OBJECT_KEY -> {
+        final String name = rtx.getName().getLocalName();
+        rtx.moveToFirstChild();
+        final ObjectRecordValue<?> value = getObjectRecordValue(rtx);
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertObjectRecordAsFirstChild(name, value);
+          case AS_LAST_CHILD -> insertObjectRecordAsLastChild(name, value);
+          case AS_LEFT_SIBLING -> insertObjectRecordAsLeftSibling(name, value);
+          case AS_RIGHT_SIBLING -> insertObjectRecordAsRightSibling(name, value);
+          default -> throw new IllegalStateException();
+        }
+      }
+      case OBJECT -> {
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertObjectAsFirstChild();
+          case AS_LAST_CHILD -> insertObjectAsLastChild();
+          case AS_LEFT_SIBLING -> insertObjectAsLeftSibling();
+          case AS_RIGHT_SIBLING -> insertObjectAsRightSibling();
+          default -> throw new IllegalStateException();
+        }
+      }
+      case ARRAY -> {
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertArrayAsFirstChild();
+          case AS_LAST_CHILD -> insertArrayAsLastChild();
+          case AS_LEFT_SIBLING -> insertArrayAsLeftSibling();
+          case AS_RIGHT_SIBLING -> insertArrayAsRightSibling();
+          default -> throw new IllegalStateException();
+        }
+      }
+      case STRING_VALUE, OBJECT_STRING_VALUE -> {
+        final String value = rtx.getValue();
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertStringValueAsFirstChild(value);
+          case AS_LAST_CHILD -> insertStringValueAsLastChild(value);
+          case AS_LEFT_SIBLING -> insertStringValueAsLeftSibling(value);
+          case AS_RIGHT_SIBLING -> insertStringValueAsRightSibling(value);
+          default -> throw new IllegalStateException();
+        }
+      }
+      case BOOLEAN_VALUE, OBJECT_BOOLEAN_VALUE -> {
+        final boolean value = rtx.getBooleanValue();
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertBooleanValueAsFirstChild(value);
+          case AS_LAST_CHILD -> insertBooleanValueAsLastChild(value);
+          case AS_LEFT_SIBLING -> insertBooleanValueAsLeftSibling(value);
+          case AS_RIGHT_SIBLING -> insertBooleanValueAsRightSibling(value);
+          default -> throw new IllegalStateException();
+        }
+      }
+      case NUMBER_VALUE, OBJECT_NUMBER_VALUE -> {
+        final Number value = rtx.getNumberValue();
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertNumberValueAsFirstChild(value);
+          case AS_LAST_CHILD -> insertNumberValueAsLastChild(value);
+          case AS_LEFT_SIBLING -> insertNumberValueAsLeftSibling(value);
+          case AS_RIGHT_SIBLING -> insertNumberValueAsRightSibling(value);
+          default -> throw new IllegalStateException();
+        }
+      }
+      case NULL_VALUE, OBJECT_NULL_VALUE -> {
+        switch (insertionPosition) {
+          case AS_FIRST_CHILD -> insertNullValueAsFirstChild();
+          case AS_LAST_CHILD -> insertNullValueAsLastChild();
+          case AS_LEFT_SIBLING -> insertNullValueAsLeftSibling();
+          case AS_RIGHT_SIBLING -> insertNullValueAsRightSibling();
+          default -> throw new IllegalStateException();
+        }
+      }
+      default -> throw new SirixUsageException("Node kind " + rtx.getKind() + " can not be copied.");
+    }
+  }
+
+  private static ObjectRecordValue<?> getObjectRecordValue(final JsonNodeReadOnlyTrx rtx) {
+    // $CASES-OMITTED$
+    return switch (rtx.getKind()) {
+      case OBJECT -> new ObjectValue();
+      case ARRAY -> new ArrayValue();
+      case OBJECT_STRING_VALUE -> new StringValue(rtx.getValue());
+      case OBJECT_BOOLEAN_VALUE -> new BooleanValue(rtx.getBooleanValue());
+      case OBJECT_NUMBER_VALUE -> new NumberValue(rtx.getNumberValue());
+      case OBJECT_NULL_VALUE -> new NullValue();
+      default -> throw new IllegalStateException("Unexpected object record value: " + rtx.getKind());
+    };
+  }
+
   private void checkState() {
     if (state != State.Running) {
       throw new IllegalStateException("Transaction state is not running: " + state);
     }
   }
 
+  /**
+   * Bulk insert nodes relative to the current node and adapt the hashes of the inserted nodes and their
+   * ancestors afterwards. The transaction is located at the root of the inserted nodes afterwards.
+   *
+   * @param insertionPosition the position of the inserted nodes relative to the current node
+   * @param multipleRoots     {@code true}, if more than one root node might be inserted
+   * @param insertNodes       inserts the nodes
+   */
+  private void bulkInsert(final InsertPosition insertionPosition, final boolean multipleRoots,
+      final Runnable insertNodes) {
+    checkAccessAndCommit();
+    beforeBulkInsertionRevisionNumber = nodeReadOnlyTrx.getRevisionNumber();
+
+    // Nothing has to be diffed or versioned, if the first revision of a resource is loaded.
+    final boolean initialLoad = !isAutoCommitting && beforeBulkInsertionRevisionNumber == 1
+        && getKind() == NodeKind.JSON_DOCUMENT && !hasFirstChild();
+
+    nodeHashing.setBulkInsert(true);
+    if (isAutoCommitting) {
+      nodeHashing.setAutoCommit(true);
+    }
+    var nodeKey = getCurrentNode().getNodeKey();
+
+    // Compute the hashes of the new nodes in postorder while inserting, as soon as the subtree of a node
+    // is complete, instead of traversing the whole subtree again afterwards.
+    final boolean streamingHashes = !isAutoCommitting && hashType == HashType.ROLLING && !multipleRoots;
+
+    if (streamingHashes) {
+      incompleteBulkInsertedNodes = new ArrayDeque<>();
+    }
+
+    isInitialLoad = initialLoad;
+
+    try {
+      insertNodes.run();
+
+      if (streamingHashes) {
+        completeBulkInsertedNodes(Fixed.NULL_NODE_KEY.getStandardProperty());
+      }
+    } finally {
+      incompleteBulkInsertedNodes = null;
+      isInitialLoad = false;
+    }
+
+    moveTo(nodeKey);
+
+    switch (insertionPosition) {
+      case AS_FIRST_CHILD:
+        moveToFirstChild();
+        break;
+      case AS_LAST_CHILD:
+        moveToLastChild();
+        break;
+      case AS_LEFT_SIBLING:
+        moveToLeftSibling();
+        break;
+      case AS_RIGHT_SIBLING:
+        moveToRightSibling();
+        break;
+      default:
+        // May not happen.
+    }
+
+    if (!initialLoad) {
+      adaptUpdateOperationsForInsert(getDeweyID(), getNodeKey());
+    }
+
+    // bulk inserts will be disabled for auto-commits after the first commit
+    if (streamingHashes) {
+      adaptAncestorHashesForBulkInsert();
+    } else if (!isAutoCommitting) {
+      adaptHashesInPostorderTraversal();
+    }
+
+    nodeHashing.setBulkInsert(false);
+  }
+
   /**
    * Modifying hashes in a postorder-traversal.
    *
@@ -545,6 +812,34 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     new PostOrderAxis(this, IncludeSelf.YES).forEach((unused) -> nodeHashing.addHashAndDescendantCount());
   }
 
+  /**
+   * Add the hashes and descendant counts of all bulk inserted nodes, whose subtrees are complete, that is
+   * all nodes up to (excluding) the parent of the next node to insert.
+   *
+   * @param parentKey the parent key of the next node to insert
+   */
+  private void completeBulkInsertedNodes(final long parentKey) {
+    while (!incompleteBulkInsertedNodes.isEmpty() && incompleteBulkInsertedNodes.peek() != parentKey) {
+      nodeReadOnlyTrx.moveTo(incompleteBulkInsertedNodes.pop());
+      nodeHashing.addHashAndDescendantCount();
+    }
+  }
+
+  /**
+   * Adapt the hashes and descendant counts of the ancestors of a bulk inserted subtree, whose own hashes
+   * are already computed. The transaction must be located at the root of the subtree.
+   */
+  private void adaptAncestorHashesForBulkInsert() {
+    final long nodeKey = getCurrentNode().getNodeKey();
+    final ImmutableNode startNode = getCurrentNode();
+    moveToParent();
+    while (getCurrentNode().hasParent()) {
+      moveToParent();
+      nodeHashing.addParentHash(startNode);
+    }
+    moveTo(nodeKey);
+  }
+
   @Override
   public JsonNodeTrx insertObjectAsFirstChild() {
     acquireLockIfNecessary();
@@ -801,6 +1096,10 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   }
 
   public void adaptUpdateOperationsForInsert(SirixDeweyID id, long newNodeKey) {
+    if (isInitialLoad) {
+      return;
+    }
+
     final var diffTuple = new DiffTuple(DiffFactory.DiffType.INSERTED,
                                         newNodeKey,
                                         0,
@@ -1823,6 +2122,12 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
   @Override
   public JsonNodeTrx remove() {
+    return remove(RemoveSubtree.Immediately);
+  }
+
+  @Override
+  public JsonNodeTrx remove(final RemoveSubtree removeSubtree) {
+    checkNotNull(removeSubtree);
     checkAccessAndCommit();
     acquireLockIfNecessary();
     try {
@@ -1841,16 +2146,31 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       canRemoveValue = false;
 
+      adaptObjectFieldDirectoryForRemove(node);
+
       if (getParentKind() != NodeKind.OBJECT_KEY) {
         adaptUpdateOperationsForRemove(node.getDeweyID(), node.getNodeKey());
       }
 
+      if (removeSubtree == RemoveSubtree.Deferred) {
+        // Adapt hashes and neighbour nodes, the subtree itself is removed during the commit.
+        final ImmutableJsonNode jsonNode = (ImmutableJsonNode) node;
+        nodeReadOnlyTrx.setCurrentNode(jsonNode);
+        nodeHashing.adaptHashesWithRemove();
+        adaptNeighboursForRemove(node);
+        deferredSubtreeRemovals.add(node.getNodeKey());
+        moveToNeighbourAfterRemove(node);
+        return this;
+      }
+
       // Remove subtree.
       for (final var axis = new PostOrderAxis(this); axis.hasNext(); ) {
         axis.next();
 
         final var currentNode = axis.getCursor().getNode();
 
+        removeIndexesOfChildren(currentNode.getNodeKey());
+
         // Remove name.
         removeName();
 
@@ -1879,13 +2199,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(node.getNodeKey());
 
-      if (node.hasRightSibling()) {
-        moveTo(node.getRightSiblingKey());
-      } else if (node.hasLeftSibling()) {
-        moveTo(node.getLeftSiblingKey());
-      } else {
-        moveTo(node.getParentKey());
-      }
+      moveToNeighbourAfterRemove(node);
 
       return this;
     } finally {
@@ -1893,6 +2207,70 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     }
   }
 
+  private void moveToNeighbourAfterRemove(final StructNode node) {
+    if (node.hasRightSibling()) {
+      moveTo(node.getRightSiblingKey());
+    } else if (node.hasLeftSibling()) {
+      moveTo(node.getLeftSiblingKey());
+    } else {
+      moveTo(node.getParentKey());
+    }
+  }
+
+  /**
+   * Remove the nodes of all subtrees, which have been unlinked by a deferred remove. First, the keys
+   * of all nodes are collected and sorted, such that the names, values and records are removed
+   * page-wise afterwards.
+   */
+  private void removeDeferredSubtrees() {
+    if (deferredSubtreeRemovals.isEmpty()) {
+      return;
+    }
+
+    long[] nodeKeys = new long[deferredSubtreeRemovals.size()];
+    int numberOfNodeKeys = 0;
+
+    for (final long subtreeRootKey : deferredSubtreeRemovals) {
+      moveTo(subtreeRootKey);
+      for (final var axis = new PostOrderAxis(this, IncludeSelf.YES); axis.hasNext(); ) {
+        final long nodeKey = axis.next();
+        if (numberOfNodeKeys == nodeKeys.length) {
+          nodeKeys = Arrays.copyOf(nodeKeys, nodeKeys.length << 1);
+        }
+        nodeKeys[numberOfNodeKeys++] = nodeKey;
+      }
+    }
+
+    deferredSubtreeRemovals.clear();
+    Arrays.sort(nodeKeys, 0, numberOfNodeKeys);
+
+    // Adapt the name page, the path summary and the indexes while the parent nodes are still available.
+    for (int i = 0; i < numberOfNodeKeys; i++) {
+      moveTo(nodeKeys[i]);
+      removeIndexesOfChildren(nodeKeys[i]);
+      removeName();
+      removeValue();
+    }
+
+    for (int i = 0; i < numberOfNodeKeys; i++) {
+      pageTrx.removeRecord(nodeKeys[i], IndexType.DOCUMENT, -1);
+      nodeToRevisionsIndex.addRevisionToRecordToRevisionsIndex(nodeKeys[i]);
+    }
+
+    moveToDocumentRoot();
+  }
+
+  /**
+   * Drop the positional index and the field directory of a removed node, if any, such that the indexes of
+   * arrays and objects nested in a removed subtree are neither used nor shared on commit.
+   *
+   * @param nodeKey the key of the removed node
+   */
+  private void removeIndexesOfChildren(final long nodeKey) {
+    arrayPositionIndexes.remove(nodeKey);
+    objectFieldDirectories.remove(nodeKey);
+  }
+
   private void adaptUpdateOperationsForRemove(SirixDeweyID id, final long oldNodeKey) {
     moveToNext();
     final var diffTuple =
@@ -1962,6 +2340,12 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       ObjectKeyNode node = (ObjectKeyNode) nodeReadOnlyTrx.getCurrentNode();
       final BigInteger oldHash = node.computeHash();
 
+      final ObjectFieldDirectory directory = objectFieldDirectories.get(node.getParentKey());
+      if (directory != null) {
+        directory.remove(getName().getLocalName(), node.getNodeKey());
+        directory.put(key, node.getNodeKey());
+      }
+
       // Remove old keys from mapping.
       final NodeKind nodeKind = node.getKind();
       final int oldNameKey = node.getNameKey();
@@ -2022,6 +2406,73 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
             currDiffTuple.getOldNodeKey() == nodeKey && currDiffTuple.getDiff() == DiffFactory.DiffType.DELETED);
   }
 
+  @Override
+  public JsonNodeTrx apply(final List<JsonMutation> mutations) {
+    checkNotNull(mutations);
+    acquireLockIfNecessary();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      checkState();
+
+      final long nodeKey = getNodeKey();
+      final var updates = new ArrayList<JsonMutation>(mutations.size());
+      final var removals = new ArrayList<JsonMutation>();
+
+      for (final JsonMutation mutation : mutations) {
+        checkNotNull(mutation);
+        if (mutation instanceof JsonMutation.Remove) {
+          removals.add(mutation);
+        } else {
+          updates.add(mutation);
+        }
+      }
+
+      // Stable sort, thus updates of the same node keep their order.
+      updates.sort(Comparator.comparingLong(JsonMutation::nodeKey));
+
+      nodeHashing.setDeferUpdates(true);
+      try {
+        for (final JsonMutation update : updates) {
+          moveToMutatedNode(update);
+
+          if (update instanceof JsonMutation.SetStringValue setStringValue) {
+            setStringValue(setStringValue.value());
+          } else if (update instanceof JsonMutation.SetNumberValue setNumberValue) {
+            setNumberValue(setNumberValue.value());
+          } else if (update instanceof JsonMutation.SetBooleanValue setBooleanValue) {
+            setBooleanValue(setBooleanValue.value());
+          } else if (update instanceof JsonMutation.SetObjectKeyName setObjectKeyName) {
+            setObjectKeyName(setObjectKeyName.name());
+          } else {
+            throw new SirixUsageException("Mutation " + update + " is not supported.");
+          }
+        }
+      } finally {
+        // An intermediate commit might have replaced the hashing instance in the meantime.
+        nodeHashing.setDeferUpdates(false);
+      }
+
+      for (final JsonMutation removal : removals) {
+        moveToMutatedNode(removal);
+        remove();
+      }
+
+      if (!moveTo(nodeKey).hasMoved()) {
+        moveToDocumentRoot();
+      }
+
+      return this;
+    } finally {
+      unLockIfNecessary();
+    }
+  }
+
+  private void moveToMutatedNode(final JsonMutation mutation) {
+    if (!moveTo(mutation.nodeKey()).hasMoved()) {
+      throw new SirixUsageException("Node " + mutation.nodeKey() + " of mutation " + mutation + " does not exist.");
+    }
+  }
+
   @Override
   public JsonNodeTrx setStringValue(final String value) {
     checkNotNull(value);
@@ -2162,7 +2613,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceManager.setNodePageWriteTransaction(getId(), pageTrx);
 
+      final boolean isLazyHashing = nodeHashing.isLazy();
       nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing.setLazy(isLazyHashing);
 
       // Reset node factory.
       nodeFactory = null;
@@ -2173,6 +2626,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       // Reset modification counter.
       modificationCount = 0L;
+      deferredSubtreeRemovals.clear();
+      arrayPositionIndexes.clear();
+      objectFieldDirectories.clear();
 
       // Move to document root.
       moveToDocumentRoot();
@@ -2202,12 +2658,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
         pathSummaryWriter = null;
         nodeFactory = null;
 
-        // Shutdown pool.
-        threadPool.shutdown();
-        try {
-          threadPool.awaitTermination(2, TimeUnit.SECONDS);
-        } catch (final InterruptedException e) {
-          throw new SirixThreadedException(e);
+        // Stop auto-commit.
+        if (autoCommitTask != null) {
+          autoCommitTask.cancel(false);
         }
       }
     } finally {
@@ -2223,6 +2676,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       // Reset modification counter.
       modificationCount = 0L;
+      deferredSubtreeRemovals.clear();
+      arrayPositionIndexes.clear();
+      objectFieldDirectories.clear();
 
       // Close current page transaction.
       final long trxID = getId();
@@ -2245,6 +2701,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeFactory = null;
       nodeFactory = new JsonNodeFactoryImpl(hashFunction, pageTrx);
 
+      // Discard the deferred hash changes.
+      final boolean isLazyHashing = nodeHashing.isLazy();
+      nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing.setLazy(isLazyHashing);
+
       reInstantiateIndexes();
 
       return this;
@@ -2286,9 +2747,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     nodeFactory = null;
     nodeFactory = new JsonNodeFactoryImpl(hashFunction, pageTrx);
     final boolean isBulkInsert = nodeHashing.isBulkInsert();
+    final boolean isLazyHashing = nodeHashing.isLazy();
     nodeHashing = null;
     nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
     nodeHashing.setBulkInsert(isBulkInsert);
+    nodeHashing.setLazy(isLazyHashing);
 
     updateOperationsUnordered.clear();
     updateOperationsOrdered.clear();
@@ -2362,6 +2825,83 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
           pageTrx.prepareRecordForModification(structNode.getLeftSiblingKey(), IndexType.DOCUMENT, -1);
       leftSiblingNode.setRightSiblingKey(structNode.getNodeKey());
     }
+
+    if (!isInitialLoad) {
+      adaptArrayPositionIndexForInsert(structNode);
+      adaptObjectFieldDirectoryForInsert(structNode);
+    }
+
+    if (incompleteBulkInsertedNodes != null) {
+      completeBulkInsertedNodes(structNode.getParentKey());
+      incompleteBulkInsertedNodes.push(structNode.getNodeKey());
+    }
+  }
+
+  /**
+   * Add the object key to the field directory of its parent object, if such a directory exists.
+   *
+   * @param structNode the inserted node
+   */
+  private void adaptObjectFieldDirectoryForInsert(final StructNode structNode) {
+    if (structNode.getKind() != NodeKind.OBJECT_KEY) {
+      return;
+    }
+
+    final ObjectFieldDirectory directory = objectFieldDirectories.get(structNode.getParentKey());
+
+    if (directory != null) {
+      final String name = pageTrx.getName(((ObjectKeyNode) structNode).getNameKey(), NodeKind.OBJECT_KEY);
+      directory.put(name, structNode.getNodeKey());
+    }
+  }
+
+  /**
+   * Remove the object key from the field directory of its parent object, if such a directory exists.
+   * The transaction must be located at the node, as long as its name is still stored.
+   *
+   * @param oldNode the node to remove
+   */
+  private void adaptObjectFieldDirectoryForRemove(final StructNode oldNode) {
+    objectFieldDirectories.remove(oldNode.getNodeKey());
+
+    if (oldNode.getKind() != NodeKind.OBJECT_KEY) {
+      return;
+    }
+
+    final ObjectFieldDirectory directory = objectFieldDirectories.get(oldNode.getParentKey());
+
+    if (directory != null) {
+      directory.remove(getName().getLocalName(), oldNode.getNodeKey());
+    }
+  }
+
+  /**
+   * Insert the node into the positional index of its parent array, if such an index exists.
+   *
+   * @param structNode the inserted node
+   */
+  private void adaptArrayPositionIndexForInsert(final StructNode structNode) {
+    final ArrayPositionIndex positionIndex = arrayPositionIndexes.get(structNode.getParentKey());
+
+    if (positionIndex == null) {
+      return;
+    }
+
+    final int position;
+    if (!structNode.hasLeftSibling()) {
+      position = 0;
+    } else if (!structNode.hasRightSibling()) {
+      position = positionIndex.size();
+    } else {
+      position = positionIndex.indexOf(structNode.getLeftSiblingKey()) + 1;
+    }
+
+    if (position == 0 && structNode.hasLeftSibling()) {
+      // Should never happen, but the index is rebuilt on demand anyway.
+      arrayPositionIndexes.remove(structNode.getParentKey());
+    } else {
+      positionIndex.insert(position, structNode.getNodeKey());
+    }
   }
 
   // ////////////////////////////////////////////////////////////
@@ -2381,6 +2921,25 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   private void adaptForRemove(final StructNode oldNode) {
     assert oldNode != null;
 
+    adaptNeighboursForRemove(oldNode);
+
+    // Remove non structural nodes of old node.
+    if (oldNode.getKind() == NodeKind.ELEMENT) {
+      moveTo(oldNode.getNodeKey());
+      // removeNonStructural();
+    }
+
+    // Remove old node.
+    moveTo(oldNode.getNodeKey());
+    pageTrx.removeRecord(oldNode.getNodeKey(), IndexType.DOCUMENT, -1);
+  }
+
+  /**
+   * Adapt the siblings and the parent of a node, such that the node is unlinked.
+   *
+   * @param oldNode the node to unlink
+   */
+  private void adaptNeighboursForRemove(final StructNode oldNode) {
     // Adapt left sibling node if there is one.
     if (oldNode.hasLeftSibling()) {
       final StructNode leftSibling =
@@ -2408,21 +2967,79 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       parent.decrementChildCount();
     }
 
-    // Remove non structural nodes of old node.
-    if (oldNode.getKind() == NodeKind.ELEMENT) {
-      moveTo(oldNode.getNodeKey());
-      // removeNonStructural();
+    adaptArrayPositionIndexForRemove(oldNode);
+  }
+
+  /**
+   * Remove the node from the positional index of its parent array, if such an index exists.
+   *
+   * @param oldNode the removed node
+   */
+  private void adaptArrayPositionIndexForRemove(final StructNode oldNode) {
+    arrayPositionIndexes.remove(oldNode.getNodeKey());
+
+    final ArrayPositionIndex positionIndex = arrayPositionIndexes.get(oldNode.getParentKey());
+
+    if (positionIndex == null) {
+      return;
     }
 
-    // Remove old node.
-    moveTo(oldNode.getNodeKey());
-    pageTrx.removeRecord(oldNode.getNodeKey(), IndexType.DOCUMENT, -1);
+    final int position =
+        oldNode.hasRightSibling() ? positionIndex.indexOf(oldNode.getNodeKey()) : positionIndex.size() - 1;
+
+    if (position == -1) {
+      // Should never happen, but the index is rebuilt on demand anyway.
+      arrayPositionIndexes.remove(oldNode.getParentKey());
+    } else {
+      positionIndex.remove(position);
+    }
   }
 
   // ////////////////////////////////////////////////////////////
   // end of remove operation
   // ////////////////////////////////////////////////////////////
 
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToChildAtIndex(final int index) {
+    nodeReadOnlyTrx.assertNotClosed();
+
+    if (index < 0 || !isArray() || getChildCount() < ArrayPositionIndex.MIN_NUMBER_OF_CHILDREN) {
+      return nodeReadOnlyTrx.moveToChildAtIndex(index);
+    }
+
+    final ArrayPositionIndex positionIndex =
+        arrayPositionIndexes.computeIfAbsent(getNodeKey(), unused -> ArrayPositionIndex.of(nodeReadOnlyTrx));
+
+    if (index >= positionIndex.size()) {
+      return Move.notMoved();
+    }
+
+    return moveTo(positionIndex.getNodeKey(index));
+  }
+
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToField(final String name) {
+    nodeReadOnlyTrx.assertNotClosed();
+
+    if (!isObject() || getChildCount() < ObjectFieldDirectory.MIN_NUMBER_OF_CHILDREN) {
+      return nodeReadOnlyTrx.moveToField(name);
+    }
+
+    final ObjectFieldDirectory directory =
+        objectFieldDirectories.computeIfAbsent(getNodeKey(), unused -> ObjectFieldDirectory.of(nodeReadOnlyTrx));
+    final long nodeKey = directory.getNodeKey(checkNotNull(name));
+
+    if (nodeKey == ObjectFieldDirectory.NOT_FOUND) {
+      return Move.notMoved();
+    }
+
+    if (nodeKey == ObjectFieldDirectory.AMBIGUOUS) {
+      return nodeReadOnlyTrx.moveToField(name);
+    }
+
+    return moveTo(nodeKey);
+  }
+
   /**
    * Making an intermediate commit based on set attributes.
    *
@@ -2563,6 +3180,41 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     return getCurrentNode().getDeweyID();
   }
 
+  @Override
+  public JsonNodeTrx setLazyHashing(final boolean lazyHashing) {
+    acquireLockIfNecessary();
+    try {
+      nodeReadOnlyTrx.assertNotClosed();
+      nodeHashing.setLazy(lazyHashing);
+      return this;
+    } finally {
+      unLockIfNecessary();
+    }
+  }
+
+  @Override
+  public BigInteger getHash() {
+    propagateDeferredHashes();
+    return super.getHash();
+  }
+
+  @Override
+  public long getDescendantCount() {
+    propagateDeferredHashes();
+    return super.getDescendantCount();
+  }
+
+  private void propagateDeferredHashes() {
+    if (nodeHashing.hasDeferredChanges()) {
+      acquireLockIfNecessary();
+      try {
+        nodeHashing.propagateDeferredHashes();
+      } finally {
+        unLockIfNecessary();
+      }
+    }
+  }
+
   @Override
   public JsonNodeTrx setBulkInsertion(boolean bulkInsertion) {
     nodeHashing.setBulkInsert(bulkInsertion);
@@ -2572,15 +3224,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   @Override
   public void adaptHashesInPostorderTraversal() {
     if (hashType != HashType.NONE) {
-      final long nodeKey = getCurrentNode().getNodeKey();
       postOrderTraversalHashes();
-      final ImmutableNode startNode = getCurrentNode();
-      moveToParent();
-      while (getCurrentNode().hasParent()) {
-        moveToParent();
-        nodeHashing.addParentHash(startNode);
-      }
-      moveTo(nodeKey);
+      adaptAncestorHashesForBulkInsert();
     }
   }
 
@@ -2591,6 +3236,9 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     // Optionally lock while commiting and assigning new instances.
     acquireLockIfNecessary();
     try {
+      nodeHashing.propagateDeferredHashes();
+      removeDeferredSubtrees();
+
       state = State.Committing;
 
       // Execute pre-commit hooks.
@@ -2601,11 +3249,16 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       // Reset modification counter.
       modificationCount = 0L;
 
+      final int revision = getRevisionNumber();
       final UberPage uberPage = commitMessage == null ? pageTrx.commit() : pageTrx.commit(commitMessage);
 
       // Remember succesfully committed uber page in resource manager.
       resourceManager.setLastCommittedUberPage(uberPage);
 
+      // Share the positional indexes of the committed revision.
+      NodeIndexCache.share(resourceManager.getArrayPositionIndexCache(), arrayPositionIndexes, revision);
+      NodeIndexCache.share(resourceManager.getObjectFieldDirectoryCache(), objectFieldDirectories, revision);
+
       if (resourceManager.getResourceConfig().storeDiffs()) {
         serializeUpdateDiffs();
       }
@@ -2628,16 +3281,4 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
     return this;
   }
-
-  private static final class JsonNodeTrxThreadFactory implements ThreadFactory {
-    @Override
-    public Thread newThread(@Nonnull final Runnable runnable) {
-      final var thread = new Thread(runnable, "JsonNodeTrxCommitThread");
-
-      thread.setPriority(Thread.NORM_PRIORITY);
-      thread.setDaemon(false);
-
-      return thread;
-    }
-  }
 }
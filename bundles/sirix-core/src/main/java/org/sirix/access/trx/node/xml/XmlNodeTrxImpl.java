@@ -25,6 +25,7 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import org.brackit.xquery.atomic.QNm;
+import org.sirix.access.SirixExecutors;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.AfterCommitState;
 import org.sirix.access.trx.node.CommitCredentials;
@@ -40,7 +41,6 @@ import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.PostOrderAxis;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
-import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
@@ -78,8 +78,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -129,9 +128,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
   private final HashType hashType;
 
   /**
-   * Scheduled executor service.
+   * The auto-commit task on the shared scheduler, if committing is time based.
    */
-  private final ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(1);
+  private final ScheduledFuture<?> autoCommitTask;
 
   /**
    * {@link InternalXmlNodeReadOnlyTrx} reference.
@@ -242,9 +241,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
     this.maxNodeCount = maxNodeCount;
     this.modificationCount = 0L;
 
-    if (maxTime > 0) {
-      threadPool.scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit);
-    }
+    autoCommitTask = maxTime > 0
+        ? SirixExecutors.getInstance().scheduleAtFixedRate(this::commit, maxTime, maxTime, timeUnit)
+        : null;
 
     // Synchronize commit and other public methods if needed.
     lock = maxTime > 0 ? new ReentrantLock() : null;
@@ -1584,12 +1583,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
         pathSummaryWriter = null;
         nodeFactory = null;
 
-        // Shutdown pool.
-        threadPool.shutdown();
-        try {
-          threadPool.awaitTermination(2, TimeUnit.SECONDS);
-        } catch (final InterruptedException e) {
-          throw new SirixThreadedException(e);
+        // Stop auto-commit.
+        if (autoCommitTask != null) {
+          autoCommitTask.cancel(false);
         }
       }
     } finally {
@@ -421,6 +421,67 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return Optional.of(completePage);
   }
 
+  /**
+   * Reconstruct a record page based on the complete record page of the previous revision. Only the
+   * page fragment, which has been written in the revision of this transaction is read and applied, as
+   * it contains all records which have been changed since the previous revision.
+   *
+   * @param pageReference        reference to the record page, which must have been written in this
+   *                             revision
+   * @param previousRevisionPage the complete record page of the previous revision
+   * @return the complete record page of this revision
+   */
+  @SuppressWarnings("unchecked")
+  final <K, V, T extends KeyValuePage<K, V>> Page getRecordPage(final PageReference pageReference,
+      final T previousRevisionPage) {
+    assertNotClosed();
+    checkNotNull(pageReference);
+    checkNotNull(previousRevisionPage);
+
+    if (trxIntentLog == null) {
+      final var page = pageReference.getPage();
+
+      if (page != null) {
+        return page;
+      }
+
+      final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReference);
+
+      if (recordPageFromBuffer != null) {
+        return recordPageFromBuffer;
+      }
+    }
+
+    final T fragment = (T) pageReader.read(new PageReference().setKey(pageReference.getKey()), this);
+    final T completePage = fragment.newInstance(fragment.getPageKey(), fragment.getIndexType(), this);
+
+    for (final Map.Entry<K, V> entry : fragment.entrySet()) {
+      completePage.setRecord(entry.getKey(), entry.getValue());
+    }
+    for (final Map.Entry<K, PageReference> entry : fragment.referenceEntrySet()) {
+      completePage.setPageReference(entry.getKey(), entry.getValue());
+    }
+
+    // Fill in all records, which have not been changed in this revision.
+    for (final Map.Entry<K, V> entry : previousRevisionPage.entrySet()) {
+      if (completePage.getPageReference(entry.getKey()) == null && completePage.getValue(entry.getKey()) == null) {
+        completePage.setRecord(entry.getKey(), entry.getValue());
+      }
+    }
+    for (final Map.Entry<K, PageReference> entry : previousRevisionPage.referenceEntrySet()) {
+      if (completePage.getPageReference(entry.getKey()) == null && completePage.getValue(entry.getKey()) == null) {
+        completePage.setPageReference(entry.getKey(), entry.getValue());
+      }
+    }
+
+    if (trxIntentLog == null) {
+      resourceBufferManager.getRecordPageCache().put(pageReference, completePage);
+      pageReference.setPage(completePage);
+    }
+
+    return completePage;
+  }
+
   private boolean isMostRecentlyReadPage(IndexLogKey indexLogKey) {
     return mostRecentlyReadRecordPage != null
         && mostRecentlyReadRecordPage.getRecordPageKey() == indexLogKey.getRecordPageKey()
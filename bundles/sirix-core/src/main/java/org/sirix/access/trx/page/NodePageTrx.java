@@ -22,6 +22,7 @@
 package org.sirix.access.trx.page;
 
 import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.SirixExecutors;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.IndexController;
@@ -33,12 +34,14 @@ import org.sirix.cache.PageContainer;
 import org.sirix.cache.TransactionIntentLog;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.index.path.summary.PathNode;
 import org.sirix.io.Writer;
 import org.sirix.node.DeletedNode;
 import org.sirix.node.NodeKind;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.Node;
+import org.sirix.node.interfaces.ValueNode;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.KeyValuePage;
 import org.sirix.page.interfaces.Page;
@@ -54,8 +57,13 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -124,6 +132,17 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
   private MostRecentPageContainer mostRecentPageContainer;
 
+  /**
+   * The statistics of the new revision or {@code null}, if no statistics are stored.
+   */
+  private final RevisionStatistics statistics;
+
+  /**
+   * The value lengths of value records before they have been modified the first time in this
+   * transaction (only used if statistics are stored).
+   */
+  private final Map<Long, Integer> valueLengthsBeforeModification;
+
   /**
    * Constructor.
    *
@@ -148,6 +167,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     checkArgument(representRevision >= 0, "The represented revision must be >= 0.");
     this.representRevision = representRevision;
     this.isBoundToNodeTrx = isBoundToNodeTrx;
+    statistics = revisionRootPage.getStatistics().orElse(null);
+    valueLengthsBeforeModification = new HashMap<>();
   }
 
   @Override
@@ -194,6 +215,10 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         ((UnorderedKeyValuePage) cont.getModified()).setRecord(nodeKey, record);
       }
 
+      if (statistics != null && indexType == IndexType.DOCUMENT && record instanceof ValueNode valueNode) {
+        valueLengthsBeforeModification.putIfAbsent(nodeKey, valueNode.getRawValue().length);
+      }
+
       return (V) record;
     }
 
@@ -238,6 +263,17 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       @SuppressWarnings("unchecked")
       final KeyValuePage<Long, DataRecord> modified = (KeyValuePage<Long, DataRecord>) cont.getModified();
       modified.setRecord(createdRecordKey, (DataRecord) record);
+
+      if (statistics != null && indexType == IndexType.DOCUMENT) {
+        final DataRecord dataRecord = (DataRecord) record;
+        if (dataRecord.getKind() instanceof NodeKind kind) {
+          statistics.adaptNodeCount(kind, 1);
+        }
+        if (dataRecord instanceof ValueNode valueNode) {
+          statistics.adaptTotalValueBytes(valueNode.getRawValue().length);
+        }
+      }
+
       return record;
     }
 
@@ -257,6 +293,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       final Optional<DataRecord> node = getRecord(nodeKey, indexType, index);
       if (node.isPresent()) {
         final DataRecord nodeToDel = node.get();
+        if (statistics != null && indexType == IndexType.DOCUMENT) {
+          adaptStatisticsForRemove(nodeToDel);
+        }
         final Node delNode = new DeletedNode(new NodeDelegate(nodeToDel.getNodeKey(),
                                                               -1,
                                                               null,
@@ -338,6 +377,13 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       return;
     }
 
+    if (page instanceof UnorderedKeyValuePage) {
+      final ResourceConfiguration resourceConfig = pageRtx.resourceManager.getResourceConfig();
+      resourceConfig.revisioningType.prepareRecordPageForCommit(container,
+                                                                resourceConfig.numberOfRevisionsToRestore,
+                                                                reference);
+    }
+
     reference.setPage(page);
 
     // Recursively commit indirectly referenced pages and then write self.f
@@ -377,6 +423,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         getActualRevisionRootPage().setCommitMessage(commitMessage);
       }
 
+      if (statistics != null) {
+        updateStatistics();
+      }
+
+      serializeRecordPages();
+
       // Recursively write indirectly referenced pages.
       uberPage.commit(this);
 
@@ -417,6 +469,92 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     return (UberPage) storagePageReaderWriter.read(storagePageReaderWriter.readUberPageReference(), pageRtx);
   }
 
+  /**
+   * Serialize the records of the modified record pages in the transaction intent log in parallel. The
+   * pages are written afterwards in the order of the page tree by the committing thread, which only
+   * serializes records added when preparing a page for the commit. Pages spilled to disk are
+   * serialized on that thread as well.
+   */
+  private void serializeRecordPages() {
+    final List<UnorderedKeyValuePage> pages = new ArrayList<>();
+    for (final PageContainer container : log.getMap().values()) {
+      if (container.getModified() instanceof UnorderedKeyValuePage page) {
+        pages.add(page);
+      }
+    }
+
+    if (pages.size() < 2) {
+      return;
+    }
+
+    final SirixExecutors executors = SirixExecutors.getInstance();
+    final List<Future<?>> futures = new ArrayList<>(pages.size());
+    for (final UnorderedKeyValuePage page : pages) {
+      futures.add(executors.submit(() -> {
+        page.serializeRecords();
+        return null;
+      }));
+    }
+
+    try {
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SirixIOException("Interrupted while serializing the record pages.", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  /**
+   * Adapt the statistics for a record, which is going to be removed.
+   *
+   * @param record the record to remove
+   */
+  private void adaptStatisticsForRemove(final DataRecord record) {
+    if (record.getKind() instanceof NodeKind kind) {
+      statistics.adaptNodeCount(kind, -1);
+    }
+    if (record instanceof ValueNode valueNode) {
+      final Integer lengthBeforeModification = valueLengthsBeforeModification.remove(record.getNodeKey());
+      statistics.adaptTotalValueBytes(
+          -(lengthBeforeModification == null ? valueNode.getRawValue().length : lengthBeforeModification));
+    }
+  }
+
+  /**
+   * Finalize the statistics of the new revision based on the modified value records and the
+   * modified path summary pages in the transaction intent log.
+   */
+  private void updateStatistics() {
+    for (final Map.Entry<Long, Integer> entry : valueLengthsBeforeModification.entrySet()) {
+      final Optional<DataRecord> record = getRecord(entry.getKey(), IndexType.DOCUMENT, -1);
+      final int length = record.filter(ValueNode.class::isInstance)
+                               .map(valueRecord -> ((ValueNode) valueRecord).getRawValue().length)
+                               .orElse(0);
+      statistics.adaptTotalValueBytes(length - entry.getValue());
+    }
+    valueLengthsBeforeModification.clear();
+
+    for (final PageContainer container : log.getMap().values()) {
+      if (container.getModified() instanceof UnorderedKeyValuePage page
+          && page.getIndexType() == IndexType.PATH_SUMMARY) {
+        for (final DataRecord record : page.values()) {
+          if (record instanceof PathNode pathNode) {
+            statistics.setPathNodeReferences(pathNode.getNodeKey(), pathNode.getReferences());
+          } else if (record instanceof DeletedNode) {
+            statistics.setPathNodeReferences(record.getNodeKey(), 0);
+          }
+        }
+      }
+    }
+  }
+
   private void setUserIfPresent() {
     final Optional<User> optionalUser = pageRtx.resourceManager.getUser();
     optionalUser.ifPresent(user -> getActualRevisionRootPage().setUser(user));
@@ -478,17 +616,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       return mostRecentPageContainer.pageContainer();
     }
 
-    final PageReference pageReference = pageRtx.getPageReference(newRevisionRootPage, indexType, indexNumber);
-
     // Get the reference to the unordered key/value page storing the records.
-    final PageReference reference = treeModifier.prepareLeafOfTree(pageRtx,
-                                                                   log,
-                                                                   getUberPage().getPageCountExp(indexType),
-                                                                   pageReference,
-                                                                   recordPageKey,
-                                                                   indexNumber,
-                                                                   indexType,
-                                                                   newRevisionRootPage);
+    final PageReference reference = prepareLeafOfTree(recordPageKey, indexNumber, indexType);
 
     PageContainer pageContainer = log.get(reference, this);
 
@@ -519,6 +648,81 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     return pageContainer;
   }
 
+  /**
+   * Prepare the path from the revision root page to the reference of the record page, that is copy
+   * the indirect pages on the path into the transaction intent log (if not already done).
+   *
+   * @param recordPageKey the key of the record page
+   * @param indexNumber   the index number if it's a record-page of an index, {@code -1}, else
+   * @param indexType     the index type
+   * @return the reference to the record page
+   */
+  private PageReference prepareLeafOfTree(final @Nonnegative long recordPageKey, final int indexNumber,
+      final IndexType indexType) {
+    final PageReference pageReference = pageRtx.getPageReference(newRevisionRootPage, indexType, indexNumber);
+
+    return treeModifier.prepareLeafOfTree(pageRtx,
+                                          log,
+                                          getUberPage().getPageCountExp(indexType),
+                                          pageReference,
+                                          recordPageKey,
+                                          indexNumber,
+                                          indexType,
+                                          newRevisionRootPage);
+  }
+
+  /**
+   * Get the number of page fragments, which have to be read to reconstruct a record page in the
+   * revision this transaction is based on.
+   *
+   * @param recordPageKey the key of the record page
+   * @param indexNumber   the index number if it's a record-page of an index, {@code -1}, else
+   * @param indexType     the index type
+   * @return the number of page fragments or {@code 0}, if the record page doesn't exist
+   */
+  int getNumberOfPageFragments(final @Nonnegative long recordPageKey, final int indexNumber,
+      final IndexType indexType) {
+    return pageRtx.getLeafPageReference(recordPageKey, indexNumber, indexType)
+                  .filter(reference -> reference.getKey() != Constants.NULL_ID_LONG)
+                  .map(reference -> reference.getPageFragments().size() + 1)
+                  .orElse(0);
+  }
+
+  /**
+   * Consolidate a record page, that is write the full page with all records instead of only the
+   * changed records during the next commit. The page fragments of former revisions are not needed
+   * anymore to reconstruct the page in the new revision.
+   *
+   * @param recordPageKey the key of the record page
+   * @param indexNumber   the index number if it's a record-page of an index, {@code -1}, else
+   * @param indexType     the index type
+   */
+  void consolidateRecordPage(final @Nonnegative long recordPageKey, final int indexNumber,
+      final IndexType indexType) {
+    pageRtx.assertNotClosed();
+
+    final PageContainer pageContainer = prepareRecordPage(recordPageKey, indexNumber, indexType);
+    final UnorderedKeyValuePage completePage = (UnorderedKeyValuePage) pageContainer.getComplete();
+    final UnorderedKeyValuePage modifiedPage = (UnorderedKeyValuePage) pageContainer.getModified();
+
+    for (final Map.Entry<Long, DataRecord> entry : completePage.entrySet()) {
+      final long key = entry.getKey();
+      if (modifiedPage.getPageReference(key) == null && modifiedPage.getValue(key) == null) {
+        modifiedPage.setRecord(key, entry.getValue());
+      }
+    }
+
+    for (final Map.Entry<Long, PageReference> entry : completePage.referenceEntrySet()) {
+      final long key = entry.getKey();
+      if (modifiedPage.getPageReference(key) == null && modifiedPage.getValue(key) == null) {
+        modifiedPage.setPageReference(key, entry.getValue());
+      }
+    }
+
+    // The indirect pages are already in the log, thus the same reference is returned.
+    prepareLeafOfTree(recordPageKey, indexNumber, indexType).setPageFragments(List.of());
+  }
+
   private boolean hasMatchingMostRecentPageContainer(long recordPageKey, int indexNumber, IndexType indexType) {
     return mostRecentPageContainer != null && mostRecentPageContainer.pageKey() == recordPageKey
         && mostRecentPageContainer.indexNumber() == indexNumber && mostRecentPageContainer.indexType() == indexType;
@@ -43,6 +43,7 @@ import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
 import org.sirix.io.Writer;
+import org.sirix.node.NodeKind;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
@@ -135,6 +136,16 @@ public final class PageTrxFactory {
       }
     }
 
+    if (resourceManager.getResourceConfig().storeStatistics() && newRevisionRootPage.getStatistics().isEmpty()) {
+      final RevisionStatistics statistics = new RevisionStatistics();
+      if (uberPage.isBootstrap()) {
+        // The document root node is created together with the document index tree.
+        statistics.adaptNodeCount(
+            resourceManager instanceof JsonResourceManager ? NodeKind.JSON_DOCUMENT : NodeKind.XML_DOCUMENT, 1);
+      }
+      newRevisionRootPage.setStatistics(statistics);
+    }
+
     if (uberPage.isBootstrap()) {
       final NamePage namePage = pageRtx.getNamePage(newRevisionRootPage);
       final DeweyIDPage deweyIDPage = pageRtx.getDeweyIDPage(newRevisionRootPage);
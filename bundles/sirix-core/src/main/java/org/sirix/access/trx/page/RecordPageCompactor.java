@@ -0,0 +1,143 @@
+package org.sirix.access.trx.page;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.index.IndexType;
+import org.sirix.page.RevisionRootPage;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Compacts long version chains of record pages. As pages are never overwritten, the compaction
+ * commits a new revision, in which each record page, which has to be reconstructed from at least
+ * {@code minNumberOfPageFragments} page fragments, is written as a full snapshot. Former revisions
+ * are not changed and are still readable, but reading the record pages in the new (and subsequent)
+ * revisions requires fewer page fragments.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordPageCompactor {
+
+  /**
+   * The resource manager.
+   */
+  private final ResourceManager<?, ?> resourceManager;
+
+  /**
+   * The minimum number of page fragments of a record page for being consolidated.
+   */
+  private final int minNumberOfPageFragments;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager          the resource manager
+   * @param minNumberOfPageFragments the minimum number of page fragments, a record page has to be
+   *                                 reconstructed from for being consolidated
+   */
+  public RecordPageCompactor(final ResourceManager<?, ?> resourceManager,
+      final @Nonnegative int minNumberOfPageFragments) {
+    this.resourceManager = checkNotNull(resourceManager);
+    checkArgument(minNumberOfPageFragments > 1, "minNumberOfPageFragments must be > 1.");
+    this.minNumberOfPageFragments = minNumberOfPageFragments;
+  }
+
+  /**
+   * Compact the record pages of an index in the most recent revision. A new revision is only
+   * committed, if at least one record page has been consolidated.
+   *
+   * @param indexType the index type
+   * @param index     the index number, {@code -1} for the document, the changed nodes and the
+   *                  record to revisions index
+   * @return the compaction result
+   */
+  public Result compact(@Nonnull final IndexType indexType, final int index) {
+    checkNotNull(indexType);
+
+    try (final NodeTrx wtx = resourceManager.beginNodeTrx()) {
+      final var pageTrx = (NodePageTrx) wtx.getPageWtx();
+      final long maxNodeKey = getMaxNodeKey(pageTrx.getPageReadOnlyTrx(), indexType, index);
+      final long maxRecordPageKey = maxNodeKey < 0 ? -1 : pageTrx.pageKey(maxNodeKey, indexType);
+
+      int numberOfPages = 0;
+      int numberOfConsolidatedPages = 0;
+      long numberOfPageFragmentsBefore = 0;
+      long numberOfPageFragmentsAfter = 0;
+
+      for (long recordPageKey = 0; recordPageKey <= maxRecordPageKey; recordPageKey++) {
+        final int numberOfPageFragments = pageTrx.getNumberOfPageFragments(recordPageKey, index, indexType);
+
+        if (numberOfPageFragments == 0) {
+          continue;
+        }
+
+        numberOfPages++;
+        numberOfPageFragmentsBefore += numberOfPageFragments;
+
+        if (numberOfPageFragments >= minNumberOfPageFragments) {
+          pageTrx.consolidateRecordPage(recordPageKey, index, indexType);
+          numberOfConsolidatedPages++;
+          numberOfPageFragmentsAfter++;
+        } else {
+          numberOfPageFragmentsAfter += numberOfPageFragments;
+        }
+      }
+
+      if (numberOfConsolidatedPages > 0) {
+        wtx.commit("Compaction of " + numberOfConsolidatedPages + " record pages of the " + indexType + " index");
+      }
+
+      return new Result(resourceManager.getMostRecentRevisionNumber(),
+                        numberOfPages,
+                        numberOfConsolidatedPages,
+                        average(numberOfPageFragmentsBefore, numberOfPages),
+                        average(numberOfPageFragmentsAfter, numberOfPages));
+    }
+  }
+
+  private static double average(final long numberOfPageFragments, final int numberOfPages) {
+    return numberOfPages == 0 ? 0 : (double) numberOfPageFragments / numberOfPages;
+  }
+
+  private static long getMaxNodeKey(final PageReadOnlyTrx pageRtx, final IndexType indexType, final int index) {
+    final RevisionRootPage revisionRootPage = pageRtx.getActualRevisionRootPage();
+
+    return switch (indexType) {
+      case DOCUMENT -> revisionRootPage.getMaxNodeKeyInDocumentIndex();
+      case CHANGED_NODES -> revisionRootPage.getMaxNodeKeyInChangedNodesIndex();
+      case RECORD_TO_REVISIONS -> revisionRootPage.getMaxNodeKeyInRecordToRevisionsIndex();
+      case PATH_SUMMARY -> pageRtx.getPathSummaryPage(revisionRootPage).getMaxNodeKey(index);
+      case CAS -> pageRtx.getCASPage(revisionRootPage).getMaxNodeKey(index);
+      case PATH -> pageRtx.getPathPage(revisionRootPage).getMaxNodeKey(index);
+      case NAME -> pageRtx.getNamePage(revisionRootPage).getMaxNodeKey(index);
+      default -> throw new IllegalStateException("Index type " + indexType + " not supported.");
+    };
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("minNumberOfPageFragments", minNumberOfPageFragments).toString();
+  }
+
+  /**
+   * The result of a compaction.
+   *
+   * @param revision                      the revision, which has been committed or the most recent
+   *                                      revision, if no record page has been consolidated
+   * @param numberOfPages                 the number of existing record pages
+   * @param numberOfConsolidatedPages     the number of consolidated record pages
+   * @param averagePageFragmentsBefore    the average number of page fragments to read per record page
+   *                                      before the compaction
+   * @param averagePageFragmentsAfter     the average number of page fragments to read per record page
+   *                                      after the compaction
+   */
+  public record Result(int revision, int numberOfPages, int numberOfConsolidatedPages,
+      double averagePageFragmentsBefore, double averagePageFragmentsAfter) {
+  }
+}
@@ -0,0 +1,240 @@
+package org.sirix.access.trx.page;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.cache.IndexLogKey;
+import org.sirix.index.IndexType;
+import org.sirix.page.PageReference;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Cursor for reading records in a range of consecutive revisions. In contrast to opening a
+ * separate {@link PageReadOnlyTrx} for each revision, the cursor keeps the most recently
+ * reconstructed record page per page key. When moving to the next revision, unchanged record pages
+ * are reused and changed record pages are reconstructed by applying only the page fragment written
+ * in the new revision. Thus, the work for a temporal scan is proportional to the actual changes.
+ * <p>
+ * It is required that only a single thread has access to this cursor.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionRangeCursor implements AutoCloseable {
+
+  /**
+   * The resource manager.
+   */
+  private final ResourceManager<?, ?> resourceManager;
+
+  /**
+   * The last revision of the range (inclusive).
+   */
+  private final int toRevision;
+
+  /**
+   * The most recently reconstructed record pages.
+   */
+  private final Map<RecordPageKey, ReconstructedPage> pages;
+
+  /**
+   * The page read-only transaction bound to the current revision.
+   */
+  private NodePageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * Determines if the cursor is closed or not.
+   */
+  private boolean isClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param fromRevision    the first revision of the range (inclusive)
+   * @param toRevision      the last revision of the range (inclusive)
+   */
+  public RevisionRangeCursor(final ResourceManager<?, ?> resourceManager, final @Nonnegative int fromRevision,
+      final @Nonnegative int toRevision) {
+    this.resourceManager = checkNotNull(resourceManager);
+    checkArgument(fromRevision >= 0, "fromRevision must be >= 0.");
+    checkArgument(fromRevision <= toRevision, "fromRevision must be <= toRevision.");
+    checkArgument(toRevision <= resourceManager.getMostRecentRevisionNumber(),
+                  "toRevision must be <= last stored revision (%s).",
+                  resourceManager.getMostRecentRevisionNumber());
+    this.toRevision = toRevision;
+    pages = new HashMap<>();
+    pageReadOnlyTrx = beginPageReadOnlyTrx(fromRevision);
+  }
+
+  private NodePageReadOnlyTrx beginPageReadOnlyTrx(final int revision) {
+    return (NodePageReadOnlyTrx) resourceManager.beginPageReadOnlyTrx(revision);
+  }
+
+  /**
+   * Get the revision the cursor currently is bound to.
+   *
+   * @return the current revision
+   */
+  public int getRevisionNumber() {
+    assertNotClosed();
+    return pageReadOnlyTrx.getRevisionNumber();
+  }
+
+  /**
+   * Get the page read-only transaction bound to the current revision. It must not be closed.
+   *
+   * @return the page read-only transaction
+   */
+  public PageReadOnlyTrx getPageTrx() {
+    assertNotClosed();
+    return pageReadOnlyTrx;
+  }
+
+  /**
+   * Determines if the cursor is able to move to a next revision.
+   *
+   * @return {@code true}, if the current revision is not the last revision of the range, {@code false}
+   * otherwise
+   */
+  public boolean hasNextRevision() {
+    assertNotClosed();
+    return pageReadOnlyTrx.getRevisionNumber() < toRevision;
+  }
+
+  /**
+   * Move the cursor to the next revision.
+   *
+   * @return the new revision
+   * @throws NoSuchElementException if the cursor already is bound to the last revision of the range
+   */
+  public int moveToNextRevision() {
+    if (!hasNextRevision()) {
+      throw new NoSuchElementException("No revision after revision " + toRevision + " in the range.");
+    }
+
+    final int revision = pageReadOnlyTrx.getRevisionNumber() + 1;
+    pageReadOnlyTrx.close();
+    pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
+    return revision;
+  }
+
+  /**
+   * Get a record in the current revision.
+   *
+   * @param key       the record key
+   * @param indexType the index type
+   * @param index     the index number
+   * @return the record, if it exists and has not been deleted
+   */
+  public <V> Optional<V> getRecord(final long key, @Nonnull final IndexType indexType,
+      @Nonnegative final int index) {
+    checkNotNull(indexType);
+    assertNotClosed();
+
+    if (key == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Optional.empty();
+    }
+
+    //noinspection unchecked
+    return (Optional<V>) getRecordPage(pageReadOnlyTrx.pageKey(key, indexType), indexType, index).map(
+        page -> ((UnorderedKeyValuePage) page).getValue(key)).flatMap(pageReadOnlyTrx::checkItemIfDeleted);
+  }
+
+  /**
+   * Get the complete record page in the current revision.
+   *
+   * @param recordPageKey the record page key
+   * @param indexType     the index type
+   * @param index         the index number
+   * @return the record page, if it exists
+   */
+  public Optional<Page> getRecordPage(@Nonnegative final long recordPageKey, @Nonnull final IndexType indexType,
+      @Nonnegative final int index) {
+    checkNotNull(indexType);
+    checkArgument(recordPageKey >= 0, "recordPageKey must not be negative!");
+    assertNotClosed();
+
+    final int revision = pageReadOnlyTrx.getRevisionNumber();
+    final var recordPageKeyWithIndex = new RecordPageKey(recordPageKey, indexType, index);
+    final Optional<PageReference> optionalReference =
+        pageReadOnlyTrx.getLeafPageReference(recordPageKey, index, indexType);
+
+    if (optionalReference.isEmpty()) {
+      pages.remove(recordPageKeyWithIndex);
+      return Optional.empty();
+    }
+
+    final PageReference reference = optionalReference.get();
+    final ReconstructedPage reconstructedPage = pages.get(recordPageKeyWithIndex);
+
+    if (reconstructedPage != null) {
+      if (reconstructedPage.revision() == revision || reconstructedPage.persistentKey() == reference.getKey()) {
+        // Page has not been changed in between.
+        pages.put(recordPageKeyWithIndex,
+                  new ReconstructedPage(reference.getKey(), revision, reconstructedPage.page()));
+        return Optional.of(reconstructedPage.page());
+      }
+
+      if (reconstructedPage.revision() == revision - 1) {
+        // Page has been changed in the current revision, thus only the newest fragment has to be applied.
+        final Page page = pageReadOnlyTrx.getRecordPage(reference, (KeyValuePage<?, ?>) reconstructedPage.page());
+        pages.put(recordPageKeyWithIndex, new ReconstructedPage(reference.getKey(), revision, page));
+        return Optional.of(page);
+      }
+    }
+
+    final Optional<Page> page =
+        pageReadOnlyTrx.getRecordPage(new IndexLogKey(indexType, recordPageKey, index, revision));
+    page.ifPresentOrElse(thePage -> pages.put(recordPageKeyWithIndex,
+                                              new ReconstructedPage(reference.getKey(), revision, thePage)),
+                         () -> pages.remove(recordPageKeyWithIndex));
+    return page;
+  }
+
+  /**
+   * Make sure that the cursor is not yet closed when calling this method.
+   */
+  private void assertNotClosed() {
+    if (isClosed) {
+      throw new IllegalStateException("Cursor is already closed.");
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!isClosed) {
+      pageReadOnlyTrx.close();
+      pages.clear();
+      isClosed = true;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("revision", pageReadOnlyTrx.getRevisionNumber())
+                      .add("toRevision", toRevision)
+                      .add("reconstructedPages", pages.size())
+                      .toString();
+  }
+
+  private record RecordPageKey(long recordPageKey, IndexType indexType, int index) {
+  }
+
+  private record ReconstructedPage(long persistentKey, int revision, Page page) {
+  }
+}
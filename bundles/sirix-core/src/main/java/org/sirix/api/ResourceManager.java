@@ -30,17 +30,22 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.RBIndexKey;
 import org.sirix.cache.Cache;
+import org.sirix.cache.NodeIndexKey;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.page.RevisionStatistics;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -96,6 +101,27 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
    */
   List<RevisionInfo> getHistory(int fromRevision, int toRevision);
 
+  /**
+   * Get the aggregate statistics of a revision, which are read from the revision root page only.
+   *
+   * @param revision the revision number
+   * @return the statistics or {@link Optional#empty()}, if the resource doesn't store statistics
+   * @see ResourceConfiguration.Builder#storeStatistics(boolean)
+   */
+  Optional<RevisionStatistics> getRevisionStatistics(@Nonnegative int revision);
+
+  /**
+   * Get the aggregate statistics of a range of revisions, which are read from the revision root pages
+   * only.
+   *
+   * @param fromRevision start revision (inclusive, must be lower or equal than {@code toRevision})
+   * @param toRevision   end revision (inclusive)
+   * @return the statistics keyed by revision number in ascending order, revisions without statistics are
+   *         skipped (empty, if the resource doesn't store statistics)
+   * @see ResourceConfiguration.Builder#storeStatistics(boolean)
+   */
+  NavigableMap<Integer, RevisionStatistics> getRevisionStatistics(@Nonnegative int fromRevision, @Nonnegative int toRevision);
+
   /**
    * Get the single node writer if available, wrapped in an {@link Optional}.
    *
@@ -376,4 +402,18 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
    * @return the cache
    */
   Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+
+  /**
+   * Get cache for positional indexes of arrays in committed revisions.
+   *
+   * @return the cache
+   */
+  Cache<NodeIndexKey, ArrayPositionIndex> getArrayPositionIndexCache();
+
+  /**
+   * Get cache for field directories of objects in committed revisions.
+   *
+   * @return the cache
+   */
+  Cache<NodeIndexKey, ObjectFieldDirectory> getObjectFieldDirectoryCache();
 }
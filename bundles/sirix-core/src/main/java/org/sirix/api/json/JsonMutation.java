@@ -0,0 +1,72 @@
+package org.sirix.api.json;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A mutation of a single node, which is applied as part of a batch via
+ * {@link JsonNodeTrx#apply(java.util.List)}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface JsonMutation {
+
+  /**
+   * Get the key of the node to mutate.
+   *
+   * @return the node key
+   */
+  long nodeKey();
+
+  /**
+   * Set the value of a string value node.
+   *
+   * @param nodeKey the key of the string value node
+   * @param value   the new value
+   */
+  record SetStringValue(long nodeKey, String value) implements JsonMutation {
+    public SetStringValue {
+      checkNotNull(value);
+    }
+  }
+
+  /**
+   * Set the value of a number value node.
+   *
+   * @param nodeKey the key of the number value node
+   * @param value   the new value
+   */
+  record SetNumberValue(long nodeKey, Number value) implements JsonMutation {
+    public SetNumberValue {
+      checkNotNull(value);
+    }
+  }
+
+  /**
+   * Set the value of a boolean value node.
+   *
+   * @param nodeKey the key of the boolean value node
+   * @param value   the new value
+   */
+  record SetBooleanValue(long nodeKey, boolean value) implements JsonMutation {
+  }
+
+  /**
+   * Set the name of an object key node.
+   *
+   * @param nodeKey the key of the object key node
+   * @param name    the new name
+   */
+  record SetObjectKeyName(long nodeKey, String name) implements JsonMutation {
+    public SetObjectKeyName {
+      checkNotNull(name);
+    }
+  }
+
+  /**
+   * Remove a node and its subtree.
+   *
+   * @param nodeKey the key of the node to remove
+   */
+  record Remove(long nodeKey) implements JsonMutation {
+  }
+}
@@ -60,6 +60,24 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
   @Override
   Move<? extends JsonNodeReadOnlyTrx> moveToNextFollowing();
 
+  /**
+   * Move to the child at the given (zero-based) position. For large arrays a positional index is
+   * used instead of traversing the siblings.
+   *
+   * @param index the position of the child
+   * @return {@link Move} instance, which is not moved, if no child at the position exists
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToChildAtIndex(int index);
+
+  /**
+   * Move to the object key with the given name, if the transaction is located at an object. For
+   * objects with many fields a field directory is used instead of traversing the children.
+   *
+   * @param name the name of the object key
+   * @return {@link Move} instance, which is not moved, if no object key with the name exists
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToField(String name);
+
   /**
    * Accept a visitor.
    *
@@ -4,6 +4,8 @@ import org.sirix.access.trx.node.json.objectvalue.ObjectRecordValue;
 import org.sirix.api.NodeTrx;
 import com.google.gson.stream.JsonReader;
 
+import java.util.List;
+
 public interface JsonNodeTrx extends JsonNodeReadOnlyTrx, NodeTrx {
   enum Commit {
     Implicit,
@@ -17,6 +19,23 @@ public interface JsonNodeTrx extends JsonNodeReadOnlyTrx, NodeTrx {
     No
   }
 
+  /**
+   * Determines when the descendants of a removed node are removed.
+   */
+  enum RemoveSubtree {
+    /**
+     * All nodes of the subtree are removed immediately.
+     */
+    Immediately,
+
+    /**
+     * Only the subtree root is unlinked immediately. Its descendants, the names, the path summary
+     * and the indexes are adapted in one bulk pass during the next commit. Until then the nodes of
+     * the removed subtree must not be accessed.
+     */
+    Deferred
+  }
+
   JsonNodeTrx insertObjectAsFirstChild();
 
   JsonNodeTrx insertObjectAsLastChild();
@@ -53,6 +72,38 @@ public interface JsonNodeTrx extends JsonNodeReadOnlyTrx, NodeTrx {
 
   JsonNodeTrx remove();
 
+  JsonNodeTrx remove(RemoveSubtree removeSubtree);
+
+  /**
+   * Apply a batch of mutations. The updates of values and names are applied in the order of the node
+   * keys, thus grouped by record page, and the hashes of their common ancestors are adapted once for
+   * the whole batch. Updates of the same node are applied in the given order. Afterwards the removals
+   * are applied in the given order. If a mutation fails, the mutations applied so far are not
+   * reverted. Afterwards the transaction is located at the node it has been located at before, or at
+   * the document root, if this node has been removed.
+   *
+   * @param mutations the mutations
+   * @return this transaction
+   * @throws org.sirix.exception.SirixUsageException if a node does not exist or a mutation is not
+   *                                                 allowed on the node
+   */
+  JsonNodeTrx apply(List<JsonMutation> mutations);
+
+  /**
+   * Enable or disable lazy hashing. If enabled, inserts, removals and updates do not adapt the
+   * hashes and descendant counts of all ancestors of the modified node immediately. Instead, the
+   * changes are accumulated and applied once per ancestor in one bottom-up pass during the commit,
+   * such that frequent modifications of deep documents do not rewrite the same ancestors over and
+   * over again. Committed revisions have the same hashes as without lazy hashing. Calling
+   * {@link #getHash()} or {@link #getDescendantCount()} on this transaction applies the accumulated
+   * changes beforehand.
+   *
+   * @param lazyHashing {@code true} to enable lazy hashing, {@code false} to disable it and to apply
+   *                    the accumulated changes
+   * @return this transaction
+   */
+  JsonNodeTrx setLazyHashing(boolean lazyHashing);
+
   JsonNodeTrx insertStringValueAsFirstChild(String value);
 
   JsonNodeTrx insertStringValueAsLastChild(String value);
@@ -108,4 +159,51 @@ public interface JsonNodeTrx extends JsonNodeReadOnlyTrx, NodeTrx {
   JsonNodeTrx insertSubtreeAsRightSibling(JsonReader reader, Commit doImplicitCommit);
 
   JsonNodeTrx insertSubtreeAsRightSibling(JsonReader reader, Commit doImplicitCommit, CheckParentNode checkParentNode);
+
+  /**
+   * Copy the subtree rooted at the node the provided transaction is located at (from another or the
+   * same resource) and insert it as first child of the current node. The nodes are copied directly
+   * from the source transaction without serializing and parsing the subtree. The source transaction
+   * is moved back to the root of the subtree afterwards. It might be the write transaction of another
+   * resource, whose uncommitted changes are copied as well, but not this transaction itself.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree to copy
+   * @return the transaction instance, located at the root of the copied subtree
+   * @throws NullPointerException if {@code rtx} is {@code null}
+   * @throws org.sirix.exception.SirixUsageException if {@code rtx} is this transaction
+   */
+  JsonNodeTrx copySubtreeAsFirstChild(JsonNodeReadOnlyTrx rtx);
+
+  /**
+   * Copy the subtree rooted at the node the provided transaction is located at (from another or the
+   * same resource) and insert it as last child of the current node.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree to copy
+   * @return the transaction instance, located at the root of the copied subtree
+   * @throws NullPointerException if {@code rtx} is {@code null}
+   * @see #copySubtreeAsFirstChild(JsonNodeReadOnlyTrx)
+   */
+  JsonNodeTrx copySubtreeAsLastChild(JsonNodeReadOnlyTrx rtx);
+
+  /**
+   * Copy the subtree rooted at the node the provided transaction is located at (from another or the
+   * same resource) and insert it as left sibling of the current node.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree to copy
+   * @return the transaction instance, located at the root of the copied subtree
+   * @throws NullPointerException if {@code rtx} is {@code null}
+   * @see #copySubtreeAsFirstChild(JsonNodeReadOnlyTrx)
+   */
+  JsonNodeTrx copySubtreeAsLeftSibling(JsonNodeReadOnlyTrx rtx);
+
+  /**
+   * Copy the subtree rooted at the node the provided transaction is located at (from another or the
+   * same resource) and insert it as right sibling of the current node.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree to copy
+   * @return the transaction instance, located at the root of the copied subtree
+   * @throws NullPointerException if {@code rtx} is {@code null}
+   * @see #copySubtreeAsFirstChild(JsonNodeReadOnlyTrx)
+   */
+  JsonNodeTrx copySubtreeAsRightSibling(JsonNodeReadOnlyTrx rtx);
 }
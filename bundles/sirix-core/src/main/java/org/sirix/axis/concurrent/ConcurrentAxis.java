@@ -25,12 +25,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.annotation.Nonnegative;
 
+import org.sirix.access.SirixExecutors;
 import org.sirix.api.Axis;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
@@ -81,8 +83,8 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
   /** Is axis already finished and has no results left? */
   private boolean finished;
 
-  /** Executor Service holding the execution plan for future tasks. */
-  public ExecutorService executorService;
+  /** The producer task running on the shared producer pool. */
+  private Future<?> producerTask;
 
   /**
    * Constructor. Initializes the internal state.
@@ -100,7 +102,6 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     first = true;
     producer = checkNotNull(childAxis);
     task = new ConcurrentAxisHelper(producer, results);
-    executorService = Executors.newSingleThreadExecutor();
     finished = false;
   }
 
@@ -110,8 +111,9 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     first = true;
     finished = false;
 
-    if (executorService != null) {
-      executorService = Executors.newSingleThreadExecutor();
+    if (producerTask != null) {
+      producerTask.cancel(true);
+      producerTask = null;
     }
     if (producer != null) {
       producer.reset(nodeKey);
@@ -129,7 +131,7 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     // Start producer on first call.
     if (first) {
       first = false;
-      executorService.submit(task);
+      producerTask = SirixExecutors.getInstance().submitProducer(task);
     }
 
     if (finished) {
@@ -162,11 +164,15 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
    * @return null node key to indicate that the travesal is done
    */
   @Override
-protected final long done() {
-    executorService.shutdown();
-    try {
-        executorService.awaitTermination(5, TimeUnit.SECONDS);
-    } catch (InterruptedException e) {
+  protected final long done() {
+    if (producerTask != null) {
+      try {
+        producerTask.get(5, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final ExecutionException | TimeoutException e) {
+        LOGGER.warn(e.getMessage(), e);
+      }
     }
     return Fixed.NULL_NODE_KEY.getStandardProperty();
   }
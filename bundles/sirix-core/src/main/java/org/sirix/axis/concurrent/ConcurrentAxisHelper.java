@@ -77,7 +77,9 @@ public class ConcurrentAxisHelper implements Runnable {
         mResults.put(nodeKey);
         // Wait until next thread arrives and exchange blocking queue.
       } catch (final InterruptedException e) {
-        LOGWRAPPER.error(e.getMessage(), e);
+        // The producer has been cancelled, thus the pooled thread must not block anymore.
+        Thread.currentThread().interrupt();
+        return;
       }
     }
 
@@ -1,5 +1,8 @@
 package org.sirix.cache;
 
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.path.summary.PathSummaryData;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
@@ -13,4 +16,10 @@ public interface BufferManager extends AutoCloseable {
   Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
 
   Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+
+  Cache<NodeIndexKey, ArrayPositionIndex> getArrayPositionIndexCache();
+
+  Cache<NodeIndexKey, ObjectFieldDirectory> getObjectFieldDirectoryCache();
+
+  Cache<Integer, PathSummaryData> getPathSummaryCache();
 }
@@ -1,5 +1,8 @@
 package org.sirix.cache;
 
+import org.sirix.index.field.ObjectFieldDirectory;
+import org.sirix.index.path.summary.PathSummaryData;
+import org.sirix.index.position.ArrayPositionIndex;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
@@ -14,12 +17,22 @@ public final class BufferManagerImpl implements BufferManager {
 
   private final RedBlackTreeNodeCache redBlackTreeNodeCache;
 
+  private final NodeIndexCache<ArrayPositionIndex> arrayPositionIndexCache;
+
+  private final NodeIndexCache<ObjectFieldDirectory> objectFieldDirectoryCache;
+
+  private final PathSummaryCache pathSummaryCache;
+
   public BufferManagerImpl(final int maxPageCacheSize, final int maxRecordPageCacheSize,
-      final int maxRevisionRootPageCache, final int maxRBTreeNodeCache) {
+      final int maxRevisionRootPageCache, final int maxRBTreeNodeCache, final long maxArrayPositionIndexCache,
+      final long maxObjectFieldDirectoryCache, final long maxPathSummaryCache) {
     pageCache = new PageCache(maxPageCacheSize);
     recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
     revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
     redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
+    arrayPositionIndexCache = new NodeIndexCache<>(maxArrayPositionIndexCache, ArrayPositionIndex::size);
+    objectFieldDirectoryCache = new NodeIndexCache<>(maxObjectFieldDirectoryCache, ObjectFieldDirectory::size);
+    pathSummaryCache = new PathSummaryCache(maxPathSummaryCache);
   }
 
   @Override
@@ -42,11 +55,29 @@ public final class BufferManagerImpl implements BufferManager {
     return redBlackTreeNodeCache;
   }
 
+  @Override
+  public Cache<NodeIndexKey, ArrayPositionIndex> getArrayPositionIndexCache() {
+    return arrayPositionIndexCache;
+  }
+
+  @Override
+  public Cache<NodeIndexKey, ObjectFieldDirectory> getObjectFieldDirectoryCache() {
+    return objectFieldDirectoryCache;
+  }
+
+  @Override
+  public Cache<Integer, PathSummaryData> getPathSummaryCache() {
+    return pathSummaryCache;
+  }
+
   @Override
   public void close() {
     pageCache.clear();
     recordPageCache.clear();
     revisionRootPageCache.clear();
     redBlackTreeNodeCache.clear();
+    arrayPositionIndexCache.clear();
+    objectFieldDirectoryCache.clear();
+    pathSummaryCache.clear();
   }
 }
@@ -0,0 +1,115 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Cache for in-memory indexes of single nodes in committed revisions, e.g. the positional indexes of
+ * arrays or the field directories of objects. The maximum size is given in the number of index
+ * entries.
+ *
+ * @param <V> the type of the indexes
+ * @author Johannes Lichtenberger
+ */
+public final class NodeIndexCache<V> implements Cache<NodeIndexKey, V> {
+
+  private final com.github.benmanes.caffeine.cache.Cache<NodeIndexKey, V> indexCache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxNumberOfEntries the maximum number of index entries
+   * @param size               function, which determines the number of entries of an index
+   */
+  public NodeIndexCache(@Nonnegative final long maxNumberOfEntries, @Nonnull final ToIntFunction<V> size) {
+    checkNotNull(size);
+    indexCache = Caffeine.newBuilder()
+                         .maximumWeight(maxNumberOfEntries)
+                         .weigher((NodeIndexKey key, V value) -> size.applyAsInt(value) + 1)
+                         .build();
+  }
+
+  /**
+   * Get the index of a node in a committed revision or build and cache it, if it's not cached.
+   *
+   * @param cache          the cache
+   * @param nodeKey        the key of the indexed node
+   * @param revisionNumber the revision number
+   * @param builder        builds the index, if it's not cached
+   * @param <V>            the type of the index
+   * @return the index
+   */
+  public static <V> V getOrBuild(final Cache<NodeIndexKey, V> cache, final long nodeKey,
+      final int revisionNumber, final Supplier<V> builder) {
+    final var key = new NodeIndexKey(nodeKey, revisionNumber);
+    V index = cache.get(key);
+
+    if (index == null) {
+      index = builder.get();
+      cache.put(key, index);
+    }
+
+    return index;
+  }
+
+  /**
+   * Share the indexes, which have been maintained by a write transaction, for the revision it has
+   * committed. The indexes are removed from the given map afterwards.
+   *
+   * @param cache          the cache
+   * @param indexes        the indexes by the keys of the indexed nodes
+   * @param revisionNumber the committed revision number
+   * @param <V>            the type of the indexes
+   */
+  public static <V> void share(final Cache<NodeIndexKey, V> cache, final Map<Long, V> indexes,
+      final int revisionNumber) {
+    indexes.forEach((nodeKey, index) -> cache.put(new NodeIndexKey(nodeKey, revisionNumber), index));
+    indexes.clear();
+  }
+
+  @Override
+  public void clear() {
+    indexCache.invalidateAll();
+  }
+
+  @Override
+  public V get(NodeIndexKey key) {
+    return indexCache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(NodeIndexKey key, @Nonnull V value) {
+    indexCache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends NodeIndexKey, ? extends V> map) {
+    indexCache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<NodeIndexKey, V> getAll(Iterable<? extends NodeIndexKey> keys) {
+    return indexCache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(NodeIndexKey key) {
+    indexCache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,11 @@
+package org.sirix.cache;
+
+/**
+ * Key of an in-memory index of a single node in a committed revision, e.g. the positional index of an
+ * array or the field directory of an object.
+ *
+ * @param nodeKey        the key of the indexed node
+ * @param revisionNumber the revision number
+ */
+public record NodeIndexKey(long nodeKey, int revisionNumber) {
+}
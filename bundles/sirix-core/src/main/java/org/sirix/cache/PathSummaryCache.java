@@ -0,0 +1,62 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.index.path.summary.PathSummaryData;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Cache for the materialized path summaries of committed revisions, keyed by the revision number. The
+ * maximum size is given in the number of path nodes.
+ */
+public final class PathSummaryCache implements Cache<Integer, PathSummaryData> {
+
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> pathSummaryCache;
+
+  public PathSummaryCache(final long maxNumberOfPathNodes) {
+    pathSummaryCache = Caffeine.newBuilder()
+                               .maximumWeight(maxNumberOfPathNodes)
+                               .weigher((Integer key, PathSummaryData value) -> value.size() + 1)
+                               .build();
+  }
+
+  @Override
+  public void clear() {
+    pathSummaryCache.invalidateAll();
+  }
+
+  @Override
+  public PathSummaryData get(Integer key) {
+    return pathSummaryCache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(Integer key, @Nonnull PathSummaryData value) {
+    pathSummaryCache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends Integer, ? extends PathSummaryData> map) {
+    pathSummaryCache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<Integer, PathSummaryData> getAll(Iterable<? extends Integer> keys) {
+    return pathSummaryCache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(Integer key) {
+    pathSummaryCache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+  }
+}
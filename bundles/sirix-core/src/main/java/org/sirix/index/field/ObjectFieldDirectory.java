@@ -0,0 +1,234 @@
+package org.sirix.index.field;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Field directory of an object, which maps the names of the object keys to their node keys. The
+ * entries are stored in an open-addressing hash table with linear probing, such that an object
+ * key is found in constant time instead of scanning all children of the object.
+ * <p>
+ * The directory is not thread-safe. Once it is shared between transactions, it must not be
+ * modified anymore.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ObjectFieldDirectory {
+
+  /**
+   * The minimum number of children of an object, for which a field directory is used. For smaller
+   * objects the children are simply traversed.
+   */
+  public static final int MIN_NUMBER_OF_CHILDREN = 64;
+
+  /**
+   * Returned by {@link #getNodeKey(String)}, if no object key with the name exists.
+   */
+  public static final long NOT_FOUND = -1;
+
+  /**
+   * Returned by {@link #getNodeKey(String)}, if more than one object key with the name exists.
+   */
+  public static final long AMBIGUOUS = -2;
+
+  /**
+   * Marks a slot, which has never been used.
+   */
+  private static final long EMPTY = -1;
+
+  /**
+   * Marks a slot, whose entry has been removed.
+   */
+  private static final long REMOVED = -2;
+
+  /**
+   * The hash codes of the names.
+   */
+  private int[] hashes;
+
+  /**
+   * The names.
+   */
+  private String[] names;
+
+  /**
+   * The node keys of the object keys.
+   */
+  private long[] nodeKeys;
+
+  /**
+   * The number of entries.
+   */
+  private int size;
+
+  /**
+   * The number of slots, which are used or marked as removed.
+   */
+  private int usedSlots;
+
+  /**
+   * Constructor.
+   */
+  public ObjectFieldDirectory() {
+    this(16);
+  }
+
+  private ObjectFieldDirectory(final int capacity) {
+    hashes = new int[capacity];
+    names = new String[capacity];
+    nodeKeys = new long[capacity];
+    Arrays.fill(nodeKeys, EMPTY);
+  }
+
+  /**
+   * Build the field directory for the object, the transaction is located at. Afterwards the
+   * transaction is moved back to the object.
+   *
+   * @param rtx the transaction located at the object
+   * @return the field directory
+   */
+  public static ObjectFieldDirectory of(final JsonNodeReadOnlyTrx rtx) {
+    checkArgument(rtx.isObject(), "The transaction must be located at an object.");
+
+    final long nodeKey = rtx.getNodeKey();
+    final var directory = new ObjectFieldDirectory(capacityFor(rtx.getChildCount()));
+
+    if (rtx.moveToFirstChild().hasMoved()) {
+      do {
+        directory.put(rtx.getName().getLocalName(), rtx.getNodeKey());
+      } while (rtx.moveToRightSibling().hasMoved());
+    }
+
+    rtx.moveTo(nodeKey);
+    return directory;
+  }
+
+  private static int capacityFor(final long numberOfEntries) {
+    return Integer.highestOneBit((int) Math.min(Math.max(numberOfEntries, 4), 1 << 28)) << 2;
+  }
+
+  /**
+   * Get the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the node key of the object key with the given name.
+   *
+   * @param name the name
+   * @return the node key, {@link #NOT_FOUND} if no object key with the name exists or
+   * {@link #AMBIGUOUS} if more than one object key with the name exists
+   */
+  public long getNodeKey(final String name) {
+    checkNotNull(name);
+
+    final int hash = name.hashCode();
+    long result = NOT_FOUND;
+
+    for (int slot = firstSlot(hash); nodeKeys[slot] != EMPTY; slot = nextSlot(slot)) {
+      if (nodeKeys[slot] != REMOVED && hashes[slot] == hash && names[slot].equals(name)) {
+        if (result != NOT_FOUND) {
+          return AMBIGUOUS;
+        }
+        result = nodeKeys[slot];
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Add an object key.
+   *
+   * @param name    the name of the object key
+   * @param nodeKey the node key of the object key
+   */
+  public void put(final String name, final long nodeKey) {
+    checkNotNull(name);
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0.");
+
+    if ((usedSlots + 1) << 1 > nodeKeys.length) {
+      resize(capacityFor(size + 1));
+    }
+
+    final int hash = name.hashCode();
+    int slot = firstSlot(hash);
+    while (nodeKeys[slot] != EMPTY && nodeKeys[slot] != REMOVED) {
+      slot = nextSlot(slot);
+    }
+
+    if (nodeKeys[slot] == EMPTY) {
+      usedSlots++;
+    }
+
+    hashes[slot] = hash;
+    names[slot] = name;
+    nodeKeys[slot] = nodeKey;
+    size++;
+  }
+
+  /**
+   * Remove an object key.
+   *
+   * @param name    the name of the object key
+   * @param nodeKey the node key of the object key
+   * @return {@code true}, if the object key has been removed, {@code false} if it has not been found
+   */
+  public boolean remove(final String name, final long nodeKey) {
+    checkNotNull(name);
+
+    final int hash = name.hashCode();
+
+    for (int slot = firstSlot(hash); nodeKeys[slot] != EMPTY; slot = nextSlot(slot)) {
+      if (nodeKeys[slot] == nodeKey && hashes[slot] == hash && names[slot].equals(name)) {
+        names[slot] = null;
+        nodeKeys[slot] = REMOVED;
+        size--;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void resize(final int capacity) {
+    final String[] oldNames = names;
+    final long[] oldNodeKeys = nodeKeys;
+
+    hashes = new int[capacity];
+    names = new String[capacity];
+    nodeKeys = new long[capacity];
+    Arrays.fill(nodeKeys, EMPTY);
+    size = 0;
+    usedSlots = 0;
+
+    for (int slot = 0; slot < oldNodeKeys.length; slot++) {
+      if (oldNodeKeys[slot] >= 0) {
+        put(oldNames[slot], oldNodeKeys[slot]);
+      }
+    }
+  }
+
+  private int firstSlot(final int hash) {
+    return (hash ^ (hash >>> 16)) & (nodeKeys.length - 1);
+  }
+
+  private int nextSlot(final int slot) {
+    return (slot + 1) & (nodeKeys.length - 1);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("size", size).add("capacity", nodeKeys.length).toString();
+  }
+}
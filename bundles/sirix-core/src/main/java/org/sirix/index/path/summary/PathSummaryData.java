@@ -0,0 +1,59 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.node.interfaces.StructNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable materialization of the path summary of a committed revision, that is the mapping of path
+ * node keys to path nodes and of names to path nodes. A snapshot is shared by all
+ * {@link PathSummaryReader}s of the same revision and is thus thread-safe.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryData {
+
+  /**
+   * Mapping of a path node key to the path node/document root node.
+   */
+  private final Map<Long, StructNode> pathNodeMapping;
+
+  /**
+   * Mapping of a {@link QNm} to a set of path nodes.
+   */
+  private final Map<QNm, Set<PathNode>> qnmMapping;
+
+  /**
+   * Constructor.
+   *
+   * @param pathNodeMapping mapping of a path node key to the path node, which is not modified anymore
+   * @param qnmMapping      mapping of a name to a set of path nodes, which is not modified anymore
+   */
+  PathSummaryData(final Map<Long, StructNode> pathNodeMapping, final Map<QNm, Set<PathNode>> qnmMapping) {
+    final Map<QNm, Set<PathNode>> unmodifiableQnmMapping = new HashMap<>(qnmMapping.size());
+    qnmMapping.forEach((name, pathNodes) -> unmodifiableQnmMapping.put(name, Collections.unmodifiableSet(pathNodes)));
+    this.pathNodeMapping = Collections.unmodifiableMap(pathNodeMapping);
+    this.qnmMapping = Collections.unmodifiableMap(unmodifiableQnmMapping);
+  }
+
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  Map<QNm, Set<PathNode>> getQnmMapping() {
+    return qnmMapping;
+  }
+
+  /**
+   * Get the number of path nodes including the document root node.
+   *
+   * @return the number of path nodes
+   */
+  public int size() {
+    return pathNodeMapping.size();
+  }
+}
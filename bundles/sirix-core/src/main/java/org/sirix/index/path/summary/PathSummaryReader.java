@@ -12,6 +12,7 @@ import org.sirix.axis.DescendantAxis;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.filter.FilterAxis;
 import org.sirix.axis.filter.PathNameFilter;
+import org.sirix.cache.Cache;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
@@ -32,6 +33,7 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.*;
@@ -68,12 +70,18 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   /**
    * Mapping of a path node key to the path node/document root node.
    */
-  private final Map<Long, StructNode> pathNodeMapping;
+  private Map<Long, StructNode> pathNodeMapping;
 
   /**
    * Mapping of a {@link QNm} to a set of path nodes.
    */
-  private final Map<QNm, Set<PathNode>> qnmMapping;
+  private Map<QNm, Set<PathNode>> qnmMapping;
+
+  /**
+   * {@code true}, if the mappings are shared with other readers through an immutable
+   * {@link PathSummaryData} snapshot, such that they have to be copied before they are modified.
+   */
+  private boolean sharedMappings;
 
   /**
    * The path cache.
@@ -87,9 +95,12 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    *
    * @param pageReadTrx     page reader
    * @param resourceManager {@link ResourceManager} reference
+   * @param data            the materialized path summary of the revision or {@code null}, if the path
+   *                        summary has to be traversed
    */
   private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      @Nullable final PathSummaryData data) {
     pathCache = new HashMap<>();
     this.pageReadTrx = pageReadTrx;
     isClosed = false;
@@ -100,6 +111,14 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     currentNode = (StructNode) node.orElseThrow(() -> new IllegalStateException(
         "Node couldn't be fetched from persistent storage!"));
 
+    if (data != null) {
+      pathNodeMapping = data.getPathNodeMapping();
+      qnmMapping = data.getQnmMapping();
+      sharedMappings = true;
+      init = false;
+      return;
+    }
+
     pathNodeMapping = new HashMap<>();
     qnmMapping = new HashMap<>();
     boolean first = true;
@@ -143,21 +162,70 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
       final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), null);
+  }
+
+  /**
+   * Get a new path summary reader instance of a committed revision. The materialized path summary is
+   * shared with all other readers of the revision through the given cache, such that the path summary
+   * is only traversed by the first reader of a revision.
+   *
+   * @param pageReadTrx     the {@link PageReadOnlyTrx} instance, bound to a committed revision
+   * @param resourceManager the {@link ResourceManager} instance
+   * @param cache           the cache of materialized path summaries of the resource
+   * @return new path summary reader instance
+   */
+  public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final Cache<Integer, PathSummaryData> cache) {
+    checkNotNull(pageReadTrx);
+    checkNotNull(resourceManager);
+    checkNotNull(cache);
+
+    final int revision = pageReadTrx.getRevisionNumber();
+    final PathSummaryData data = cache.get(revision);
+
+    if (data != null) {
+      return new PathSummaryReader(pageReadTrx, resourceManager, data);
+    }
+
+    final var reader = new PathSummaryReader(pageReadTrx, resourceManager, null);
+    final var newData = new PathSummaryData(reader.pathNodeMapping, reader.qnmMapping);
+    reader.pathNodeMapping = newData.getPathNodeMapping();
+    reader.qnmMapping = newData.getQnmMapping();
+    reader.sharedMappings = true;
+    cache.put(revision, newData);
+    return reader;
+  }
+
+  /**
+   * Copy the mappings, if they are shared with other readers, before modifying them.
+   */
+  private void unshareMappings() {
+    if (sharedMappings) {
+      pathNodeMapping = new HashMap<>(pathNodeMapping);
+      final Map<QNm, Set<PathNode>> copiedQnmMapping = new HashMap<>(qnmMapping.size());
+      qnmMapping.forEach((name, pathNodes) -> copiedQnmMapping.put(name, new HashSet<>(pathNodes)));
+      qnmMapping = copiedQnmMapping;
+      sharedMappings = false;
+    }
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putMapping(final @Nonnegative long pathNodeKey, final StructNode node) {
+    unshareMappings();
     pathNodeMapping.put(pathNodeKey, node);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   StructNode removeMapping(final @Nonnegative long pathNodeKey) {
+    unshareMappings();
     return pathNodeMapping.remove(pathNodeKey);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putQNameMapping(final PathNode node, final QNm name) {
+    unshareMappings();
     final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
     pathNodes.add(node);
     qnmMapping.put(name, pathNodes);
@@ -165,6 +233,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
 
   // package private, only used in writer to keep the mapping always up-to-date
   void removeQNameMapping(final @Nonnegative PathNode node, final QNm name) {
+    unshareMappings();
     final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
     if (pathNodes.size() == 1) {
       qnmMapping.remove(name);
@@ -0,0 +1,349 @@
+package org.sirix.index.position;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.api.NodeCursor;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+
+/**
+ * Positional index over the child node keys of an array, that is an order-statistic structure,
+ * which maps a position to the node key of the child at this position and vice versa. The node keys
+ * are stored in blocks of bounded size and the number of node keys per block is maintained in a
+ * Fenwick tree, such that the block of a position is found in logarithmic time. Furthermore, the block
+ * of every node key is stored in a hash map, such that the position of a node key is the number of
+ * node keys in the preceding blocks, which is again determined in logarithmic time, plus its offset in
+ * this single block. Inserting and removing a node key at a position also takes logarithmic time plus the time
+ * to shift the node keys in a single block.
+ * <p>
+ * The index is not thread-safe. Once it is shared between transactions, it must not be modified
+ * anymore and lookups have to synchronize on the index, as the most recently accessed position is
+ * remembered.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ArrayPositionIndex {
+
+  /**
+   * The minimum number of children of an array, for which a positional index is used. For smaller
+   * arrays the siblings are simply traversed.
+   */
+  public static final int MIN_NUMBER_OF_CHILDREN = 64;
+
+  /**
+   * The maximum number of node keys per block.
+   */
+  private static final int MAX_BLOCK_SIZE = 1 << 8;
+
+  /**
+   * A block of node keys.
+   */
+  private static final class Block {
+    /**
+     * The node keys.
+     */
+    private final long[] nodeKeys = new long[MAX_BLOCK_SIZE];
+
+    /**
+     * The number of node keys.
+     */
+    private int size;
+
+    /**
+     * The index of the block in the list of blocks.
+     */
+    private int index;
+
+    private int offsetOf(final long nodeKey) {
+      for (int i = 0; i < size; i++) {
+        if (nodeKeys[i] == nodeKey) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * The blocks of node keys.
+   */
+  private final List<Block> blocks;
+
+  /**
+   * The block of each node key.
+   */
+  private final Map<Long, Block> blocksByNodeKey;
+
+  /**
+   * Fenwick tree over the block sizes (1-based).
+   */
+  private int[] fenwickTree;
+
+  /**
+   * The number of node keys.
+   */
+  private int size;
+
+  /**
+   * The node key of the most recently accessed position.
+   */
+  private long hintNodeKey = -1;
+
+  /**
+   * The most recently accessed position.
+   */
+  private int hintPosition = -1;
+
+  /**
+   * Constructor.
+   */
+  public ArrayPositionIndex() {
+    blocks = new ArrayList<>();
+    blocksByNodeKey = new HashMap<>();
+    fenwickTree = new int[1];
+  }
+
+  /**
+   * Build the positional index for the children of the node, the cursor is located at. Afterwards
+   * the cursor is moved back to this node.
+   *
+   * @param cursor the cursor located at the parent node
+   * @return the positional index
+   */
+  public static ArrayPositionIndex of(final NodeCursor cursor) {
+    final long nodeKey = cursor.getNodeKey();
+    final var index = new ArrayPositionIndex();
+
+    if (cursor.moveToFirstChild().hasMoved()) {
+      do {
+        index.append(cursor.getNodeKey());
+      } while (cursor.moveToRightSibling().hasMoved());
+    }
+
+    cursor.moveTo(nodeKey);
+    return index;
+  }
+
+  /**
+   * Get the number of indexed node keys.
+   *
+   * @return the number of node keys
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the node key at a position.
+   *
+   * @param position the position
+   * @return the node key
+   * @throws IndexOutOfBoundsException if the position is out of range
+   */
+  public long getNodeKey(@Nonnegative final int position) {
+    checkElementIndex(position, size);
+    final int blockIndex = findBlock(position);
+    final long nodeKey = blocks.get(blockIndex).nodeKeys[position - prefixSum(blockIndex)];
+    setHint(nodeKey, position);
+    return nodeKey;
+  }
+
+  /**
+   * Get the position of a node key.
+   *
+   * @param nodeKey the node key
+   * @return the position or {@code -1}, if the node key is not indexed
+   */
+  public int indexOf(final long nodeKey) {
+    if (hintPosition != -1 && hintNodeKey == nodeKey) {
+      return hintPosition;
+    }
+
+    final Block block = blocksByNodeKey.get(nodeKey);
+
+    if (block == null) {
+      return -1;
+    }
+
+    final int position = prefixSum(block.index) + block.offsetOf(nodeKey);
+    setHint(nodeKey, position);
+    return position;
+  }
+
+  /**
+   * Append a node key.
+   *
+   * @param nodeKey the node key
+   * @return this index
+   */
+  public ArrayPositionIndex append(final long nodeKey) {
+    insert(size, nodeKey);
+    return this;
+  }
+
+  /**
+   * Insert a node key at a position. The node keys at this and subsequent positions are shifted to
+   * the right.
+   *
+   * @param position the position
+   * @param nodeKey  the node key
+   * @throws IndexOutOfBoundsException if the position is out of range
+   */
+  public void insert(@Nonnegative final int position, final long nodeKey) {
+    checkPositionIndex(position, size);
+
+    int blockIndex;
+    int offset;
+
+    if (position == size) {
+      if (blocks.isEmpty() || blocks.get(blocks.size() - 1).size == MAX_BLOCK_SIZE) {
+        blocks.add(new Block());
+        rebuildFenwickTree();
+      }
+      blockIndex = blocks.size() - 1;
+      offset = blocks.get(blockIndex).size;
+    } else {
+      blockIndex = findBlock(position);
+      offset = position - prefixSum(blockIndex);
+
+      if (blocks.get(blockIndex).size == MAX_BLOCK_SIZE) {
+        splitBlock(blockIndex);
+        final int half = MAX_BLOCK_SIZE >> 1;
+        if (offset > half) {
+          blockIndex++;
+          offset -= half;
+        }
+      }
+    }
+
+    final Block block = blocks.get(blockIndex);
+    System.arraycopy(block.nodeKeys, offset, block.nodeKeys, offset + 1, block.size - offset);
+    block.nodeKeys[offset] = nodeKey;
+    block.size++;
+    blocksByNodeKey.put(nodeKey, block);
+    addToFenwickTree(blockIndex, 1);
+    size++;
+
+    setHint(nodeKey, position);
+  }
+
+  /**
+   * Remove the node key at a position. The node keys at subsequent positions are shifted to the
+   * left.
+   *
+   * @param position the position
+   * @return the removed node key
+   * @throws IndexOutOfBoundsException if the position is out of range
+   */
+  public long remove(@Nonnegative final int position) {
+    checkElementIndex(position, size);
+
+    final int blockIndex = findBlock(position);
+    final int offset = position - prefixSum(blockIndex);
+    final Block block = blocks.get(blockIndex);
+    final long nodeKey = block.nodeKeys[offset];
+
+    System.arraycopy(block.nodeKeys, offset + 1, block.nodeKeys, offset, block.size - offset - 1);
+    block.size--;
+    blocksByNodeKey.remove(nodeKey);
+    size--;
+
+    if (block.size == 0) {
+      blocks.remove(blockIndex);
+      rebuildFenwickTree();
+    } else {
+      addToFenwickTree(blockIndex, -1);
+    }
+
+    if (position > 0) {
+      getNodeKey(position - 1);
+    } else {
+      hintPosition = -1;
+    }
+
+    return nodeKey;
+  }
+
+  private void splitBlock(final int blockIndex) {
+    final int half = MAX_BLOCK_SIZE >> 1;
+    final Block block = blocks.get(blockIndex);
+    final Block newBlock = new Block();
+    System.arraycopy(block.nodeKeys, half, newBlock.nodeKeys, 0, MAX_BLOCK_SIZE - half);
+    block.size = half;
+    newBlock.size = MAX_BLOCK_SIZE - half;
+
+    for (int i = 0; i < newBlock.size; i++) {
+      blocksByNodeKey.put(newBlock.nodeKeys[i], newBlock);
+    }
+
+    blocks.add(blockIndex + 1, newBlock);
+    rebuildFenwickTree();
+  }
+
+  private void setHint(final long nodeKey, final int position) {
+    hintNodeKey = nodeKey;
+    hintPosition = position;
+  }
+
+  /**
+   * Find the index of the block, which contains the node key at the given position.
+   */
+  private int findBlock(final int position) {
+    int blockIndex = 0;
+    int remaining = position;
+    for (int bitMask = Integer.highestOneBit(fenwickTree.length - 1); bitMask != 0; bitMask >>= 1) {
+      final int next = blockIndex + bitMask;
+      if (next < fenwickTree.length && fenwickTree[next] <= remaining) {
+        blockIndex = next;
+        remaining -= fenwickTree[next];
+      }
+    }
+    return blockIndex;
+  }
+
+  /**
+   * Get the number of node keys in all blocks before the block with the given index.
+   */
+  private int prefixSum(final int blockIndex) {
+    int sum = 0;
+    for (int i = blockIndex; i > 0; i -= i & -i) {
+      sum += fenwickTree[i];
+    }
+    return sum;
+  }
+
+  private void addToFenwickTree(final int blockIndex, final int delta) {
+    for (int i = blockIndex + 1; i < fenwickTree.length; i += i & -i) {
+      fenwickTree[i] += delta;
+    }
+  }
+
+  /**
+   * Rebuild the Fenwick tree and the indexes of the blocks after a block has been added or removed.
+   */
+  private void rebuildFenwickTree() {
+    final int numberOfBlocks = blocks.size();
+    fenwickTree = new int[numberOfBlocks + 1];
+    for (int i = 1; i <= numberOfBlocks; i++) {
+      final Block block = blocks.get(i - 1);
+      block.index = i - 1;
+      fenwickTree[i] += block.size;
+      final int parent = i + (i & -i);
+      if (parent <= numberOfBlocks) {
+        fenwickTree[parent] += fenwickTree[i];
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("size", size).add("blocks", blocks.size()).toString();
+  }
+}
@@ -48,7 +48,7 @@ public final class NodePersistenterImpl implements NodePersistenter {
 
         final byte[] bytes = new byte[cutOffSize + deweyIDBytes.length];
         final ByteBuffer target = ByteBuffer.wrap(bytes);
-        target.put(Arrays.copyOfRange(previousDeweyIDBytes, 0, cutOffSize));
+        target.put(previousDeweyIDBytes, 0, cutOffSize);
         target.put(deweyIDBytes);
 
         return new SirixDeweyID(bytes);
@@ -0,0 +1,212 @@
+package org.sirix.node;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * <p>
+ * A packed, byte-comparable representation of {@link SirixDeweyID}s. Every division but the implicit
+ * first division {@code 1} is encoded on its own in one to five bytes, whereas the first byte
+ * determines the length:
+ * </p>
+ * <ul>
+ * <li>{@code 0xxxxxxx}: values up to {@code 0x7F},</li>
+ * <li>{@code 10xxxxxx} and one more byte: the next {@code 2^14} values,</li>
+ * <li>{@code 110xxxxx} and two more bytes: the next {@code 2^21} values,</li>
+ * <li>{@code 1110xxxx} and three more bytes: the next {@code 2^28} values,</li>
+ * <li>{@code 11110000} and four more bytes: the remaining values.</li>
+ * </ul>
+ * <p>
+ * As the encoding of a division is order preserving and prefix free and the divisions are byte
+ * aligned, the unsigned lexicographical order of the packed bytes is the document order of the
+ * DeweyIDs and the packed bytes of an ancestor are a prefix of the packed bytes of its descendants.
+ * Thus, DeweyIDs are compared and tested for ancestorship by comparing the bytes without decoding
+ * the divisions. In contrast to {@link SirixDeweyID#toBytes()}, which is used for storing DeweyIDs
+ * in pages, the packed bytes need a few more bits per division.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PackedDeweyID {
+
+  private static final int TWO_BYTES_BASE = 0x80;
+
+  private static final int THREE_BYTES_BASE = TWO_BYTES_BASE + (1 << 14);
+
+  private static final int FOUR_BYTES_BASE = THREE_BYTES_BASE + (1 << 21);
+
+  private static final int FIVE_BYTES_BASE = FOUR_BYTES_BASE + (1 << 28);
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private PackedDeweyID() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Pack a DeweyID.
+   *
+   * @param deweyID the DeweyID to pack
+   * @return the packed bytes
+   */
+  public static byte[] pack(final @Nonnull SirixDeweyID deweyID) {
+    final int[] divisionValues = deweyID.getDivisionValues();
+    final var bytes = ByteBuffer.allocate(packedLength(divisionValues));
+    pack(divisionValues, bytes);
+    return bytes.array();
+  }
+
+  /**
+   * Get the number of bytes of the packed division values.
+   *
+   * @param divisionValues the division values including the implicit first division
+   * @return the number of bytes
+   */
+  public static int packedLength(final int[] divisionValues) {
+    int length = 0;
+
+    for (int i = 1; i < divisionValues.length; i++) {
+      length += packedLength(divisionValues[i]);
+    }
+
+    return length;
+  }
+
+  private static int packedLength(final int divisionValue) {
+    checkArgument(divisionValue >= 0, "Division values must be >= 0.");
+
+    if (divisionValue < TWO_BYTES_BASE) {
+      return 1;
+    } else if (divisionValue < THREE_BYTES_BASE) {
+      return 2;
+    } else if (divisionValue < FOUR_BYTES_BASE) {
+      return 3;
+    } else if (divisionValue < FIVE_BYTES_BASE) {
+      return 4;
+    }
+
+    return 5;
+  }
+
+  /**
+   * Pack division values at the position of the target buffer.
+   *
+   * @param divisionValues the division values including the implicit first division
+   * @param target         the buffer to write to, which has at least {@link #packedLength(int[])}
+   *                       bytes remaining
+   */
+  public static void pack(final int[] divisionValues, final ByteBuffer target) {
+    for (int i = 1; i < divisionValues.length; i++) {
+      final int value = divisionValues[i];
+
+      switch (packedLength(value)) {
+        case 1 -> target.put((byte) value);
+        case 2 -> target.putShort((short) (0x8000 | (value - TWO_BYTES_BASE)));
+        case 3 -> {
+          final int bits = 0xC00000 | (value - THREE_BYTES_BASE);
+          target.put((byte) (bits >>> 16)).putShort((short) bits);
+        }
+        case 4 -> target.putInt(0xE0000000 | (value - FOUR_BYTES_BASE));
+        default -> target.put((byte) 0xF0).putInt(value - FIVE_BYTES_BASE);
+      }
+    }
+  }
+
+  /**
+   * Unpack a DeweyID.
+   *
+   * @param packed the packed bytes
+   * @return the DeweyID
+   */
+  public static SirixDeweyID unpack(final byte[] packed) {
+    return unpack(ByteBuffer.wrap(packed), 0, packed.length);
+  }
+
+  /**
+   * Unpack a DeweyID from a buffer.
+   *
+   * @param source the buffer to read from, whose position isn't changed
+   * @param offset the absolute index of the first byte
+   * @param length the number of bytes
+   * @return the DeweyID
+   */
+  public static SirixDeweyID unpack(final ByteBuffer source, final int offset, final int length) {
+    // Every division needs at least one byte.
+    final int[] divisionValues = new int[length + 1];
+    divisionValues[0] = 1;
+
+    int numberOfDivisions = 1;
+    int index = offset;
+    final int end = offset + length;
+
+    while (index < end) {
+      final int firstByte = source.get(index) & 0xFF;
+
+      if (firstByte < 0x80) {
+        divisionValues[numberOfDivisions] = firstByte;
+        index += 1;
+      } else if (firstByte < 0xC0) {
+        divisionValues[numberOfDivisions] = TWO_BYTES_BASE + (source.getShort(index) & 0x3FFF);
+        index += 2;
+      } else if (firstByte < 0xE0) {
+        divisionValues[numberOfDivisions] =
+            THREE_BYTES_BASE + (((firstByte & 0x1F) << 16) | (source.getShort(index + 1) & 0xFFFF));
+        index += 3;
+      } else if (firstByte < 0xF0) {
+        divisionValues[numberOfDivisions] = FOUR_BYTES_BASE + (source.getInt(index) & 0x0FFFFFFF);
+        index += 4;
+      } else {
+        divisionValues[numberOfDivisions] = FIVE_BYTES_BASE + source.getInt(index + 1);
+        index += 5;
+      }
+
+      numberOfDivisions++;
+    }
+
+    return new SirixDeweyID(numberOfDivisions, divisionValues);
+  }
+
+  /**
+   * Compare two packed DeweyIDs in document order.
+   *
+   * @param packed      the first packed DeweyID
+   * @param otherPacked the second packed DeweyID
+   * @return a negative value, zero or a positive value, if the first DeweyID precedes, equals or
+   * follows the second DeweyID
+   */
+  public static int compare(final byte[] packed, final byte[] otherPacked) {
+    return Arrays.compareUnsigned(packed, otherPacked);
+  }
+
+  /**
+   * Determines if the first packed DeweyID is a proper ancestor of the second one.
+   *
+   * @param packed      the packed DeweyID of the ancestor
+   * @param otherPacked the packed DeweyID of the descendant
+   * @return {@code true}, if the first DeweyID is an ancestor of the second one, {@code false}
+   * otherwise
+   */
+  public static boolean isAncestorOf(final byte[] packed, final byte[] otherPacked) {
+    return packed.length < otherPacked.length && isPrefixOf(packed, otherPacked);
+  }
+
+  /**
+   * Determines if the first packed DeweyID is an ancestor of or equal to the second one.
+   *
+   * @param packed      the packed DeweyID of the ancestor
+   * @param otherPacked the packed DeweyID of the descendant
+   * @return {@code true}, if the first DeweyID is an ancestor of or equal to the second one,
+   * {@code false} otherwise
+   */
+  public static boolean isAncestorOrSelfOf(final byte[] packed, final byte[] otherPacked) {
+    return packed.length <= otherPacked.length && isPrefixOf(packed, otherPacked);
+  }
+
+  private static boolean isPrefixOf(final byte[] packed, final byte[] otherPacked) {
+    return Arrays.equals(packed, 0, packed.length, otherPacked, 0, packed.length);
+  }
+}
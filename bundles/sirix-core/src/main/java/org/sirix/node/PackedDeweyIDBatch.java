@@ -0,0 +1,285 @@
+package org.sirix.node;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * <p>
+ * A batch of DeweyIDs, which are stored as {@link PackedDeweyID packed bytes} one after the other in
+ * a single buffer, which is allocated on or off the Java heap, to sort large numbers of DeweyIDs in
+ * document order without creating an object per DeweyID.
+ * </p>
+ * <p>
+ * Besides the offset and the length, the first eight bytes of every DeweyID are kept as a big-endian
+ * long in a primitive array. Most comparisons during sorting are thus decided on these prefixes
+ * sequentially in memory, whereas the remaining bytes are only compared for DeweyIDs with a common
+ * prefix of eight bytes. The DeweyIDs themselves are never moved, only an array of their indexes is
+ * sorted.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PackedDeweyIDBatch {
+
+  /**
+   * Number of indexes up to which insertion sort is used.
+   */
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  /**
+   * Determines if the buffer is allocated off the Java heap.
+   */
+  private final boolean direct;
+
+  /**
+   * The packed bytes of the DeweyIDs.
+   */
+  private ByteBuffer data;
+
+  /**
+   * The offsets of the DeweyIDs in the buffer.
+   */
+  private int[] offsets;
+
+  /**
+   * The lengths of the packed DeweyIDs.
+   */
+  private int[] lengths;
+
+  /**
+   * The first eight bytes of the packed DeweyIDs, padded with zeros.
+   */
+  private long[] prefixes;
+
+  /**
+   * The indexes of the DeweyIDs in document order after sorting, otherwise in insertion order.
+   */
+  private int[] order;
+
+  /**
+   * The number of DeweyIDs.
+   */
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param expectedSize the expected number of DeweyIDs
+   * @param direct       {@code true}, if the packed DeweyIDs are stored off the Java heap,
+   *                     {@code false} otherwise
+   */
+  public PackedDeweyIDBatch(final @Nonnegative int expectedSize, final boolean direct) {
+    checkArgument(expectedSize >= 0, "expectedSize must be >= 0.");
+    final int capacity = Math.max(expectedSize, 16);
+    this.direct = direct;
+    data = allocate(capacity * 8);
+    offsets = new int[capacity];
+    lengths = new int[capacity];
+    prefixes = new long[capacity];
+  }
+
+  private ByteBuffer allocate(final int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Add a DeweyID.
+   *
+   * @param deweyID the DeweyID to add
+   * @return the index of the DeweyID
+   */
+  public int add(final @Nonnull SirixDeweyID deweyID) {
+    final int[] divisionValues = deweyID.getDivisionValues();
+    final int offset = reserve(PackedDeweyID.packedLength(divisionValues));
+    PackedDeweyID.pack(divisionValues, data);
+    return addIndex(offset);
+  }
+
+  /**
+   * Add a packed DeweyID.
+   *
+   * @param packed the packed bytes of the DeweyID
+   * @return the index of the DeweyID
+   */
+  public int add(final byte[] packed) {
+    final int offset = reserve(packed.length);
+    data.put(packed);
+    return addIndex(offset);
+  }
+
+  private int reserve(final int length) {
+    if (data.remaining() < length) {
+      final ByteBuffer newData = allocate(Math.max(data.capacity() * 2, data.position() + length));
+      newData.put(data.flip());
+      data = newData;
+    }
+
+    if (size == offsets.length) {
+      final int capacity = size * 2;
+      offsets = Arrays.copyOf(offsets, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+      prefixes = Arrays.copyOf(prefixes, capacity);
+    }
+
+    return data.position();
+  }
+
+  private int addIndex(final int offset) {
+    final int length = data.position() - offset;
+    offsets[size] = offset;
+    lengths[size] = length;
+
+    long prefix = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      prefix <<= 8;
+
+      if (i < length) {
+        prefix |= data.get(offset + i) & 0xFF;
+      }
+    }
+    prefixes[size] = prefix;
+
+    order = null;
+    return size++;
+  }
+
+  /**
+   * Get the number of DeweyIDs.
+   *
+   * @return the number of DeweyIDs
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Sort the DeweyIDs in document order. The sort is stable.
+   */
+  public void sort() {
+    order = new int[size];
+    Arrays.setAll(order, i -> i);
+    mergeSort(order, Arrays.copyOf(order, size), 0, size);
+  }
+
+  /**
+   * Get the index of the DeweyID at a position in document order.
+   *
+   * @param position the position in document order
+   * @return the index of the DeweyID
+   * @throws IllegalStateException if the DeweyIDs haven't been sorted since the last DeweyID was added
+   */
+  public int indexAt(final @Nonnegative int position) {
+    if (order == null) {
+      throw new IllegalStateException("The DeweyIDs have to be sorted first.");
+    }
+
+    checkElementIndex(position, size);
+    return order[position];
+  }
+
+  /**
+   * Get the packed bytes of a DeweyID.
+   *
+   * @param index the index of the DeweyID
+   * @return the packed bytes
+   */
+  public byte[] get(final @Nonnegative int index) {
+    checkElementIndex(index, size);
+    final byte[] packed = new byte[lengths[index]];
+    data.get(offsets[index], packed);
+    return packed;
+  }
+
+  /**
+   * Get a DeweyID.
+   *
+   * @param index the index of the DeweyID
+   * @return the DeweyID
+   */
+  public SirixDeweyID getDeweyID(final @Nonnegative int index) {
+    checkElementIndex(index, size);
+    return PackedDeweyID.unpack(data, offsets[index], lengths[index]);
+  }
+
+  /**
+   * Compare two DeweyIDs of the batch in document order.
+   *
+   * @param index      the index of the first DeweyID
+   * @param otherIndex the index of the second DeweyID
+   * @return a negative value, zero or a positive value, if the first DeweyID precedes, equals or
+   * follows the second DeweyID
+   */
+  public int compare(final @Nonnegative int index, final @Nonnegative int otherIndex) {
+    checkElementIndex(index, size);
+    checkElementIndex(otherIndex, size);
+    return compareUnchecked(index, otherIndex);
+  }
+
+  private int compareUnchecked(final int index, final int otherIndex) {
+    final int result = Long.compareUnsigned(prefixes[index], prefixes[otherIndex]);
+
+    if (result != 0) {
+      return result;
+    }
+
+    // The first eight bytes (or less, if a DeweyID is shorter) are equal.
+    final int length = lengths[index];
+    final int otherLength = lengths[otherIndex];
+    final int offset = offsets[index];
+    final int otherOffset = offsets[otherIndex];
+
+    for (int i = Long.BYTES, minLength = Math.min(length, otherLength); i < minLength; i++) {
+      final int byteResult = Integer.compare(data.get(offset + i) & 0xFF, data.get(otherOffset + i) & 0xFF);
+
+      if (byteResult != 0) {
+        return byteResult;
+      }
+    }
+
+    return Integer.compare(length, otherLength);
+  }
+
+  private void mergeSort(final int[] target, final int[] source, final int from, final int to) {
+    if (to - from <= INSERTION_SORT_THRESHOLD) {
+      insertionSort(target, from, to);
+      return;
+    }
+
+    // The halves are sorted in the source, which are merged into the target.
+    final int middle = (from + to) >>> 1;
+    mergeSort(source, target, from, middle);
+    mergeSort(source, target, middle, to);
+
+    if (compareUnchecked(source[middle - 1], source[middle]) <= 0) {
+      System.arraycopy(source, from, target, from, to - from);
+      return;
+    }
+
+    for (int i = from, left = from, right = middle; i < to; i++) {
+      if (right >= to || (left < middle && compareUnchecked(source[left], source[right]) <= 0)) {
+        target[i] = source[left++];
+      } else {
+        target[i] = source[right++];
+      }
+    }
+  }
+
+  private void insertionSort(final int[] indexes, final int from, final int to) {
+    for (int i = from + 1; i < to; i++) {
+      final int index = indexes[i];
+      int j = i - 1;
+
+      while (j >= from && compareUnchecked(indexes[j], index) > 0) {
+        indexes[j + 1] = indexes[j];
+        j--;
+      }
+
+      indexes[j + 1] = index;
+    }
+  }
+}
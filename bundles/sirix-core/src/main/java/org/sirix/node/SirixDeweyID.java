@@ -50,6 +50,12 @@ public final class SirixDeweyID implements Comparable<SirixDeweyID>, SimpleDewey
   private final int[] divisionValues;
   private final int level;
 
+  // the encoded bytes, which are computed on first use, as a DeweyID is
+  // immutable and serialized repeatedly (for instance as the reference for
+  // the next DeweyID of a page); volatile to publish the array contents
+  // safely to other threads, which share the DeweyID
+  private volatile byte[] bytes;
+
   // possible bitlength for one division
   // private final static byte[] divisionLengthArray =
   // {3,4,6,8,12,16,20,24,31};
@@ -531,8 +537,18 @@ public final class SirixDeweyID implements Comparable<SirixDeweyID>, SimpleDewey
     return bitIndex;
   }
 
+  /**
+   * Get the encoded bytes. The returned array is shared and must not be modified.
+   *
+   * @return the encoded bytes
+   */
   public byte[] toBytes() {
-    return toBytes(divisionValues);
+    byte[] encodedBytes = bytes;
+    if (encodedBytes == null) {
+      encodedBytes = toBytes(divisionValues);
+      bytes = encodedBytes;
+    }
+    return encodedBytes;
   }
 
   public byte[] toAttributeRootBytes() {
@@ -58,6 +58,17 @@ public final class RevisionRootPage extends AbstractForwardingPage {
    */
   private static final int INDIRECT_CHANGED_NODES_INDEX_REFERENCE_OFFSET = 1;
 
+  /**
+   * Flag of the optional fields, which is set if the page stores a user. Pages written before
+   * statistics have been introduced store a boolean in place of the flags, which is equal to this flag.
+   */
+  private static final int HAS_USER_FLAG = 1;
+
+  /**
+   * Flag of the optional fields, which is set if the page stores statistics.
+   */
+  private static final int HAS_STATISTICS_FLAG = 1 << 1;
+
   /**
    * Offset of node to revisions page reference.
    */
@@ -143,6 +154,11 @@ public final class RevisionRootPage extends AbstractForwardingPage {
    */
   private User user;
 
+  /**
+   * Optional aggregate statistics of the revision.
+   */
+  private RevisionStatistics statistics;
+
   /**
    * Create revision root page.
    */
@@ -183,11 +199,17 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     currentMaxLevelOfChangedNodesIndirectPages = in.readByte() & 0xFF;
     currentMaxLevelOfRecordToRevisionsIndirectPages = in.readByte() & 0xFF;
 
-    if (in.readBoolean()) {
+    final int flags = in.readByte() & 0xFF;
+
+    if ((flags & HAS_USER_FLAG) != 0) {
       user = new User(in.readUTF(), UUID.fromString(in.readUTF()));
     } else {
       user = null;
     }
+
+    if ((flags & HAS_STATISTICS_FLAG) != 0) {
+      statistics = new RevisionStatistics(in);
+    }
   }
 
   /**
@@ -210,6 +232,9 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     currentMaxLevelOfChangedNodesIndirectPages = committedRevisionRootPage.currentMaxLevelOfChangedNodesIndirectPages;
     currentMaxLevelOfRecordToRevisionsIndirectPages =
         committedRevisionRootPage.currentMaxLevelOfRecordToRevisionsIndirectPages;
+    statistics = committedRevisionRootPage.statistics == null
+        ? null
+        : new RevisionStatistics(committedRevisionRootPage.statistics);
   }
 
   /**
@@ -400,11 +425,15 @@ public final class RevisionRootPage extends AbstractForwardingPage {
     out.writeByte(currentMaxLevelOfChangedNodesIndirectPages);
     out.writeByte(currentMaxLevelOfRecordToRevisionsIndirectPages);
     final boolean hasUser = user != null;
-    out.writeBoolean(hasUser);
+    final boolean hasStatistics = statistics != null;
+    out.writeByte((hasUser ? HAS_USER_FLAG : 0) | (hasStatistics ? HAS_STATISTICS_FLAG : 0));
     if (hasUser) {
       out.writeUTF(user.getName());
       out.writeUTF(user.getId().toString());
     }
+    if (hasStatistics) {
+      statistics.serialize(out);
+    }
   }
 
   public int getCurrentMaxLevelOfDocumentIndexIndirectPages() {
@@ -523,4 +552,22 @@ public final class RevisionRootPage extends AbstractForwardingPage {
   public Optional<User> getUser() {
     return Optional.ofNullable(user);
   }
+
+  /**
+   * Set the aggregate statistics of the revision.
+   *
+   * @param statistics the statistics
+   */
+  public void setStatistics(final RevisionStatistics statistics) {
+    this.statistics = checkNotNull(statistics);
+  }
+
+  /**
+   * Get the aggregate statistics of the revision, if they are stored.
+   *
+   * @return the statistics or {@link Optional#empty()}, if the resource doesn't store statistics
+   */
+  public Optional<RevisionStatistics> getStatistics() {
+    return Optional.ofNullable(statistics);
+  }
 }
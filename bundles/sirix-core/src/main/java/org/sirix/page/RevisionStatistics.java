@@ -0,0 +1,206 @@
+package org.sirix.page;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.node.NodeKind;
+
+import javax.annotation.Nonnegative;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.sirix.node.Utils.getVarLong;
+import static org.sirix.node.Utils.putVarLong;
+
+/**
+ * Aggregate statistics of a single revision, which are stored in the {@link RevisionRootPage} and
+ * maintained incrementally by the page write transaction. Thus, timeline queries over many revisions
+ * only have to read the revision root pages instead of whole snapshots.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionStatistics {
+
+  /**
+   * Number of records in the document index per node kind.
+   */
+  private final Map<NodeKind, Long> nodeCounts;
+
+  /**
+   * Number of references per path class (path node key).
+   */
+  private final Map<Long, Long> pathNodeReferences;
+
+  /**
+   * Total number of bytes of all stored values.
+   */
+  private long totalValueBytes;
+
+  /**
+   * Constructor.
+   */
+  public RevisionStatistics() {
+    nodeCounts = new EnumMap<>(NodeKind.class);
+    pathNodeReferences = new HashMap<>();
+  }
+
+  /**
+   * Copy constructor, used when a new revision root page is created based on a committed one.
+   *
+   * @param statistics the statistics to copy
+   */
+  public RevisionStatistics(final RevisionStatistics statistics) {
+    checkNotNull(statistics);
+    nodeCounts = new EnumMap<>(NodeKind.class);
+    nodeCounts.putAll(statistics.nodeCounts);
+    pathNodeReferences = new HashMap<>(statistics.pathNodeReferences);
+    totalValueBytes = statistics.totalValueBytes;
+  }
+
+  /**
+   * Deserialize the statistics.
+   *
+   * @param in the input to read from
+   * @throws IOException if an I/O error occurs
+   */
+  RevisionStatistics(final DataInput in) throws IOException {
+    this();
+    final int kinds = in.readByte() & 0xFF;
+    for (int i = 0; i < kinds; i++) {
+      nodeCounts.put(NodeKind.getKind(in.readByte()), getVarLong(in));
+    }
+    final long pathNodes = getVarLong(in);
+    for (long i = 0; i < pathNodes; i++) {
+      pathNodeReferences.put(getVarLong(in), getVarLong(in));
+    }
+    totalValueBytes = getVarLong(in);
+  }
+
+  /**
+   * Serialize the statistics.
+   *
+   * @param out the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void serialize(final DataOutput out) throws IOException {
+    out.writeByte(nodeCounts.size());
+    for (final Map.Entry<NodeKind, Long> entry : nodeCounts.entrySet()) {
+      out.writeByte(entry.getKey().getId());
+      putVarLong(out, entry.getValue());
+    }
+    putVarLong(out, pathNodeReferences.size());
+    for (final Map.Entry<Long, Long> entry : pathNodeReferences.entrySet()) {
+      putVarLong(out, entry.getKey());
+      putVarLong(out, entry.getValue());
+    }
+    putVarLong(out, totalValueBytes);
+  }
+
+  /**
+   * Adapt the node count of the given kind by the given delta.
+   *
+   * @param kind  the node kind
+   * @param delta the number of records added (positive) or removed (negative)
+   */
+  public void adaptNodeCount(final NodeKind kind, final long delta) {
+    checkNotNull(kind);
+    final long count = nodeCounts.getOrDefault(kind, 0L) + delta;
+    if (count <= 0) {
+      nodeCounts.remove(kind);
+    } else {
+      nodeCounts.put(kind, count);
+    }
+  }
+
+  /**
+   * Adapt the total number of value bytes by the given delta.
+   *
+   * @param delta the number of value bytes added (positive) or removed (negative)
+   */
+  public void adaptTotalValueBytes(final long delta) {
+    totalValueBytes = Math.max(0, totalValueBytes + delta);
+  }
+
+  /**
+   * Set the number of references of a path class.
+   *
+   * @param pathNodeKey the path node key
+   * @param references  the number of references, if {@code 0} the path class is removed
+   */
+  public void setPathNodeReferences(final long pathNodeKey, final @Nonnegative long references) {
+    if (references <= 0) {
+      pathNodeReferences.remove(pathNodeKey);
+    } else {
+      pathNodeReferences.put(pathNodeKey, references);
+    }
+  }
+
+  /**
+   * Get the number of records of the given kind.
+   *
+   * @param kind the node kind
+   * @return the number of records of the given kind
+   */
+  public long getNodeCount(final NodeKind kind) {
+    return nodeCounts.getOrDefault(checkNotNull(kind), 0L);
+  }
+
+  /**
+   * Get the number of records of all kinds.
+   *
+   * @return the number of records of all kinds
+   */
+  public long getNodeCount() {
+    return nodeCounts.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Get an unmodifiable view of the node counts per node kind.
+   *
+   * @return the node counts per node kind
+   */
+  public Map<NodeKind, Long> getNodeCounts() {
+    return Collections.unmodifiableMap(nodeCounts);
+  }
+
+  /**
+   * Get the number of references of the path class denoted by the path node key.
+   *
+   * @param pathNodeKey the path node key
+   * @return the number of references
+   */
+  public long getPathNodeReferences(final long pathNodeKey) {
+    return pathNodeReferences.getOrDefault(pathNodeKey, 0L);
+  }
+
+  /**
+   * Get an unmodifiable view of the references per path class.
+   *
+   * @return the references per path node key
+   */
+  public Map<Long, Long> getPathNodeReferences() {
+    return Collections.unmodifiableMap(pathNodeReferences);
+  }
+
+  /**
+   * Get the total number of value bytes.
+   *
+   * @return the total number of value bytes
+   */
+  public long getTotalValueBytes() {
+    return totalValueBytes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeCounts", nodeCounts)
+                      .add("pathNodeReferences", pathNodeReferences)
+                      .add("totalValueBytes", totalValueBytes)
+                      .toString();
+  }
+}
@@ -400,13 +400,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public void commit(@Nonnull PageTrx pageWriteTrx) {
-    if (!addedReferences) {
-      try {
-        addReferences();
-      } catch (final IOException e) {
-        throw new SirixIOException(e);
-      }
-    }
+    serializeRecords();
 
     for (final PageReference reference : references.values()) {
       if (!(reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
@@ -416,6 +410,21 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     }
   }
 
+  /**
+   * Serialize the records of the page, which are not serialized yet. Records, which are set
+   * afterwards, are serialized once the page is committed. Must not be called concurrently with other
+   * methods of this page.
+   */
+  public void serializeRecords() {
+    if (!addedReferences) {
+      try {
+        addReferences();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+
   // Add references to OverflowPages.
   private void addReferences() throws IOException {
     final var storeDeweyIDs = pageReadOnlyTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
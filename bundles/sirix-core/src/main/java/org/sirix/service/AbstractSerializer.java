@@ -37,6 +37,10 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
   /** Optional visitor. */
   protected final NodeVisitor visitor;
 
+  /** Marks nodes on the stack, whose end is emitted with the transaction located at the node. */
+  private static final EndNode AT_NODE = () -> {
+  };
+
   /**
    * Constructor.
    *
@@ -111,72 +115,134 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
         emitRevisionStartNode(rtx);
 
         rtx.moveTo(startNodeKey);
+        emitSubtree(rtx);
 
-        final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
+        emitRevisionEndNode(rtx);
+      }
+    }
 
-        if (visitor != null) {
-          builder.visitor(visitor);
-          setTrxForVisitor(rtx);
-        }
+    emitEndDocument();
 
-        final Axis descAxis = builder.build();
-
-        // Setup primitives.
-        boolean closeElements = false;
-        long key;
-
-        // Iterate over all nodes of the subtree including s.
-        while (descAxis.hasNext()) {
-          key = descAxis.next();
-
-          // Emit all pending end elements.
-          if (closeElements) {
-            while (!stack.isEmpty() && stack.peek() != rtx.getLeftSiblingKey()) {
-              rtx.moveTo(stack.pop());
-              emitEndNode(rtx);
-              rtx.moveTo(key);
-            }
-            if (!stack.isEmpty()) {
-              rtx.moveTo(stack.pop());
-              emitEndNode(rtx);
-            }
-            rtx.moveTo(key);
-            closeElements = false;
-          }
-
-          // Emit node.
-          final long nodeKey = rtx.getNodeKey();
-          emitNode(rtx);
-          rtx.moveTo(nodeKey);
-
-          // Push end element to stack if we are a start element with
-          // children.
-          if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
-            stack.push(rtx.getNodeKey());
-          }
-
-          // Remember to emit all pending end elements from stack if
-          // required.
-          if ((!rtx.hasFirstChild() || isSubtreeGoingToBePruned(rtx)) && !rtx.hasRightSibling()) {
-            closeElements = true;
-          }
-        }
+    return null;
+  }
+
+  /**
+   * Serialize the subtree rooted at the current node of the transaction. End tags of nodes on the
+   * stack below a {@link Constants#NULL_ID_LONG} marker aren't emitted.
+   *
+   * @param rtx read-only transaction located at the root of the subtree
+   */
+  protected void emitSubtree(final R rtx) {
+    final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
+
+    if (visitor != null) {
+      builder.visitor(visitor);
+      setTrxForVisitor(rtx);
+    }
+
+    final Axis descAxis = builder.build();
+
+    // Setup primitives.
+    final Deque<EndNode> endNodes = new ArrayDeque<>();
+    boolean closeElements = false;
+    long key;
 
-        // Finally emit all pending end elements.
-        while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
-          rtx.moveTo(stack.pop());
-          emitEndNode(rtx);
+    // Iterate over all nodes of the subtree including s.
+    while (descAxis.hasNext()) {
+      key = descAxis.next();
+
+      // Emit all pending end elements.
+      if (closeElements) {
+        final long leftSiblingKey = rtx.getLeftSiblingKey();
+        boolean hasMoved = false;
+        while (!stack.isEmpty() && stack.peek() != leftSiblingKey) {
+          hasMoved |= emitEndNode(rtx, endNodes);
+        }
+        if (!stack.isEmpty()) {
+          hasMoved |= emitEndNode(rtx, endNodes);
+        }
+        if (hasMoved) {
+          rtx.moveTo(key);
         }
+        closeElements = false;
+      }
 
-        emitRevisionEndNode(rtx);
+      // Emit node.
+      final long nodeKey = rtx.getNodeKey();
+      emitNode(rtx);
+      if (rtx.getNodeKey() != nodeKey) {
+        rtx.moveTo(nodeKey);
+      }
+
+      // Push end element to stack if we are a start element with
+      // children.
+      if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
+        stack.push(nodeKey);
+        final EndNode endNode = createEndNode(rtx);
+        endNodes.push(endNode == null ? AT_NODE : endNode);
+      }
+
+      // Remember to emit all pending end elements from stack if
+      // required.
+      if ((!rtx.hasFirstChild() || isSubtreeGoingToBePruned(rtx)) && !rtx.hasRightSibling()) {
+        closeElements = true;
       }
     }
 
-    emitEndDocument();
+    // Finally emit all pending end elements.
+    while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
+      emitEndNode(rtx, endNodes);
+    }
+  }
+
+  /**
+   * Pop the node on top of the stack and emit its end, either from the snapshot created while the
+   * node has been pushed or with the transaction moved back to the node. Nodes, which haven't been
+   * pushed by {@link #emitSubtree(NodeReadOnlyTrx)} itself, lie below all snapshots on the stack.
+   *
+   * @param rtx read-only transaction
+   * @param endNodes the snapshots of the ends of the nodes pushed by {@link #emitSubtree(NodeReadOnlyTrx)}
+   * @return {@code true}, if the transaction has been moved
+   */
+  private boolean emitEndNode(final R rtx, final Deque<EndNode> endNodes) {
+    final long nodeKey = stack.pop();
+    final EndNode endNode = endNodes.isEmpty() ? AT_NODE : endNodes.pop();
+
+    if (endNode == AT_NODE) {
+      rtx.moveTo(nodeKey);
+      emitEndNode(rtx);
+      return true;
+    }
+
+    endNode.emit();
+    return false;
+  }
 
+  /**
+   * Create a snapshot of everything needed to emit the end of the current node, for instance its
+   * name, such that the end is emitted without moving the transaction back to the node and thus
+   * without reading the node again. The snapshot is kept on the stack of ancestors of the current
+   * node while its subtree is serialized.
+   *
+   * @param rtx read-only transaction located at a node with children, which is pushed on the stack
+   * @return the snapshot or {@code null}, if {@link #emitEndNode(NodeReadOnlyTrx)} has to be called
+   *         with the transaction located at the node
+   */
+  protected EndNode createEndNode(final R rtx) {
     return null;
   }
 
+  /**
+   * The end of a node, which is emitted without a transaction.
+   */
+  @FunctionalInterface
+  protected interface EndNode {
+    /**
+     * Emit the end of the node.
+     */
+    void emit();
+  }
+
   protected abstract void setTrxForVisitor(R rtx);
 
   protected abstract boolean isSubtreeGoingToBePruned(R rtx);
@@ -0,0 +1,164 @@
+package org.sirix.service;
+
+import org.sirix.access.SirixExecutors;
+import org.sirix.exception.SirixThreadedException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes the parts of a serialization in order, while the parts are serialized concurrently by tasks
+ * of the background pool of the {@link SirixExecutors}. The number of pending parts is bounded, such
+ * that at most a few parts per thread are buffered in memory. If the limit is reached, adding a part
+ * blocks until the oldest part has been serialized and written.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class OrderedPartsWriter {
+
+  /**
+   * The sink of the parts.
+   */
+  @FunctionalInterface
+  public interface Sink {
+    /**
+     * Write a serialized part.
+     *
+     * @param bytes the serialized part
+     * @throws IOException if writing fails
+     */
+    void write(byte[] bytes) throws IOException;
+  }
+
+  /**
+   * The sink to write the parts to in order.
+   */
+  private final Sink sink;
+
+  /**
+   * The maximum number of pending parts.
+   */
+  private final int maxPendingParts;
+
+  /**
+   * The parts, which haven't been written yet, in order.
+   */
+  private final Deque<Future<byte[]>> pendingParts;
+
+  /**
+   * Constructor.
+   *
+   * @param sink        the sink to write the parts to in order
+   * @param parallelism the number of parts to serialize concurrently
+   */
+  public OrderedPartsWriter(@Nonnull final Sink sink, @Nonnegative final int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be > 0.");
+    this.sink = checkNotNull(sink);
+    maxPendingParts = 2 * parallelism;
+    pendingParts = new ArrayDeque<>(maxPendingParts + 1);
+  }
+
+  /**
+   * Add a part, which is already serialized.
+   *
+   * @param bytes the serialized part
+   * @throws IOException if writing a part fails
+   */
+  public void add(@Nonnull final byte[] bytes) throws IOException {
+    checkNotNull(bytes);
+
+    if (pendingParts.isEmpty()) {
+      sink.write(bytes);
+    } else {
+      pendingParts.add(CompletableFuture.completedFuture(bytes));
+      writeCompletedParts();
+    }
+  }
+
+  /**
+   * Add a part, which is serialized concurrently by the given task.
+   *
+   * @param task the task serializing the part
+   * @throws IOException if writing a part fails
+   */
+  public void add(@Nonnull final Callable<byte[]> task) throws IOException {
+    checkNotNull(task);
+    pendingParts.add(SirixExecutors.getInstance().submit(task));
+
+    while (pendingParts.size() > maxPendingParts) {
+      writeNextPart();
+    }
+
+    writeCompletedParts();
+  }
+
+  /**
+   * Wait until all parts have been serialized and written.
+   *
+   * @throws IOException if writing a part fails
+   */
+  public void finish() throws IOException {
+    while (!pendingParts.isEmpty()) {
+      writeNextPart();
+    }
+  }
+
+  private void writeCompletedParts() throws IOException {
+    while (!pendingParts.isEmpty() && pendingParts.peek().isDone()) {
+      writeNextPart();
+    }
+  }
+
+  private void writeNextPart() throws IOException {
+    final byte[] bytes;
+
+    try {
+      bytes = pendingParts.peek().get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      throw new SirixThreadedException(e);
+    } catch (final ExecutionException e) {
+      cancel();
+
+      if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+        throw uncheckedIOException.getCause();
+      }
+
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      throw new SirixThreadedException(e);
+    }
+
+    pendingParts.poll();
+
+    try {
+      sink.write(bytes);
+    } catch (final IOException e) {
+      cancel();
+      throw e;
+    }
+  }
+
+  /**
+   * Cancel the pending parts, if the serialization fails. Running tasks aren't interrupted, as
+   * interrupting a thread, which reads from a file channel, closes the channel.
+   */
+  public void cancel() {
+    pendingParts.forEach(part -> part.cancel(false));
+    pendingParts.clear();
+  }
+}
@@ -0,0 +1,1415 @@
+package org.sirix.service.json.serialize;
+
+import org.sirix.access.trx.node.json.InternalJsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.ValueNode;
+import org.sirix.service.OrderedPartsWriter;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * Serializes a subtree into the JSON-format by writing UTF-8 encoded bytes into a reusable buffer,
+ * which is flushed to an {@link OutputStream} or a {@link WritableByteChannel}. The output
+ * corresponds to the output of the {@link JsonSerializer} with the same options, but the serializer
+ * is meant for exporting large resources:
+ * </p>
+ * <ul>
+ * <li>the subtree is traversed with a single cursor, which is only moved to the first child, the
+ * right sibling or the parent of the current node,</li>
+ * <li>string values are escaped on their stored UTF-8 representation by means of a lookup table,</li>
+ * <li>the escaped object key names are cached per name key,</li>
+ * <li>integral numbers, node keys and hashes are encoded without intermediate strings or formatting.</li>
+ * </ul>
+ * <p>
+ * With a parallelism greater than one, subtrees with at least {@code partitionThreshold} nodes are
+ * split into parts of consecutive siblings, which are serialized concurrently into buffers by own
+ * read-only transactions and written in document order. The number of buffered parts is bounded by
+ * twice the parallelism.
+ * </p>
+ * <p>
+ * With a {@link JsonProjection} only the object keys and array elements on the projected paths are
+ * serialized, whereas the other subtrees are skipped based on the path summary.
+ * </p>
+ * <p>
+ * The output sink isn't closed. After the serialization the remaining bytes of the buffer are
+ * written and an {@link OutputStream} is flushed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonByteSerializer implements Callable<Void> {
+
+  /**
+   * The default size of the output buffer in bytes.
+   */
+  private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * The size of the buffer of a serializer, which serializes a part of the output.
+   */
+  private static final int PART_BUFFER_SIZE = 1 << 13;
+
+  /**
+   * The default minimum number of nodes of a subtree, which is split into parts to serialize
+   * concurrently.
+   */
+  private static final long DEFAULT_PARTITION_THRESHOLD = 1 << 15;
+
+  /**
+   * Escape sequences of the ASCII characters, or {@code null}, if a character isn't escaped.
+   */
+  private static final byte[][] ESCAPES = new byte[128][];
+
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] UPPER_CASE_HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * The quoted names of the node kinds, indexed by the ordinal.
+   */
+  private static final byte[][] KIND_NAMES = new byte[NodeKind.values().length][];
+
+  private static final byte[] NULL = ascii("null");
+
+  private static final byte[] TRUE = ascii("true");
+
+  private static final byte[] FALSE = ascii("false");
+
+  private static final byte[] KEY = ascii("\"key\"");
+
+  private static final byte[] METADATA = ascii("\"metadata\"");
+
+  private static final byte[] VALUE = ascii("\"value\"");
+
+  private static final byte[] NODE_KEY = ascii("\"nodeKey\"");
+
+  private static final byte[] HASH = ascii("\"hash\"");
+
+  private static final byte[] TYPE = ascii("\"type\"");
+
+  private static final byte[] DESCENDANT_COUNT = ascii("\"descendantCount\"");
+
+  private static final byte[] CHILD_COUNT = ascii("\"childCount\"");
+
+  private static final byte[] SIRIX = ascii("\"sirix\"");
+
+  private static final byte[] REVISION_NUMBER = ascii("\"revisionNumber\"");
+
+  private static final byte[] REVISION_TIMESTAMP = ascii("\"revisionTimestamp\"");
+
+  private static final byte[] REVISION = ascii("\"revision\"");
+
+  static {
+    for (int ch = 0; ch < 0x20; ch++) {
+      ESCAPES[ch] = unicodeEscape(ch);
+    }
+    ESCAPES['"'] = ascii("\\\"");
+    ESCAPES['\\'] = ascii("\\\\");
+    ESCAPES['\b'] = ascii("\\b");
+    ESCAPES['\f'] = ascii("\\f");
+    ESCAPES['\n'] = ascii("\\n");
+    ESCAPES['\r'] = ascii("\\r");
+    ESCAPES['\t'] = ascii("\\t");
+    ESCAPES['/'] = ascii("\\/");
+    ESCAPES[0x7F] = unicodeEscape(0x7F);
+
+    for (final NodeKind kind : NodeKind.values()) {
+      KIND_NAMES[kind.ordinal()] = ascii("\"" + kind + "\"");
+    }
+  }
+
+  /**
+   * The resource manager to read the resource.
+   */
+  private final JsonResourceManager resourceManager;
+
+  /**
+   * The revisions to serialize, or a single negative revision number to serialize all revisions.
+   */
+  private final int[] revisions;
+
+  /**
+   * Root node key of the subtree to serialize.
+   */
+  private final long startNodeKey;
+
+  private final boolean serializeStartNodeWithBrackets;
+
+  /**
+   * The maximum level up to which to serialize, or {@code -1} to serialize all levels.
+   */
+  private final long maxLevel;
+
+  private final boolean indent;
+
+  private final int indentSpaces;
+
+  private final boolean serializeTimestamp;
+
+  private final boolean withMetaData;
+
+  private final boolean withNodeKeyMetaData;
+
+  private final boolean withNodeKeyAndChildCountMetaData;
+
+  /**
+   * The output stream to write to, or {@code null}, if the output is written to a channel.
+   */
+  private final OutputStream out;
+
+  /**
+   * The channel to write to, or {@code null}, if the output is written to a stream.
+   */
+  private final WritableByteChannel channel;
+
+  /**
+   * The output buffer.
+   */
+  private final byte[] buffer;
+
+  /**
+   * The output buffer, wrapped for writing to a channel.
+   */
+  private final ByteBuffer byteBuffer;
+
+  /**
+   * Scratch space to encode numbers.
+   */
+  private final byte[] digits = new byte[20];
+
+  /**
+   * The escaped and quoted object key names.
+   */
+  private final NameCache names = new NameCache();
+
+  /**
+   * The number of bytes in the output buffer.
+   */
+  private int position;
+
+  private int currentIndent;
+
+  /**
+   * Number of threads to serialize concurrently, or {@code 1} to serialize sequentially.
+   */
+  private final int parallelism;
+
+  /**
+   * The minimum number of nodes of a subtree, which is split into parts to serialize concurrently.
+   */
+  private final long partitionThreshold;
+
+  /**
+   * The projection of the serialized subtrees, or {@code null} to serialize them completely.
+   */
+  private final JsonProjection projection;
+
+  /**
+   * Private constructor.
+   *
+   * @param builder builder reference
+   */
+  private JsonByteSerializer(final Builder builder) {
+    resourceManager = builder.resourceManager;
+    revisions = builder.revisions;
+    startNodeKey = builder.startNodeKey;
+    serializeStartNodeWithBrackets = builder.serializeStartNodeWithBrackets;
+    maxLevel = builder.maxLevel;
+    indent = builder.indent;
+    indentSpaces = builder.indentSpaces;
+    serializeTimestamp = builder.serializeTimestamp;
+    withMetaData = builder.withMetaData;
+    withNodeKeyMetaData = builder.withNodeKey;
+    withNodeKeyAndChildCountMetaData = builder.withNodeKeyAndChildCount;
+    parallelism = builder.parallelism;
+    partitionThreshold = builder.partitionThreshold;
+    projection = builder.projection;
+    out = builder.out;
+    channel = builder.channel;
+    buffer = new byte[builder.bufferSize];
+    byteBuffer = channel == null ? null : ByteBuffer.wrap(buffer);
+  }
+
+  /**
+   * Constructor of a serializer with the same options as the given serializer, which serializes a part
+   * of the output into a buffer.
+   *
+   * @param serializer    the serializer to copy the options from
+   * @param out           the buffer to write to
+   * @param currentIndent the indentation of the part
+   */
+  private JsonByteSerializer(final JsonByteSerializer serializer, final ByteArrayOutputStream out,
+      final int currentIndent) {
+    resourceManager = serializer.resourceManager;
+    revisions = serializer.revisions;
+    startNodeKey = serializer.startNodeKey;
+    serializeStartNodeWithBrackets = serializer.serializeStartNodeWithBrackets;
+    maxLevel = serializer.maxLevel;
+    indent = serializer.indent;
+    indentSpaces = serializer.indentSpaces;
+    serializeTimestamp = serializer.serializeTimestamp;
+    withMetaData = serializer.withMetaData;
+    withNodeKeyMetaData = serializer.withNodeKeyMetaData;
+    withNodeKeyAndChildCountMetaData = serializer.withNodeKeyAndChildCountMetaData;
+    parallelism = 1;
+    partitionThreshold = serializer.partitionThreshold;
+    projection = serializer.projection;
+    this.out = out;
+    channel = null;
+    buffer = new byte[PART_BUFFER_SIZE];
+    byteBuffer = null;
+    this.currentIndent = currentIndent;
+  }
+
+  /**
+   * Serialize the subtree of the revisions.
+   *
+   * @return {@code null}
+   * @throws UncheckedIOException if writing to the output fails
+   */
+  @Override
+  public Void call() {
+    try {
+      final int[] revisionsToSerialize = revisions.length == 1 && revisions[0] < 0
+          ? IntStream.rangeClosed(1, resourceManager.getMostRecentRevisionNumber()).toArray()
+          : revisions;
+
+      if (parallelism > 1 && projection == null) {
+        serializeInParallel(revisionsToSerialize);
+      } else {
+        serialize(revisionsToSerialize);
+      }
+
+      flushBuffer();
+
+      if (out != null) {
+        out.flush();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Serialize the revisions sequentially.
+   *
+   * @param revisionsToSerialize the revisions to serialize
+   * @throws IOException if writing to the output fails
+   */
+  private void serialize(final int[] revisionsToSerialize) throws IOException {
+    emitStartDocument(revisionsToSerialize.length);
+
+    for (int i = 0; i < revisionsToSerialize.length; i++) {
+      try (final var rtx = resourceManager.beginNodeReadOnlyTrx(revisionsToSerialize[i])) {
+        emitRevisionStart(rtx, i, revisionsToSerialize.length);
+
+        if (moveToStartNode(rtx)) {
+          if (projection == null) {
+            serializeSubtree(rtx, true, 0);
+          } else {
+            final var filter = projection.filter(rtx);
+            serializeProjection(rtx, filter, filter.match(rtx), true, 0);
+          }
+        }
+
+        emitRevisionEnd(revisionsToSerialize.length);
+        names.clear();
+      }
+    }
+
+    emitEndDocument(revisionsToSerialize.length);
+  }
+
+  /**
+   * Serialize the revisions concurrently. The subtrees of the start node, which have at least
+   * {@code partitionThreshold} nodes, are split into parts of consecutive siblings. The parts as well
+   * as the revisions are serialized into buffers by tasks, which use their own read-only
+   * transactions, and the buffers are written in order. Only the nodes above the parts are serialized
+   * by the calling thread.
+   *
+   * @param revisionsToSerialize the revisions to serialize
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeInParallel(final int[] revisionsToSerialize) throws IOException {
+    final var parts = new OrderedPartsWriter(bytes -> write(bytes), parallelism);
+    final var partitioning = new Partitioning(parts, new ByteArrayOutputStream());
+    final var planner = new JsonByteSerializer(this, partitioning.frames(), currentIndent);
+
+    try {
+      planner.emitStartDocument(revisionsToSerialize.length);
+
+      for (int i = 0; i < revisionsToSerialize.length; i++) {
+        try (final var rtx = resourceManager.beginNodeReadOnlyTrx(revisionsToSerialize[i])) {
+          planner.emitRevisionStart(rtx, i, revisionsToSerialize.length);
+
+          if (planner.moveToStartNode(rtx)) {
+            planner.partition(rtx, true, 0, partitioning);
+          }
+
+          planner.emitRevisionEnd(revisionsToSerialize.length);
+          planner.names.clear();
+        }
+      }
+
+      planner.emitEndDocument(revisionsToSerialize.length);
+      planner.addFrame(partitioning);
+      parts.finish();
+    } catch (final IOException | RuntimeException e) {
+      parts.cancel();
+      throw e;
+    }
+  }
+
+  private void emitStartDocument(final int numberOfRevisions) throws IOException {
+    if (numberOfRevisions > 1) {
+      writeObjectStart().writeKey(SIRIX).writeArrayStart();
+    }
+  }
+
+  private void emitEndDocument(final int numberOfRevisions) throws IOException {
+    if (numberOfRevisions > 1) {
+      writeArrayEnd().writeObjectEnd();
+    }
+  }
+
+  private void emitRevisionStart(final JsonNodeReadOnlyTrx rtx, final int index, final int numberOfRevisions)
+      throws IOException {
+    if (numberOfRevisions > 1) {
+      if (index > 0) {
+        writeSeparator();
+      }
+
+      writeObjectStart().writeKey(REVISION_NUMBER).writeLong(rtx.getRevisionNumber()).writeSeparator();
+
+      if (serializeTimestamp) {
+        writeKey(REVISION_TIMESTAMP).writeString(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC)
+                                                                               .format(rtx.getRevisionTimestamp()))
+                                    .writeSeparator();
+      }
+
+      writeKey(REVISION);
+    }
+  }
+
+  private void emitRevisionEnd(final int numberOfRevisions) throws IOException {
+    if (numberOfRevisions > 1) {
+      writeObjectEnd();
+    }
+  }
+
+  /**
+   * Move to the start node or to the first child, if the start node is the document root.
+   *
+   * @param rtx the read-only transaction
+   * @return {@code true}, if a subtree has to be serialized, {@code false}, if the resource is empty
+   */
+  private boolean moveToStartNode(final JsonNodeReadOnlyTrx rtx) {
+    if (!rtx.moveTo(startNodeKey).hasMoved()) {
+      throw new IllegalArgumentException("Node with key " + startNodeKey + " doesn't exist.");
+    }
+
+    return !rtx.isDocumentRoot() || rtx.moveToFirstChild().hasMoved();
+  }
+
+  /**
+   * Serialize the subtree rooted at the current node in document order.
+   *
+   * @param rtx         the read-only transaction located at the root of the subtree, which is located
+   *                    there again afterwards
+   * @param isStartNode {@code true}, if the root of the subtree is the start node
+   * @param level       the number of object and array nodes above the root of the subtree
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeSubtree(final JsonNodeReadOnlyTrx rtx, final boolean isStartNode, int level)
+      throws IOException {
+    final long rootNodeKey = rtx.getNodeKey();
+
+    while (true) {
+      final boolean isRoot = isStartNode && rtx.getNodeKey() == rootNodeKey;
+
+      // Emit the node and descend into the children, if any are serialized.
+      final boolean descend = switch (rtx.getKind()) {
+        case OBJECT, ARRAY -> emitContainerStart(rtx, level + 1);
+        case OBJECT_KEY -> {
+          emitObjectKeyStart(rtx, isRoot);
+          yield true;
+        }
+        default -> {
+          emitValue(rtx);
+          yield false;
+        }
+      };
+
+      if (descend) {
+        if (!rtx.isObjectKey()) {
+          level++;
+        }
+        rtx.moveToFirstChild();
+        continue;
+      }
+
+      // Emit the pending end nodes up to the next node in document order.
+      while (rtx.getNodeKey() != rootNodeKey) {
+        if (rtx.hasRightSibling()) {
+          writeSeparator();
+          rtx.moveToRightSibling();
+          break;
+        }
+
+        rtx.moveToParent();
+
+        if (rtx.isObjectKey()) {
+          emitObjectKeyEnd(isStartNode && rtx.getNodeKey() == rootNodeKey);
+        } else {
+          emitContainerEnd(rtx);
+          level--;
+        }
+      }
+
+      if (rtx.getNodeKey() == rootNodeKey) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Serialize the subtree rooted at the current node restricted to the projected paths. Object key and
+   * array nodes, which aren't on a projected path, are skipped by means of their path class reference
+   * without reading their descendants.
+   *
+   * @param rtx         the read-only transaction located at the root of the subtree, which is located
+   *                    there again afterwards
+   * @param filter      the projection of the revision
+   * @param match       determines how much of the subtree is serialized
+   * @param isStartNode {@code true}, if the root of the subtree is the start node
+   * @param level       the number of object and array nodes above the root of the subtree
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeProjection(final JsonNodeReadOnlyTrx rtx, final JsonProjection.Filter filter,
+      final JsonProjection.Match match, final boolean isStartNode, final int level) throws IOException {
+    if (match == JsonProjection.Match.COMPLETE) {
+      serializeSubtree(rtx, isStartNode, level);
+      return;
+    }
+
+    switch (rtx.getKind()) {
+      case OBJECT, ARRAY -> {
+        if (emitContainerStart(rtx, level + 1)) {
+          serializeProjectedChildren(rtx, filter, level + 1);
+          emitContainerEnd(rtx);
+        }
+      }
+      case OBJECT_KEY -> {
+        emitObjectKeyStart(rtx, isStartNode);
+        rtx.moveToFirstChild();
+        serializeProjection(rtx, filter, filter.match(rtx), false, level);
+        rtx.moveToParent();
+        emitObjectKeyEnd(isStartNode);
+      }
+      // The value of the start node is serialized, even though it can't be on a projected path.
+      default -> emitValue(rtx);
+    }
+  }
+
+  /**
+   * Serialize the children of the current node, which are on a projected path.
+   *
+   * @param rtx    the read-only transaction located at the parent node, which is located there again
+   *               afterwards
+   * @param filter the projection of the revision
+   * @param level  the number of object and array nodes above the children
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeProjectedChildren(final JsonNodeReadOnlyTrx rtx, final JsonProjection.Filter filter,
+      final int level) throws IOException {
+    final long parentNodeKey = rtx.getNodeKey();
+    rtx.moveToFirstChild();
+
+    boolean isFirstChild = true;
+
+    do {
+      final var match = filter.match(rtx);
+
+      if (match != JsonProjection.Match.NONE) {
+        if (!isFirstChild) {
+          writeSeparator();
+        }
+
+        serializeProjection(rtx, filter, match, false, level);
+        isFirstChild = false;
+      }
+    } while (rtx.moveToRightSibling().hasMoved());
+
+    rtx.moveTo(parentNodeKey);
+  }
+
+  /**
+   * Split the subtree rooted at the current node into parts, which are serialized concurrently. The
+   * nodes above the parts are serialized into the frames of the partitioning.
+   *
+   * @param rtx          the read-only transaction located at the root of the subtree, which is located
+   *                     there again afterwards
+   * @param isStartNode  {@code true}, if the root of the subtree is the start node
+   * @param level        the number of object and array nodes above the root of the subtree
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void partition(final JsonNodeReadOnlyTrx rtx, final boolean isStartNode, final int level,
+      final Partitioning partitioning) throws IOException {
+    if (rtx.getDescendantCount() < partitionThreshold) {
+      addPart(rtx, rtx.getNodeKey(), 1, isStartNode, level, partitioning);
+      return;
+    }
+
+    if (rtx.isObjectKey()) {
+      emitObjectKeyStart(rtx, isStartNode);
+      rtx.moveToFirstChild();
+      partition(rtx, false, level, partitioning);
+      rtx.moveToParent();
+      emitObjectKeyEnd(isStartNode);
+    } else if (emitContainerStart(rtx, level + 1)) {
+      partitionChildren(rtx, level + 1, partitioning);
+      emitContainerEnd(rtx);
+    }
+  }
+
+  /**
+   * Split the children of the current node into parts of consecutive siblings with at least
+   * {@code partitionThreshold} nodes, whereas the children with at least {@code partitionThreshold}
+   * nodes are split further.
+   *
+   * @param rtx          the read-only transaction located at the parent node, which is located there
+   *                     again afterwards
+   * @param level        the number of object and array nodes above the children
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void partitionChildren(final JsonNodeReadOnlyTrx rtx, final int level, final Partitioning partitioning)
+      throws IOException {
+    final long parentNodeKey = rtx.getNodeKey();
+    rtx.moveToFirstChild();
+
+    long firstNodeKeyOfPart = 0;
+    int numberOfSiblings = 0;
+    long numberOfNodes = 0;
+    boolean isFirstChild = true;
+
+    do {
+      final long numberOfNodesOfSubtree = rtx.getDescendantCount() + 1;
+
+      if (numberOfNodesOfSubtree > partitionThreshold) {
+        if (numberOfSiblings > 0) {
+          addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, false, level, partitioning);
+          numberOfSiblings = 0;
+          numberOfNodes = 0;
+        }
+
+        if (!isFirstChild) {
+          writeSeparator();
+        }
+
+        partition(rtx, false, level, partitioning);
+      } else {
+        if (numberOfSiblings == 0) {
+          if (!isFirstChild) {
+            writeSeparator();
+          }
+
+          firstNodeKeyOfPart = rtx.getNodeKey();
+        }
+
+        numberOfSiblings++;
+        numberOfNodes += numberOfNodesOfSubtree;
+
+        if (numberOfNodes >= partitionThreshold) {
+          addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, false, level, partitioning);
+          numberOfSiblings = 0;
+          numberOfNodes = 0;
+        }
+      }
+
+      isFirstChild = false;
+    } while (rtx.moveToRightSibling().hasMoved());
+
+    if (numberOfSiblings > 0) {
+      addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, false, level, partitioning);
+    }
+
+    rtx.moveTo(parentNodeKey);
+  }
+
+  /**
+   * Add the nodes serialized so far as a frame and a task serializing the subtrees of consecutive
+   * siblings as a part.
+   *
+   * @param rtx              the read-only transaction of the revision
+   * @param firstNodeKey     the node key of the first sibling
+   * @param numberOfSiblings the number of siblings
+   * @param isStartNode      {@code true}, if the first sibling is the start node
+   * @param level            the number of object and array nodes above the siblings
+   * @param partitioning     the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void addPart(final JsonNodeReadOnlyTrx rtx, final long firstNodeKey, final int numberOfSiblings,
+      final boolean isStartNode, final int level, final Partitioning partitioning) throws IOException {
+    addFrame(partitioning);
+
+    final int revision = rtx.getRevisionNumber();
+    final int indentOfPart = currentIndent;
+
+    partitioning.parts().add(() -> {
+      final var bytes = new ByteArrayOutputStream();
+      final var serializer = new JsonByteSerializer(this, bytes, indentOfPart);
+
+      try (final var partRtx = resourceManager.beginNodeReadOnlyTrx(revision)) {
+        partRtx.moveTo(firstNodeKey);
+
+        for (int i = 0; i < numberOfSiblings; i++) {
+          if (i > 0) {
+            serializer.writeSeparator();
+            partRtx.moveToRightSibling();
+          }
+
+          serializer.serializeSubtree(partRtx, isStartNode, level);
+        }
+      }
+
+      serializer.flushBuffer();
+      return bytes.toByteArray();
+    });
+  }
+
+  /**
+   * Add the nodes serialized so far as a frame.
+   *
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void addFrame(final Partitioning partitioning) throws IOException {
+    flushBuffer();
+
+    if (partitioning.frames().size() > 0) {
+      partitioning.parts().add(partitioning.frames().toByteArray());
+      partitioning.frames().reset();
+    }
+  }
+
+  /**
+   * Emit an object or array node.
+   *
+   * @param rtx   the read-only transaction located at the node
+   * @param level the level of the node
+   * @return {@code true}, if the children of the node are serialized, {@code false} otherwise
+   * @throws IOException if writing to the output fails
+   */
+  private boolean emitContainerStart(final JsonNodeReadOnlyTrx rtx, final int level) throws IOException {
+    final boolean isObject = rtx.getKind() == NodeKind.OBJECT;
+
+    if (withMetaDataField()) {
+      emitMetaData(rtx, true);
+    }
+
+    if (!rtx.hasFirstChild() || (maxLevel != -1 && level >= maxLevel)) {
+      write((byte) (isObject ? '{' : '[')).write((byte) (isObject ? '}' : ']'));
+
+      if (withMetaDataField()) {
+        writeObjectEnd();
+      }
+
+      return false;
+    }
+
+    // With metadata the object keys of an object are serialized as an array of objects.
+    if (isObject && !withMetaDataField()) {
+      writeObjectStart();
+    } else {
+      writeArrayStart();
+    }
+
+    return true;
+  }
+
+  /**
+   * Emit the end of an object or array node with serialized children.
+   *
+   * @param rtx the read-only transaction located at the node
+   * @throws IOException if writing to the output fails
+   */
+  private void emitContainerEnd(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    if (rtx.getKind() == NodeKind.OBJECT && !withMetaDataField()) {
+      writeObjectEnd();
+    } else {
+      writeArrayEnd();
+    }
+
+    if (withMetaDataField()) {
+      writeObjectEnd();
+    }
+  }
+
+  /**
+   * Emit an object key node up to its value.
+   *
+   * @param rtx    the read-only transaction located at the node
+   * @param isRoot {@code true}, if the node is the root of the serialized subtree
+   * @throws IOException if writing to the output fails
+   */
+  private void emitObjectKeyStart(final JsonNodeReadOnlyTrx rtx, final boolean isRoot) throws IOException {
+    if (withMetaDataField()) {
+      if (!isRoot || serializeStartNodeWithBrackets) {
+        writeObjectStart();
+      }
+
+      writeKey(KEY).writeName(rtx).writeSeparator().writeKey(METADATA).writeObjectStart();
+
+      if (withNodeKeyMetaData || withNodeKeyAndChildCountMetaData) {
+        writeKey(NODE_KEY).writeLong(rtx.getNodeKey());
+      }
+
+      if (withMetaData) {
+        writeSeparator().writeKey(HASH).writeHash(rtx.getHash());
+        writeSeparator().writeKey(TYPE).write(KIND_NAMES[NodeKind.OBJECT_KEY.ordinal()]);
+        writeSeparator().writeKey(DESCENDANT_COUNT).writeLong(rtx.getDescendantCount());
+      }
+
+      writeObjectEnd().writeSeparator().writeKey(VALUE);
+    } else {
+      if (isRoot && serializeStartNodeWithBrackets) {
+        writeObjectStart();
+      }
+
+      writeName(rtx).writeKeyValueSeparator();
+    }
+  }
+
+  /**
+   * Emit the end of an object key node.
+   *
+   * @param isRoot {@code true}, if the node is the root of the serialized subtree
+   * @throws IOException if writing to the output fails
+   */
+  private void emitObjectKeyEnd(final boolean isRoot) throws IOException {
+    if (withMetaDataField() ? !isRoot || serializeStartNodeWithBrackets : isRoot && serializeStartNodeWithBrackets) {
+      writeObjectEnd();
+    }
+  }
+
+  /**
+   * Emit a string, number, boolean or null value node.
+   *
+   * @param rtx the read-only transaction located at the node
+   * @throws IOException if writing to the output fails
+   */
+  private void emitValue(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    if (withMetaDataField()) {
+      emitMetaData(rtx, false);
+    }
+
+    switch (rtx.getKind()) {
+      case STRING_VALUE, OBJECT_STRING_VALUE -> {
+        if (rtx instanceof InternalJsonNodeReadOnlyTrx internalRtx
+            && internalRtx.getCurrentNode() instanceof ValueNode valueNode) {
+          writeString(valueNode.getRawValue());
+        } else {
+          writeString(rtx.getValue());
+        }
+      }
+      case NUMBER_VALUE, OBJECT_NUMBER_VALUE -> writeNumber(rtx.getNumberValue());
+      case BOOLEAN_VALUE, OBJECT_BOOLEAN_VALUE -> write(rtx.getBooleanValue() ? TRUE : FALSE);
+      case NULL_VALUE, OBJECT_NULL_VALUE -> write(NULL);
+      // $CASES-OMITTED$
+      default -> throw new IllegalStateException("Node kind not known!");
+    }
+
+    if (withMetaDataField()) {
+      writeObjectEnd();
+    }
+  }
+
+  /**
+   * Emit the opening brace and the metadata of a non object key node up to its value.
+   *
+   * @param rtx         the read-only transaction located at the node
+   * @param isContainer {@code true}, if the node is an object or array node
+   * @throws IOException if writing to the output fails
+   */
+  private void emitMetaData(final JsonNodeReadOnlyTrx rtx, final boolean isContainer) throws IOException {
+    writeObjectStart().writeKey(METADATA).writeObjectStart();
+
+    if (withNodeKeyMetaData || withNodeKeyAndChildCountMetaData) {
+      writeKey(NODE_KEY).writeLong(rtx.getNodeKey());
+
+      if (withMetaData || (withNodeKeyAndChildCountMetaData && isContainer)) {
+        writeSeparator();
+      }
+    }
+
+    if (withMetaData) {
+      writeKey(HASH).writeHash(rtx.getHash());
+      writeSeparator().writeKey(TYPE).write(KIND_NAMES[rtx.getKind().ordinal()]);
+
+      if (isContainer) {
+        writeSeparator().writeKey(DESCENDANT_COUNT).writeLong(rtx.getDescendantCount()).writeSeparator();
+      }
+    }
+
+    if (withNodeKeyAndChildCountMetaData && isContainer) {
+      writeKey(CHILD_COUNT).writeLong(rtx.getChildCount());
+    }
+
+    writeObjectEnd().writeSeparator().writeKey(VALUE);
+  }
+
+  private boolean withMetaDataField() {
+    return withMetaData || withNodeKeyMetaData || withNodeKeyAndChildCountMetaData;
+  }
+
+  private JsonByteSerializer writeObjectStart() throws IOException {
+    write((byte) '{');
+    currentIndent += indentSpaces;
+    return writeNewLine();
+  }
+
+  private JsonByteSerializer writeObjectEnd() throws IOException {
+    currentIndent -= indentSpaces;
+    writeNewLine();
+    return write((byte) '}');
+  }
+
+  private JsonByteSerializer writeArrayStart() throws IOException {
+    write((byte) '[');
+    currentIndent += indentSpaces;
+    return writeNewLine();
+  }
+
+  private JsonByteSerializer writeArrayEnd() throws IOException {
+    currentIndent -= indentSpaces;
+    writeNewLine();
+    return write((byte) ']');
+  }
+
+  private JsonByteSerializer writeSeparator() throws IOException {
+    write((byte) ',');
+    return writeNewLine();
+  }
+
+  private JsonByteSerializer writeKey(final byte[] quotedKey) throws IOException {
+    return write(quotedKey).writeKeyValueSeparator();
+  }
+
+  private JsonByteSerializer writeKeyValueSeparator() throws IOException {
+    write((byte) ':');
+    if (indent) {
+      write((byte) ' ');
+    }
+    return this;
+  }
+
+  private JsonByteSerializer writeNewLine() throws IOException {
+    if (indent) {
+      write((byte) '\n');
+      for (int i = 0; i < currentIndent; i++) {
+        write((byte) ' ');
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Write the escaped and quoted name of the object key node the transaction is located at.
+   */
+  private JsonByteSerializer writeName(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    final int nameKey = rtx.getNameKey();
+    byte[] name = names.get(nameKey);
+
+    if (name == null) {
+      name = ("\"" + StringValue.escape(rtx.getName().getLocalName()) + "\"").getBytes(StandardCharsets.UTF_8);
+      names.put(nameKey, name);
+    }
+
+    return write(name);
+  }
+
+  /**
+   * Write a 128 bit hash as 32 lower case hexadecimal digits.
+   */
+  private JsonByteSerializer writeHash(final BigInteger hash) throws IOException {
+    if (hash == null) {
+      return write(NULL);
+    }
+
+    if (hash.signum() < 0 || hash.bitLength() > 128) {
+      return writeString(String.format("%032x", hash));
+    }
+
+    final byte[] bytes = hash.toByteArray();
+    write((byte) '"');
+
+    for (int i = 16; i > 0; i--) {
+      final int index = bytes.length - i;
+      final int value = index >= 0 ? bytes[index] & 0xFF : 0;
+      write(HEX_DIGITS[value >>> 4]).write(HEX_DIGITS[value & 0xF]);
+    }
+
+    return write((byte) '"');
+  }
+
+  private JsonByteSerializer writeNumber(final Number number) throws IOException {
+    if (number instanceof Integer || number instanceof Long || number instanceof Short) {
+      return writeLong(number.longValue());
+    }
+
+    final String value = String.valueOf(number);
+    for (int i = 0, length = value.length(); i < length; i++) {
+      write((byte) value.charAt(i));
+    }
+
+    return this;
+  }
+
+  private JsonByteSerializer writeLong(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      return write(ascii(Long.toString(value)));
+    }
+
+    if (value < 0) {
+      write((byte) '-');
+      value = -value;
+    }
+
+    int index = digits.length;
+    do {
+      digits[--index] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+
+    return write(digits, index, digits.length - index);
+  }
+
+  /**
+   * Write the escaped and quoted value of UTF-8 encoded bytes. The characters escaped are the same as
+   * the ones escaped by {@link StringValue#escape(String)}.
+   */
+  private JsonByteSerializer writeString(final byte[] value) throws IOException {
+    write((byte) '"');
+
+    for (int i = 0, length = value.length; i < length; i++) {
+      final byte b = value[i];
+
+      if (b >= 0) {
+        final byte[] escape = ESCAPES[b];
+
+        if (escape == null) {
+          write(b);
+        } else {
+          write(escape);
+        }
+      } else if (b == (byte) 0xC2 && i + 1 < length && (value[i + 1] & 0xFF) <= 0x9F) {
+        // U+0080 - U+009F.
+        writeUnicodeEscape(value[++i] & 0xFF);
+      } else if (b == (byte) 0xE2 && i + 2 < length && (value[i + 1] & 0xFF) >= 0x80 && (value[i + 1] & 0xFF) <= 0x83) {
+        // U+2000 - U+20FF.
+        writeUnicodeEscape(0x2000 | ((value[i + 1] & 0x3) << 6) | (value[i + 2] & 0x3F));
+        i += 2;
+      } else {
+        write(b);
+      }
+    }
+
+    return write((byte) '"');
+  }
+
+  /**
+   * Write the escaped and quoted value of a string.
+   */
+  private JsonByteSerializer writeString(final String value) throws IOException {
+    write((byte) '"');
+
+    for (int i = 0, length = value.length(); i < length; i++) {
+      final char ch = value.charAt(i);
+
+      if (ch < 0x80) {
+        final byte[] escape = ESCAPES[ch];
+
+        if (escape == null) {
+          write((byte) ch);
+        } else {
+          write(escape);
+        }
+      } else if (ch <= 0x9F || (ch >= 0x2000 && ch <= 0x20FF)) {
+        writeUnicodeEscape(ch);
+      } else if (ch < 0x800) {
+        write((byte) (0xC0 | (ch >> 6))).write((byte) (0x80 | (ch & 0x3F)));
+      } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+        write((byte) (0xF0 | (codePoint >> 18))).write((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                                                .write((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                                                .write((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(ch)) {
+        write((byte) '?');
+      } else {
+        write((byte) (0xE0 | (ch >> 12))).write((byte) (0x80 | ((ch >> 6) & 0x3F)))
+                                         .write((byte) (0x80 | (ch & 0x3F)));
+      }
+    }
+
+    return write((byte) '"');
+  }
+
+  private JsonByteSerializer writeUnicodeEscape(final int ch) throws IOException {
+    return write((byte) '\\').write((byte) 'u')
+                             .write(UPPER_CASE_HEX_DIGITS[(ch >> 12) & 0xF])
+                             .write(UPPER_CASE_HEX_DIGITS[(ch >> 8) & 0xF])
+                             .write(UPPER_CASE_HEX_DIGITS[(ch >> 4) & 0xF])
+                             .write(UPPER_CASE_HEX_DIGITS[ch & 0xF]);
+  }
+
+  private JsonByteSerializer write(final byte b) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = b;
+    return this;
+  }
+
+  private JsonByteSerializer write(final byte[] bytes) throws IOException {
+    return write(bytes, 0, bytes.length);
+  }
+
+  private JsonByteSerializer write(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+
+      if (length > buffer.length) {
+        writeToSink(bytes, offset, length);
+        return this;
+      }
+    }
+
+    System.arraycopy(bytes, offset, buffer, position, length);
+    position += length;
+    return this;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      writeToSink(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  private void writeToSink(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (channel == null) {
+      out.write(bytes, offset, length);
+    } else {
+      final ByteBuffer bytesToWrite =
+          bytes == buffer ? byteBuffer.clear().limit(length) : ByteBuffer.wrap(bytes, offset, length);
+
+      while (bytesToWrite.hasRemaining()) {
+        channel.write(bytesToWrite);
+      }
+    }
+  }
+
+  private static byte[] unicodeEscape(final int ch) {
+    return ascii(String.format("\\u%04X", ch));
+  }
+
+  private static byte[] ascii(final String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * The parts of a concurrent serialization and the buffer of the nodes above the parts.
+   */
+  private record Partitioning(OrderedPartsWriter parts, ByteArrayOutputStream frames) {
+  }
+
+  /**
+   * Create a new builder, writing to an {@link OutputStream}.
+   *
+   * @param resourceManager the resource manager to read the resource
+   * @param out             the output stream to write to
+   * @param revisions       the revisions to serialize
+   * @return a new builder
+   */
+  public static Builder newBuilder(final JsonResourceManager resourceManager, final OutputStream out,
+      final int... revisions) {
+    return new Builder(resourceManager, out, revisions);
+  }
+
+  /**
+   * Create a new builder, writing to a {@link WritableByteChannel}.
+   *
+   * @param resourceManager the resource manager to read the resource
+   * @param channel         the channel to write to
+   * @param revisions       the revisions to serialize
+   * @return a new builder
+   */
+  public static Builder newBuilder(final JsonResourceManager resourceManager, final WritableByteChannel channel,
+      final int... revisions) {
+    return new Builder(resourceManager, channel, revisions);
+  }
+
+  /**
+   * Builder to setup the {@link JsonByteSerializer}.
+   */
+  public static final class Builder {
+    private final JsonResourceManager resourceManager;
+
+    private final OutputStream out;
+
+    private final WritableByteChannel channel;
+
+    private int[] revisions;
+
+    private long startNodeKey;
+
+    private boolean serializeStartNodeWithBrackets = true;
+
+    private long maxLevel = -1;
+
+    private boolean indent;
+
+    private int indentSpaces = 2;
+
+    private boolean serializeTimestamp;
+
+    private boolean withMetaData;
+
+    private boolean withNodeKey;
+
+    private boolean withNodeKeyAndChildCount;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    private int parallelism = 1;
+
+    private long partitionThreshold = DEFAULT_PARTITION_THRESHOLD;
+
+    private JsonProjection projection;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager to read the resource
+     * @param out             the output stream to write to
+     * @param revisions       the revisions to serialize, or none to serialize the most recent revision
+     */
+    public Builder(final JsonResourceManager resourceManager, final OutputStream out, final int... revisions) {
+      this(resourceManager, checkNotNull(out), null, revisions);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager to read the resource
+     * @param channel         the channel to write to
+     * @param revisions       the revisions to serialize, or none to serialize the most recent revision
+     */
+    public Builder(final JsonResourceManager resourceManager, final WritableByteChannel channel,
+        final int... revisions) {
+      this(resourceManager, null, checkNotNull(channel), revisions);
+    }
+
+    private Builder(final JsonResourceManager resourceManager, final OutputStream out,
+        final WritableByteChannel channel, final int... revisions) {
+      this.resourceManager = checkNotNull(resourceManager);
+      this.out = out;
+      this.channel = channel;
+      this.revisions = revisions == null || revisions.length == 0
+          ? new int[] { resourceManager.getMostRecentRevisionNumber() }
+          : revisions.clone();
+    }
+
+    /**
+     * Specify the start node key.
+     *
+     * @param nodeKey node key to start serialization from (the root of the subtree to serialize)
+     * @return this reference
+     */
+    public Builder startNodeKey(final @Nonnegative long nodeKey) {
+      checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+      startNodeKey = nodeKey;
+      return this;
+    }
+
+    /**
+     * If the {@code startNodeKey} denotes an object key node "{}" are added.
+     *
+     * @param serializeStartNodeWithBrackets {@code true}, if brackets should be serialized, {@code false otherwise}
+     * @return this reference
+     */
+    public Builder serializeStartNodeWithBrackets(final boolean serializeStartNodeWithBrackets) {
+      this.serializeStartNodeWithBrackets = serializeStartNodeWithBrackets;
+      return this;
+    }
+
+    /**
+     * Specify the maximum level.
+     *
+     * @param maxLevel the maximum level until which to serialize
+     * @return this reference
+     */
+    public Builder maxLevel(final long maxLevel) {
+      checkArgument(maxLevel > 0 || maxLevel == -1, "maxLevel must be > 0 or -1.");
+      this.maxLevel = maxLevel;
+      return this;
+    }
+
+    /**
+     * Pretty prints the output.
+     *
+     * @return this reference
+     */
+    public Builder prettyPrint() {
+      indent = true;
+      return this;
+    }
+
+    /**
+     * Pretty prints the output with the given number of spaces to indent.
+     *
+     * @param indentSpaces the number of spaces to indent
+     * @return this reference
+     */
+    public Builder prettyPrint(final @Nonnegative int indentSpaces) {
+      checkArgument(indentSpaces >= 0, "indentSpaces must be >= 0.");
+      indent = true;
+      this.indentSpaces = indentSpaces;
+      return this;
+    }
+
+    /**
+     * Sets if the serialization of timestamps of the revision(s) is used or not.
+     *
+     * @return this reference
+     */
+    public Builder serializeTimestamp(final boolean serializeTimestamp) {
+      this.serializeTimestamp = serializeTimestamp;
+      return this;
+    }
+
+    /**
+     * Sets if metadata should be serialized or not.
+     *
+     * @return this reference
+     */
+    public Builder withMetaData(final boolean withMetaData) {
+      this.withMetaData = withMetaData;
+      this.withNodeKey = true;
+      this.withNodeKeyAndChildCount = true;
+      return this;
+    }
+
+    /**
+     * Sets if nodeKey metadata should be serialized or not.
+     *
+     * @return this reference
+     */
+    public Builder withNodeKeyMetaData(final boolean withNodeKey) {
+      this.withNodeKey = withNodeKey;
+      return this;
+    }
+
+    /**
+     * Sets if nodeKey and childCount metadata should be serialized or not.
+     *
+     * @return this reference
+     */
+    public Builder withNodeKeyAndChildCountMetaData(final boolean withNodeKeyAndChildCount) {
+      this.withNodeKeyAndChildCount = withNodeKeyAndChildCount;
+      return this;
+    }
+
+    /**
+     * The revisions to serialize.
+     *
+     * @param revisions the revisions to serialize
+     * @return this reference
+     */
+    public Builder revisions(final @Nonnull int[] revisions) {
+      checkArgument(checkNotNull(revisions).length > 0, "At least one revision must be given.");
+      this.revisions = revisions.clone();
+      return this;
+    }
+
+    /**
+     * The size of the output buffer.
+     *
+     * @param bufferSize the size of the output buffer in bytes
+     * @return this reference
+     */
+    public Builder bufferSize(final @Nonnegative int bufferSize) {
+      checkArgument(bufferSize >= 64, "bufferSize must be >= 64.");
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * The number of threads to serialize large subtrees concurrently.
+     *
+     * @param parallelism the number of threads, or {@code 1} to serialize sequentially (the default)
+     * @return this reference
+     */
+    public Builder parallelism(final @Nonnegative int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be > 0.");
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * The minimum number of nodes of a subtree, which is split into parts to serialize concurrently.
+     *
+     * @param partitionThreshold the minimum number of nodes
+     * @return this reference
+     */
+    public Builder partitionThreshold(final @Nonnegative long partitionThreshold) {
+      checkArgument(partitionThreshold >= 2, "partitionThreshold must be >= 2.");
+      this.partitionThreshold = partitionThreshold;
+      return this;
+    }
+
+    /**
+     * Serialize only the object keys and array elements on the projected paths. A projection is
+     * serialized sequentially regardless of the parallelism.
+     *
+     * @param projection the projection, or {@code null} to serialize the subtrees completely
+     * @return this reference
+     */
+    public Builder projection(final JsonProjection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    /**
+     * Build a new {@link JsonByteSerializer} instance.
+     *
+     * @return a new {@link JsonByteSerializer} instance
+     */
+    public JsonByteSerializer build() {
+      return new JsonByteSerializer(this);
+    }
+  }
+}
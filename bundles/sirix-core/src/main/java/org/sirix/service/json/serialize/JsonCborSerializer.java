@@ -0,0 +1,936 @@
+package org.sirix.service.json.serialize;
+
+import org.sirix.access.trx.node.json.InternalJsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.ValueNode;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * Serializes a subtree into CBOR (RFC 8949), the binary counterpart of the output of the
+ * {@link JsonSerializer} with the same options. Objects and arrays are encoded with definite
+ * lengths, which are known from the child counts of the nodes, or with indefinite lengths, if the
+ * resource doesn't store child counts. Strings are copied from their
+ * stored UTF-8 representation without escaping, the encoded object key names are cached per name
+ * key and numbers are encoded without string conversion:
+ * </p>
+ * <ul>
+ * <li>integral numbers as CBOR integers or as bignums (tags 2 and 3),</li>
+ * <li>floating point numbers as single or double precision floats,</li>
+ * <li>decimal numbers as decimal fractions (tag 4).</li>
+ * </ul>
+ * <p>
+ * Hashes are encoded as text strings of 32 hexadecimal digits like in the JSON output. The output
+ * stream isn't closed, but flushed after the serialization.
+ * </p>
+ * <p>
+ * Like the {@link JsonRecordSerializer}, a number of top-level records can be serialized, optionally
+ * after the record with a given node key. The top-level object or array is then encoded with an
+ * indefinite length.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonCborSerializer implements Callable<Void> {
+
+  /**
+   * The media type of CBOR.
+   */
+  public static final String MEDIA_TYPE = "application/cbor";
+
+  /**
+   * The default size of the output buffer in bytes.
+   */
+  private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+
+  private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+
+  private static final int MAJOR_TYPE_BYTE_STRING = 2;
+
+  private static final int MAJOR_TYPE_TEXT_STRING = 3;
+
+  private static final int MAJOR_TYPE_ARRAY = 4;
+
+  private static final int MAJOR_TYPE_MAP = 5;
+
+  private static final int MAJOR_TYPE_TAG = 6;
+
+  private static final int TAG_POSITIVE_BIGNUM = 2;
+
+  private static final int TAG_NEGATIVE_BIGNUM = 3;
+
+  private static final int TAG_DECIMAL_FRACTION = 4;
+
+  private static final byte FALSE = (byte) 0xF4;
+
+  private static final byte TRUE = (byte) 0xF5;
+
+  private static final byte NULL = (byte) 0xF6;
+
+  private static final byte FLOAT = (byte) 0xFA;
+
+  private static final byte DOUBLE = (byte) 0xFB;
+
+  private static final byte BREAK = (byte) 0xFF;
+
+  private static final int INDEFINITE_LENGTH = 31;
+
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] KEY = textString("key");
+
+  private static final byte[] METADATA = textString("metadata");
+
+  private static final byte[] VALUE = textString("value");
+
+  private static final byte[] NODE_KEY = textString("nodeKey");
+
+  private static final byte[] HASH = textString("hash");
+
+  private static final byte[] TYPE = textString("type");
+
+  private static final byte[] DESCENDANT_COUNT = textString("descendantCount");
+
+  private static final byte[] CHILD_COUNT = textString("childCount");
+
+  private static final byte[] SIRIX = textString("sirix");
+
+  private static final byte[] REVISION_NUMBER = textString("revisionNumber");
+
+  private static final byte[] REVISION_TIMESTAMP = textString("revisionTimestamp");
+
+  private static final byte[] REVISION = textString("revision");
+
+  /**
+   * The encoded names of the node kinds, indexed by the ordinal.
+   */
+  private static final byte[][] KIND_NAMES = new byte[NodeKind.values().length][];
+
+  static {
+    for (final NodeKind kind : NodeKind.values()) {
+      KIND_NAMES[kind.ordinal()] = textString(kind.toString());
+    }
+  }
+
+  /**
+   * The resource manager to read the resource.
+   */
+  private final JsonResourceManager resourceManager;
+
+  /**
+   * The revisions to serialize, or a single negative revision number to serialize all revisions.
+   */
+  private final int[] revisions;
+
+  /**
+   * Root node key of the subtree to serialize.
+   */
+  private final long startNodeKey;
+
+  /**
+   * The maximum level of the serialized object and array nodes, or {@code -1} for no limit.
+   */
+  private final long maxLevel;
+
+  private final boolean serializeTimestamp;
+
+  private final boolean withMetaData;
+
+  private final boolean withNodeKeyMetaData;
+
+  private final boolean withNodeKeyAndChildCountMetaData;
+
+  /**
+   * The number of top-level records to serialize, or {@code 0} to serialize the whole subtree.
+   */
+  private final int numberOfRecords;
+
+  /**
+   * The node key of the top-level record after which to serialize the records, or {@code 0}.
+   */
+  private final long lastTopLevelNodeKey;
+
+  /**
+   * The cursor to resume the serialization of records after the last serialized record.
+   */
+  private JsonRecordCursor nextCursor;
+
+  /**
+   * The output stream to write to.
+   */
+  private final OutputStream out;
+
+  /**
+   * {@code true}, if objects and arrays are encoded with indefinite lengths, as the resource doesn't
+   * store the child counts.
+   */
+  private final boolean indefiniteLengths;
+
+  /**
+   * The output buffer.
+   */
+  private final byte[] buffer;
+
+  /**
+   * The encoded names of object keys by name key.
+   */
+  private final NameCache names = new NameCache();
+
+  /**
+   * The position in the output buffer.
+   */
+  private int position;
+
+  /**
+   * Private constructor.
+   *
+   * @param builder builder reference
+   */
+  private JsonCborSerializer(final Builder builder) {
+    resourceManager = builder.resourceManager;
+    revisions = builder.revisions;
+    startNodeKey = builder.startNodeKey;
+    maxLevel = builder.maxLevel;
+    serializeTimestamp = builder.serializeTimestamp;
+    withMetaData = builder.withMetaData;
+    withNodeKeyMetaData = builder.withNodeKey;
+    withNodeKeyAndChildCountMetaData = builder.withNodeKeyAndChildCount;
+    numberOfRecords = builder.numberOfRecords;
+    lastTopLevelNodeKey = builder.lastTopLevelNodeKey;
+    out = builder.out;
+    indefiniteLengths = !resourceManager.getResourceConfig().getStoreChildCount();
+    buffer = new byte[builder.bufferSize];
+  }
+
+  /**
+   * Serialize the subtree of the revisions.
+   *
+   * @return {@code null}
+   * @throws UncheckedIOException if writing to the output fails
+   */
+  @Override
+  public Void call() {
+    try {
+      final int[] revisionsToSerialize = revisions.length == 1 && revisions[0] < 0
+          ? IntStream.rangeClosed(1, resourceManager.getMostRecentRevisionNumber()).toArray()
+          : revisions;
+      final boolean multipleRevisions = revisionsToSerialize.length > 1;
+
+      if (multipleRevisions) {
+        writeHead(MAJOR_TYPE_MAP, 1).write(SIRIX).writeHead(MAJOR_TYPE_ARRAY, revisionsToSerialize.length);
+      }
+
+      for (final int revision : revisionsToSerialize) {
+        try (final var rtx = resourceManager.beginNodeReadOnlyTrx(revision)) {
+          if (multipleRevisions) {
+            writeHead(MAJOR_TYPE_MAP, serializeTimestamp ? 3 : 2).write(REVISION_NUMBER)
+                                                                 .writeLong(rtx.getRevisionNumber());
+
+            if (serializeTimestamp) {
+              write(REVISION_TIMESTAMP).writeString(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC)
+                                                                                 .format(rtx.getRevisionTimestamp()));
+            }
+
+            write(REVISION);
+          }
+
+          names.clear();
+
+          if (numberOfRecords > 0) {
+            serializeRecords(rtx, !multipleRevisions);
+          } else {
+            serializeSubtree(rtx);
+          }
+        }
+      }
+
+      flushBuffer();
+      out.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Get the cursor to resume the serialization of records after the last serialized record.
+   *
+   * @return the cursor or {@code null}, if no records have been serialized, all remaining records have
+   * been serialized or more than one revision has been serialized
+   */
+  public JsonRecordCursor getNextCursor() {
+    return nextCursor;
+  }
+
+  /**
+   * Serialize the subtree rooted at the start node in document order.
+   *
+   * @param rtx the read-only transaction
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeSubtree(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    if (!rtx.moveTo(startNodeKey).hasMoved()) {
+      throw new IllegalArgumentException("Node with key " + startNodeKey + " doesn't exist.");
+    }
+
+    if (rtx.isDocumentRoot() && !rtx.moveToFirstChild().hasMoved()) {
+      // The JSON serializers emit nothing for an empty resource, whereas a CBOR data item is required.
+      write(NULL);
+      return;
+    }
+
+    serializeSubtree(rtx, true);
+  }
+
+  /**
+   * Serialize the top-level object or array with the next records, that is its children.
+   *
+   * @param rtx              the read-only transaction
+   * @param isSingleRevision {@code true}, if a single revision is serialized
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeRecords(final JsonNodeReadOnlyTrx rtx, final boolean isSingleRevision) throws IOException {
+    rtx.moveToDocumentRoot();
+
+    if (!rtx.moveToFirstChild().hasMoved()) {
+      write(NULL);
+      return;
+    }
+
+    if (!rtx.isObject() && !rtx.isArray()) {
+      emitValue(rtx);
+      return;
+    }
+
+    if (withMetaDataField()) {
+      emitMetaData(rtx, true);
+    }
+
+    // The number of records isn't known in advance.
+    write((byte) ((rtx.isObject() && !withMetaDataField() ? MAJOR_TYPE_MAP : MAJOR_TYPE_ARRAY) << 5
+        | INDEFINITE_LENGTH));
+
+    boolean hasMoved = lastTopLevelNodeKey == 0
+        ? rtx.moveToFirstChild().hasMoved()
+        : rtx.moveTo(lastTopLevelNodeKey).hasMoved() && rtx.moveToRightSibling().hasMoved();
+
+    for (int i = 0; hasMoved; i++) {
+      final long nodeKey = rtx.getNodeKey();
+
+      // The object keys of a record are written without a surrounding map as the entries of the map.
+      serializeSubtree(rtx, false);
+      rtx.moveTo(nodeKey);
+
+      if (i + 1 == numberOfRecords) {
+        if (isSingleRevision && rtx.hasRightSibling()) {
+          nextCursor = new JsonRecordCursor(rtx.getRevisionNumber(), nodeKey);
+        }
+        break;
+      }
+
+      hasMoved = rtx.moveToRightSibling().hasMoved();
+    }
+
+    write(BREAK);
+  }
+
+  /**
+   * Serialize the subtree rooted at the current node in document order.
+   *
+   * @param rtx             the read-only transaction located at the root of the subtree
+   * @param wrapObjectKey   {@code true}, if an object key root is wrapped in a map
+   * @throws IOException if writing to the output fails
+   */
+  private void serializeSubtree(final JsonNodeReadOnlyTrx rtx, final boolean wrapObjectKey) throws IOException {
+    final long rootNodeKey = rtx.getNodeKey();
+    int level = 0;
+
+    while (true) {
+      // Emit the node and descend into the children, if any are serialized.
+      final boolean descend = switch (rtx.getKind()) {
+        case OBJECT, ARRAY -> emitContainer(rtx, level + 1);
+        case OBJECT_KEY -> {
+          emitObjectKey(rtx, wrapObjectKey && rtx.getNodeKey() == rootNodeKey);
+          yield true;
+        }
+        default -> {
+          emitValue(rtx);
+          yield false;
+        }
+      };
+
+      if (descend) {
+        if (!rtx.isObjectKey()) {
+          level++;
+        }
+        rtx.moveToFirstChild();
+        continue;
+      }
+
+      // With definite lengths there's nothing to emit on the way up, otherwise the objects and arrays
+      // are closed.
+      while (rtx.getNodeKey() != rootNodeKey) {
+        if (rtx.hasRightSibling()) {
+          rtx.moveToRightSibling();
+          break;
+        }
+
+        rtx.moveToParent();
+
+        if (!rtx.isObjectKey()) {
+          level--;
+
+          if (indefiniteLengths) {
+            write(BREAK);
+          }
+        }
+      }
+
+      if (rtx.getNodeKey() == rootNodeKey) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Emit the head of an object or array node.
+   *
+   * @param rtx   the read-only transaction located at the node
+   * @param level the level of the node
+   * @return {@code true}, if the children of the node are serialized, {@code false} otherwise
+   * @throws IOException if writing to the output fails
+   */
+  private boolean emitContainer(final JsonNodeReadOnlyTrx rtx, final int level) throws IOException {
+    final boolean isObject = rtx.getKind() == NodeKind.OBJECT;
+
+    if (withMetaDataField()) {
+      emitMetaData(rtx, true);
+    }
+
+    if (!rtx.hasFirstChild() || (maxLevel != -1 && level >= maxLevel)) {
+      writeHead(isObject ? MAJOR_TYPE_MAP : MAJOR_TYPE_ARRAY, 0);
+      return false;
+    }
+
+    // With metadata the object keys of an object are serialized as an array of maps.
+    final int majorType = isObject && !withMetaDataField() ? MAJOR_TYPE_MAP : MAJOR_TYPE_ARRAY;
+
+    if (indefiniteLengths) {
+      write((byte) (majorType << 5 | INDEFINITE_LENGTH));
+    } else {
+      writeHead(majorType, rtx.getChildCount());
+    }
+
+    return true;
+  }
+
+  /**
+   * Emit an object key node up to its value.
+   *
+   * @param rtx    the read-only transaction located at the node
+   * @param isRoot {@code true}, if the node is the root of the serialized subtree and has to be wrapped
+   *               in a map
+   * @throws IOException if writing to the output fails
+   */
+  private void emitObjectKey(final JsonNodeReadOnlyTrx rtx, final boolean isRoot) throws IOException {
+    if (withMetaDataField()) {
+      writeHead(MAJOR_TYPE_MAP, 3).write(KEY).writeName(rtx).write(METADATA);
+
+      final boolean withNodeKey = withNodeKeyMetaData || withNodeKeyAndChildCountMetaData;
+      writeHead(MAJOR_TYPE_MAP, (withNodeKey ? 1 : 0) + (withMetaData ? 3 : 0));
+
+      if (withNodeKey) {
+        write(NODE_KEY).writeLong(rtx.getNodeKey());
+      }
+
+      if (withMetaData) {
+        write(HASH).writeHash(rtx.getHash());
+        write(TYPE).write(KIND_NAMES[NodeKind.OBJECT_KEY.ordinal()]);
+        write(DESCENDANT_COUNT).writeLong(rtx.getDescendantCount());
+      }
+
+      write(VALUE);
+    } else {
+      if (isRoot) {
+        writeHead(MAJOR_TYPE_MAP, 1);
+      }
+
+      writeName(rtx);
+    }
+  }
+
+  /**
+   * Emit a string, number, boolean or null value node.
+   *
+   * @param rtx the read-only transaction located at the node
+   * @throws IOException if writing to the output fails
+   */
+  private void emitValue(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    if (withMetaDataField()) {
+      emitMetaData(rtx, false);
+    }
+
+    switch (rtx.getKind()) {
+      case STRING_VALUE, OBJECT_STRING_VALUE -> {
+        if (rtx instanceof InternalJsonNodeReadOnlyTrx internalRtx
+            && internalRtx.getCurrentNode() instanceof ValueNode valueNode) {
+          final byte[] value = valueNode.getRawValue();
+          writeHead(MAJOR_TYPE_TEXT_STRING, value.length).write(value);
+        } else {
+          writeString(rtx.getValue());
+        }
+      }
+      case NUMBER_VALUE, OBJECT_NUMBER_VALUE -> writeNumber(rtx.getNumberValue());
+      case BOOLEAN_VALUE, OBJECT_BOOLEAN_VALUE -> write(rtx.getBooleanValue() ? TRUE : FALSE);
+      case NULL_VALUE, OBJECT_NULL_VALUE -> write(NULL);
+      // $CASES-OMITTED$
+      default -> throw new IllegalStateException("Node kind not known!");
+    }
+  }
+
+  /**
+   * Emit the head of the map and the metadata of a non object key node up to its value.
+   *
+   * @param rtx         the read-only transaction located at the node
+   * @param isContainer {@code true}, if the node is an object or array node
+   * @throws IOException if writing to the output fails
+   */
+  private void emitMetaData(final JsonNodeReadOnlyTrx rtx, final boolean isContainer) throws IOException {
+    final boolean withNodeKey = withNodeKeyMetaData || withNodeKeyAndChildCountMetaData;
+    final boolean withChildCount = withNodeKeyAndChildCountMetaData && isContainer;
+    final int size = (withNodeKey ? 1 : 0) + (withMetaData ? (isContainer ? 3 : 2) : 0) + (withChildCount ? 1 : 0);
+
+    writeHead(MAJOR_TYPE_MAP, 2).write(METADATA).writeHead(MAJOR_TYPE_MAP, size);
+
+    if (withNodeKey) {
+      write(NODE_KEY).writeLong(rtx.getNodeKey());
+    }
+
+    if (withMetaData) {
+      write(HASH).writeHash(rtx.getHash());
+      write(TYPE).write(KIND_NAMES[rtx.getKind().ordinal()]);
+
+      if (isContainer) {
+        write(DESCENDANT_COUNT).writeLong(rtx.getDescendantCount());
+      }
+    }
+
+    if (withChildCount) {
+      write(CHILD_COUNT).writeLong(rtx.getChildCount());
+    }
+
+    write(VALUE);
+  }
+
+  private boolean withMetaDataField() {
+    return withMetaData || withNodeKeyMetaData || withNodeKeyAndChildCountMetaData;
+  }
+
+  /**
+   * Write the name of the object key node the transaction is located at as a text string.
+   */
+  private JsonCborSerializer writeName(final JsonNodeReadOnlyTrx rtx) throws IOException {
+    final int nameKey = rtx.getNameKey();
+    byte[] name = names.get(nameKey);
+
+    if (name == null) {
+      name = textString(rtx.getName().getLocalName());
+      names.put(nameKey, name);
+    }
+
+    return write(name);
+  }
+
+  /**
+   * Write a 128 bit hash as a text string of 32 lower case hexadecimal digits.
+   */
+  private JsonCborSerializer writeHash(final BigInteger hash) throws IOException {
+    if (hash == null) {
+      return write(NULL);
+    }
+
+    if (hash.signum() < 0 || hash.bitLength() > 128) {
+      return writeString(String.format("%032x", hash));
+    }
+
+    final byte[] bytes = hash.toByteArray();
+    writeHead(MAJOR_TYPE_TEXT_STRING, 32);
+
+    for (int i = 16; i > 0; i--) {
+      final int index = bytes.length - i;
+      final int value = index >= 0 ? bytes[index] & 0xFF : 0;
+      write(HEX_DIGITS[value >>> 4]).write(HEX_DIGITS[value & 0xF]);
+    }
+
+    return this;
+  }
+
+  private JsonCborSerializer writeNumber(final Number number) throws IOException {
+    if (number instanceof Integer || number instanceof Long || number instanceof Short) {
+      return writeLong(number.longValue());
+    }
+
+    if (number instanceof Float) {
+      return write(FLOAT).writeBytes(Float.floatToIntBits(number.floatValue()), 4);
+    }
+
+    if (number instanceof Double) {
+      return write(DOUBLE).writeBytes(Double.doubleToLongBits(number.doubleValue()), 8);
+    }
+
+    if (number instanceof BigInteger bigInteger) {
+      return writeBigInteger(bigInteger);
+    }
+
+    if (number instanceof BigDecimal bigDecimal) {
+      // value = mantissa * 10^exponent
+      writeHead(MAJOR_TYPE_TAG, TAG_DECIMAL_FRACTION).writeHead(MAJOR_TYPE_ARRAY, 2);
+      writeLong(-bigDecimal.scale());
+      return writeBigInteger(bigDecimal.unscaledValue());
+    }
+
+    return write(DOUBLE).writeBytes(Double.doubleToLongBits(number.doubleValue()), 8);
+  }
+
+  private JsonCborSerializer writeBigInteger(final BigInteger value) throws IOException {
+    if (value.bitLength() < Long.SIZE) {
+      return writeLong(value.longValue());
+    }
+
+    // Negative values n are encoded as -1 - n.
+    final boolean isNegative = value.signum() < 0;
+    final byte[] bytes = (isNegative ? value.not() : value).toByteArray();
+    final int offset = bytes[0] == 0 ? 1 : 0;
+
+    writeHead(MAJOR_TYPE_TAG, isNegative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+    writeHead(MAJOR_TYPE_BYTE_STRING, bytes.length - offset);
+    return write(bytes, offset, bytes.length - offset);
+  }
+
+  private JsonCborSerializer writeLong(final long value) throws IOException {
+    // Negative values n are encoded as -1 - n, which is the bitwise complement.
+    return value < 0 ? writeHead(MAJOR_TYPE_NEGATIVE_INTEGER, ~value) : writeHead(MAJOR_TYPE_UNSIGNED_INTEGER, value);
+  }
+
+  private JsonCborSerializer writeString(final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    return writeHead(MAJOR_TYPE_TEXT_STRING, bytes.length).write(bytes);
+  }
+
+  /**
+   * Write the head of a data item with the given major type and argument, which is treated as an
+   * unsigned value.
+   */
+  private JsonCborSerializer writeHead(final int majorType, final long argument) throws IOException {
+    final int type = majorType << 5;
+
+    if (argument >= 0 && argument < 24) {
+      return write((byte) (type | argument));
+    } else if (argument >= 0 && argument <= 0xFF) {
+      return write((byte) (type | 24)).write((byte) argument);
+    } else if (argument >= 0 && argument <= 0xFFFF) {
+      return write((byte) (type | 25)).writeBytes(argument, 2);
+    } else if (argument >= 0 && argument <= 0xFFFFFFFFL) {
+      return write((byte) (type | 26)).writeBytes(argument, 4);
+    } else {
+      return write((byte) (type | 27)).writeBytes(argument, 8);
+    }
+  }
+
+  /**
+   * Write the given number of low order bytes of a value in big-endian byte order.
+   */
+  private JsonCborSerializer writeBytes(final long value, final int numberOfBytes) throws IOException {
+    for (int shift = (numberOfBytes - 1) * 8; shift >= 0; shift -= 8) {
+      write((byte) (value >>> shift));
+    }
+    return this;
+  }
+
+  private JsonCborSerializer write(final byte b) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = b;
+    return this;
+  }
+
+  private JsonCborSerializer write(final byte[] bytes) throws IOException {
+    return write(bytes, 0, bytes.length);
+  }
+
+  private JsonCborSerializer write(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+
+      if (length > buffer.length) {
+        out.write(bytes, offset, length);
+        return this;
+      }
+    }
+
+    System.arraycopy(bytes, offset, buffer, position, length);
+    position += length;
+    return this;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  /**
+   * Encode a string as a CBOR text string.
+   */
+  private static byte[] textString(final String value) {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    final int length = bytes.length;
+    final int headLength = length < 24 ? 1 : length <= 0xFF ? 2 : length <= 0xFFFF ? 3 : 5;
+    final byte[] encoded = new byte[headLength + length];
+    final int type = MAJOR_TYPE_TEXT_STRING << 5;
+
+    switch (headLength) {
+      case 1 -> encoded[0] = (byte) (type | length);
+      case 2 -> {
+        encoded[0] = (byte) (type | 24);
+        encoded[1] = (byte) length;
+      }
+      case 3 -> {
+        encoded[0] = (byte) (type | 25);
+        encoded[1] = (byte) (length >>> 8);
+        encoded[2] = (byte) length;
+      }
+      default -> {
+        encoded[0] = (byte) (type | 26);
+        for (int i = 0; i < 4; i++) {
+          encoded[1 + i] = (byte) (length >>> (24 - 8 * i));
+        }
+      }
+    }
+
+    System.arraycopy(bytes, 0, encoded, headLength, length);
+    return encoded;
+  }
+
+  /**
+   * Create a new builder.
+   *
+   * @param resourceManager the resource manager to read the resource
+   * @param out             the output stream to write to
+   * @param revisions       the revisions to serialize
+   * @return a new builder
+   */
+  public static Builder newBuilder(final JsonResourceManager resourceManager, final OutputStream out,
+      final int... revisions) {
+    return new Builder(resourceManager, out, revisions);
+  }
+
+  /**
+   * Builder to setup the {@link JsonCborSerializer}.
+   */
+  public static final class Builder {
+    private final JsonResourceManager resourceManager;
+
+    private final OutputStream out;
+
+    private int[] revisions;
+
+    private long startNodeKey;
+
+    private long maxLevel = -1;
+
+    private boolean serializeTimestamp;
+
+    private boolean withMetaData;
+
+    private boolean withNodeKey;
+
+    private boolean withNodeKeyAndChildCount;
+
+    private int numberOfRecords;
+
+    private long lastTopLevelNodeKey;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager to read the resource
+     * @param out             the output stream to write to
+     * @param revisions       the revisions to serialize (the most recent revision, if none are given)
+     */
+    public Builder(final JsonResourceManager resourceManager, final OutputStream out, final int... revisions) {
+      this.resourceManager = checkNotNull(resourceManager);
+      this.out = checkNotNull(out);
+      this.revisions = revisions == null || revisions.length == 0
+          ? new int[] { resourceManager.getMostRecentRevisionNumber() }
+          : revisions.clone();
+    }
+
+    /**
+     * Specify the start node key.
+     *
+     * @param nodeKey node key to start serialization from (the root of the subtree to serialize)
+     * @return this reference
+     */
+    public Builder startNodeKey(final @Nonnegative long nodeKey) {
+      checkArgument(nodeKey >= 0, "nodeKey must be >= 0.");
+      startNodeKey = nodeKey;
+      return this;
+    }
+
+    /**
+     * Specify the maximum level.
+     *
+     * @param maxLevel the maximum level until which to serialize
+     * @return this reference
+     */
+    public Builder maxLevel(final long maxLevel) {
+      this.maxLevel = maxLevel;
+      return this;
+    }
+
+    /**
+     * Serialize the timestamps of the revisions, if multiple revisions are serialized.
+     *
+     * @param serializeTimestamp {@code true}, if the timestamps should be serialized
+     * @return this reference
+     */
+    public Builder serializeTimestamp(final boolean serializeTimestamp) {
+      this.serializeTimestamp = serializeTimestamp;
+      return this;
+    }
+
+    /**
+     * Serialize the node keys, hashes, types, descendant counts and child counts.
+     *
+     * @param withMetaData {@code true}, if the metadata should be serialized
+     * @return this reference
+     */
+    public Builder withMetaData(final boolean withMetaData) {
+      this.withMetaData = withMetaData;
+      withNodeKey = withMetaData;
+      withNodeKeyAndChildCount = withMetaData;
+      return this;
+    }
+
+    /**
+     * Serialize the node keys.
+     *
+     * @param withNodeKey {@code true}, if the node keys should be serialized
+     * @return this reference
+     */
+    public Builder withNodeKeyMetaData(final boolean withNodeKey) {
+      this.withNodeKey = withNodeKey;
+      return this;
+    }
+
+    /**
+     * Serialize the node keys and the child counts of object and array nodes.
+     *
+     * @param withNodeKeyAndChildCount {@code true}, if the node keys and child counts should be serialized
+     * @return this reference
+     */
+    public Builder withNodeKeyAndChildCountMetaData(final boolean withNodeKeyAndChildCount) {
+      this.withNodeKeyAndChildCount = withNodeKeyAndChildCount;
+      return this;
+    }
+
+    /**
+     * The revisions to serialize.
+     *
+     * @param revisions the revisions to serialize
+     * @return this reference
+     */
+    public Builder revisions(final @Nonnull int[] revisions) {
+      checkArgument(checkNotNull(revisions).length > 0, "At least one revision must be given.");
+      this.revisions = revisions.clone();
+      return this;
+    }
+
+    /**
+     * Serialize the given number of top-level records, that is the first children of the top-level
+     * object or array, instead of the subtree of the start node.
+     *
+     * @param numberOfRecords the number of records to serialize
+     * @return this reference
+     */
+    public Builder numberOfRecords(final @Nonnegative int numberOfRecords) {
+      checkArgument(numberOfRecords > 0, "numberOfRecords must be > 0.");
+      this.numberOfRecords = numberOfRecords;
+      return this;
+    }
+
+    /**
+     * Serialize the records after the top-level record with the given node key.
+     *
+     * @param nodeKey the node key of the last serialized top-level record
+     * @return this reference
+     */
+    public Builder lastTopLevelNodeKey(final @Nonnegative long nodeKey) {
+      checkArgument(nodeKey >= 0, "nodeKey must be >= 0.");
+      lastTopLevelNodeKey = nodeKey;
+      return this;
+    }
+
+    /**
+     * Resume the serialization of records after the last serialized record of a previous page.
+     *
+     * @param cursor the cursor returned by {@link JsonCborSerializer#getNextCursor()} or
+     *               {@link JsonRecordSerializer#getNextCursor()}
+     * @return this reference
+     */
+    public Builder cursor(final JsonRecordCursor cursor) {
+      checkNotNull(cursor);
+      revisions = new int[] { cursor.getRevision() };
+      lastTopLevelNodeKey = cursor.getLastTopLevelNodeKey();
+      return this;
+    }
+
+    /**
+     * The size of the output buffer.
+     *
+     * @param bufferSize the size of the output buffer in bytes
+     * @return this reference
+     */
+    public Builder bufferSize(final @Nonnegative int bufferSize) {
+      checkArgument(bufferSize >= 64, "bufferSize must be >= 64.");
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Build a new {@link JsonCborSerializer} instance.
+     *
+     * @return a new {@link JsonCborSerializer} instance
+     */
+    public JsonCborSerializer build() {
+      checkArgument(lastTopLevelNodeKey == 0 || numberOfRecords > 0,
+                    "The last top-level node key requires a number of records.");
+      return new JsonCborSerializer(this);
+    }
+  }
+}
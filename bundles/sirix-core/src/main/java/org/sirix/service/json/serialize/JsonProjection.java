@@ -0,0 +1,208 @@
+package org.sirix.service.json.serialize;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.node.immutable.json.ImmutableArrayNode;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * A projection of a JSON resource onto a set of paths, for instance {@code /features/[]/geometry},
+ * whereas {@code []} denotes the elements of an array. The paths are evaluated against the path
+ * summary of a revision, such that the serialization decides on the path class reference (PCR) of
+ * an object key or array node, if the subtree is serialized completely, if only some of its
+ * descendants are serialized or if it's skipped altogether, without reading the nodes of the
+ * subtree.
+ * </p>
+ * <p>
+ * Within a partially serialized subtree, objects are serialized with the object keys on a projected
+ * path, arrays with the elements, which are objects or arrays on a projected path, and string,
+ * number, boolean and null values are skipped.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonProjection {
+
+  /**
+   * Determines how much of a subtree is serialized.
+   */
+  public enum Match {
+    /**
+     * The subtree is on a projected path, thus serialized completely.
+     */
+    COMPLETE,
+
+    /**
+     * The subtree contains a projected path, thus only some of its descendants are serialized.
+     */
+    PARTIAL,
+
+    /**
+     * The subtree isn't serialized at all.
+     */
+    NONE
+  }
+
+  /**
+   * The projected paths.
+   */
+  private final Set<Path<QNm>> paths;
+
+  /**
+   * Private constructor.
+   *
+   * @param paths the projected paths
+   */
+  private JsonProjection(final Set<Path<QNm>> paths) {
+    this.paths = paths;
+  }
+
+  /**
+   * Create a projection onto the given paths.
+   *
+   * @param paths the paths to project onto
+   * @return the projection
+   * @throws IllegalArgumentException if no path is given or a path can't be parsed
+   */
+  public static JsonProjection of(final String... paths) {
+    return of(List.of(paths));
+  }
+
+  /**
+   * Create a projection onto the given paths.
+   *
+   * @param paths the paths to project onto
+   * @return the projection
+   * @throws IllegalArgumentException if no path is given or a path can't be parsed
+   */
+  public static JsonProjection of(final Collection<String> paths) {
+    checkArgument(!paths.isEmpty(), "At least one path must be projected.");
+
+    final Set<Path<QNm>> parsedPaths = new HashSet<>(paths.size());
+    for (final String path : paths) {
+      try {
+        parsedPaths.add(Path.parse(checkNotNull(path)));
+      } catch (final PathException e) {
+        throw new IllegalArgumentException("Path " + path + " can't be parsed.", e);
+      }
+    }
+
+    return new JsonProjection(parsedPaths);
+  }
+
+  /**
+   * Evaluate the paths against the path summary of the revision the transaction is bound to.
+   *
+   * @param rtx the read-only transaction
+   * @return the filter of the revision
+   * @throws IllegalStateException if the resource doesn't maintain a path summary
+   */
+  public Filter filter(final @Nonnull JsonNodeReadOnlyTrx rtx) {
+    final var resourceManager = rtx.getResourceManager();
+
+    if (!resourceManager.getResourceConfig().withPathSummary) {
+      throw new IllegalStateException("Projections require a path summary.");
+    }
+
+    try (final var pathSummary = resourceManager.openPathSummary(rtx.getRevisionNumber())) {
+      final Set<Long> matches = pathSummary.getPCRsForPaths(paths, false);
+
+      // Path nodes below a match are serialized completely. The parents are visited first in preorder.
+      final Set<Long> completePCRs = new HashSet<>(matches);
+      pathSummary.moveToDocumentRoot();
+      for (final var axis = new DescendantAxis(pathSummary); axis.hasNext(); ) {
+        axis.next();
+
+        if (completePCRs.contains(pathSummary.getParentKey())) {
+          completePCRs.add(pathSummary.getNodeKey());
+        }
+      }
+
+      // Path nodes above a match are serialized partially.
+      final Set<Long> partialPCRs = new HashSet<>();
+      for (final long pcr : matches) {
+        pathSummary.moveTo(pcr);
+
+        while (pathSummary.moveToParent().hasMoved() && !pathSummary.isDocumentRoot()) {
+          if (!partialPCRs.add(pathSummary.getNodeKey())) {
+            break;
+          }
+        }
+      }
+
+      return new Filter(completePCRs, partialPCRs);
+    } catch (final PathException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The projection evaluated against the path summary of a revision.
+   */
+  public static final class Filter {
+
+    private final Set<Long> completePCRs;
+
+    private final Set<Long> partialPCRs;
+
+    private Filter(final Set<Long> completePCRs, final Set<Long> partialPCRs) {
+      this.completePCRs = completePCRs;
+      this.partialPCRs = partialPCRs;
+    }
+
+    /**
+     * Determine how much of the subtree rooted at the current node is serialized, whereas the current
+     * node is located in a partially serialized subtree. Only the node itself and the first child of an
+     * object key node are read.
+     *
+     * @param rtx the read-only transaction located at the node, which is located there again afterwards
+     * @return how much of the subtree is serialized
+     */
+    public Match match(final JsonNodeReadOnlyTrx rtx) {
+      return switch (rtx.getKind()) {
+        case OBJECT -> Match.PARTIAL;
+        case ARRAY -> match(((ImmutableArrayNode) rtx.getNode()).getPathNodeKey());
+        case OBJECT_KEY -> {
+          final Match match = match(rtx.getPathNodeKey());
+
+          if (match != Match.PARTIAL) {
+            yield match;
+          }
+
+          // Skip the object key, if its value can't contain a projected path.
+          rtx.moveToFirstChild();
+          final Match matchOfValue = match(rtx);
+          rtx.moveToParent();
+          yield matchOfValue;
+        }
+        default -> Match.NONE;
+      };
+    }
+
+    /**
+     * Determine how much of the subtrees with the path class reference is serialized.
+     *
+     * @param pcr the path class reference
+     * @return how much of the subtrees is serialized
+     */
+    public Match match(final long pcr) {
+      if (completePCRs.contains(pcr)) {
+        return Match.COMPLETE;
+      }
+
+      return partialPCRs.contains(pcr) ? Match.PARTIAL : Match.NONE;
+    }
+  }
+}
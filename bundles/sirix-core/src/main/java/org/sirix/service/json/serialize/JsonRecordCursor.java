@@ -0,0 +1,134 @@
+package org.sirix.service.json.serialize;
+
+import javax.annotation.Nonnegative;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * A cursor to resume the serialization of the top-level records with the {@link JsonRecordSerializer}
+ * after the last serialized record. It's handed to clients as an opaque, URL-safe token.
+ * </p>
+ * <p>
+ * The token encodes the revision and the node key of the last serialized record. As records are the
+ * children of the root object or array, which is the first child of the document root, the node key
+ * of the last record is the whole traversal stack needed to resume. Resuming a cursor thus never
+ * re-traverses the records of the preceding pages.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonRecordCursor {
+
+  /**
+   * The version of the token format.
+   */
+  private static final byte VERSION = 1;
+
+  /**
+   * The length of a token in bytes, that is the version, the revision and the node key.
+   */
+  private static final int TOKEN_LENGTH = Byte.BYTES + Integer.BYTES + Long.BYTES;
+
+  /**
+   * The revision to serialize.
+   */
+  private final int revision;
+
+  /**
+   * The node key of the last serialized top-level record.
+   */
+  private final long lastTopLevelNodeKey;
+
+  /**
+   * Constructor.
+   *
+   * @param revision            the revision to serialize
+   * @param lastTopLevelNodeKey the node key of the last serialized top-level record
+   */
+  public JsonRecordCursor(final @Nonnegative int revision, final @Nonnegative long lastTopLevelNodeKey) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+    checkArgument(lastTopLevelNodeKey >= 0, "lastTopLevelNodeKey must be >= 0!");
+    this.revision = revision;
+    this.lastTopLevelNodeKey = lastTopLevelNodeKey;
+  }
+
+  /**
+   * Decode a cursor from its token.
+   *
+   * @param token the token
+   * @return the cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static JsonRecordCursor fromToken(final String token) {
+    final byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(checkNotNull(token));
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException("Malformed cursor: " + token, e);
+    }
+
+    final var buffer = ByteBuffer.wrap(bytes);
+    if (bytes.length != TOKEN_LENGTH || buffer.get() != VERSION) {
+      throw new IllegalArgumentException("Malformed cursor: " + token);
+    }
+
+    return new JsonRecordCursor(buffer.getInt(), buffer.getLong());
+  }
+
+  /**
+   * Encode the cursor as an opaque, URL-safe token.
+   *
+   * @return the token
+   */
+  public String toToken() {
+    final var buffer = ByteBuffer.allocate(TOKEN_LENGTH).put(VERSION).putInt(revision).putLong(lastTopLevelNodeKey);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  /**
+   * Get the revision to serialize.
+   *
+   * @return the revision
+   */
+  public int getRevision() {
+    return revision;
+  }
+
+  /**
+   * Get the node key of the last serialized top-level record.
+   *
+   * @return the node key
+   */
+  public long getLastTopLevelNodeKey() {
+    return lastTopLevelNodeKey;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+
+    if (!(other instanceof JsonRecordCursor)) {
+      return false;
+    }
+
+    final var otherCursor = (JsonRecordCursor) other;
+    return revision == otherCursor.revision && lastTopLevelNodeKey == otherCursor.lastTopLevelNodeKey;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(revision, lastTopLevelNodeKey);
+  }
+
+  @Override
+  public String toString() {
+    return "JsonRecordCursor{revision=" + revision + ", lastTopLevelNodeKey=" + lastTopLevelNodeKey + "}";
+  }
+}
@@ -0,0 +1,176 @@
+package org.sirix.service.json.serialize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * A bounded cache of read-only transactions, which are kept open between the pages of a paginated
+ * serialization with the {@link JsonRecordSerializer}, keyed by the token of the {@link JsonRecordCursor}
+ * to resume from (usually prefixed with the database and resource name). Sequential page requests thus
+ * neither open a new resource manager and transaction nor start with cold caches.
+ * </p>
+ * <p>
+ * A transaction is {@link #take(String) taken} out of the cache while a page is serialized, such that
+ * it's never used concurrently, and {@link #put(String, Entry) put} back with the token of the next
+ * cursor afterwards. Transactions, which are evicted because the cache is full or because they
+ * haven't been used for the idle timeout, are closed.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonRecordCursorCache implements AutoCloseable {
+
+  /**
+   * {@link LogWrapper} reference.
+   */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(JsonRecordCursorCache.class));
+
+  /**
+   * The open transactions keyed by the cursor tokens.
+   */
+  private final Cache<String, Entry> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxNumberOfTrxs the maximum number of open transactions
+   * @param idleTimeout     the duration after which an unused transaction is closed
+   */
+  public JsonRecordCursorCache(final @Nonnegative long maxNumberOfTrxs, final Duration idleTimeout) {
+    checkArgument(maxNumberOfTrxs >= 0, "maxNumberOfTrxs must be >= 0!");
+
+    // Taken entries are removed explicitly and must not be closed.
+    final RemovalListener<String, Entry> removalListener = (String key, Entry entry, RemovalCause cause) -> {
+      if (entry != null && cause != RemovalCause.EXPLICIT) {
+        entry.close();
+      }
+    };
+
+    cache = Caffeine.newBuilder()
+                    .maximumSize(maxNumberOfTrxs)
+                    .expireAfterAccess(checkNotNull(idleTimeout))
+                    .scheduler(Scheduler.systemScheduler())
+                    .executor(Runnable::run)
+                    .removalListener(removalListener)
+                    .build();
+  }
+
+  /**
+   * Take the transaction of a cursor out of the cache.
+   *
+   * @param key the key, that is the cursor token
+   * @return the entry with the transaction, which now belongs to the caller, or {@code null}, if no
+   * transaction is cached for the cursor
+   */
+  public @Nullable Entry take(final String key) {
+    return cache.asMap().remove(checkNotNull(key));
+  }
+
+  /**
+   * Put the transaction of a cursor into the cache. An entry, which is already cached for the key, is
+   * closed.
+   *
+   * @param key   the key, that is the cursor token
+   * @param entry the entry with the transaction
+   */
+  public void put(final String key, final @Nonnull Entry entry) {
+    cache.put(checkNotNull(key), checkNotNull(entry));
+  }
+
+  /**
+   * Close and remove the transactions with matching keys, for instance before a resource is removed.
+   *
+   * @param keyPredicate the predicate the keys have to match
+   */
+  public void invalidate(final Predicate<String> keyPredicate) {
+    checkNotNull(keyPredicate);
+
+    for (final String key : cache.asMap().keySet()) {
+      if (keyPredicate.test(key)) {
+        final Entry entry = cache.asMap().remove(key);
+
+        if (entry != null) {
+          entry.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the number of cached transactions.
+   *
+   * @return the number of cached transactions
+   */
+  public long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Close and remove all cached transactions.
+   */
+  @Override
+  public void close() {
+    invalidate(key -> true);
+  }
+
+  /**
+   * An open read-only transaction and the resource it has been opened from, for instance the database,
+   * which is closed after the transaction.
+   */
+  public static final class Entry implements AutoCloseable {
+
+    private final JsonNodeReadOnlyTrx rtx;
+
+    private final AutoCloseable owner;
+
+    /**
+     * Constructor.
+     *
+     * @param rtx   the read-only transaction
+     * @param owner the resource to close after the transaction or {@code null}
+     */
+    public Entry(final JsonNodeReadOnlyTrx rtx, final @Nullable AutoCloseable owner) {
+      this.rtx = checkNotNull(rtx);
+      this.owner = owner;
+    }
+
+    /**
+     * Get the read-only transaction.
+     *
+     * @return the read-only transaction
+     */
+    public JsonNodeReadOnlyTrx getTrx() {
+      return rtx;
+    }
+
+    @Override
+    public void close() {
+      try {
+        rtx.close();
+
+        if (owner != null) {
+          owner.close();
+        }
+      } catch (final Exception e) {
+        LOGWRAPPER.error(e.getMessage(), e);
+      }
+    }
+  }
+}
@@ -75,6 +75,16 @@ public final class JsonRecordSerializer implements Callable<Void> {
 
   private long lastTopLevelNodeKey;
 
+  /**
+   * The read-only transaction to use instead of opening a new one or {@code null}.
+   */
+  private final JsonNodeReadOnlyTrx readOnlyTrx;
+
+  /**
+   * The cursor to resume the serialization after the last serialized record.
+   */
+  private JsonRecordCursor nextCursor;
+
   /**
    * Initialize XMLStreamReader implementation with transaction. The cursor points to the node the
    * XMLStreamReader starts to read.
@@ -100,6 +110,7 @@ public final class JsonRecordSerializer implements Callable<Void> {
     withNodeKeyMetaData = builder.withNodeKey;
     withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
     lastTopLevelNodeKey = builder.lastTopLevelNodeKey;
+    readOnlyTrx = builder.readOnlyTrx;
   }
 
   /**
@@ -217,6 +228,8 @@ public final class JsonRecordSerializer implements Callable<Void> {
 
     private long lastTopLevelNodeKey;
 
+    private JsonNodeReadOnlyTrx readOnlyTrx;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -293,6 +306,36 @@ public final class JsonRecordSerializer implements Callable<Void> {
       return this;
     }
 
+    /**
+     * Resume the serialization after the last serialized record of a previous page.
+     *
+     * @param cursor the cursor returned by {@link JsonRecordSerializer#getNextCursor()}
+     * @return this reference
+     */
+    public Builder cursor(final JsonRecordCursor cursor) {
+      checkNotNull(cursor);
+      version = cursor.getRevision();
+      versions = null;
+      lastTopLevelNodeKey = cursor.getLastTopLevelNodeKey();
+      return this;
+    }
+
+    /**
+     * Serialize the revision of an open read-only transaction, which isn't closed afterwards, for
+     * instance a transaction kept open in a {@link JsonRecordCursorCache} between the pages.
+     *
+     * @param rtx the read-only transaction of the resource to serialize
+     * @return this reference
+     */
+    public Builder readOnlyTrx(final JsonNodeReadOnlyTrx rtx) {
+      checkArgument(checkNotNull(rtx).getResourceManager() == resourceMgr,
+                    "The transaction must belong to the resource manager.");
+      readOnlyTrx = rtx;
+      version = rtx.getRevisionNumber();
+      versions = null;
+      return this;
+    }
+
     /**
      * Specify the maximum level.
      *
@@ -389,6 +432,10 @@ public final class JsonRecordSerializer implements Callable<Void> {
      * @return a new {@link Serializer} instance
      */
     public JsonRecordSerializer build() {
+      if (readOnlyTrx != null) {
+        checkArgument(version == readOnlyTrx.getRevisionNumber() && (versions == null || versions.length == 0),
+                      "Only the revision of the read-only transaction can be serialized.");
+      }
       return new JsonRecordSerializer(resourceMgr, this, version, versions);
     }
   }
@@ -397,123 +444,151 @@ public final class JsonRecordSerializer implements Callable<Void> {
    * Serialize the first {@code numberOfRecords}, that is the first n-nodes of the 1st level.
    */
   public Void call() {
-    var state = State.IS_PRIMITIVE;
-
     final int nrOfRevisions = revisions.length;
     final int length =
         (nrOfRevisions == 1 && revisions[0] < 0) ? resourceMgr.getMostRecentRevisionNumber() : nrOfRevisions;
 
     for (int i = 1; i <= length; i++) {
-      try (final JsonNodeReadOnlyTrx rtx = resourceMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && revisions[0] < 0)
-                                                                                ? i
-                                                                                : revisions[i - 1])) {
-        rtx.moveToDocumentRoot();
+      if (readOnlyTrx != null) {
+        serialize(readOnlyTrx);
+      } else {
+        try (final JsonNodeReadOnlyTrx rtx = resourceMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && revisions[0] < 0)
+                                                                                  ? i
+                                                                                  : revisions[i - 1])) {
+          serialize(rtx);
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Get the cursor to resume the serialization after the last serialized record.
+   *
+   * @return the cursor or {@code null}, if all remaining records have been serialized or more than one
+   * revision has been serialized
+   */
+  public JsonRecordCursor getNextCursor() {
+    return nextCursor;
+  }
+
+  private void serialize(final JsonNodeReadOnlyTrx rtx) {
+    var state = State.IS_PRIMITIVE;
+
+    try {
+      rtx.moveToDocumentRoot();
+
+      if (rtx.hasFirstChild()) {
+        rtx.moveToFirstChild();
+
+        var jsonSerializer =
+            new JsonSerializer.Builder(rtx.getResourceManager(), out, revisions).startNodeKey(rtx.getNodeKey())
+                                                                                .serializeStartNodeWithBrackets(false)
+                                                                                .serializeTimestamp(serializeTimestamp)
+                                                                                .withMetaData(withMetaData)
+                                                                                .withNodeKeyAndChildCountMetaData(
+                                                                                    withNodeKeyAndChildNodeKeyMetaData)
+                                                                                .withNodeKeyMetaData(withNodeKeyMetaData)
+                                                                                .build();
+        jsonSerializer.emitNode(rtx);
+
+        if (rtx.isObject()) {
+          state = State.IS_OBJECT;
+        } else if (rtx.isArray()) {
+          state = State.IS_ARRAY;
+        }
 
         if (rtx.hasFirstChild()) {
-          rtx.moveToFirstChild();
-
-          var jsonSerializer =
-              new JsonSerializer.Builder(rtx.getResourceManager(), out, revisions).startNodeKey(rtx.getNodeKey())
-                                                                                  .serializeStartNodeWithBrackets(false)
-                                                                                  .serializeTimestamp(serializeTimestamp)
-                                                                                  .withMetaData(withMetaData)
-                                                                                  .withNodeKeyAndChildCountMetaData(
-                                                                                      withNodeKeyAndChildNodeKeyMetaData)
-                                                                                  .withNodeKeyMetaData(
-                                                                                      withNodeKeyMetaData)
-                                                                                  .build();
-          jsonSerializer.emitNode(rtx);
-
-          if (rtx.isObject()) {
-            state = State.IS_OBJECT;
-          } else if (rtx.isArray()) {
-            state = State.IS_ARRAY;
+          boolean hasMoved = false;
+          if (lastTopLevelNodeKey != 0) {
+            rtx.moveTo(lastTopLevelNodeKey);
+            if (rtx.hasRightSibling()) {
+              rtx.moveToRightSibling();
+              hasMoved = true;
+            }
+          } else {
+            rtx.moveToFirstChild();
+            hasMoved = true;
           }
 
-          if (rtx.hasFirstChild()) {
-            boolean hasMoved = false;
-            if (lastTopLevelNodeKey != 0) {
-              rtx.moveTo(lastTopLevelNodeKey);
-              if (rtx.hasRightSibling()) {
-                rtx.moveToRightSibling();
-                hasMoved = true;
-              }
-            } else {
-              rtx.moveToFirstChild();
-              hasMoved = true;
+          if (hasMoved) {
+            var nodeKey = rtx.getNodeKey();
+            jsonSerializer = newRecordSerializer(rtx, nodeKey);
+            serializeRecord(jsonSerializer, rtx, nodeKey);
+            if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
+              out.append("}");
             }
+            rtx.moveTo(nodeKey);
 
-            if (hasMoved) {
-              var nodeKey = rtx.getNodeKey();
-              jsonSerializer =
-                  new JsonSerializer.Builder(rtx.getResourceManager(), out, revisions).startNodeKey(nodeKey)
-                                                                                      .serializeStartNodeWithBrackets(
-                                                                                          false)
-                                                                                      .maxLevel(maxLevel)
-                                                                                      .serializeTimestamp(
-                                                                                          serializeTimestamp)
-                                                                                      .withMetaData(withMetaData)
-                                                                                      .withNodeKeyAndChildCountMetaData(
-                                                                                          withNodeKeyAndChildNodeKeyMetaData)
-                                                                                      .withNodeKeyMetaData(
-                                                                                          withNodeKeyMetaData)
-                                                                                      .build();
-              jsonSerializer.call();
-              if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
-                out.append("}");
-              }
-              rtx.moveTo(nodeKey);
-
-              if (rtx.hasRightSibling()) {
-                for (int j = 1; j < numberOfRecords && rtx.hasRightSibling(); j++) {
-                  rtx.moveToRightSibling();
-                  nodeKey = rtx.getNodeKey();
-                  out.append(",");
-                  if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
-                    out.append("{");
-                  }
-                  jsonSerializer =
-                      new JsonSerializer.Builder(rtx.getResourceManager(), out, revisions).startNodeKey(nodeKey)
-                                                                                          .serializeStartNodeWithBrackets(
-                                                                                              false)
-                                                                                          .maxLevel(maxLevel)
-                                                                                          .serializeTimestamp(
-                                                                                              serializeTimestamp)
-                                                                                          .withMetaData(withMetaData)
-                                                                                          .withNodeKeyAndChildCountMetaData(
-                                                                                              withNodeKeyAndChildNodeKeyMetaData)
-                                                                                          .withNodeKeyMetaData(
-                                                                                              withNodeKeyMetaData)
-                                                                                          .build();
-                  jsonSerializer.call();
-                  if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
-                    out.append("}");
-                  }
-                  rtx.moveTo(nodeKey);
+            if (rtx.hasRightSibling()) {
+              for (int j = 1; j < numberOfRecords && rtx.hasRightSibling(); j++) {
+                rtx.moveToRightSibling();
+                nodeKey = rtx.getNodeKey();
+                out.append(",");
+                if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
+                  out.append("{");
                 }
+                jsonSerializer = newRecordSerializer(rtx, nodeKey);
+                serializeRecord(jsonSerializer, rtx, nodeKey);
+                if (rtx.isObjectKey() && (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData)) {
+                  out.append("}");
+                }
+                rtx.moveTo(nodeKey);
               }
             }
-          }
 
-          if (state == State.IS_OBJECT) {
-            if (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData) {
-              out.append("]");
-            }
-            out.append("}");
-          } else if (state == State.IS_ARRAY) {
-            if (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData) {
-              out.append("]}");
-            } else {
-              out.append("]");
+            if (isSingleRevision() && rtx.hasRightSibling()) {
+              nextCursor = new JsonRecordCursor(rtx.getRevisionNumber(), nodeKey);
             }
           }
         }
 
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+        if (state == State.IS_OBJECT) {
+          if (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData) {
+            out.append("]");
+          }
+          out.append("}");
+        } else if (state == State.IS_ARRAY) {
+          if (withMetaData || withNodeKeyAndChildNodeKeyMetaData || withNodeKeyMetaData) {
+            out.append("]}");
+          } else {
+            out.append("]");
+          }
+        }
       }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
+  }
 
-    return null;
+  private JsonSerializer newRecordSerializer(final JsonNodeReadOnlyTrx rtx, final long nodeKey) {
+    return new JsonSerializer.Builder(rtx.getResourceManager(), out, revisions).startNodeKey(nodeKey)
+                                                                               .serializeStartNodeWithBrackets(false)
+                                                                               .maxLevel(maxLevel)
+                                                                               .serializeTimestamp(serializeTimestamp)
+                                                                               .withMetaData(withMetaData)
+                                                                               .withNodeKeyAndChildCountMetaData(
+                                                                                   withNodeKeyAndChildNodeKeyMetaData)
+                                                                               .withNodeKeyMetaData(withNodeKeyMetaData)
+                                                                               .build();
+  }
+
+  /**
+   * Serialize a record. If a single revision is serialized, the transaction, which is located at the
+   * records, is shared instead of opening a new transaction for every record.
+   */
+  private void serializeRecord(final JsonSerializer jsonSerializer, final JsonNodeReadOnlyTrx rtx,
+      final long nodeKey) {
+    if (isSingleRevision()) {
+      jsonSerializer.serializeSubtree(rtx);
+      rtx.moveTo(nodeKey);
+    } else {
+      jsonSerializer.call();
+    }
+  }
+
+  private boolean isSingleRevision() {
+    return revisions.length == 1 && revisions[0] >= 0;
   }
 }
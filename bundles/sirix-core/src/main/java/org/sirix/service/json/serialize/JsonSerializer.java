@@ -397,6 +397,16 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
     }
   }
 
+  /**
+   * Serialize the subtree rooted at the current node of the given transaction of a single revision,
+   * which isn't closed afterwards, instead of opening a new transaction as {@link #call()} does.
+   *
+   * @param rtx read-only transaction located at the root of the subtree
+   */
+  void serializeSubtree(final JsonNodeReadOnlyTrx rtx) {
+    emitSubtree(rtx);
+  }
+
   @Override
   protected void emitStartDocument() {
     try {
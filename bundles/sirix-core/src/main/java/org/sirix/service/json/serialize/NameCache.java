@@ -0,0 +1,70 @@
+package org.sirix.service.json.serialize;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from name keys to the encoded names of object keys, which doesn't box
+ * the keys.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class NameCache {
+  private int[] keys = new int[64];
+
+  private byte[][] values = new byte[64][];
+
+  private int size;
+
+  byte[] get(final int key) {
+    final int mask = keys.length - 1;
+    for (int index = mix(key) & mask; values[index] != null; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        return values[index];
+      }
+    }
+    return null;
+  }
+
+  void put(final int key, final byte[] value) {
+    if (2 * (size + 1) > keys.length) {
+      resize();
+    }
+
+    final int mask = keys.length - 1;
+    int index = mix(key) & mask;
+    while (values[index] != null && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+
+    if (values[index] == null) {
+      size++;
+    }
+
+    keys[index] = key;
+    values[index] = value;
+  }
+
+  void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  private void resize() {
+    final int[] oldKeys = keys;
+    final byte[][] oldValues = values;
+    keys = new int[oldKeys.length * 2];
+    values = new byte[oldValues.length * 2][];
+    size = 0;
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private static int mix(final int key) {
+    final int hash = key * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
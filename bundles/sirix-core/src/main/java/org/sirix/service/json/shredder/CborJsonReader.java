@@ -0,0 +1,538 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link JsonReader}, which reads CBOR (RFC 8949) instead of JSON text, such that CBOR input can be
+ * shredded with the {@link JsonShredder} and inserted with the subtree insertion methods of the
+ * write transactions. The data items are mapped to JSON tokens as follows:
+ * <ul>
+ * <li>maps and arrays of definite or indefinite length to objects and arrays, whereas the keys of
+ * maps must be text strings or integers,</li>
+ * <li>integers, floating point numbers, bignums (tags 2 and 3) and decimal fractions (tag 4) to
+ * numbers,</li>
+ * <li>text strings to strings and byte strings to base64 encoded strings,</li>
+ * <li>{@code false}, {@code true}, {@code null} and {@code undefined} to booleans and null.</li>
+ * </ul>
+ * Other tags are ignored. A sequence of data items is read like a sequence of top-level JSON values
+ * by a lenient reader.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class CborJsonReader extends JsonReader {
+
+  private static final int BREAK = 0xFF;
+
+  private static final int INDEFINITE_LENGTH = 31;
+
+  private static final int NO_LOOKAHEAD = -2;
+
+  /**
+   * The input stream to read from.
+   */
+  private final InputStream in;
+
+  /**
+   * The maps and arrays, which have been started, but not yet ended.
+   */
+  private final Deque<Container> containers;
+
+  /**
+   * The next token, or {@code null}, if it hasn't been read yet.
+   */
+  private JsonToken peeked;
+
+  /**
+   * The value of the next token.
+   */
+  private Object value;
+
+  /**
+   * The next byte, if it has been peeked.
+   */
+  private int lookahead = NO_LOOKAHEAD;
+
+  /**
+   * Constructor.
+   *
+   * @param in the input stream to read CBOR data items from
+   */
+  public CborJsonReader(@Nonnull final InputStream in) {
+    super(Reader.nullReader());
+    this.in = new BufferedInputStream(checkNotNull(in), 1 << 16);
+    containers = new ArrayDeque<>();
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    containers.push((Container) consume(JsonToken.BEGIN_ARRAY));
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(JsonToken.END_ARRAY);
+    containers.pop();
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    containers.push((Container) consume(JsonToken.BEGIN_OBJECT));
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(JsonToken.END_OBJECT);
+    containers.pop();
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    if (peeked == null) {
+      readToken();
+    }
+    return peeked;
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    return (String) consume(JsonToken.NAME);
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+      throw unexpectedToken(JsonToken.STRING, token);
+    }
+    peeked = null;
+    return (String) value;
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    return (Boolean) consume(JsonToken.BOOLEAN);
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(JsonToken.NULL);
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return Double.parseDouble(nextNumber());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    return Long.parseLong(nextNumber());
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    return Integer.parseInt(nextNumber());
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY:
+          beginArray();
+          depth++;
+          break;
+        case BEGIN_OBJECT:
+          beginObject();
+          depth++;
+          break;
+        case END_ARRAY:
+          endArray();
+          depth--;
+          break;
+        case END_OBJECT:
+          endObject();
+          depth--;
+          break;
+        case END_DOCUMENT:
+          return;
+        default:
+          peeked = null;
+      }
+    } while (depth > 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  @Override
+  public String getPath() {
+    return "$";
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " of " + in;
+  }
+
+  private String nextNumber() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+      throw unexpectedToken(JsonToken.NUMBER, token);
+    }
+    peeked = null;
+    return (String) value;
+  }
+
+  private Object consume(final JsonToken expectedToken) throws IOException {
+    final JsonToken token = peek();
+    if (token != expectedToken) {
+      throw unexpectedToken(expectedToken, token);
+    }
+    peeked = null;
+    return value;
+  }
+
+  private static IllegalStateException unexpectedToken(final JsonToken expectedToken, final JsonToken token) {
+    return new IllegalStateException("Expected " + expectedToken + " but was " + token + ".");
+  }
+
+  /**
+   * Read the next token and its value.
+   */
+  private void readToken() throws IOException {
+    final Container container = containers.peek();
+    value = null;
+
+    if (container == null) {
+      if (peekByte() == -1) {
+        peeked = JsonToken.END_DOCUMENT;
+      } else {
+        peeked = readItem(readByte());
+      }
+      return;
+    }
+
+    // The value of a map entry is pending, if the key has been read.
+    final boolean expectsValueOfEntry = container.isObject && !container.expectsName;
+
+    if (!expectsValueOfEntry && (container.remaining == 0 || (container.remaining < 0 && peekByte() == BREAK))) {
+      if (container.remaining < 0) {
+        readByte();
+        container.remaining = 0;
+      }
+      peeked = container.isObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+      return;
+    }
+
+    if (container.remaining > 0 && !expectsValueOfEntry) {
+      // Map entries are counted on the key, array elements on the element.
+      container.remaining--;
+    }
+
+    if (container.isObject && container.expectsName) {
+      container.expectsName = false;
+
+      final JsonToken token = readItem(readByte());
+      if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+        throw new IllegalStateException("Only text string and integer keys are supported, but was " + token + ".");
+      }
+      peeked = JsonToken.NAME;
+      return;
+    }
+
+    if (container.isObject) {
+      container.expectsName = true;
+    }
+
+    peeked = readItem(readByte());
+  }
+
+  /**
+   * Read a data item.
+   *
+   * @param initialByte the initial byte of the data item
+   * @return the token of the data item, whereas the value is stored in {@code value}
+   */
+  private JsonToken readItem(final int initialByte) throws IOException {
+    final int majorType = initialByte >>> 5;
+    final int additionalInformation = initialByte & 0x1F;
+
+    switch (majorType) {
+      case 0:
+        value = Long.toUnsignedString(readArgument(additionalInformation));
+        return JsonToken.NUMBER;
+      case 1: {
+        final long argument = readArgument(additionalInformation);
+        // The value is -1 - argument, whereas the argument is unsigned.
+        value = argument >= 0
+            ? Long.toString(-1 - argument)
+            : new BigInteger(Long.toUnsignedString(argument)).not().toString();
+        return JsonToken.NUMBER;
+      }
+      case 2:
+        value = Base64.getEncoder().encodeToString(readString(majorType, additionalInformation));
+        return JsonToken.STRING;
+      case 3:
+        value = new String(readString(majorType, additionalInformation), StandardCharsets.UTF_8);
+        return JsonToken.STRING;
+      case 4:
+        value = new Container(false, readLength(additionalInformation));
+        return JsonToken.BEGIN_ARRAY;
+      case 5:
+        value = new Container(true, readLength(additionalInformation));
+        return JsonToken.BEGIN_OBJECT;
+      case 6:
+        return readTaggedItem(readArgument(additionalInformation));
+      default:
+        return readSimpleValueOrFloat(additionalInformation);
+    }
+  }
+
+  private JsonToken readTaggedItem(final long tag) throws IOException {
+    if (tag == 2 || tag == 3) {
+      final BigInteger bignum = readBignum(tag, readByte());
+      value = bignum.toString();
+      return JsonToken.NUMBER;
+    }
+
+    if (tag == 4) {
+      if (readByte() != 0x82) {
+        throw new IllegalStateException("A decimal fraction must be an array of two integers.");
+      }
+
+      final BigInteger exponent = readInteger(readByte());
+      final BigInteger mantissa = readInteger(readByte());
+      value = new BigDecimal(mantissa, -exponent.intValueExact()).toPlainString();
+      return JsonToken.NUMBER;
+    }
+
+    // Other tags are ignored.
+    return readItem(readByte());
+  }
+
+  private BigInteger readInteger(final int initialByte) throws IOException {
+    final int majorType = initialByte >>> 5;
+
+    if (majorType == 6) {
+      return readBignum(readArgument(initialByte & 0x1F), readByte());
+    }
+
+    if (majorType != 0 && majorType != 1) {
+      throw new IllegalStateException("Expected an integer, but was major type " + majorType + ".");
+    }
+
+    final var argument = new BigInteger(Long.toUnsignedString(readArgument(initialByte & 0x1F)));
+    return majorType == 0 ? argument : argument.not();
+  }
+
+  private BigInteger readBignum(final long tag, final int initialByte) throws IOException {
+    if (tag != 2 && tag != 3) {
+      throw new IllegalStateException("Expected a bignum, but was tag " + tag + ".");
+    }
+
+    if (initialByte >>> 5 != 2) {
+      throw new IllegalStateException("A bignum must be a byte string.");
+    }
+
+    final var bignum = new BigInteger(1, readString(2, initialByte & 0x1F));
+    return tag == 2 ? bignum : bignum.not();
+  }
+
+  private JsonToken readSimpleValueOrFloat(final int additionalInformation) throws IOException {
+    switch (additionalInformation) {
+      case 20:
+        value = Boolean.FALSE;
+        return JsonToken.BOOLEAN;
+      case 21:
+        value = Boolean.TRUE;
+        return JsonToken.BOOLEAN;
+      case 22:
+      case 23:
+        return JsonToken.NULL;
+      case 25:
+        value = toNumber(halfToFloat((int) readBytes(2)));
+        return JsonToken.NUMBER;
+      case 26:
+        value = toNumber(Float.intBitsToFloat((int) readBytes(4)));
+        return JsonToken.NUMBER;
+      case 27:
+        value = toNumber(Double.longBitsToDouble(readBytes(8)));
+        return JsonToken.NUMBER;
+      default:
+        throw new IllegalStateException("Simple value " + additionalInformation + " not supported.");
+    }
+  }
+
+  private static String toNumber(final float value) {
+    if (Float.isNaN(value) || Float.isInfinite(value)) {
+      throw new IllegalStateException("NaN and infinite numbers can't be stored.");
+    }
+    return Float.toString(value);
+  }
+
+  private static String toNumber(final double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new IllegalStateException("NaN and infinite numbers can't be stored.");
+    }
+    return Double.toString(value);
+  }
+
+  private static float halfToFloat(final int half) {
+    final int exponent = (half >>> 10) & 0x1F;
+    final int mantissa = half & 0x3FF;
+    final float value;
+
+    if (exponent == 0) {
+      value = mantissa * 0x1p-24f;
+    } else if (exponent != 31) {
+      value = (mantissa + 1024) * (float) Math.pow(2, exponent - 25);
+    } else {
+      value = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+    }
+
+    return (half & 0x8000) == 0 ? value : -value;
+  }
+
+  /**
+   * Read the bytes of a definite or indefinite length byte or text string.
+   */
+  private byte[] readString(final int majorType, final int additionalInformation) throws IOException {
+    if (additionalInformation != INDEFINITE_LENGTH) {
+      return readFully(readArgument(additionalInformation));
+    }
+
+    // The chunks of an indefinite length string are definite length strings of the same major type.
+    final var bytes = new ByteArrayOutputStream();
+    int initialByte;
+    while ((initialByte = readByte()) != BREAK) {
+      if (initialByte >>> 5 != majorType || (initialByte & 0x1F) == INDEFINITE_LENGTH) {
+        throw new IllegalStateException("Invalid chunk of an indefinite length string.");
+      }
+      bytes.write(readFully(readArgument(initialByte & 0x1F)));
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] readFully(final long length) throws IOException {
+    if (length < 0 || length > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("String of length " + Long.toUnsignedString(length) + " too long.");
+    }
+
+    final byte[] bytes = in.readNBytes((int) length);
+    if (bytes.length != length) {
+      throw new EOFException("Unexpected end of the CBOR input.");
+    }
+    return bytes;
+  }
+
+  /**
+   * Read the length of a map or array, which is {@code -1} for an indefinite length.
+   */
+  private long readLength(final int additionalInformation) throws IOException {
+    if (additionalInformation == INDEFINITE_LENGTH) {
+      return -1;
+    }
+
+    final long length = readArgument(additionalInformation);
+    if (length < 0) {
+      throw new IllegalStateException("Length " + Long.toUnsignedString(length) + " too large.");
+    }
+    return length;
+  }
+
+  /**
+   * Read the argument of a data item head, which is an unsigned value.
+   */
+  private long readArgument(final int additionalInformation) throws IOException {
+    if (additionalInformation < 24) {
+      return additionalInformation;
+    }
+
+    return switch (additionalInformation) {
+      case 24 -> readBytes(1);
+      case 25 -> readBytes(2);
+      case 26 -> readBytes(4);
+      case 27 -> readBytes(8);
+      default -> throw new IllegalStateException("Invalid additional information " + additionalInformation + ".");
+    };
+  }
+
+  /**
+   * Read a big-endian unsigned value of the given number of bytes.
+   */
+  private long readBytes(final int numberOfBytes) throws IOException {
+    long value = 0;
+    for (int i = 0; i < numberOfBytes; i++) {
+      value = (value << 8) | readByte();
+    }
+    return value;
+  }
+
+  private int peekByte() throws IOException {
+    if (lookahead == NO_LOOKAHEAD) {
+      lookahead = in.read();
+    }
+    return lookahead;
+  }
+
+  private int readByte() throws IOException {
+    final int b;
+    if (lookahead == NO_LOOKAHEAD) {
+      b = in.read();
+    } else {
+      b = lookahead;
+      lookahead = NO_LOOKAHEAD;
+    }
+
+    if (b == -1) {
+      throw new EOFException("Unexpected end of the CBOR input.");
+    }
+    return b;
+  }
+
+  /**
+   * A map or array, which has been started.
+   */
+  private static final class Container {
+    private final boolean isObject;
+
+    /**
+     * The number of remaining entries or elements, or {@code -1} for an indefinite length.
+     */
+    private long remaining;
+
+    private boolean expectsName;
+
+    Container(final boolean isObject, final long remaining) {
+      this.isObject = isObject;
+      this.remaining = remaining;
+      expectsName = isObject;
+    }
+  }
+}
@@ -286,7 +286,27 @@ public final class JsonShredder implements Callable<Long> {
 
       wtx.moveTo(insertedRootNodeKey);
     } catch (final IOException e) {
+      closePipelinedReader(e);
       throw new SirixIOException(e);
+    } catch (final RuntimeException e) {
+      closePipelinedReader(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Close the reader, if it is a {@link PipelinedJsonReader}, as its producer otherwise waits for
+   * the tokens, which aren't consumed anymore after a failure, to be taken.
+   *
+   * @param e the failure
+   */
+  private void closePipelinedReader(final Exception e) {
+    if (reader instanceof PipelinedJsonReader) {
+      try {
+        reader.close();
+      } catch (final IOException closeFailure) {
+        e.addSuppressed(closeFailure);
+      }
     }
   }
 
@@ -654,10 +674,11 @@ public final class JsonShredder implements Callable<Long> {
       db.createResource(ResourceConfiguration.newBuilder("shredded").build());
       try (final var resMgr = db.openResourceManager("shredded"); final var wtx = resMgr.beginNodeTrx()) {
         final var path = Paths.get(args[0]);
-        final var jsonReader = createFileReader(path);
-        final var shredder =
-            new JsonShredder.Builder(wtx, jsonReader, InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
-        shredder.call();
+        try (final var jsonReader = createPipelinedFileReader(path)) {
+          wtx.insertSubtreeAsFirstChild(jsonReader, JsonNodeTrx.Commit.Implicit);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
       }
     }
 
@@ -683,6 +704,47 @@ public final class JsonShredder implements Callable<Long> {
     }
   }
 
+  /**
+   * Create a new {@link JsonReader} instance on a file, which tokenizes the file on a separate thread
+   * while the consumer, for instance the shredder, processes the tokens.
+   *
+   * @param path the path to the file
+   * @return an {@link JsonReader} instance
+   * @see PipelinedJsonReader
+   */
+  public static JsonReader createPipelinedFileReader(final Path path) {
+    return new PipelinedJsonReader(createFileReader(path));
+  }
+
+  /**
+   * Create a new {@link JsonReader} instance on a file, which contains CBOR data items instead of
+   * JSON text.
+   *
+   * @param path the path to the file
+   * @return an {@link JsonReader} instance
+   * @see CborJsonReader
+   */
+  public static JsonReader createCborFileReader(final Path path) {
+    checkNotNull(path);
+
+    try {
+      return new CborJsonReader(new FileInputStream(path.toFile()));
+    } catch (final FileNotFoundException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Create a new {@link JsonReader} instance on an input stream of CBOR data items.
+   *
+   * @param in the input stream
+   * @return an {@link JsonReader} instance
+   * @see CborJsonReader
+   */
+  public static JsonReader createCborReader(final InputStream in) {
+    return new CborJsonReader(checkNotNull(in));
+  }
+
   /**
    * Create a new {@link JsonReader} instance on a String.
    *
@@ -0,0 +1,276 @@
+package org.sirix.service.json.shredder;
+
+import com.google.common.io.CountingInputStream;
+import com.google.gson.stream.JsonReader;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixUsageException;
+import org.sirix.node.NodeKind;
+import org.sirix.service.ShredderCommit;
+import org.sirix.service.json.JsonNumber;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Appends newline-delimited JSON (NDJSON / JSON Lines) records to an array. Every record is
+ * inserted as the last child of the array the transaction is located at. If the transaction is
+ * located at the document root of an empty resource, a new top-level array is inserted first.
+ * <p>
+ * The input is parsed by a single {@link JsonReader}, which is reused for all records, and the
+ * records are inserted by the same write transaction. The changes are either committed once after
+ * all records have been inserted, or according to a commit policy, that is after a number of
+ * records, after a number of bytes read from the input or after a time window has elapsed, such
+ * that a stream of records is stored in many revisions.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NdJsonShredder implements Callable<Long> {
+
+  /**
+   * {@link JsonNodeTrx}.
+   */
+  private final JsonNodeTrx wtx;
+
+  /**
+   * Counts the bytes read from the input.
+   */
+  private final CountingInputStream input;
+
+  /**
+   * Reads the records.
+   */
+  private final JsonReader reader;
+
+  /**
+   * Determines if changes are going to be commit right after shredding.
+   */
+  private final ShredderCommit commit;
+
+  /**
+   * Maximum number of records per revision or {@code 0}.
+   */
+  private final long maxRecordsPerRevision;
+
+  /**
+   * Maximum number of bytes per revision or {@code 0}.
+   */
+  private final long maxBytesPerRevision;
+
+  /**
+   * Maximum time window in nanoseconds per revision or {@code 0}.
+   */
+  private final long maxNanosPerRevision;
+
+  /**
+   * Builder to build an {@link NdJsonShredder} instance.
+   */
+  public static class Builder {
+
+    /**
+     * {@link JsonNodeTrx} implementation.
+     */
+    private final JsonNodeTrx wtx;
+
+    /**
+     * The newline-delimited JSON input.
+     */
+    private final InputStream input;
+
+    /**
+     * Determines if after shredding the transaction should be immediately commited.
+     */
+    private ShredderCommit commit = ShredderCommit.NOCOMMIT;
+
+    private long maxRecordsPerRevision;
+
+    private long maxBytesPerRevision;
+
+    private long maxNanosPerRevision;
+
+    /**
+     * Constructor.
+     *
+     * @param wtx   {@link JsonNodeTrx} implementation, located at an array or the document root
+     * @param input the UTF-8 encoded newline-delimited JSON input
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public Builder(final JsonNodeTrx wtx, final InputStream input) {
+      this.wtx = checkNotNull(wtx);
+      this.input = checkNotNull(input);
+    }
+
+    /**
+     * Commit afterwards.
+     *
+     * @return this builder instance
+     */
+    public Builder commitAfterwards() {
+      commit = ShredderCommit.COMMIT;
+      return this;
+    }
+
+    /**
+     * Commit after the given number of records has been inserted.
+     *
+     * @param records the maximum number of records per revision
+     * @return this builder instance
+     */
+    public Builder commitAfterRecords(@Nonnegative final long records) {
+      checkArgument(records > 0, "records must be > 0.");
+      maxRecordsPerRevision = records;
+      commit = ShredderCommit.COMMIT;
+      return this;
+    }
+
+    /**
+     * Commit after the records inserted since the last commit occupy the given number of bytes in the
+     * input.
+     *
+     * @param bytes the maximum number of bytes per revision
+     * @return this builder instance
+     */
+    public Builder commitAfterBytes(@Nonnegative final long bytes) {
+      checkArgument(bytes > 0, "bytes must be > 0.");
+      maxBytesPerRevision = bytes;
+      commit = ShredderCommit.COMMIT;
+      return this;
+    }
+
+    /**
+     * Commit after the first record, which is inserted after the given time window since the last
+     * commit has elapsed.
+     *
+     * @param time     the time window
+     * @param timeUnit the time unit of the window
+     * @return this builder instance
+     */
+    public Builder commitAfterTime(@Nonnegative final long time, @Nonnull final TimeUnit timeUnit) {
+      checkArgument(time > 0, "time must be > 0.");
+      maxNanosPerRevision = checkNotNull(timeUnit).toNanos(time);
+      commit = ShredderCommit.COMMIT;
+      return this;
+    }
+
+    /**
+     * Build an instance.
+     *
+     * @return {@link NdJsonShredder} instance
+     */
+    public NdJsonShredder build() {
+      return new NdJsonShredder(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder builder reference
+   */
+  private NdJsonShredder(final Builder builder) {
+    wtx = builder.wtx;
+    input = new CountingInputStream(builder.input);
+    reader = new JsonReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    reader.setLenient(true);
+    commit = builder.commit;
+    maxRecordsPerRevision = builder.maxRecordsPerRevision;
+    maxBytesPerRevision = builder.maxBytesPerRevision;
+    maxNanosPerRevision = builder.maxNanosPerRevision;
+  }
+
+  /**
+   * Invoking the shredder.
+   *
+   * @return the number of inserted records
+   * @throws SirixException        if any kind of sirix exception which has occured
+   * @throws UncheckedIOException  if reading the input fails
+   */
+  @Override
+  public Long call() {
+    try (reader) {
+      final long arrayNodeKey = getArrayNodeKey();
+
+      long records = 0;
+      long recordsSinceCommit = 0;
+      long bytesAtCommit = 0;
+      long nanosAtCommit = System.nanoTime();
+
+      while (reader.hasNext()) {
+        wtx.moveTo(arrayNodeKey);
+        insertRecord();
+        records++;
+        recordsSinceCommit++;
+
+        if ((maxRecordsPerRevision != 0 && recordsSinceCommit >= maxRecordsPerRevision)
+            || (maxBytesPerRevision != 0 && input.getCount() - bytesAtCommit >= maxBytesPerRevision)
+            || (maxNanosPerRevision != 0 && System.nanoTime() - nanosAtCommit >= maxNanosPerRevision)) {
+          wtx.commit();
+          recordsSinceCommit = 0;
+          bytesAtCommit = input.getCount();
+          nanosAtCommit = System.nanoTime();
+        }
+      }
+
+      if (recordsSinceCommit != 0 || records == 0) {
+        commit.commit(wtx);
+      }
+
+      wtx.moveTo(arrayNodeKey);
+
+      return records;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Get the node key of the array to append the records to.
+   *
+   * @return the node key of the array
+   */
+  private long getArrayNodeKey() {
+    if (wtx.getKind() == NodeKind.JSON_DOCUMENT) {
+      if (wtx.hasFirstChild()) {
+        wtx.moveToFirstChild();
+      } else {
+        wtx.insertArrayAsFirstChild();
+      }
+    }
+
+    if (wtx.getKind() != NodeKind.ARRAY) {
+      throw new SirixUsageException("Records can only be appended to an array.");
+    }
+
+    return wtx.getNodeKey();
+  }
+
+  /**
+   * Insert the next record as the last child of the array.
+   *
+   * @throws IOException if reading the record fails
+   */
+  private void insertRecord() throws IOException {
+    switch (reader.peek()) {
+      case BEGIN_OBJECT, BEGIN_ARRAY -> wtx.insertSubtreeAsLastChild(reader, JsonNodeTrx.Commit.No);
+      case STRING -> wtx.insertStringValueAsLastChild(reader.nextString());
+      case NUMBER -> wtx.insertNumberValueAsLastChild(JsonNumber.stringToNumber(reader.nextString()));
+      case BOOLEAN -> wtx.insertBooleanValueAsLastChild(reader.nextBoolean());
+      case NULL -> {
+        reader.nextNull();
+        wtx.insertNullValueAsLastChild();
+      }
+      default -> throw new SirixUsageException("Unexpected token " + reader.peek() + " at " + reader.getPath() + ".");
+    }
+  }
+}
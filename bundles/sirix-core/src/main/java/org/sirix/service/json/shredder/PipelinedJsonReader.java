@@ -0,0 +1,471 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.sirix.access.SirixExecutors;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link JsonReader}, which tokenizes the JSON input of another reader on a separate producer
+ * thread. The tokens and their decoded values are handed over in batches through a bounded queue,
+ * such that parsing and inserting the nodes into a write transaction (for instance with the
+ * {@link JsonShredder}) overlap. The reader itself is not thread-safe and must only be used by a
+ * single consumer thread. The path returned by {@link #getPath()} is tracked by the consumer, as the
+ * producer is usually ahead of it. The reader has to be closed, unless all tokens up to the end of the
+ * document are consumed, as the producer otherwise waits for free space in the queue. If tokenizing
+ * fails, every further read throws an {@link IOException}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PipelinedJsonReader extends JsonReader {
+
+  /**
+   * Default number of tokens per batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+
+  /**
+   * Default number of batches, which are buffered.
+   */
+  public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+  /**
+   * The time in milliseconds, after which the producer checks if the reader has been closed, while
+   * it waits for free space in the queue.
+   */
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  /**
+   * The underlying reader, which is consumed by the producer.
+   */
+  private final JsonReader in;
+
+  /**
+   * The number of tokens per batch.
+   */
+  private final int batchSize;
+
+  /**
+   * Batches of tokens, which have been read by the producer.
+   */
+  private final BlockingQueue<Batch> batches;
+
+  /**
+   * The producer task.
+   */
+  private Future<?> producer;
+
+  /**
+   * Whether the reader has been closed.
+   */
+  private volatile boolean closed;
+
+  /**
+   * The failure of the producer, which is thrown on every read once it has been received.
+   */
+  private Exception failure;
+
+  /**
+   * The current batch.
+   */
+  private Batch batch;
+
+  /**
+   * The index of the current token in the current batch.
+   */
+  private int index;
+
+  /**
+   * Whether the scopes on the path are arrays or objects. The first scope is the document.
+   */
+  private boolean[] arrayScopes = new boolean[32];
+
+  /**
+   * The number of values read in each scope.
+   */
+  private int[] pathIndices = new int[32];
+
+  /**
+   * The name of the current field in each object scope.
+   */
+  private String[] pathNames = new String[32];
+
+  /**
+   * The number of scopes on the path.
+   */
+  private int stackSize = 1;
+
+  /**
+   * Constructor.
+   *
+   * @param in            the reader to tokenize
+   * @param batchSize     the number of tokens per batch
+   * @param queueCapacity the maximum number of buffered batches
+   */
+  public PipelinedJsonReader(@Nonnull final JsonReader in, @Nonnegative final int batchSize,
+      @Nonnegative final int queueCapacity) {
+    super(Reader.nullReader());
+    this.in = checkNotNull(in);
+    checkArgument(batchSize > 0, "batchSize must be > 0.");
+    checkArgument(queueCapacity > 0, "queueCapacity must be > 0.");
+    this.batchSize = batchSize;
+    batches = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  /**
+   * Constructor using the default batch size and queue capacity.
+   *
+   * @param in the reader to tokenize
+   */
+  public PipelinedJsonReader(@Nonnull final JsonReader in) {
+    this(in, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    consume(JsonToken.BEGIN_ARRAY);
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(JsonToken.END_ARRAY);
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    consume(JsonToken.BEGIN_OBJECT);
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(JsonToken.END_OBJECT);
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    if (failure != null) {
+      throw new IOException("Tokenizing the JSON input failed.", failure);
+    }
+    if (batch == null || index == batch.size) {
+      nextBatch();
+    }
+    return batch.tokens[index];
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    return (String) consume(JsonToken.NAME);
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+      throw unexpectedToken(JsonToken.STRING, token);
+    }
+    return (String) next();
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    return (Boolean) consume(JsonToken.BOOLEAN);
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(JsonToken.NULL);
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    final double value = Double.parseDouble(peekNumber());
+    next();
+    return value;
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    final long value = Long.parseLong(peekNumber());
+    next();
+    return value;
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    final int value = Integer.parseInt(peekNumber());
+    next();
+    return value;
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      final JsonToken token = peek();
+      if (token == JsonToken.END_DOCUMENT) {
+        return;
+      }
+      if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+        depth++;
+      } else if (token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+        depth--;
+      }
+      next();
+    } while (depth > 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    if (producer != null) {
+      producer.cancel(true);
+    }
+    batches.clear();
+    in.close();
+  }
+
+  @Override
+  public String getPath() {
+    final var path = new StringBuilder("$");
+    for (int i = 1; i < stackSize; i++) {
+      if (arrayScopes[i]) {
+        path.append('[').append(pathIndices[i]).append(']');
+      } else {
+        path.append('.');
+        if (pathNames[i] != null) {
+          path.append(pathNames[i]);
+        }
+      }
+    }
+    return path.toString();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " of " + in;
+  }
+
+  private String peekNumber() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+      throw unexpectedToken(JsonToken.NUMBER, token);
+    }
+    return (String) batch.values[index];
+  }
+
+  private Object consume(final JsonToken expectedToken) throws IOException {
+    final JsonToken token = peek();
+    if (token != expectedToken) {
+      throw unexpectedToken(expectedToken, token);
+    }
+    return next();
+  }
+
+  /**
+   * Move to the next token and update the path.
+   *
+   * @return the value of the current token
+   */
+  private Object next() {
+    final JsonToken token = batch.tokens[index];
+    final Object value = batch.values[index++];
+
+    switch (token) {
+      case BEGIN_ARRAY:
+        push(true);
+        break;
+      case BEGIN_OBJECT:
+        push(false);
+        break;
+      case END_ARRAY:
+      case END_OBJECT:
+        stackSize--;
+        pathIndices[stackSize - 1]++;
+        break;
+      case NAME:
+        pathNames[stackSize - 1] = (String) value;
+        break;
+      case END_DOCUMENT:
+        break;
+      default:
+        pathIndices[stackSize - 1]++;
+    }
+
+    return value;
+  }
+
+  private void push(final boolean isArray) {
+    if (stackSize == arrayScopes.length) {
+      arrayScopes = Arrays.copyOf(arrayScopes, stackSize * 2);
+      pathIndices = Arrays.copyOf(pathIndices, stackSize * 2);
+      pathNames = Arrays.copyOf(pathNames, stackSize * 2);
+    }
+    arrayScopes[stackSize] = isArray;
+    pathIndices[stackSize] = 0;
+    pathNames[stackSize] = null;
+    stackSize++;
+  }
+
+  private static IllegalStateException unexpectedToken(final JsonToken expectedToken, final JsonToken token) {
+    return new IllegalStateException("Expected " + expectedToken + " but was " + token + ".");
+  }
+
+  private void nextBatch() throws IOException {
+    if (batch != null && batch.isLast()) {
+      // Stay at the end of the document.
+      index = batch.size - 1;
+      return;
+    }
+
+    if (producer == null) {
+      producer = SirixExecutors.getInstance().submitProducer(this::produce);
+    }
+
+    try {
+      batch = batches.take();
+      index = 0;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the next tokens.", e);
+    }
+
+    if (batch.failure != null) {
+      failure = batch.failure;
+      throw new IOException("Tokenizing the JSON input failed.", failure);
+    }
+  }
+
+  /**
+   * Tokenize the underlying reader. Executed by the producer thread.
+   */
+  private void produce() {
+    var current = new Batch(batchSize);
+    try {
+      JsonToken token;
+      do {
+        token = in.peek();
+        final Object value;
+
+        switch (token) {
+          case BEGIN_ARRAY:
+            in.beginArray();
+            value = null;
+            break;
+          case END_ARRAY:
+            in.endArray();
+            value = null;
+            break;
+          case BEGIN_OBJECT:
+            in.beginObject();
+            value = null;
+            break;
+          case END_OBJECT:
+            in.endObject();
+            value = null;
+            break;
+          case NAME:
+            value = in.nextName();
+            break;
+          case STRING:
+          case NUMBER:
+            value = in.nextString();
+            break;
+          case BOOLEAN:
+            value = in.nextBoolean();
+            break;
+          case NULL:
+            in.nextNull();
+            value = null;
+            break;
+          case END_DOCUMENT:
+          default:
+            value = null;
+        }
+
+        current.add(token, value);
+
+        if (current.size == batchSize && token != JsonToken.END_DOCUMENT) {
+          if (!offer(current)) {
+            return;
+          }
+          current = new Batch(batchSize);
+        }
+      } while (token != JsonToken.END_DOCUMENT);
+
+      offer(current);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final IOException | RuntimeException e) {
+      final var failure = new Batch(1);
+      failure.add(JsonToken.END_DOCUMENT, null);
+      failure.failure = e;
+      try {
+        offer(failure);
+      } catch (final InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Add a batch to the queue, once there is free space. Executed by the producer thread.
+   *
+   * @param batch the batch to add
+   * @return {@code true}, if the batch has been added, {@code false}, if the reader has been closed
+   * @throws InterruptedException if the producer has been interrupted
+   */
+  private boolean offer(final Batch batch) throws InterruptedException {
+    while (!batches.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+      if (closed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A batch of tokens and their values.
+   */
+  private static final class Batch {
+    private final JsonToken[] tokens;
+
+    private final Object[] values;
+
+    private int size;
+
+    private Exception failure;
+
+    Batch(final int capacity) {
+      tokens = new JsonToken[capacity];
+      values = new Object[capacity];
+    }
+
+    void add(final JsonToken token, final Object value) {
+      tokens[size] = token;
+      values[size] = value;
+      size++;
+    }
+
+    boolean isLast() {
+      return size > 0 && tokens[size - 1] == JsonToken.END_DOCUMENT;
+    }
+  }
+}
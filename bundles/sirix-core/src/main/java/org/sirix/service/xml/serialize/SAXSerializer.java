@@ -109,7 +109,21 @@ public final class SAXSerializer extends org.sirix.service.AbstractSerializer<Xm
 
   @Override
   protected void emitEndNode(final XmlNodeReadOnlyTrx rtx) {
+    emitEndElement(rtx.getName());
+  }
+
+  @Override
+  protected EndNode createEndNode(final XmlNodeReadOnlyTrx rtx) {
     final QNm qName = rtx.getName();
+    return () -> emitEndElement(qName);
+  }
+
+  /**
+   * Emit the end of an element.
+   *
+   * @param qName the name of the element
+   */
+  private void emitEndElement(final QNm qName) {
     final String mURI = qName.getNamespaceURI();
     try {
       mContHandler.endPrefixMapping(qName.getPrefix());
@@ -33,7 +33,9 @@ import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.EndElement;
 import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.Axis;
@@ -82,6 +84,12 @@ public final class StAXSerializer implements XMLEventReader {
   /** Stack for reading end element. */
   private final Deque<Long> mStack;
 
+  /**
+   * End elements of the nodes on {@link #mStack}, created from the start elements, such that closing
+   * an element doesn't move the transaction back to it.
+   */
+  private final Deque<EndElement> mEndElements;
+
   /**
    * Determines if the cursor has to move back after empty elements or go up in the tree (used in
    * getElementText().
@@ -138,6 +146,7 @@ public final class StAXSerializer implements XMLEventReader {
     mAxis = new DescendantAxis(checkNotNull(pRtx), IncludeSelf.YES);
     mCloseRtx = pCloseRtx;
     mStack = new ArrayDeque<Long>();
+    mEndElements = new ArrayDeque<>();
     mFirst = true;
     mEmitEndDocument = true;
     mHasNext = true;
@@ -302,8 +311,7 @@ public final class StAXSerializer implements XMLEventReader {
       return null;
     } else {
       if (mCloseElements && !mCloseElementsEmitted && !mStack.isEmpty()) {
-        rtx.moveTo(mStack.peek());
-        emitEndTag(rtx);
+        mEvent = mEndElements.peek();
       } else {
         if (mFirst && mAxis.isSelfIncluded() == IncludeSelf.YES) {
           emitNode(rtx);
@@ -390,13 +398,11 @@ public final class StAXSerializer implements XMLEventReader {
     // Emit pending end elements.
     if (mCloseElements) {
       if (!mStack.isEmpty() && mStack.peek() != rtx.getLeftSiblingKey()) {
-        rtx.moveTo(mStack.pop());
-        emitEndTag(rtx);
-        rtx.moveTo(mKey);
+        mStack.pop();
+        mEvent = mEndElements.pop();
       } else if (!mStack.isEmpty()) {
-        rtx.moveTo(mStack.pop());
-        emitEndTag(rtx);
-        rtx.moveTo(mKey);
+        mStack.pop();
+        mEvent = mEndElements.pop();
         mCloseElementsEmitted = true;
         mCloseElements = false;
       }
@@ -411,6 +417,8 @@ public final class StAXSerializer implements XMLEventReader {
       // Push end element to stack if we are a start element.
       if (rtx.getKind() == NodeKind.ELEMENT) {
         mStack.push(mLastKey);
+        final StartElement startElement = mEvent.asStartElement();
+        mEndElements.push(mFac.createEndElement(startElement.getName(), startElement.getNamespaces()));
       }
 
       // Remember to emit all pending end elements from stack if
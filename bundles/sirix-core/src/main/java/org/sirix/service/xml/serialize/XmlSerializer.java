@@ -29,15 +29,18 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_REST;
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_XMLDECL;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -50,6 +53,7 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.node.NodeKind;
+import org.sirix.service.OrderedPartsWriter;
 import org.sirix.settings.CharsForSerializing;
 import org.sirix.settings.Constants;
 import org.sirix.utils.LogWrapper;
@@ -64,6 +68,11 @@ import org.slf4j.LoggerFactory;
  * Note that the OutputStream internally is wrapped by a BufferedOutputStream. There is no need to
  * buffer it again outside of this class.
  * </p>
+ * <p>
+ * With a parallelism greater than one and without a maximum level, element subtrees with at least
+ * {@code partitionThreshold} nodes are split into parts of consecutive siblings, which are
+ * serialized concurrently into buffers by own read-only transactions and written in document order.
+ * </p>
  */
 public final class XmlSerializer extends org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx> {
 
@@ -108,6 +117,12 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
   private final boolean metaData;
 
+  /** Number of threads to serialize concurrently, or {@code 1} to serialize sequentially. */
+  private final int parallelism;
+
+  /** The minimum number of nodes of a subtree, which is split into parts to serialize concurrently. */
+  private final long partitionThreshold;
+
   /**
    * Initialize XMLStreamReader implementation with transaction. The cursor points to the node the
    * XMLStreamReader starts to read.
@@ -135,6 +150,220 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
     emitXQueryResultSequence = builder.emitXQueryResultSequence;
     serializeTimestamp = builder.serializeTimestamp;
     metaData = builder.mMetaData;
+    parallelism = builder.parallelism;
+    partitionThreshold = builder.partitionThreshold;
+  }
+
+  /**
+   * Constructor of a serializer with the same options as the given serializer, which serializes a part
+   * of the output into a buffer.
+   *
+   * @param serializer the serializer to copy the options from
+   * @param out the buffer to write to
+   * @param depth the number of elements above the part
+   */
+  private XmlSerializer(final XmlSerializer serializer, final ByteArrayOutputStream out, final int depth) {
+    super(serializer.resMgr, null, serializer.startNodeKey, serializer.revisions[0],
+        Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+    this.out = out;
+    indent = serializer.indent;
+    serializeXMLDeclaration = serializer.serializeXMLDeclaration;
+    serializeRest = serializer.serializeRest;
+    serializeRestSequence = serializer.serializeRestSequence;
+    serializeId = serializer.serializeId;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    metaData = serializer.metaData;
+    parallelism = 1;
+    partitionThreshold = serializer.partitionThreshold;
+
+    // Only the depth is used for indentation, the end tags above the part aren't emitted.
+    for (int i = 0; i < depth; i++) {
+      stack.push(Constants.NULL_ID_LONG);
+    }
+  }
+
+  /**
+   * Serialize the storage, concurrently if a parallelism greater than one is set and no maximum
+   * level is given.
+   *
+   * @return null.
+   * @throws UncheckedIOException if the parallel serialization fails to write to the output
+   */
+  @Override
+  public Void call() {
+    if (parallelism == 1 || visitor != null) {
+      return super.call();
+    }
+
+    emitStartDocument();
+
+    final int length = (revisions.length == 1 && revisions[0] < 0)
+        ? resMgr.getMostRecentRevisionNumber()
+        : revisions.length;
+
+    final var parts = new OrderedPartsWriter(out::write, parallelism);
+
+    try {
+      for (int i = 1; i <= length; i++) {
+        try (final XmlNodeReadOnlyTrx rtx = resMgr.beginNodeReadOnlyTrx((revisions.length == 1 && revisions[0] < 0)
+            ? i
+            : revisions[i - 1])) {
+          final var frames = new ByteArrayOutputStream();
+          final var planner = new XmlSerializer(this, frames, stack.size());
+
+          planner.emitRevisionStartNode(rtx);
+
+          final var partitioning = new Partitioning(parts, frames);
+
+          rtx.moveTo(startNodeKey);
+          planner.partition(rtx, partitioning);
+
+          planner.emitRevisionEndNode(rtx);
+          planner.addFrame(partitioning);
+        }
+      }
+
+      parts.finish();
+    } catch (final IOException e) {
+      parts.cancel();
+      throw new UncheckedIOException(e);
+    } catch (final RuntimeException e) {
+      parts.cancel();
+      throw e;
+    }
+
+    emitEndDocument();
+
+    return null;
+  }
+
+  /**
+   * Split the subtree rooted at the current node into parts, which are serialized concurrently. The
+   * nodes above the parts are serialized into the frames of the partitioning.
+   *
+   * @param rtx read-only transaction located at the root of the subtree, which is located there
+   *        again afterwards
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void partition(final XmlNodeReadOnlyTrx rtx, final Partitioning partitioning) throws IOException {
+    final long nodeKey = rtx.getNodeKey();
+    final boolean isDocumentRoot = rtx.isDocumentRoot();
+
+    if ((!isDocumentRoot && rtx.getKind() != NodeKind.ELEMENT) || rtx.getDescendantCount() < partitionThreshold) {
+      addPart(rtx, nodeKey, 1, partitioning);
+      return;
+    }
+
+    emitNode(rtx);
+    rtx.moveTo(nodeKey);
+
+    if (!isDocumentRoot) {
+      stack.push(nodeKey);
+    }
+
+    // Split the children into parts of consecutive siblings.
+    rtx.moveToFirstChild();
+
+    long firstNodeKeyOfPart = 0;
+    int numberOfSiblings = 0;
+    long numberOfNodes = 0;
+
+    do {
+      final long numberOfNodesOfSubtree = rtx.getDescendantCount() + 1;
+
+      if (numberOfNodesOfSubtree > partitionThreshold) {
+        if (numberOfSiblings > 0) {
+          addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, partitioning);
+          numberOfSiblings = 0;
+          numberOfNodes = 0;
+        }
+
+        partition(rtx, partitioning);
+      } else {
+        if (numberOfSiblings == 0) {
+          firstNodeKeyOfPart = rtx.getNodeKey();
+        }
+
+        numberOfSiblings++;
+        numberOfNodes += numberOfNodesOfSubtree;
+
+        if (numberOfNodes >= partitionThreshold) {
+          addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, partitioning);
+          numberOfSiblings = 0;
+          numberOfNodes = 0;
+        }
+      }
+    } while (rtx.moveToRightSibling().hasMoved());
+
+    if (numberOfSiblings > 0) {
+      addPart(rtx, firstNodeKeyOfPart, numberOfSiblings, partitioning);
+    }
+
+    rtx.moveTo(nodeKey);
+
+    if (!isDocumentRoot) {
+      stack.pop();
+      emitEndNode(rtx);
+    }
+  }
+
+  /**
+   * Add the nodes serialized so far as a frame and a task serializing the subtrees of consecutive
+   * siblings as a part.
+   *
+   * @param rtx read-only transaction of the revision
+   * @param firstNodeKey node key of the first sibling
+   * @param numberOfSiblings number of siblings
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void addPart(final XmlNodeReadOnlyTrx rtx, final long firstNodeKey, final int numberOfSiblings,
+      final Partitioning partitioning) throws IOException {
+    addFrame(partitioning);
+
+    final int revision = rtx.getRevisionNumber();
+    final int depth = stack.size();
+
+    partitioning.parts().add(() -> {
+      final var bytes = new ByteArrayOutputStream();
+      final var serializer = new XmlSerializer(this, bytes, depth);
+
+      try (final XmlNodeReadOnlyTrx partRtx = resMgr.beginNodeReadOnlyTrx(revision)) {
+        long nodeKey = firstNodeKey;
+
+        for (int i = 0; i < numberOfSiblings; i++) {
+          partRtx.moveTo(nodeKey);
+          serializer.emitSubtree(partRtx);
+          partRtx.moveTo(nodeKey);
+          nodeKey = partRtx.getRightSiblingKey();
+        }
+      }
+
+      return bytes.toByteArray();
+    });
+  }
+
+  /**
+   * Add the nodes serialized so far as a frame.
+   *
+   * @param partitioning the parts and the frames
+   * @throws IOException if writing to the output fails
+   */
+  private void addFrame(final Partitioning partitioning) throws IOException {
+    if (partitioning.frames().size() > 0) {
+      partitioning.parts().add(partitioning.frames().toByteArray());
+      partitioning.frames().reset();
+    }
+  }
+
+  /**
+   * The parts of a concurrent serialization and the buffer of the nodes above the parts.
+   */
+  private record Partitioning(OrderedPartsWriter parts, ByteArrayOutputStream frames) {
   }
 
   /**
@@ -262,11 +491,44 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
    */
   @Override
   protected void emitEndNode(final XmlNodeReadOnlyTrx rtx) {
+    emitEndTag(isEndTagIndented(rtx), rawPrefix(rtx), rtx.rawNameForKey(rtx.getLocalNameKey()));
+  }
+
+  /**
+   * Create a snapshot of the end element with its name, which is emitted once the subtree has been
+   * serialized.
+   *
+   * @param rtx Sirix {@link XmlNodeReadOnlyTrx}
+   */
+  @Override
+  protected EndNode createEndNode(final XmlNodeReadOnlyTrx rtx) {
+    final boolean isIndented = isEndTagIndented(rtx);
+    final byte[] prefix = rawPrefix(rtx);
+    final byte[] localName = rtx.rawNameForKey(rtx.getLocalNameKey());
+    return () -> emitEndTag(isIndented, prefix, localName);
+  }
+
+  // Determines if the end tag of an element is indented, that is the element has more than a single text child.
+  private boolean isEndTagIndented(final XmlNodeReadOnlyTrx rtx) {
+    return indent && !(rtx.getFirstChildKind() == NodeKind.TEXT && rtx.getChildCount() == 1);
+  }
+
+  // Get the prefix of the current node or null.
+  private static byte[] rawPrefix(final XmlNodeReadOnlyTrx rtx) {
+    return rtx.getPrefixKey() == -1 ? null : rtx.rawNameForKey(rtx.getPrefixKey());
+  }
+
+  // Emit an end tag.
+  private void emitEndTag(final boolean isIndented, final byte[] prefix, final byte[] localName) {
     try {
-      if (indent && !(rtx.getFirstChildKind() == NodeKind.TEXT && rtx.getChildCount() == 1))
+      if (isIndented)
         indent();
       out.write(CharsForSerializing.OPEN_SLASH.getBytes());
-      writeQName(rtx);
+      if (prefix != null) {
+        out.write(prefix);
+        out.write(CharsForSerializing.COLON.getBytes());
+      }
+      out.write(localName);
       out.write(CharsForSerializing.CLOSE.getBytes());
       if (indent) {
         out.write(CharsForSerializing.NEWLINE.getBytes());
@@ -611,6 +873,10 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
     private long maxLevel;
 
+    private int parallelism = 1;
+
+    private long partitionThreshold = 1 << 15;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -793,6 +1059,31 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
       return this;
     }
 
+    /**
+     * The number of threads to serialize large subtrees concurrently. Ignored, if a maximum level is
+     * given.
+     *
+     * @param parallelism the number of threads, or {@code 1} to serialize sequentially (the default)
+     * @return this {@link XmlSerializerBuilder} instance
+     */
+    public XmlSerializerBuilder parallelism(final @Nonnegative int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be > 0!");
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * The minimum number of nodes of a subtree, which is split into parts to serialize concurrently.
+     *
+     * @param partitionThreshold the minimum number of nodes
+     * @return this {@link XmlSerializerBuilder} instance
+     */
+    public XmlSerializerBuilder partitionThreshold(final @Nonnegative long partitionThreshold) {
+      checkArgument(partitionThreshold >= 2, "partitionThreshold must be >= 2!");
+      this.partitionThreshold = partitionThreshold;
+      return this;
+    }
+
     /**
      * Building new {@link Serializer} instance.
      *
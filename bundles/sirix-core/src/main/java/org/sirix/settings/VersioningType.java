@@ -495,6 +495,118 @@ public enum VersioningType {
       }
       return retVal;
     }
+  },
+
+  /**
+   * Adaptive versioning. Each record page decides on its own, whether to write an incremental
+   * fragment, a delta against the last full dump or a full snapshot. Rarely changed pages are
+   * written incrementally, thus only the changed records have to be written. Pages, which are
+   * changed in many revisions, switch to a delta against the last full dump once the chain of
+   * fragments to read gets too long and a full snapshot is written during the commit, if a large
+   * part of the page has been changed. The number of fragments to read never exceeds the number
+   * of revisions to restore.
+   */
+  ADAPTIVE {
+    /**
+     * If at least this ratio of records of a page has been changed, a full snapshot is written.
+     */
+    private static final double FULL_SNAPSHOT_CHANGE_RATIO = 0.5;
+
+    @Override
+    public <K, V, T extends KeyValuePage<K, V>> T combineRecordPages(final List<T> pages,
+        final @Nonnegative int revToRestore, final PageReadOnlyTrx pageReadTrx) {
+      final T firstPage = pages.get(0);
+      final long recordPageKey = firstPage.getPageKey();
+      final T returnVal =
+          firstPage.newInstance(firstPage.getPageKey(), firstPage.getIndexType(), firstPage.getPageReadOnlyTrx());
+
+      // Each chain of page fragments ends with a full snapshot, thus the newest records win.
+      for (final T page : pages) {
+        assert page.getPageKey() == recordPageKey;
+        addMissingRecords(page, returnVal);
+        if (returnVal.size() == Constants.NDP_NODE_COUNT) {
+          break;
+        }
+      }
+
+      return returnVal;
+    }
+
+    @Override
+    public <K, V, T extends KeyValuePage<K, V>> PageContainer combineRecordPagesForModification(final List<T> pages,
+        final int revToRestore, final PageReadOnlyTrx pageReadTrx, final PageReference reference,
+        final TransactionIntentLog log) {
+      final T firstPage = pages.get(0);
+      final long recordPageKey = firstPage.getPageKey();
+      final T completePage = combineRecordPages(pages, revToRestore, pageReadTrx);
+      final T modifyingPage = firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx);
+
+      final var currentPageFragmentKey = new PageFragmentKeyImpl(pageReadTrx.getRevisionNumber(), reference.getKey());
+      final List<PageFragmentKey> previousPageFragmentKeys = reference.getPageFragments();
+
+      if (pages.size() + 1 <= getMaxNumberOfIncrementalFragments(revToRestore)) {
+        // Incremental fragment: only the changed records are written.
+        final var pageFragmentKeys = new ArrayList<PageFragmentKey>(previousPageFragmentKeys.size() + 1);
+        pageFragmentKeys.add(currentPageFragmentKey);
+        pageFragmentKeys.addAll(previousPageFragmentKeys);
+        reference.setPageFragments(pageFragmentKeys);
+      } else {
+        // Delta against the last full dump: all records changed since the full dump are written.
+        for (int i = 0, size = pages.size() - 1; i < size; i++) {
+          addMissingRecords(pages.get(i), modifyingPage);
+        }
+        reference.setPageFragments(List.of(previousPageFragmentKeys.isEmpty()
+                                               ? currentPageFragmentKey
+                                               : previousPageFragmentKeys.get(previousPageFragmentKeys.size() - 1)));
+      }
+
+      final var pageContainer = PageContainer.getInstance(completePage, modifyingPage);
+      log.put(reference, pageContainer);
+      return pageContainer;
+    }
+
+    @Override
+    public <K, V, T extends KeyValuePage<K, V>> void prepareRecordPageForCommit(final PageContainer pageContainer,
+        final @Nonnegative int revToRestore, final PageReference reference) {
+      @SuppressWarnings("unchecked")
+      final T completePage = (T) pageContainer.getComplete();
+      @SuppressWarnings("unchecked")
+      final T modifiedPage = (T) pageContainer.getModified();
+
+      if (reference.getPageFragments().isEmpty() || completePage.size() == 0) {
+        // Already a full snapshot.
+        return;
+      }
+
+      final double changeRatio = (double) modifiedPage.size() / completePage.size();
+
+      if (changeRatio >= FULL_SNAPSHOT_CHANGE_RATIO || reference.getPageFragments().size() + 1 > revToRestore) {
+        addMissingRecords(completePage, modifiedPage);
+        reference.setPageFragments(List.of());
+      }
+    }
+
+    @Override
+    public int[] getRevisionRoots(final @Nonnegative int previousRevision, final @Nonnegative int revsToRestore) {
+      return INCREMENTAL.getRevisionRoots(previousRevision, revsToRestore);
+    }
+
+    private int getMaxNumberOfIncrementalFragments(final int revToRestore) {
+      return Math.max(2, revToRestore / 2);
+    }
+
+    private <K, V, T extends KeyValuePage<K, V>> void addMissingRecords(final T source, final T target) {
+      for (final Entry<K, V> entry : source.entrySet()) {
+        if (target.getPageReference(entry.getKey()) == null && target.getValue(entry.getKey()) == null) {
+          target.setRecord(entry.getKey(), entry.getValue());
+        }
+      }
+      for (final Entry<K, PageReference> entry : source.referenceEntrySet()) {
+        if (target.getPageReference(entry.getKey()) == null && target.getValue(entry.getKey()) == null) {
+          target.setPageReference(entry.getKey(), entry.getValue());
+        }
+      }
+    }
   };
 
   /**
@@ -521,6 +633,18 @@ public enum VersioningType {
       final List<T> pages, final @Nonnegative int revsToRestore, final PageReadOnlyTrx pageReadTrx,
       final PageReference reference, final TransactionIntentLog log);
 
+  /**
+   * Prepare a modified {@link KeyValuePage} for being written during a commit. By default, the page
+   * is written as prepared by {@link #combineRecordPagesForModification}.
+   *
+   * @param pageContainer the {@link PageContainer} holding the complete and the modified page
+   * @param revsToRestore the number of revisions needed to build the complete record page
+   * @param reference     the reference to the record page
+   */
+  public <K, V, T extends KeyValuePage<K, V>> void prepareRecordPageForCommit(final PageContainer pageContainer,
+      final @Nonnegative int revsToRestore, final PageReference reference) {
+  }
+
   /**
    * Get all revision root page numbers which are needed to restore a {@link KeyValuePage}.
    *
@@ -0,0 +1,75 @@
+package org.sirix.access;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class SirixExecutorsTest {
+
+  @Test
+  public void testSharedInstance() {
+    assertSame(SirixExecutors.getInstance(), SirixExecutors.getInstance());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testConfigureAfterFirstUse() {
+    SirixExecutors.getInstance();
+    SirixExecutors.configure(new SirixExecutors.Configuration(1, 2, 10));
+  }
+
+  @Test
+  public void testBackgroundTaskMetrics() throws InterruptedException, ExecutionException {
+    final var executors = SirixExecutors.getInstance();
+    final long completedTasks = executors.getBackgroundMetrics().completedTasks();
+
+    assertEquals(42, (int) executors.submit(() -> 42).get());
+
+    final var metrics = executors.getBackgroundMetrics();
+    assertTrue(metrics.submittedTasks() >= completedTasks + 1);
+    assertTrue(metrics.completedTasks() >= completedTasks + 1);
+    assertTrue(metrics.maxLatencyNanos() >= metrics.averageLatencyNanos());
+  }
+
+  @Test
+  public void testScheduledTaskIsCancelled() throws InterruptedException {
+    final var executors = SirixExecutors.getInstance();
+    final var latch = new CountDownLatch(3);
+
+    final var task = executors.scheduleWithFixedDelay(latch::countDown, 0, 1, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    task.cancel(false);
+    assertTrue(task.isCancelled());
+    assertTrue(executors.getSchedulerMetrics().completedTasks() >= 3);
+  }
+
+  @Test
+  public void testTaskAtFixedRateIsCancelled() throws InterruptedException {
+    final var executors = SirixExecutors.getInstance();
+    final long completedTasks = executors.getSchedulerMetrics().completedTasks();
+    final var latch = new CountDownLatch(3);
+
+    final var task = executors.scheduleAtFixedRate(latch::countDown, 0, 1, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    task.cancel(false);
+    assertTrue(task.isCancelled());
+    // The last execution might not be completed yet, but executions at a fixed rate never overlap.
+    assertTrue(executors.getSchedulerMetrics().completedTasks() >= completedTasks + 2);
+  }
+
+  @Test
+  public void testProducerTask() throws InterruptedException, ExecutionException {
+    final var latch = new CountDownLatch(1);
+
+    SirixExecutors.getInstance().submitProducer(latch::countDown).get();
+
+    assertEquals(0, latch.getCount());
+  }
+}
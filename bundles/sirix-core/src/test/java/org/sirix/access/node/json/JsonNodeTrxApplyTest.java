@@ -0,0 +1,102 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonMutation;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.exception.SirixUsageException;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class JsonNodeTrxApplyTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testApplyResultsInSameNodesAndHashesAsSingleMutations() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+
+      wtx.apply(List.of(new JsonMutation.SetStringValue(10, "sirix"),
+                        new JsonMutation.Remove(24),
+                        new JsonMutation.SetNumberValue(6, 42),
+                        new JsonMutation.SetObjectKeyName(2, "qux"),
+                        new JsonMutation.SetBooleanValue(12, false),
+                        new JsonMutation.SetStringValue(4, "baz"),
+                        new JsonMutation.SetStringValue(10, "json")));
+
+      assertEquals(3, wtx.getNodeKey());
+
+      wtx.commit();
+
+      wtx.revertTo(1);
+      wtx.moveTo(4);
+      wtx.setStringValue("baz");
+      wtx.moveTo(2);
+      wtx.setObjectKeyName("qux");
+      wtx.moveTo(6);
+      wtx.setNumberValue(42);
+      wtx.moveTo(10);
+      wtx.setStringValue("json");
+      wtx.moveTo(12);
+      wtx.setBooleanValue(false);
+      wtx.moveTo(24);
+      wtx.remove();
+      wtx.commit();
+
+      try (final var batchRtx = manager.beginNodeReadOnlyTrx(2);
+          final var singleRtx = manager.beginNodeReadOnlyTrx(3)) {
+        assertFalse(batchRtx.moveTo(24).hasMoved());
+        batchRtx.moveTo(10);
+        assertEquals("json", batchRtx.getValue());
+        batchRtx.moveTo(2);
+        assertEquals("qux", batchRtx.getName().getLocalName());
+
+        batchRtx.moveToDocumentRoot();
+        singleRtx.moveToDocumentRoot();
+
+        final var batchAxis = new DescendantAxis(batchRtx, IncludeSelf.YES);
+        final var singleAxis = new DescendantAxis(singleRtx, IncludeSelf.YES);
+
+        while (batchAxis.hasNext()) {
+          batchAxis.next();
+          singleAxis.next();
+          assertEquals(singleRtx.getNodeKey(), batchRtx.getNodeKey());
+          assertEquals(singleRtx.getHash(), batchRtx.getHash());
+          assertEquals(singleRtx.getDescendantCount(), batchRtx.getDescendantCount());
+        }
+
+        assertFalse(singleAxis.hasNext());
+      }
+    }
+  }
+
+  @Test(expected = SirixUsageException.class)
+  public void testApplyWithNonExistingNode() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.apply(List.of(new JsonMutation.SetStringValue(1_000, "foo")));
+    }
+  }
+}
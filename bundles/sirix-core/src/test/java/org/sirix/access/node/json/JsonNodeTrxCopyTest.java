@@ -0,0 +1,177 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.exception.SirixUsageException;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class JsonNodeTrxCopyTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCopyObjectAsRightSibling() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx();
+        final var wtx = manager.beginNodeTrx()) {
+      rtx.moveTo(8);
+      wtx.moveTo(4);
+      wtx.copySubtreeAsRightSibling(rtx);
+
+      assertEquals(26, wtx.getNodeKey());
+      assertEquals(8, rtx.getNodeKey());
+      wtx.commit();
+
+      // The same subtree inserted by the shredder must result in the same nodes and hashes.
+      wtx.revertTo(1);
+      wtx.moveTo(4);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"hello\":\"world\",\"helloo\":true}"),
+                                      JsonNodeTrx.Commit.No);
+      wtx.commit();
+
+      assertEquals("{\"foo\":[\"bar\",{\"hello\":\"world\",\"helloo\":true},null,2.33],\"bar\":{\"hello\":\"world\","
+                       + "\"helloo\":true},\"baz\":\"hello\",\"tada\":[{\"foo\":\"bar\"},{\"baz\":false},\"boo\",{},[]]}",
+                   serialize(manager, 2));
+
+      try (final var copyRtx = manager.beginNodeReadOnlyTrx(2);
+          final var shredderRtx = manager.beginNodeReadOnlyTrx(3)) {
+        final var copyAxis = new DescendantAxis(copyRtx, IncludeSelf.YES);
+        final var shredderAxis = new DescendantAxis(shredderRtx, IncludeSelf.YES);
+
+        while (shredderAxis.hasNext()) {
+          shredderAxis.next();
+          copyAxis.next();
+          assertEquals(shredderRtx.getNodeKey(), copyRtx.getNodeKey());
+          assertEquals(shredderRtx.getHash(), copyRtx.getHash());
+          assertEquals(shredderRtx.getDescendantCount(), copyRtx.getDescendantCount());
+        }
+
+        assertFalse(copyAxis.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void testCopyObjectRecordAsFirstChild() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx();
+        final var wtx = manager.beginNodeTrx()) {
+      rtx.moveTo(2);
+      wtx.moveTo(8);
+      wtx.copySubtreeAsFirstChild(rtx);
+      assertEquals("foo", wtx.getName().getLocalName());
+      wtx.commit();
+
+      assertEquals("{\"foo\":[\"bar\",null,2.33],\"bar\":{\"foo\":[\"bar\",null,2.33],\"hello\":\"world\","
+                       + "\"helloo\":true},\"baz\":\"hello\",\"tada\":[{\"foo\":\"bar\"},{\"baz\":false},\"boo\",{},[]]}",
+                   serialize(manager, 2));
+    }
+  }
+
+  @Test
+  public void testCopyDocumentAsLastChild() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx();
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(25);
+      wtx.copySubtreeAsLastChild(rtx);
+      wtx.moveToDocumentRoot();
+      assertEquals(50, wtx.getDescendantCount());
+      wtx.commit();
+
+      final var json = serialize(manager, 1);
+
+      assertEquals(json.substring(0, json.length() - 4) + "[" + json + "]]}", serialize(manager, 2));
+    }
+  }
+
+  @Test(expected = SirixUsageException.class)
+  public void testCopyObjectRecordIntoArray() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var rtx = manager.beginNodeReadOnlyTrx();
+        final var wtx = manager.beginNodeTrx()) {
+      rtx.moveTo(2);
+      wtx.moveTo(3);
+      wtx.copySubtreeAsFirstChild(rtx);
+    }
+  }
+
+  @Test
+  public void testCopyUncommittedSubtreeOfAnotherWriteTrx() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder("source").build());
+
+      try (final var sourceManager = database.openResourceManager("source");
+          final var sourceWtx = sourceManager.beginNodeTrx();
+          final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+          final var wtx = manager.beginNodeTrx()) {
+        sourceWtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,{\"a\":true}]"),
+                                            JsonNodeTrx.Commit.No);
+        sourceWtx.moveToDocumentRoot().trx().moveToFirstChild();
+        final long sourceNodeKey = sourceWtx.getNodeKey();
+
+        wtx.moveTo(25);
+        wtx.copySubtreeAsFirstChild(sourceWtx);
+        wtx.commit();
+
+        assertEquals(sourceNodeKey, sourceWtx.getNodeKey());
+        assertEquals("{\"foo\":[\"bar\",null,2.33],\"bar\":{\"hello\":\"world\",\"helloo\":true},\"baz\":\"hello\","
+                         + "\"tada\":[{\"foo\":\"bar\"},{\"baz\":false},\"boo\",{},[[1,{\"a\":true}]]]}",
+                     serialize(manager, 2));
+      }
+    }
+  }
+
+  @Test(expected = SirixUsageException.class)
+  public void testCopyFromItself() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+      wtx.copySubtreeAsRightSibling(wtx);
+    }
+  }
+
+  private static String serialize(final JsonResourceManager manager, final int revision) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(manager, writer, revision).build().call();
+    return writer.toString();
+  }
+}
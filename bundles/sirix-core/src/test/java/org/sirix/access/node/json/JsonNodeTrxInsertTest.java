@@ -9,8 +9,12 @@ import org.sirix.JsonTestHelper.PATHS;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.AfterCommitState;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.json.InternalJsonNodeTrx;
 import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
 import org.sirix.io.StorageType;
+import org.sirix.service.xml.shredder.InsertPosition;
 import org.sirix.service.json.serialize.JsonSerializer;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.settings.VersioningType;
@@ -23,6 +27,7 @@ import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public final class JsonNodeTrxInsertTest {
@@ -352,4 +357,97 @@ public final class JsonNodeTrxInsertTest {
       assertEquals("bar", wtx.getValue());
     }
   }
+
+  @Test
+  public void testInsertSubtreeResultsInSameHashesAsPostorderTraversal() {
+    JsonTestHelper.createTestDocument();
+
+    final var json = "{\"foo\":[true,{\"bar\":null,\"baz\":[1,2,{}]}],\"qux\":{\"a\":\"b\"},\"quux\":[]}";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = (InternalJsonNodeTrx) manager.beginNodeTrx()) {
+      wtx.moveTo(4);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader(json), JsonNodeTrx.Commit.No);
+      wtx.commit();
+
+      // Insert the same subtree and compute the hashes afterwards by traversing it in postorder.
+      wtx.revertTo(1);
+      wtx.setBulkInsertion(true);
+      wtx.moveTo(4);
+      new JsonShredder.Builder(wtx, JsonShredder.createStringReader(json), InsertPosition.AS_RIGHT_SIBLING).build()
+                                                                                                         .call();
+      wtx.moveTo(4);
+      wtx.moveToRightSibling();
+      wtx.adaptHashesInPostorderTraversal();
+      wtx.setBulkInsertion(false);
+      wtx.commit();
+
+      try (final var streamingRtx = manager.beginNodeReadOnlyTrx(2);
+           final var postorderRtx = manager.beginNodeReadOnlyTrx(3)) {
+        final var streamingAxis = new DescendantAxis(streamingRtx, IncludeSelf.YES);
+        final var postorderAxis = new DescendantAxis(postorderRtx, IncludeSelf.YES);
+
+        while (postorderAxis.hasNext()) {
+          postorderAxis.next();
+          streamingAxis.next();
+          assertEquals(postorderRtx.getNodeKey(), streamingRtx.getNodeKey());
+          assertEquals(postorderRtx.getHash(), streamingRtx.getHash());
+          assertEquals(postorderRtx.getDescendantCount(), streamingRtx.getDescendantCount());
+        }
+
+        assertFalse(streamingAxis.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void testInitialLoadResultsInSameResourceAsRegularInsert() {
+    final var json = "{\"foo\":[true,{\"bar\":null,\"baz\":[1,2,{}]}],\"qux\":{\"a\":\"b\"},\"quux\":[]}";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      for (final String resource : new String[] { "initialLoad", "regularInsert" }) {
+        database.createResource(ResourceConfiguration.newBuilder(resource).useDeweyIDs(true).storeDiffs(true).build());
+      }
+
+      // Bulk insert the subtree into the empty document of the first revision.
+      try (final var manager = database.openResourceManager("initialLoad"); final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json));
+      }
+
+      // Bulk insert the subtree into the second revision, which records the update operations.
+      try (final var manager = database.openResourceManager("regularInsert"); final var wtx = manager.beginNodeTrx()) {
+        wtx.commit();
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json));
+      }
+
+      try (final var initialLoadManager = database.openResourceManager("initialLoad");
+           final var regularInsertManager = database.openResourceManager("regularInsert");
+           final var initialLoadRtx = initialLoadManager.beginNodeReadOnlyTrx();
+           final var regularInsertRtx = regularInsertManager.beginNodeReadOnlyTrx()) {
+        final var initialLoadAxis = new DescendantAxis(initialLoadRtx, IncludeSelf.YES);
+        final var regularInsertAxis = new DescendantAxis(regularInsertRtx, IncludeSelf.YES);
+
+        while (regularInsertAxis.hasNext()) {
+          regularInsertAxis.next();
+          initialLoadAxis.next();
+          assertEquals(regularInsertRtx.getNodeKey(), initialLoadRtx.getNodeKey());
+          assertEquals(regularInsertRtx.getDeweyID(), initialLoadRtx.getDeweyID());
+          assertEquals(regularInsertRtx.getPathNodeKey(), initialLoadRtx.getPathNodeKey());
+          assertEquals(regularInsertRtx.getHash(), initialLoadRtx.getHash());
+          assertEquals(regularInsertRtx.getDescendantCount(), initialLoadRtx.getDescendantCount());
+          assertEquals(regularInsertRtx.getChildCount(), initialLoadRtx.getChildCount());
+        }
+
+        assertFalse(initialLoadAxis.hasNext());
+
+        final var initialLoadWriter = new StringWriter();
+        new JsonSerializer.Builder(initialLoadManager, initialLoadWriter).withMetaData(true).build().call();
+        final var regularInsertWriter = new StringWriter();
+        new JsonSerializer.Builder(regularInsertManager, regularInsertWriter).withMetaData(true).build().call();
+
+        assertEquals(regularInsertWriter.toString(), initialLoadWriter.toString());
+      }
+    }
+  }
 }
@@ -0,0 +1,117 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.NullValue;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class JsonNodeTrxLazyHashingTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testLazyHashingResultsInSameHashesAsEagerHashing() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      final long descendantCount = modify(wtx);
+      wtx.commit();
+
+      wtx.revertTo(1);
+      wtx.setLazyHashing(true);
+
+      // Reading the descendant count through the transaction applies the deferred changes.
+      assertEquals(descendantCount, modify(wtx));
+      wtx.commit();
+
+      try (final var eagerRtx = manager.beginNodeReadOnlyTrx(2);
+          final var lazyRtx = manager.beginNodeReadOnlyTrx(3)) {
+        assertSameNodes(eagerRtx, lazyRtx);
+      }
+    }
+  }
+
+  @Test
+  public void testRollbackDiscardsDeferredChanges() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.setLazyHashing(true);
+      modify(wtx);
+      wtx.rollback();
+
+      wtx.moveTo(4);
+      wtx.setStringValue("baz");
+      wtx.commit();
+
+      wtx.revertTo(1);
+      wtx.setLazyHashing(false);
+      wtx.moveTo(4);
+      wtx.setStringValue("baz");
+      wtx.commit();
+
+      try (final var lazyRtx = manager.beginNodeReadOnlyTrx(2);
+          final var eagerRtx = manager.beginNodeReadOnlyTrx(3)) {
+        assertSameNodes(eagerRtx, lazyRtx);
+      }
+    }
+  }
+
+  private static long modify(final JsonNodeTrx wtx) {
+    wtx.moveTo(4);
+    wtx.setStringValue("baz");
+    wtx.insertNumberValueAsRightSibling(1);
+    wtx.insertObjectAsRightSibling();
+    wtx.insertObjectRecordAsFirstChild("qux", new StringValue("quux"));
+    wtx.moveTo(3);
+    wtx.insertSubtreeAsLastChild(JsonShredder.createStringReader("{\"foo\":[true,{\"bar\":null}]}"),
+                                 JsonNodeTrx.Commit.No);
+    wtx.moveTo(12);
+    wtx.setBooleanValue(false);
+    wtx.moveTo(20);
+    wtx.remove();
+    wtx.moveTo(7);
+    wtx.setObjectKeyName("baz");
+    wtx.moveTo(1);
+    wtx.insertObjectRecordAsLastChild("last", new NullValue());
+    wtx.moveTo(1);
+    return wtx.getDescendantCount();
+  }
+
+  private static void assertSameNodes(final JsonNodeReadOnlyTrx expectedRtx, final JsonNodeReadOnlyTrx actualRtx) {
+    final var expectedAxis = new DescendantAxis(expectedRtx, IncludeSelf.YES);
+    final var actualAxis = new DescendantAxis(actualRtx, IncludeSelf.YES);
+
+    while (expectedAxis.hasNext()) {
+      expectedAxis.next();
+      actualAxis.next();
+      assertEquals(expectedRtx.getNodeKey(), actualRtx.getNodeKey());
+      assertEquals(expectedRtx.getHash(), actualRtx.getHash());
+      assertEquals(expectedRtx.getDescendantCount(), actualRtx.getDescendantCount());
+    }
+
+    assertFalse(actualAxis.hasNext());
+  }
+}
@@ -0,0 +1,154 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonNodeTrx.RemoveSubtree;
+import org.sirix.cache.NodeIndexKey;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class JsonNodeTrxMoveToChildAtIndexTest {
+
+  private static final int NUMBER_OF_ELEMENTS = 200;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToChildAtIndexInSmallArray() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      // The array of object key "foo".
+      rtx.moveTo(3);
+
+      assertTrue(rtx.moveToChildAtIndex(2).hasMoved());
+      assertEquals(2.33, rtx.getNumberValue().doubleValue(), 0);
+
+      rtx.moveTo(3);
+      assertFalse(rtx.moveToChildAtIndex(3).hasMoved());
+      assertEquals(3, rtx.getNodeKey());
+    }
+  }
+
+  @Test
+  public void testMoveToChildAtIndexInLargeArray() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray()));
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertElements(rtx, IntStream.range(0, NUMBER_OF_ELEMENTS).toArray());
+
+        rtx.moveTo(1);
+        assertFalse(rtx.moveToChildAtIndex(NUMBER_OF_ELEMENTS).hasMoved());
+        assertEquals(1, rtx.getNodeKey());
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        assertElements(wtx, IntStream.range(0, NUMBER_OF_ELEMENTS).toArray());
+
+        // Replace element 100 with 1000 and remove element 10.
+        wtx.moveTo(1);
+        wtx.moveToChildAtIndex(99);
+        wtx.insertNumberValueAsRightSibling(1000);
+        wtx.moveTo(1);
+        wtx.moveToChildAtIndex(101);
+        wtx.remove();
+        wtx.moveTo(1);
+        wtx.moveToChildAtIndex(10);
+        wtx.remove();
+
+        assertElements(wtx, expectedAfterUpdate());
+
+        wtx.commit();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertElements(rtx, expectedAfterUpdate());
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        assertElements(rtx, IntStream.range(0, NUMBER_OF_ELEMENTS).toArray());
+      }
+    }
+  }
+
+  @Test
+  public void testIndexOfArrayInRemovedSubtreeIsNotShared() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      for (final RemoveSubtree removeSubtree : RemoveSubtree.values()) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          if (!wtx.moveToFirstChild().hasMoved()) {
+            wtx.insertArrayAsFirstChild();
+          }
+
+          // [{"a":[0, ..., 199]}, ...]
+          wtx.moveTo(1);
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"a\":" + createArray() + "}"),
+                                        JsonNodeTrx.Commit.No);
+          final long objectKey = wtx.getNodeKey();
+          wtx.moveToFirstChild();
+          wtx.moveToFirstChild();
+          final long arrayKey = wtx.getNodeKey();
+
+          // Builds the positional index of the nested array.
+          assertTrue(wtx.moveToChildAtIndex(5).hasMoved());
+
+          wtx.moveTo(objectKey);
+          wtx.remove(removeSubtree);
+
+          final int revision = wtx.getRevisionNumber();
+          wtx.commit();
+
+          assertNull(manager.getArrayPositionIndexCache().get(new NodeIndexKey(arrayKey, revision)));
+        }
+      }
+    }
+  }
+
+  private static int[] expectedAfterUpdate() {
+    return IntStream.range(0, NUMBER_OF_ELEMENTS)
+                    .map(i -> i == 100 ? 1000 : i)
+                    .filter(i -> i != 10)
+                    .toArray();
+  }
+
+  private static void assertElements(final JsonNodeReadOnlyTrx rtx, final int[] expected) {
+    for (int i = expected.length - 1; i >= 0; i--) {
+      rtx.moveTo(1);
+      assertTrue(rtx.moveToChildAtIndex(i).hasMoved());
+      assertEquals(expected[i], rtx.getNumberValue().intValue());
+    }
+
+    rtx.moveTo(1);
+    assertEquals(expected.length, rtx.getChildCount());
+  }
+
+  private static String createArray() {
+    return IntStream.range(0, NUMBER_OF_ELEMENTS).mapToObj(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+  }
+}
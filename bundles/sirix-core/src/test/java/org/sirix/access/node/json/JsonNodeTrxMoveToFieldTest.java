@@ -0,0 +1,119 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.NumberValue;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JsonNodeTrxMoveToFieldTest {
+
+  private static final int NUMBER_OF_FIELDS = 200;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testMoveToFieldInSmallObject() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      rtx.moveTo(1);
+
+      assertTrue(rtx.moveToField("baz").hasMoved());
+      assertEquals("baz", rtx.getName().getLocalName());
+
+      rtx.moveTo(1);
+      assertFalse(rtx.moveToField("qux").hasMoved());
+      assertEquals(1, rtx.getNodeKey());
+    }
+  }
+
+  @Test
+  public void testMoveToFieldInWideObject() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createObject()));
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        for (int i = 0; i < NUMBER_OF_FIELDS; i++) {
+          assertField(rtx, "field" + i, i);
+        }
+
+        rtx.moveTo(1);
+        assertFalse(rtx.moveToField("qux").hasMoved());
+        assertEquals(1, rtx.getNodeKey());
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        assertField(wtx, "field10", 10);
+
+        // Rename field 10, remove field 20 and add field 1000.
+        wtx.setObjectKeyName("renamed");
+        wtx.moveTo(1);
+        wtx.moveToField("field20");
+        wtx.remove();
+        wtx.moveTo(1);
+        wtx.insertObjectRecordAsLastChild("field1000", new NumberValue(1000));
+
+        assertUpdatedFields(wtx);
+
+        wtx.commit();
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertUpdatedFields(rtx);
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        assertField(rtx, "field10", 10);
+        assertField(rtx, "field20", 20);
+      }
+    }
+  }
+
+  private static void assertUpdatedFields(final JsonNodeReadOnlyTrx rtx) {
+    assertField(rtx, "renamed", 10);
+    assertField(rtx, "field1000", 1000);
+    assertField(rtx, "field199", 199);
+
+    rtx.moveTo(1);
+    assertFalse(rtx.moveToField("field10").hasMoved());
+    assertFalse(rtx.moveToField("field20").hasMoved());
+  }
+
+  private static void assertField(final JsonNodeReadOnlyTrx rtx, final String name, final int value) {
+    rtx.moveTo(1);
+    assertTrue(rtx.moveToField(name).hasMoved());
+    assertEquals(name, rtx.getName().getLocalName());
+    rtx.moveToFirstChild();
+    assertEquals(value, rtx.getNumberValue().intValue());
+    rtx.moveToParent();
+  }
+
+  private static String createObject() {
+    return IntStream.range(0, NUMBER_OF_FIELDS)
+                    .mapToObj(i -> "\"field" + i + "\":" + i)
+                    .collect(Collectors.joining(",", "{", "}"));
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.settings.Fixed;
 
 import static org.junit.Assert.assertEquals;
@@ -63,6 +64,46 @@ public class JsonNodeTrxRemoveTest {
     assertFalse(rtx.hasLeftSibling());
   }
 
+  @Test
+  public void removeObjectKeyDeferred() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(2);
+
+      wtx.remove(JsonNodeTrx.RemoveSubtree.Deferred);
+
+      // The subtree root is unlinked immediately.
+      wtx.moveTo(1);
+      assertEquals(3, wtx.getChildCount());
+      assertEquals(19, wtx.getDescendantCount());
+      assertEquals(7, wtx.getFirstChildKey());
+
+      wtx.commit();
+
+      assertsForRemoveObjectKeyAsFirstChild(wtx);
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        assertsForRemoveObjectKeyAsFirstChild(rtx);
+      }
+
+      // Removing the subtree immediately results in the same hashes.
+      wtx.revertTo(1);
+      wtx.moveTo(2);
+      wtx.remove();
+      wtx.commit();
+
+      try (final var deferredRtx = manager.beginNodeReadOnlyTrx(2);
+          final var immediateRtx = manager.beginNodeReadOnlyTrx(3)) {
+        deferredRtx.moveTo(1);
+        immediateRtx.moveTo(1);
+        assertEquals(immediateRtx.getHash(), deferredRtx.getHash());
+      }
+    }
+  }
+
   @Test
   public void removeObjectKeyAsLastChild() {
     JsonTestHelper.createTestDocument();
@@ -5,6 +5,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
 import org.sirix.api.Axis;
 import org.sirix.axis.DescendantAxis;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -44,6 +45,29 @@ public class PathSummaryTest {
     }
   }
 
+  @Test
+  public void testSharedPathSummaryOfRevision() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveTo(8);
+        wtx.insertObjectRecordAsFirstChild("newKey", new StringValue("value"));
+        wtx.commit();
+      }
+
+      try (final var firstPathSummary = manager.openPathSummary(1);
+          final var secondPathSummary = manager.openPathSummary(1);
+          final var pathSummaryOfSecondRevision = manager.openPathSummary(2)) {
+        assertNotNull(firstPathSummary.getPathNodeForPathNodeKey(1));
+        assertSame(firstPathSummary.getPathNodeForPathNodeKey(1), secondPathSummary.getPathNodeForPathNodeKey(1));
+        assertEquals(firstPathSummary.match(new QNm("foo"), 0), secondPathSummary.match(new QNm("foo"), 0));
+        assertTrue(secondPathSummary.match(new QNm("newKey"), 0).isEmpty());
+        assertFalse(pathSummaryOfSecondRevision.match(new QNm("newKey"), 0).isEmpty());
+        testInsertHelper(secondPathSummary);
+      }
+    }
+  }
+
   private void testInsertHelper(final PathSummaryReader summaryReader) {
     final var axis = new DescendantAxis(summaryReader);
     PathSummaryReader summary = next(axis);
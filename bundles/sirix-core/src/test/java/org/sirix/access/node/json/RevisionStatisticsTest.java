@@ -0,0 +1,83 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.node.NodeKind;
+import org.sirix.page.RevisionStatistics;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RevisionStatisticsTest {
+
+  private static final String RESOURCE = "statistics";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testStatisticsAreMaintainedAcrossRevisions() {
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storeStatistics(true).build());
+
+      try (final var manager = database.openResourceManager(RESOURCE); final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":\"bar\",\"baz\":[1,\"qux\"]}"));
+
+        final RevisionStatistics first = manager.getRevisionStatistics(1).orElseThrow();
+        assertEquals(1, first.getNodeCount(NodeKind.JSON_DOCUMENT));
+        assertEquals(1, first.getNodeCount(NodeKind.OBJECT));
+        assertEquals(2, first.getNodeCount(NodeKind.OBJECT_KEY));
+        assertEquals(1, first.getNodeCount(NodeKind.OBJECT_STRING_VALUE));
+        assertEquals(1, first.getNodeCount(NodeKind.ARRAY));
+        assertEquals(1, first.getNodeCount(NodeKind.NUMBER_VALUE));
+        assertEquals(1, first.getNodeCount(NodeKind.STRING_VALUE));
+        assertEquals(8, first.getNodeCount());
+        assertEquals(6, first.getTotalValueBytes());
+        assertFalse(first.getPathNodeReferences().isEmpty());
+
+        // Remove the "baz" object key including the array.
+        wtx.moveTo(2);
+        wtx.moveToRightSibling();
+        wtx.remove();
+        wtx.commit();
+
+        final RevisionStatistics second = manager.getRevisionStatistics(2).orElseThrow();
+        assertEquals(1, second.getNodeCount(NodeKind.OBJECT_KEY));
+        assertEquals(0, second.getNodeCount(NodeKind.ARRAY));
+        assertEquals(0, second.getNodeCount(NodeKind.STRING_VALUE));
+        assertEquals(4, second.getNodeCount());
+        assertEquals(3, second.getTotalValueBytes());
+
+        // The statistics of older revisions are not changed.
+        final var statistics = manager.getRevisionStatistics(1, 2);
+        assertEquals(2, statistics.size());
+        assertEquals(8, statistics.get(1).getNodeCount());
+        assertEquals(4, statistics.get(2).getNodeCount());
+      }
+    }
+  }
+
+  @Test
+  public void testStatisticsAreDisabledByDefault() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      assertTrue(manager.getRevisionStatistics(1).isEmpty());
+      assertTrue(manager.getRevisionStatistics(0, 1).isEmpty());
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.index.IndexType;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.settings.VersioningType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordPageCompactorTest {
+
+  private static final String RESOURCE = "compaction";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCompactionReducesPageFragments() {
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE)
+                                                   .versioningApproach(VersioningType.INCREMENTAL)
+                                                   .revisionsToRestore(8)
+                                                   .build());
+
+      try (final var manager = database.openResourceManager(RESOURCE)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":\"bar\",\"baz\":[1,2,3]}"));
+
+          for (int i = 0; i < 5; i++) {
+            wtx.moveTo(2);
+            wtx.setObjectKeyName("foo" + i);
+            wtx.commit();
+          }
+        }
+
+        final int mostRecentRevision = manager.getMostRecentRevisionNumber();
+        final var result = new RecordPageCompactor(manager, 2).compact(IndexType.DOCUMENT, -1);
+
+        assertEquals(mostRecentRevision + 1, result.revision());
+        assertEquals(1, result.numberOfConsolidatedPages());
+        assertTrue(result.averagePageFragmentsBefore() > 1);
+        assertEquals(1, result.averagePageFragmentsAfter(), 0);
+
+        // Nothing has to be consolidated anymore, thus no revision is committed.
+        final var secondResult = new RecordPageCompactor(manager, 2).compact(IndexType.DOCUMENT, -1);
+        assertEquals(result.revision(), secondResult.revision());
+        assertEquals(0, secondResult.numberOfConsolidatedPages());
+        assertEquals(1, secondResult.averagePageFragmentsBefore(), 0);
+
+        // The consolidated and the former revisions are readable.
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          rtx.moveTo(2);
+          assertEquals("foo4", rtx.getName().getLocalName());
+          rtx.moveToRightSibling();
+          assertEquals("baz", rtx.getName().getLocalName());
+          assertEquals(manager.getMostRecentRevisionNumber(), rtx.getRevisionNumber());
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx(2)) {
+          rtx.moveTo(2);
+          assertEquals("foo0", rtx.getName().getLocalName());
+        }
+
+        // Subsequent changes are based on the consolidated page.
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.moveTo(2);
+          wtx.setObjectKeyName("qux");
+          wtx.commit();
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          rtx.moveTo(2);
+          assertEquals("qux", rtx.getName().getLocalName());
+          rtx.moveToRightSibling();
+          assertEquals("baz", rtx.getName().getLocalName());
+        }
+      }
+    }
+  }
+}
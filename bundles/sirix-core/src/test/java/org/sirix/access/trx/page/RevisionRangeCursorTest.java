@@ -0,0 +1,102 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.index.IndexType;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class RevisionRangeCursorTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testRecordsMatchSingleRevisionReads() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveTo(2);
+        wtx.setObjectKeyName("foobar");
+        wtx.commit();
+        wtx.moveTo(1);
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"new\":true}"));
+      }
+
+      final int mostRecentRevision = manager.getMostRecentRevisionNumber();
+
+      try (final var cursor = new RevisionRangeCursor(manager, 1, mostRecentRevision)) {
+        do {
+          try (final var pageTrx = manager.beginPageReadOnlyTrx(cursor.getRevisionNumber())) {
+            for (long nodeKey = 0; nodeKey <= pageTrx.getActualRevisionRootPage().getMaxNodeKeyInDocumentIndex();
+                 nodeKey++) {
+              final Optional<DataRecord> expected = pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1);
+              final Optional<DataRecord> actual = cursor.getRecord(nodeKey, IndexType.DOCUMENT, -1);
+
+              assertEquals(expected.isPresent(), actual.isPresent());
+              expected.ifPresent(record -> assertEquals(((ImmutableNode) record).getHash(),
+                                                        ((ImmutableNode) actual.get()).getHash()));
+            }
+          }
+        } while (cursor.hasNextRevision() && cursor.moveToNextRevision() > 0);
+
+        assertEquals(mostRecentRevision, cursor.getRevisionNumber());
+      }
+    }
+  }
+
+  @Test
+  public void testUnchangedPageIsReused() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = manager.beginNodeTrx()) {
+        // Only changes the revision root page, not the document index.
+        wtx.commit("empty commit");
+      }
+
+      try (final var cursor = new RevisionRangeCursor(manager, 1, 2)) {
+        final var page = cursor.getRecordPage(0, IndexType.DOCUMENT, -1);
+        assertTrue(page.isPresent());
+
+        cursor.moveToNextRevision();
+
+        assertSame(page.get(), cursor.getRecordPage(0, IndexType.DOCUMENT, -1).orElseThrow());
+        assertFalse(cursor.hasNextRevision());
+      }
+    }
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testMoveBeyondRange() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+         final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var cursor = new RevisionRangeCursor(manager, 1, 1)) {
+      cursor.moveToNextRevision();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.sirix.index.field;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ObjectFieldDirectoryTest {
+
+  @Test
+  public void testPutGetAndRemove() {
+    final var random = new Random(42);
+    final var directory = new ObjectFieldDirectory();
+    final Map<String, Long> expected = new HashMap<>();
+
+    for (long nodeKey = 0; nodeKey < 50_000; nodeKey++) {
+      final String name = "field" + random.nextInt(2_000);
+      final Long existingNodeKey = expected.remove(name);
+
+      if (existingNodeKey == null) {
+        directory.put(name, nodeKey);
+        expected.put(name, nodeKey);
+      } else {
+        assertTrue(directory.remove(name, existingNodeKey));
+      }
+    }
+
+    assertEquals(expected.size(), directory.size());
+
+    for (int i = 0; i < 2_000; i++) {
+      final String name = "field" + i;
+      assertEquals((long) expected.getOrDefault(name, ObjectFieldDirectory.NOT_FOUND), directory.getNodeKey(name));
+    }
+  }
+
+  @Test
+  public void testCollidingHashCodes() {
+    final var directory = new ObjectFieldDirectory();
+
+    // "Aa" and "BB" have the same hash code.
+    directory.put("Aa", 1);
+    directory.put("BB", 2);
+
+    assertEquals(1, directory.getNodeKey("Aa"));
+    assertEquals(2, directory.getNodeKey("BB"));
+
+    assertFalse(directory.remove("Aa", 2));
+    assertTrue(directory.remove("Aa", 1));
+    assertEquals(ObjectFieldDirectory.NOT_FOUND, directory.getNodeKey("Aa"));
+    assertEquals(2, directory.getNodeKey("BB"));
+  }
+
+  @Test
+  public void testDuplicateNames() {
+    final var directory = new ObjectFieldDirectory();
+
+    directory.put("foo", 1);
+    directory.put("foo", 2);
+
+    assertEquals(ObjectFieldDirectory.AMBIGUOUS, directory.getNodeKey("foo"));
+
+    directory.remove("foo", 1);
+
+    assertEquals(2, directory.getNodeKey("foo"));
+  }
+}
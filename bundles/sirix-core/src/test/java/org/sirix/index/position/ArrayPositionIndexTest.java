@@ -0,0 +1,110 @@
+package org.sirix.index.position;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public final class ArrayPositionIndexTest {
+
+  @Test
+  public void testAppendAndGet() {
+    final var index = new ArrayPositionIndex();
+
+    for (long nodeKey = 0; nodeKey < 5_000; nodeKey++) {
+      index.append(nodeKey);
+    }
+
+    assertEquals(5_000, index.size());
+
+    for (int position = 0; position < 5_000; position++) {
+      assertEquals(position, index.getNodeKey(position));
+    }
+
+    assertEquals(4_321, index.indexOf(4_321));
+    assertEquals(-1, index.indexOf(5_000));
+  }
+
+  @Test
+  public void testRandomInsertsAndRemovals() {
+    final var random = new Random(42);
+    final var index = new ArrayPositionIndex();
+    final List<Long> expected = new ArrayList<>();
+
+    for (long nodeKey = 0; nodeKey < 20_000; nodeKey++) {
+      if (!expected.isEmpty() && random.nextInt(4) == 0) {
+        final int position = random.nextInt(expected.size());
+        assertEquals((long) expected.remove(position), index.remove(position));
+      } else {
+        final int position = random.nextInt(expected.size() + 1);
+        expected.add(position, nodeKey);
+        index.insert(position, nodeKey);
+      }
+    }
+
+    assertEquals(expected.size(), index.size());
+
+    for (int position = 0; position < expected.size(); position++) {
+      assertEquals((long) expected.get(position), index.getNodeKey(position));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      final int position = random.nextInt(expected.size());
+      assertEquals(position, index.indexOf(expected.get(position)));
+    }
+  }
+
+  @Test
+  public void testIndexOfAfterInsertsAndRemovals() {
+    final var random = new Random(7);
+    final var index = new ArrayPositionIndex();
+    final List<Long> expected = new ArrayList<>();
+    final List<Long> removed = new ArrayList<>();
+
+    for (long nodeKey = 0; nodeKey < 10_000; nodeKey++) {
+      if (!expected.isEmpty() && random.nextInt(3) == 0) {
+        final int position = random.nextInt(expected.size());
+        removed.add(index.remove(position));
+        expected.remove(position);
+      } else {
+        final int position = random.nextInt(expected.size() + 1);
+        expected.add(position, nodeKey);
+        index.insert(position, nodeKey);
+      }
+    }
+
+    for (int position = 0; position < expected.size(); position++) {
+      assertEquals(position, index.indexOf(expected.get(position)));
+    }
+
+    for (final long nodeKey : removed) {
+      assertEquals(-1, index.indexOf(nodeKey));
+    }
+  }
+
+  @Test
+  public void testRemoveAll() {
+    final var index = new ArrayPositionIndex();
+
+    for (long nodeKey = 0; nodeKey < 3_000; nodeKey++) {
+      index.append(nodeKey);
+    }
+
+    for (int i = 0; i < 3_000; i++) {
+      assertEquals(i, index.remove(0));
+    }
+
+    assertEquals(0, index.size());
+
+    index.append(1);
+    assertEquals(1, index.getNodeKey(0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfRange() {
+    new ArrayPositionIndex().append(1).getNodeKey(1);
+  }
+}
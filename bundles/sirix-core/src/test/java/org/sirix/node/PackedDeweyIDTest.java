@@ -0,0 +1,125 @@
+package org.sirix.node;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PackedDeweyIDTest {
+
+  private static final int[] BOUNDARY_VALUES =
+      { 0, 1, 127, 128, 16511, 16512, 2113663, 2113664, 270549119, 270549120, Integer.MAX_VALUE };
+
+  @Test
+  public void testRoundTrip() {
+    for (final int value : BOUNDARY_VALUES) {
+      final var deweyID = new SirixDeweyID(new int[] { 1, 17, value, 3 });
+      final byte[] packed = PackedDeweyID.pack(deweyID);
+
+      assertEquals(deweyID, PackedDeweyID.unpack(packed));
+      assertEquals(deweyID.getLevel(), PackedDeweyID.unpack(packed).getLevel());
+    }
+
+    assertEquals(0, PackedDeweyID.pack(SirixDeweyID.newRootID()).length);
+    assertEquals(SirixDeweyID.newRootID(), PackedDeweyID.unpack(new byte[0]));
+  }
+
+  @Test
+  public void testCompareAndAncestorship() {
+    final List<SirixDeweyID> deweyIDs = new ArrayList<>();
+    deweyIDs.add(SirixDeweyID.newRootID());
+    for (final int value : BOUNDARY_VALUES) {
+      deweyIDs.add(new SirixDeweyID(new int[] { 1, value }));
+      deweyIDs.add(new SirixDeweyID(new int[] { 1, value, 3 }));
+      deweyIDs.add(new SirixDeweyID(new int[] { 1, value, 2, 5 }));
+      deweyIDs.add(new SirixDeweyID(new int[] { 1, 3, value }));
+    }
+
+    for (final var deweyID : deweyIDs) {
+      for (final var otherDeweyID : deweyIDs) {
+        final byte[] packed = PackedDeweyID.pack(deweyID);
+        final byte[] otherPacked = PackedDeweyID.pack(otherDeweyID);
+
+        assertEquals(Integer.signum(deweyID.compareTo(otherDeweyID)),
+                     Integer.signum(PackedDeweyID.compare(packed, otherPacked)));
+        assertEquals(deweyID.isAncestorOf(otherDeweyID), PackedDeweyID.isAncestorOf(packed, otherPacked));
+        assertEquals(deweyID.isAncestorOrSelfOf(otherDeweyID),
+                     PackedDeweyID.isAncestorOrSelfOf(packed, otherPacked));
+      }
+    }
+  }
+
+  @Test
+  public void testAncestorship() {
+    final byte[] parent = PackedDeweyID.pack(new SirixDeweyID("1.3"));
+    final byte[] child = PackedDeweyID.pack(new SirixDeweyID("1.3.5"));
+
+    assertTrue(PackedDeweyID.isAncestorOf(parent, child));
+    assertFalse(PackedDeweyID.isAncestorOf(child, parent));
+    assertFalse(PackedDeweyID.isAncestorOf(parent, parent));
+    assertTrue(PackedDeweyID.isAncestorOrSelfOf(parent, parent));
+  }
+
+  @Test
+  public void testBatchSort() {
+    for (final boolean direct : new boolean[] { false, true }) {
+      final var random = new Random(42);
+      final List<SirixDeweyID> deweyIDs = new ArrayList<>();
+      for (int i = 0; i < 5000; i++) {
+        final int[] divisionValues = new int[2 + random.nextInt(8)];
+        divisionValues[0] = 1;
+        for (int j = 1; j < divisionValues.length; j++) {
+          divisionValues[j] = BOUNDARY_VALUES[random.nextInt(BOUNDARY_VALUES.length)];
+        }
+        deweyIDs.add(new SirixDeweyID(divisionValues));
+      }
+
+      // Start with a small batch, such that the buffers have to grow.
+      final var batch = new PackedDeweyIDBatch(0, direct);
+      for (final var deweyID : deweyIDs) {
+        batch.add(deweyID);
+      }
+      batch.sort();
+
+      final List<SirixDeweyID> sortedDeweyIDs = new ArrayList<>(deweyIDs);
+      Collections.sort(sortedDeweyIDs);
+
+      assertEquals(deweyIDs.size(), batch.size());
+      for (int i = 0; i < batch.size(); i++) {
+        final int index = batch.indexAt(i);
+        assertEquals(sortedDeweyIDs.get(i), batch.getDeweyID(index));
+        assertArrayEquals(PackedDeweyID.pack(sortedDeweyIDs.get(i)), batch.get(index));
+      }
+    }
+  }
+
+  @Test
+  public void testBatchIsStable() {
+    final var batch = new PackedDeweyIDBatch(4, false);
+    final byte[] packed = PackedDeweyID.pack(new SirixDeweyID("1.3.5"));
+    batch.add(packed);
+    batch.add(new SirixDeweyID("1.3"));
+    batch.add(Arrays.copyOf(packed, packed.length));
+    batch.sort();
+
+    assertEquals(1, batch.indexAt(0));
+    assertEquals(0, batch.indexAt(1));
+    assertEquals(2, batch.indexAt(2));
+    assertEquals(0, batch.compare(0, 2));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBatchNotSorted() {
+    final var batch = new PackedDeweyIDBatch(1, true);
+    batch.add(new SirixDeweyID("1.3"));
+    batch.indexAt(0);
+  }
+}
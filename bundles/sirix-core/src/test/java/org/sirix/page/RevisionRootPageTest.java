@@ -0,0 +1,76 @@
+package org.sirix.page;
+
+import org.junit.Test;
+import org.sirix.access.User;
+import org.sirix.node.NodeKind;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class RevisionRootPageTest {
+
+  private static final User USER = new User("johannes", UUID.fromString("5a4c3d60-5f0f-4d6b-9d4c-1b6e3f0a2c11"));
+
+  @Test
+  public void testDeserializePageWithoutStatisticsFlag() throws IOException {
+    final var page = new RevisionRootPage();
+
+    // The layout of revision root pages written before statistics have been introduced: a boolean
+    // instead of the flags, which indicates if the user is stored, followed by the user.
+    final var out = new ByteArrayOutputStream();
+    final var dataOut = new DataOutputStream(out);
+    page.delegate().serialize(dataOut, SerializationType.DATA);
+    dataOut.writeInt(0);
+    dataOut.writeLong(-1L);
+    dataOut.writeLong(-1L);
+    dataOut.writeLong(-1L);
+    dataOut.writeLong(42L);
+    dataOut.writeBoolean(false);
+    dataOut.writeByte(1);
+    dataOut.writeByte(1);
+    dataOut.writeByte(1);
+    dataOut.writeBoolean(true);
+    dataOut.writeUTF(USER.getName());
+    dataOut.writeUTF(USER.getId().toString());
+
+    final var deserializedPage = deserialize(out.toByteArray());
+
+    assertEquals(0, deserializedPage.getRevision());
+    assertEquals(USER, deserializedPage.getUser().orElseThrow());
+    assertTrue(deserializedPage.getStatistics().isEmpty());
+  }
+
+  @Test
+  public void testSerializeStatistics() throws IOException {
+    final var statistics = new RevisionStatistics();
+    statistics.adaptNodeCount(NodeKind.OBJECT, 3);
+    statistics.adaptTotalValueBytes(10);
+    statistics.setPathNodeReferences(1, 3);
+
+    final var page = new RevisionRootPage();
+    page.setUser(USER);
+    page.setStatistics(statistics);
+
+    final var out = new ByteArrayOutputStream();
+    page.serialize(new DataOutputStream(out), SerializationType.DATA);
+
+    final var deserializedPage = deserialize(out.toByteArray());
+    final var deserializedStatistics = deserializedPage.getStatistics().orElseThrow();
+
+    assertEquals(USER, deserializedPage.getUser().orElseThrow());
+    assertEquals(3, deserializedStatistics.getNodeCount(NodeKind.OBJECT));
+    assertEquals(10, deserializedStatistics.getTotalValueBytes());
+    assertEquals(3, deserializedStatistics.getPathNodeReferences(1));
+  }
+
+  private static RevisionRootPage deserialize(final byte[] bytes) throws IOException {
+    return new RevisionRootPage(new DataInputStream(new ByteArrayInputStream(bytes)), SerializationType.DATA);
+  }
+}
@@ -0,0 +1,261 @@
+package org.sirix.service.json.serialize;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.utils.JsonDocumentCreator;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public final class JsonByteSerializerTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testJsonDocument() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).bufferSize(64).build().call();
+      assertEquals(JsonDocumentCreator.JSON, out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testJsonDocumentToChannel() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, Channels.newChannel(out)).bufferSize(64).build().call();
+      assertEquals(JsonDocumentCreator.JSON, out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testJsonDocumentPrettyPrinted() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).prettyPrint().build().call();
+      final var expected = Files.readString(JSON.resolve("pretty-printed-test-doc.json"), StandardCharsets.UTF_8);
+      assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testJsonDocumentWithMetadata() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).withMetaData(true).build().call();
+
+      final var writer = new StringWriter();
+      new JsonSerializer.Builder(manager, writer).withMetaData(true).build().call();
+
+      assertEquals(writer.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testMultipleRevisionsJsonDocument() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out, 1, 2).build().call();
+
+      final var expected = Files.readString(JSON.resolve("multiple-revisions.json"), StandardCharsets.UTF_8);
+      JSONAssert.assertEquals(expected, out.toString(StandardCharsets.UTF_8), true);
+    }
+  }
+
+  @Test
+  public void testJsonDocumentWithMetadataAndPrettyPrintingAndObjectKeyStartNodeKeyAndMaxLevel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).withMetaData(true)
+                                                  .startNodeKey(15)
+                                                  .maxLevel(2)
+                                                  .prettyPrint()
+                                                  .build()
+                                                  .call();
+
+      final var expected =
+          Files.readString(JSON.resolve("test-withmetadata-withprettyprinting-withstartnodekey-withmaxlevel2.json"),
+                           StandardCharsets.UTF_8);
+      assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testJsonDocumentWithNodeKeyMetadataAndPrettyPrintingAndObjectKeyStartNodeKeyAndMaxLevel()
+      throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).withNodeKeyAndChildCountMetaData(true)
+                                                  .startNodeKey(15)
+                                                  .maxLevel(3)
+                                                  .prettyPrint()
+                                                  .build()
+                                                  .call();
+
+      final var expected = Files.readString(JSON.resolve(
+          "test-withnodekeyandchildcountmetadata-withprettyprinting-withstartnodekey-withmaxlevel.json"),
+                                            StandardCharsets.UTF_8);
+      assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testEscapedStringValues() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertArrayAsFirstChild();
+      wtx.insertStringValueAsFirstChild("a\"b\\c/d\n\t\u0001\u007F\u0085 é€😀");
+      wtx.insertNumberValueAsRightSibling(-42);
+      wtx.insertNumberValueAsRightSibling(1.5);
+      wtx.commit();
+
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).bufferSize(64).build().call();
+
+      final var writer = new StringWriter();
+      new JsonSerializer.Builder(manager, writer).build().call();
+
+      assertEquals(writer.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testParallelSerializationEqualsSequentialSerialization() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      for (final boolean withMetaData : new boolean[] { false, true }) {
+        for (final long startNodeKey : new long[] { 0, 3, 15 }) {
+          final var sequential = new ByteArrayOutputStream();
+          new JsonByteSerializer.Builder(manager, sequential, 1, 2).withMetaData(withMetaData)
+                                                                   .startNodeKey(startNodeKey)
+                                                                   .prettyPrint()
+                                                                   .build()
+                                                                   .call();
+
+          final var parallel = new ByteArrayOutputStream();
+          new JsonByteSerializer.Builder(manager, parallel, 1, 2).withMetaData(withMetaData)
+                                                                 .startNodeKey(startNodeKey)
+                                                                 .prettyPrint()
+                                                                 .parallelism(4)
+                                                                 .partitionThreshold(2)
+                                                                 .build()
+                                                                 .call();
+
+          assertEquals(sequential.toString(StandardCharsets.UTF_8), parallel.toString(StandardCharsets.UTF_8));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParallelSerializationWithMaxLevel() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonByteSerializer.Builder(manager, out).maxLevel(2).parallelism(2).partitionThreshold(2).build().call();
+
+      final var writer = new StringWriter();
+      new JsonSerializer.Builder(manager, writer).maxLevel(2).build().call();
+
+      assertEquals(writer.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testProjection() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      assertEquals("{\"bar\":{\"hello\":\"world\"}}", serializeProjection(manager, 0, "/bar/hello"));
+      assertEquals("{\"foo\":[\"bar\",null,2.33]}", serializeProjection(manager, 0, "/foo/[]"));
+      assertEquals("{\"baz\":\"hello\",\"tada\":[{\"foo\":\"bar\"},{},{}]}",
+                   serializeProjection(manager, 0, "/tada/[]/foo", "/baz"));
+      assertEquals("{\"foo\":[\"bar\",null,2.33],\"tada\":[{\"foo\":\"bar\"},{},{}]}",
+                   serializeProjection(manager, 0, "//foo"));
+      assertEquals("{}", serializeProjection(manager, 0, "/unknown"));
+    }
+  }
+
+  @Test
+  public void testProjectionOfStartNode() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      assertEquals("{\"tada\":[{\"foo\":\"bar\"},{},{}]}", serializeProjection(manager, 15, "/tada/[]/foo"));
+      assertEquals("{\"tada\":[{\"foo\":\"bar\"},{\"baz\":false},\"boo\",{},[]]}",
+                   serializeProjection(manager, 15, "/tada"));
+    }
+  }
+
+  private static String serializeProjection(final JsonResourceManager manager, final long startNodeKey,
+      final String... paths) {
+    final var out = new ByteArrayOutputStream();
+    new JsonByteSerializer.Builder(manager, out).startNodeKey(startNodeKey)
+                                                .projection(JsonProjection.of(paths))
+                                                .build()
+                                                .call();
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,223 @@
+package org.sirix.service.json.serialize;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.utils.JsonDocumentCreator;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class JsonCborSerializerTest {
+
+  private static final String CBOR_RESOURCE = "cbor";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testEncoding() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(
+          "{\"a\":1,\"b\":[true,null,\"x\",-500,2.5,1.0E40,18446744073709551616]}"));
+
+      final var out = new ByteArrayOutputStream();
+      new JsonCborSerializer.Builder(manager, out).build().call();
+
+      // {"a": 1, "b": [true, null, "x", -500, 4([-1, 25]), 1e40, 2(h'010000000000000000')]}
+      assertArrayEquals(bytes(0xA2, 0x61, 'a', 0x01, 0x61, 'b', 0x87, 0xF5, 0xF6, 0x61, 'x', 0x39, 0x01, 0xF3, 0xC4,
+                              0x82, 0x20, 0x18, 0x19, 0xFB, 0x48, 0x3D, 0x63, 0x29, 0xF1, 0xC3, 0x5C, 0xA5, 0xC2, 0x49,
+                              0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00),
+                        out.toByteArray());
+    }
+  }
+
+  @Test
+  public void testEncodingWithoutChildCounts() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder("withoutChildCounts").storeChildCount(false).build());
+
+    try (final var manager = database.openResourceManager("withoutChildCounts");
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"a\":1,\"b\":[true,null],\"c\":{}}"));
+
+      final var out = new ByteArrayOutputStream();
+      new JsonCborSerializer.Builder(manager, out).build().call();
+
+      // {_ "a": 1, "b": [_ true, null], "c": {}}
+      assertArrayEquals(bytes(0xBF, 0x61, 'a', 0x01, 0x61, 'b', 0x9F, 0xF5, 0xF6, 0xFF, 0x61, 'c', 0xA0, 0xFF),
+                        out.toByteArray());
+    }
+  }
+
+  @Test
+  public void testRoundTripWithoutChildCounts() throws Exception {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder("withoutChildCounts").storeChildCount(false).build());
+
+    try (final var manager = database.openResourceManager("withoutChildCounts");
+         final var wtx = manager.beginNodeTrx()) {
+      JsonDocumentCreator.create(wtx);
+      wtx.commit();
+
+      for (final boolean withMetaData : new boolean[] { false, true }) {
+        final var out = new ByteArrayOutputStream();
+        new JsonCborSerializer.Builder(manager, out).withNodeKeyMetaData(withMetaData).build().call();
+
+        final var writer = new StringWriter();
+        new JsonSerializer.Builder(manager, writer).withNodeKeyMetaData(withMetaData).build().call();
+
+        JSONAssert.assertEquals(writer.toString(), shredAndSerialize(database, out.toByteArray()), true);
+      }
+    }
+  }
+
+  @Test
+  public void testRecords() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[{\"a\":1},{\"b\":2},3]"));
+
+      final var out = new ByteArrayOutputStream();
+      final var serializer = new JsonCborSerializer.Builder(manager, out).numberOfRecords(2).build();
+      serializer.call();
+
+      // [_ {"a": 1}, {"b": 2}]
+      assertArrayEquals(bytes(0x9F, 0xA1, 0x61, 'a', 0x01, 0xA1, 0x61, 'b', 0x02, 0xFF), out.toByteArray());
+      assertEquals(5, serializer.getNextCursor().getLastTopLevelNodeKey());
+
+      final var nextOut = new ByteArrayOutputStream();
+      final var nextSerializer = new JsonCborSerializer.Builder(manager, nextOut).numberOfRecords(2)
+                                                                                 .cursor(serializer.getNextCursor())
+                                                                                 .build();
+      nextSerializer.call();
+
+      // [_ 3]
+      assertArrayEquals(bytes(0x9F, 0x03, 0xFF), nextOut.toByteArray());
+      assertNull(nextSerializer.getNextCursor());
+    }
+  }
+
+  @Test
+  public void testRecordsOfObject() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"a\":1,\"b\":[true]}"));
+
+      final var out = new ByteArrayOutputStream();
+      new JsonCborSerializer.Builder(manager, out).numberOfRecords(1).lastTopLevelNodeKey(2).build().call();
+
+      // {_ "b": [true]}
+      assertArrayEquals(bytes(0xBF, 0x61, 'b', 0x81, 0xF5, 0xFF), out.toByteArray());
+    }
+  }
+
+  @Test
+  public void testRoundTrip() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final var out = new ByteArrayOutputStream();
+      new JsonCborSerializer.Builder(manager, out).bufferSize(64).build().call();
+
+      assertEquals(JsonDocumentCreator.JSON, shredAndSerialize(database, out.toByteArray()));
+    }
+  }
+
+  @Test
+  public void testRoundTripWithMetaDataAndMultipleRevisions() throws Exception {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot().trx().moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      for (final long maxLevel : new long[] { -1, 2 }) {
+        final var out = new ByteArrayOutputStream();
+        new JsonCborSerializer.Builder(manager, out, 1, 2).withMetaData(true).maxLevel(maxLevel).build().call();
+
+        final var writer = new StringWriter();
+        new JsonSerializer.Builder(manager, writer, 1, 2).withMetaData(true).maxLevel(maxLevel).build().call();
+
+        JSONAssert.assertEquals(writer.toString(), shredAndSerialize(database, out.toByteArray()), true);
+      }
+    }
+  }
+
+  @Test
+  public void testRoundTripWithObjectKeyStartNodeKeyAndNodeKeyMetaData() throws Exception {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      for (final boolean withNodeKey : new boolean[] { false, true }) {
+        final var out = new ByteArrayOutputStream();
+        new JsonCborSerializer.Builder(manager, out).startNodeKey(15)
+                                                    .withNodeKeyAndChildCountMetaData(withNodeKey)
+                                                    .build()
+                                                    .call();
+
+        final var writer = new StringWriter();
+        new JsonSerializer.Builder(manager, writer).startNodeKey(15)
+                                                   .withNodeKeyAndChildCountMetaData(withNodeKey)
+                                                   .build()
+                                                   .call();
+
+        JSONAssert.assertEquals(writer.toString(), shredAndSerialize(database, out.toByteArray()), true);
+      }
+    }
+  }
+
+  /**
+   * Shred the CBOR output into a new resource and serialize it as JSON.
+   */
+  private static String shredAndSerialize(final Database<JsonResourceManager> database, final byte[] cbor) {
+    database.removeResource(CBOR_RESOURCE);
+    database.createResource(ResourceConfiguration.newBuilder(CBOR_RESOURCE).build());
+
+    try (final var manager = database.openResourceManager(CBOR_RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createCborReader(new ByteArrayInputStream(cbor)));
+
+      final var writer = new StringWriter();
+      new JsonSerializer.Builder(manager, writer).build().call();
+      return writer.toString();
+    }
+  }
+
+  private static byte[] bytes(final int... values) {
+    final var bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+}
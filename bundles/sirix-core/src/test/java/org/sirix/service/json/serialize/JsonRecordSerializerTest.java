@@ -14,8 +14,14 @@ import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class JsonRecordSerializerTest {
 
@@ -113,6 +119,73 @@ public final class JsonRecordSerializerTest {
     }
   }
 
+  @Test
+  public void serializeObjectWithCursor() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var resmgr = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = resmgr.beginNodeReadOnlyTrx()) {
+      var stringWriter = new StringWriter();
+      var jsonRecordSerializer = new JsonRecordSerializer.Builder(resmgr, 2, stringWriter).readOnlyTrx(rtx).build();
+      jsonRecordSerializer.call();
+
+      assertEquals("""
+              {"foo":["bar",null,2.33],"bar":{"hello":"world","helloo":true}}
+          """.strip(), stringWriter.toString());
+
+      final var cursor = JsonRecordCursor.fromToken(jsonRecordSerializer.getNextCursor().toToken());
+      assertEquals(new JsonRecordCursor(rtx.getRevisionNumber(), 7), cursor);
+
+      stringWriter = new StringWriter();
+      jsonRecordSerializer =
+          new JsonRecordSerializer.Builder(resmgr, 2, stringWriter).readOnlyTrx(rtx).cursor(cursor).build();
+      jsonRecordSerializer.call();
+
+      assertEquals("""
+              {"baz":"hello","tada":[{"foo":"bar"},{"baz":false},"boo",{},[]]}
+          """.strip(), stringWriter.toString());
+      assertNull(jsonRecordSerializer.getNextCursor());
+      assertFalse(rtx.isClosed());
+    }
+  }
+
+  @Test
+  public void serializeWithMalformedCursor() {
+    assertThrows(IllegalArgumentException.class, () -> JsonRecordCursor.fromToken("foo"));
+    assertThrows(IllegalArgumentException.class, () -> JsonRecordCursor.fromToken("#"));
+  }
+
+  @Test
+  public void cacheTransactionsOfCursors() {
+    JsonTestHelper.createTestDocument();
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var resmgr = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var cache = new JsonRecordCursorCache(1, Duration.ofMinutes(1))) {
+      final var firstRtx = resmgr.beginNodeReadOnlyTrx();
+      final var firstEntry = new JsonRecordCursorCache.Entry(firstRtx, null);
+      cache.put("first", firstEntry);
+
+      assertSame(firstEntry, cache.take("first"));
+      assertNull(cache.take("first"));
+      assertFalse(firstRtx.isClosed());
+
+      cache.put("first", firstEntry);
+      final var secondRtx = resmgr.beginNodeReadOnlyTrx();
+      cache.put("second", new JsonRecordCursorCache.Entry(secondRtx, null));
+
+      // One of the transactions has been evicted and closed.
+      assertEquals(1, cache.size());
+      assertTrue(firstRtx.isClosed() != secondRtx.isClosed());
+
+      cache.invalidate(key -> true);
+      assertEquals(0, cache.size());
+      assertTrue(firstRtx.isClosed());
+      assertTrue(secondRtx.isClosed());
+    }
+  }
+
   @Test
   public void serializeObjectWithMaxLevel() {
     JsonTestHelper.createTestDocument();
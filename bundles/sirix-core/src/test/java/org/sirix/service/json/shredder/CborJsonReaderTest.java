@@ -0,0 +1,106 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class CborJsonReaderTest {
+
+  @Test
+  public void testDefiniteLengths() throws IOException {
+    // {"a": 1, "b": [2, 3]}
+    try (final var reader = reader(0xA2, 0x61, 'a', 0x01, 0x61, 'b', 0x82, 0x02, 0x03)) {
+      assertEquals("BEGIN_OBJECT NAME:a NUMBER:1 NAME:b BEGIN_ARRAY NUMBER:2 NUMBER:3 END_ARRAY END_OBJECT ",
+                   tokens(reader));
+    }
+  }
+
+  @Test
+  public void testIndefiniteLengths() throws IOException {
+    // {_ "a": 1, "b": [_ 2, 3], (_ "x", "y"): {}}
+    try (final var reader = reader(0xBF, 0x61, 'a', 0x01, 0x61, 'b', 0x9F, 0x02, 0x03, 0xFF, 0x7F, 0x61, 'x', 0x61,
+                                   'y', 0xFF, 0xA0, 0xFF)) {
+      assertEquals("BEGIN_OBJECT NAME:a NUMBER:1 NAME:b BEGIN_ARRAY NUMBER:2 NUMBER:3 END_ARRAY NAME:xy BEGIN_OBJECT "
+                       + "END_OBJECT END_OBJECT ", tokens(reader));
+    }
+  }
+
+  @Test
+  public void testScalars() throws IOException {
+    // [-1000, 1.5 (half), 100000.0 (single), 1.1, 2(h'010000000000000000'), 3(h'010000000000000000'),
+    // 4([-2, 27315]), h'0102', false, true, null, undefined, 32("https://sirix.io")]
+    try (final var reader = reader(0x8D, 0x39, 0x03, 0xE7, 0xF9, 0x3E, 0x00, 0xFA, 0x47, 0xC3, 0x50, 0x00, 0xFB, 0x3F,
+                                   0xF1, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9A, 0xC2, 0x49, 0x01, 0x00, 0x00, 0x00, 0x00,
+                                   0x00, 0x00, 0x00, 0x00, 0xC3, 0x49, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+                                   0x00, 0xC4, 0x82, 0x21, 0x19, 0x6A, 0xB3, 0x42, 0x01, 0x02, 0xF4, 0xF5, 0xF6, 0xF7,
+                                   0xD8, 0x20, 0x70, 'h', 't', 't', 'p', 's', ':', '/', '/', 's', 'i', 'r', 'i', 'x',
+                                   '.', 'i', 'o')) {
+      assertEquals("BEGIN_ARRAY NUMBER:-1000 NUMBER:1.5 NUMBER:100000.0 NUMBER:1.1 NUMBER:18446744073709551616 "
+                       + "NUMBER:-18446744073709551617 NUMBER:273.15 STRING:AQI= BOOLEAN:false BOOLEAN:true NULL NULL "
+                       + "STRING:https://sirix.io END_ARRAY ", tokens(reader));
+    }
+  }
+
+  @Test
+  public void testSkipValueAndSequenceOfDataItems() throws IOException {
+    // {"foo": [1, {"bar": 2}], "baz": 3} "next"
+    try (final var reader = reader(0xA2, 0x63, 'f', 'o', 'o', 0x82, 0x01, 0xA1, 0x63, 'b', 'a', 'r', 0x02, 0x63, 'b',
+                                   'a', 'z', 0x03, 0x64, 'n', 'e', 'x', 't')) {
+      reader.beginObject();
+      assertEquals("foo", reader.nextName());
+      reader.skipValue();
+      assertEquals("baz", reader.nextName());
+      assertEquals(3, reader.nextInt());
+      reader.endObject();
+      assertEquals("next", reader.nextString());
+      assertFalse(reader.hasNext());
+      assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+  }
+
+  @Test(expected = EOFException.class)
+  public void testTruncatedInput() throws IOException {
+    try (final var reader = reader(0x82, 0x01)) {
+      tokens(reader);
+    }
+  }
+
+  private static JsonReader reader(final int... values) {
+    final var bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return new CborJsonReader(new ByteArrayInputStream(bytes));
+  }
+
+  private static String tokens(final JsonReader reader) throws IOException {
+    final var tokens = new StringBuilder();
+
+    for (JsonToken token = reader.peek(); token != JsonToken.END_DOCUMENT; token = reader.peek()) {
+      tokens.append(token);
+
+      switch (token) {
+        case BEGIN_ARRAY -> reader.beginArray();
+        case END_ARRAY -> reader.endArray();
+        case BEGIN_OBJECT -> reader.beginObject();
+        case END_OBJECT -> reader.endObject();
+        case NAME -> tokens.append(':').append(reader.nextName());
+        case STRING, NUMBER -> tokens.append(':').append(reader.nextString());
+        case BOOLEAN -> tokens.append(':').append(reader.nextBoolean());
+        case NULL -> reader.nextNull();
+        default -> throw new AssertionError();
+      }
+
+      tokens.append(' ');
+    }
+
+    return tokens.toString();
+  }
+}
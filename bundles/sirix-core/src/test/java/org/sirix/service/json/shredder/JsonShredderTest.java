@@ -109,6 +109,16 @@ public final class JsonShredderTest {
     test("reddit-all.json");
   }
 
+  @Test
+  public void testRedditAllPipelined() throws IOException {
+    test("reddit-all.json", true);
+  }
+
+  @Test
+  public void testLinuxPipelined() throws IOException {
+    test("linux.json", true);
+  }
+
   @Test
   public void testArray() throws IOException {
     test("array.json");
@@ -386,13 +396,19 @@ public final class JsonShredderTest {
   }
 
   private void test(String jsonFile) throws IOException {
+    test(jsonFile, false);
+  }
+
+  private void test(String jsonFile, boolean pipelined) throws IOException {
     final var jsonPath = JSON.resolve(jsonFile);
     final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
     try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
          final var trx = manager.beginNodeTrx();
          final Writer writer = new StringWriter()) {
+      final var reader =
+          pipelined ? JsonShredder.createPipelinedFileReader(jsonPath) : JsonShredder.createFileReader(jsonPath);
       final var shredder = new JsonShredder.Builder(trx,
-                                                    JsonShredder.createFileReader(jsonPath),
+                                                    reader,
                                                     InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
       shredder.call();
       final var serializer = new JsonSerializer.Builder(manager, writer).build();
@@ -0,0 +1,101 @@
+package org.sirix.service.json.shredder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.exception.SirixUsageException;
+import org.sirix.service.json.serialize.JsonSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public final class NdJsonShredderTest {
+
+  private static final String RECORDS = """
+      {"id":1,"tags":["a","b"]}
+      {"id":2,"nested":{"foo":null}}
+
+      [true,false]
+      "text"
+      4.5
+      """;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCommitAfterRecords() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).build());
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      final long records = new NdJsonShredder.Builder(wtx, toInputStream(RECORDS)).commitAfterRecords(2).build().call();
+
+      assertEquals(5, records);
+      assertEquals(3, manager.getMostRecentRevisionNumber());
+      assertEquals("[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"nested\":{\"foo\":null}}]", serialize(manager, 1));
+      assertEquals("[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"nested\":{\"foo\":null}},[true,false],\"text\",4.5]",
+                   serialize(manager, 3));
+    }
+  }
+
+  @Test
+  public void testAppendToExistingArray() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+
+      final long records =
+          new NdJsonShredder.Builder(wtx, toInputStream("{\"baz\":1}\n2\n")).commitAfterwards().build().call();
+
+      assertEquals(2, records);
+      assertEquals(2, manager.getMostRecentRevisionNumber());
+      assertEquals(3, wtx.getNodeKey());
+      assertEquals(5, wtx.getChildCount());
+      assertEquals(7, wtx.getDescendantCount());
+    }
+  }
+
+  @Test(expected = SirixUsageException.class)
+  public void testAppendToNonArray() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(8);
+      new NdJsonShredder.Builder(wtx, toInputStream("{\"baz\":1}\n")).build().call();
+    }
+  }
+
+  private static InputStream toInputStream(final String records) {
+    return new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String serialize(final JsonResourceManager manager, final int revision) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(manager, writer, revision).build().call();
+    return writer.toString();
+  }
+}
@@ -0,0 +1,132 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PipelinedJsonReaderTest {
+
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Test
+  public void testSameTokensAsUnderlyingReader() throws IOException {
+    final var json = Files.readString(JSON.resolve("reddit-all.json"));
+
+    for (final int batchSize : new int[] { 1, 3, PipelinedJsonReader.DEFAULT_BATCH_SIZE }) {
+      try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader(json), batchSize, 2)) {
+        assertEquals(tokens(JsonShredder.createStringReader(json)), tokens(reader));
+      }
+    }
+  }
+
+  @Test
+  public void testSkipValue() throws IOException {
+    try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader(
+        "{\"foo\":[1,{\"bar\":2}],\"baz\":3}"), 2, 1)) {
+      reader.beginObject();
+      assertEquals("foo", reader.nextName());
+      reader.skipValue();
+      assertEquals("baz", reader.nextName());
+      assertEquals(3, reader.nextInt());
+      reader.endObject();
+      assertFalse(reader.hasNext());
+      assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+  }
+
+  @Test
+  public void testPath() throws IOException {
+    try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader(
+        "{\"foo\":[1,{\"bar\":2}],\"baz\":3}"), 2, 1)) {
+      assertEquals("$", reader.getPath());
+      reader.beginObject();
+      assertEquals("foo", reader.nextName());
+      reader.beginArray();
+      reader.nextInt();
+      reader.beginObject();
+      assertEquals("$.foo[1].", reader.getPath());
+      assertEquals("bar", reader.nextName());
+      assertEquals("$.foo[1].bar", reader.getPath());
+      reader.nextInt();
+      reader.endObject();
+      assertEquals("$.foo[2]", reader.getPath());
+      reader.endArray();
+      assertEquals("$.foo", reader.getPath());
+      assertEquals("baz", reader.nextName());
+      reader.skipValue();
+      assertEquals("$.baz", reader.getPath());
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testMalformedInput() throws IOException {
+    try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader("{\"foo\":[1,2"))) {
+      tokens(reader);
+    }
+  }
+
+  @Test
+  public void testFailureIsThrownOnEveryRead() throws IOException {
+    try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader("{\"foo\":[1,2"))) {
+      assertThrows(IOException.class, () -> tokens(reader));
+      assertThrows(IOException.class, reader::peek);
+      assertThrows(IOException.class, reader::hasNext);
+      assertThrows(IOException.class, reader::endArray);
+    }
+  }
+
+  @Test
+  public void testCloseReleasesProducer() throws Exception {
+    final var reader = new PipelinedJsonReader(JsonShredder.createStringReader("[1,2,3,4,5,6,7,8]"), 1, 1);
+    reader.beginArray();
+    reader.close();
+
+    final var producer = PipelinedJsonReader.class.getDeclaredField("producer");
+    producer.setAccessible(true);
+    final var future = (Future<?>) producer.get(reader);
+
+    try {
+      future.get(5, TimeUnit.SECONDS);
+    } catch (final CancellationException ignored) {
+      // The producer has been cancelled while waiting.
+    }
+    assertTrue(future.isDone());
+  }
+
+  private static String tokens(final JsonReader reader) throws IOException {
+    final var tokens = new StringBuilder();
+
+    for (JsonToken token = reader.peek(); token != JsonToken.END_DOCUMENT; token = reader.peek()) {
+      tokens.append(token).append(' ');
+
+      switch (token) {
+        case BEGIN_ARRAY -> reader.beginArray();
+        case END_ARRAY -> reader.endArray();
+        case BEGIN_OBJECT -> reader.beginObject();
+        case END_OBJECT -> reader.endObject();
+        case NAME -> tokens.append(reader.nextName());
+        case STRING, NUMBER -> tokens.append(reader.nextString());
+        case BOOLEAN -> tokens.append(reader.nextBoolean());
+        case NULL -> reader.nextNull();
+        default -> throw new AssertionError();
+      }
+
+      tokens.append(' ').append(reader.getPath()).append('\n');
+    }
+
+    return tokens.toString();
+  }
+}
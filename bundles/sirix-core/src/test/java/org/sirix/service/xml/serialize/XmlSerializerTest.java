@@ -190,4 +190,41 @@ public class XmlSerializerTest {
       assertEquals(XmlDocumentCreator.VERSIONEDXML, out.toString(Constants.DEFAULT_ENCODING.toString()));
     }
   }
+
+  @Test
+  public void testParallelSerializer() throws Exception {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final XmlNodeTrx wtx = manager.beginNodeTrx();
+        final ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        final ByteArrayOutputStream parallel = new ByteArrayOutputStream()) {
+      XmlDocumentCreator.createVersioned(wtx);
+      wtx.commit();
+
+      new XmlSerializerBuilder(manager, sequential, 1, 2, 3).emitIDs()
+                                                            .prettyPrint()
+                                                            .serializeTimestamp(false)
+                                                            .build()
+                                                            .call();
+      new XmlSerializerBuilder(manager, parallel, 1, 2, 3).emitIDs()
+                                                          .prettyPrint()
+                                                          .serializeTimestamp(false)
+                                                          .parallelism(4)
+                                                          .partitionThreshold(2)
+                                                          .build()
+                                                          .call();
+      assertEquals(sequential.toString(), parallel.toString());
+
+      sequential.reset();
+      parallel.reset();
+
+      new XmlSerializerBuilder(manager, sequential).startNodeKey(1).build().call();
+      new XmlSerializerBuilder(manager, parallel).startNodeKey(1)
+                                                 .parallelism(2)
+                                                 .partitionThreshold(2)
+                                                 .build()
+                                                 .call();
+      assertEquals(sequential.toString(), parallel.toString());
+    }
+  }
 }
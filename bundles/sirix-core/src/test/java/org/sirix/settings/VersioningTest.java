@@ -22,6 +22,7 @@
 package org.sirix.settings;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
@@ -33,10 +34,13 @@ import org.sirix.access.Databases;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.Database;
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.index.IndexType;
+import org.sirix.page.PageReference;
 
 /** Test revisioning. */
 public class VersioningTest {
@@ -166,6 +170,76 @@ public class VersioningTest {
     test2();
   }
 
+  @Test
+  public void testAdaptive() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.ADAPTIVE)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test();
+  }
+
+  @Test
+  public void testAdaptive1() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.ADAPTIVE)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test1();
+  }
+
+  @Test
+  public void testAdaptive2() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.ADAPTIVE)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(3)
+                                                                 .build());
+    test2();
+  }
+
+  @Test
+  public void testAdaptiveBoundsPageFragments() throws SirixException {
+    database.createResource(
+        new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.ADAPTIVE)
+                                                                 .hashKind(HashType.NONE)
+                                                                 .revisionsToRestore(4)
+                                                                 .build());
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+      try (final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+        for (int i = 0; i < 10; i++) {
+          wtx.insertElementAsFirstChild(new QNm("foo"));
+        }
+        wtx.commit();
+
+        // Hot page: a single record changes in each revision.
+        for (int i = 0; i < 10; i++) {
+          wtx.moveTo(1);
+          wtx.setName(new QNm("bar" + i));
+          wtx.commit();
+        }
+      }
+
+      for (int revision = 1; revision <= manager.getMostRecentRevisionNumber(); revision++) {
+        try (final PageReadOnlyTrx pageTrx = manager.beginPageReadOnlyTrx(revision);
+             final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          final PageReference reference = pageTrx.getReferenceToLeafOfSubtree(
+              pageTrx.getActualRevisionRootPage().getIndirectDocumentIndexPageReference(), 0, -1, IndexType.DOCUMENT);
+          assertTrue(reference.getPageFragments().size() + 1 <= 4);
+
+          assertTrue(rtx.moveTo(1).hasMoved());
+          assertEquals(revision == 1 ? "foo" : "bar" + (revision - 2), rtx.getName().getLocalName());
+          for (int i = 0; i < 9; i++) {
+            assertTrue(rtx.moveToFirstChild().hasMoved());
+          }
+          assertFalse(rtx.moveToFirstChild().hasMoved());
+        }
+      }
+    }
+  }
+
   /**
    * Test revisioning.
    *
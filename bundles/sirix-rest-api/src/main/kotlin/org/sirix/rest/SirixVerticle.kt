@@ -31,6 +31,7 @@ import org.apache.http.HttpStatus
 import org.sirix.rest.crud.*
 import org.sirix.rest.crud.json.JsonCreate
 import org.sirix.rest.crud.json.JsonHead
+import org.sirix.rest.crud.json.JsonStreamingInsert
 import org.sirix.rest.crud.json.JsonUpdate
 import org.sirix.rest.crud.xml.XmlCreate
 import org.sirix.rest.crud.xml.XmlHead
@@ -261,6 +262,15 @@ class SirixVerticle : CoroutineVerticle() {
             }.handler(BodyHandler.create()).coroutineHandler {
                 XmlUpdate(location).handle(it)
             }
+        post("/:database/:resource")
+            .consumes("application/x-ndjson")
+            .produces("application/json")
+            .coroutineHandler {
+                Auth(keycloak, AuthRole.MODIFY).handle(it)
+                it.next()
+            }.coroutineHandler {
+                JsonStreamingInsert(location).handle(it)
+            }
         post("/:database/:resource")
             .consumes("application/json")
             .produces("application/json")
@@ -270,6 +280,15 @@ class SirixVerticle : CoroutineVerticle() {
             }.handler(BodyHandler.create()).coroutineHandler {
                 JsonUpdate(location).handle(it)
             }
+        post("/:database/:resource")
+            .consumes("application/cbor")
+            .produces("application/json")
+            .coroutineHandler {
+                Auth(keycloak, AuthRole.MODIFY).handle(it)
+                it.next()
+            }.handler(BodyHandler.create()).coroutineHandler {
+                JsonUpdate(location).handle(it)
+            }
 
         post("/:database/:resource")
             .coroutineHandler {
@@ -298,6 +317,12 @@ class SirixVerticle : CoroutineVerticle() {
         }.coroutineHandler {
             JsonCreate(location, false).handle(it)
         }
+        put("/:database/:resource").consumes("application/cbor").coroutineHandler {
+            Auth(keycloak, AuthRole.CREATE).handle(it)
+            it.next()
+        }.coroutineHandler {
+            JsonCreate(location, false).handle(it)
+        }
 
         delete("/:database/:resource").coroutineHandler {
             Auth(keycloak, AuthRole.DELETE).handle(it)
@@ -16,6 +16,7 @@ import org.sirix.api.json.JsonResourceManager
 import org.sirix.exception.SirixUsageException
 import org.sirix.rest.crud.json.JsonGet
 import org.sirix.rest.crud.xml.XmlGet
+import org.sirix.service.json.serialize.JsonCborSerializer
 import org.sirix.service.json.serialize.StringValue
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
@@ -133,6 +134,7 @@ class GetHandler(private val location: Path, private val keycloak: OAuth2Auth) {
                 @Suppress("IMPLICIT_CAST_TO_ANY")
                 when {
                     contains("application/json") -> JsonGet(location, keycloak).handle(ctx)
+                    contains(JsonCborSerializer.MEDIA_TYPE) -> JsonGet(location, keycloak).handle(ctx)
                     contains("application/xml") -> XmlGet(location, keycloak).handle(ctx)
                     else -> JsonGet(location, keycloak).handle(ctx)
                 }
@@ -3,6 +3,7 @@ package org.sirix.rest.crud.json
 import io.vertx.core.Context
 import io.vertx.core.Promise
 import io.vertx.core.file.OpenOptions
+import io.vertx.core.http.HttpHeaders
 import io.vertx.core.file.impl.FileResolver
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -20,6 +21,7 @@ import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.rest.crud.SirixDBUser
+import org.sirix.service.json.serialize.JsonCborSerializer
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import org.sirix.utils.LogWrapper
@@ -156,7 +158,9 @@ class JsonCreate(
 
                 manager.use {
                     val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
+                    val isCbor = ctx.request().getHeader(HttpHeaders.CONTENT_TYPE)
+                        ?.startsWith(JsonCborSerializer.MEDIA_TYPE) ?: false
+                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath(), isCbor)
 
                     ctx.vertx().fileSystem().deleteAwait(pathToFile.toAbsolutePath().toString())
 
@@ -224,19 +228,26 @@ class JsonCreate(
         LOGGER.debug("Create resource: ${resConfig}")
         if (!database.createResource(resConfig)) {
             LOGGER.debug("Remove resource: ${resConfig}")
+            // The transactions of paginated GET requests keep the resource open.
+            JsonGet.invalidateCursors(database.name, resPathName)
             database.removeResource(resPathName)
             LOGGER.debug("Create resource: ${resConfig}")
             database.createResource(resConfig)
+            JsonGet.invalidateQueries(database.name, resPathName)
         }
     }
 
     private fun insertJsonSubtreeAsFirstChild(
         manager: JsonResourceManager,
-        resFileToStore: Path
+        resFileToStore: Path,
+        isCbor: Boolean = false
     ): Long {
         val wtx = manager.beginNodeTrx()
         return wtx.use {
-            val eventReader = JsonShredder.createFileReader(resFileToStore)
+            val eventReader = if (isCbor)
+                JsonShredder.createCborFileReader(resFileToStore)
+            else
+                JsonShredder.createFileReader(resFileToStore)
             eventReader.use {
                 wtx.insertSubtreeAsFirstChild(eventReader)
             }
@@ -20,12 +20,20 @@ class JsonDelete(location: Path) : AbstractDeleteHandler(location) {
         val resource: String? = ctx.pathParam("resource")
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
+        if (nodeId == null) {
+            JsonGet.invalidateCursors(databaseName, resource)
+        }
+
         if (databaseName == null) {
             dropDatabasesOfType(ctx, DatabaseType.JSON)
         } else {
             delete(databaseName, resource, nodeId?.toLongOrNull(), ctx)
         }
 
+        if (nodeId == null) {
+            JsonGet.invalidateQueries(databaseName, resource)
+        }
+
         return ctx.currentRoute()
     }
 
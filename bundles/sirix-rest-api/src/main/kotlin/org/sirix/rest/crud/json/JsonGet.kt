@@ -3,6 +3,7 @@ package org.sirix.rest.crud.json
 import io.netty.handler.codec.http.HttpResponseStatus
 import io.vertx.core.Context
 import io.vertx.core.Promise
+import io.vertx.core.buffer.Buffer
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.auth.User
 import io.vertx.ext.auth.oauth2.OAuth2Auth
@@ -18,18 +19,96 @@ import org.sirix.rest.AuthRole
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.xml.XmlSessionDBStore
+import org.sirix.service.json.serialize.JsonByteSerializer
+import org.sirix.service.json.serialize.JsonCborSerializer
+import org.sirix.service.json.serialize.JsonProjection
+import org.sirix.service.json.serialize.JsonRecordCursor
+import org.sirix.service.json.serialize.JsonRecordCursorCache
 import org.sirix.service.json.serialize.JsonRecordSerializer
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.xquery.JsonDBSerializer
+import org.sirix.xquery.QueryCache
 import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
+import java.io.ByteArrayOutputStream
 import java.io.StringWriter
 import java.nio.file.Path
+import java.time.Duration
 
 class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
+    companion object {
+        /**
+         * The response header with the cursor to fetch the next page of top-level records.
+         */
+        const val NEXT_CURSOR_HEADER = "X-Next-Cursor"
+
+        /**
+         * Read-only transactions kept open between the pages of top-level records, keyed by database,
+         * resource and cursor.
+         */
+        private val recordCursors = JsonRecordCursorCache(1024, Duration.ofMinutes(5))
+
+        /**
+         * The databases and resource managers the transactions of the cursors are opened from, keyed by
+         * database and resource, such that all cursors of a resource share its buffers. A database is
+         * closed with the last transaction of its cursors. Guarded by itself.
+         */
+        private val cursorResources = HashMap<String, CursorResource>()
+
+        /**
+         * Compiled queries and serialized query results, which are only invalidated if the queries
+         * depend on the most recent revisions of resources.
+         */
+        private val queryCache = QueryCache(1024, 64L * 1024 * 1024)
+
+        /**
+         * Close the transactions kept open for cursors of a resource, of a database or of all databases.
+         */
+        fun invalidateCursors(databaseName: String?, resource: String?) {
+            val keyPrefix = when {
+                databaseName == null -> ""
+                resource == null -> "$databaseName/"
+                else -> "$databaseName/$resource/"
+            }
+
+            recordCursors.invalidate { it.startsWith(keyPrefix) }
+        }
+
+        /**
+         * Remove the cached plans and results of queries opening a resource, the resources of a database
+         * or of all databases, once they have been removed or replaced. The revision numbers of a resource
+         * created anew start again with 1, thus the cached ones don't reveal the replacement.
+         */
+        fun invalidateQueries(databaseName: String?, resource: String?) {
+            queryCache.invalidate(databaseName, resource)
+        }
+
+        private fun cursorKey(databaseName: String, resource: String?, cursor: String) =
+            "$databaseName/$resource/$cursor"
+
+        private fun releaseCursorResource(resourceKey: String) {
+            synchronized(cursorResources) {
+                val cursorResource = cursorResources[resourceKey] ?: return
+
+                if (--cursorResource.numberOfTrxs == 0) {
+                    cursorResources.remove(resourceKey)
+                    cursorResource.database.close()
+                }
+            }
+        }
+    }
+
+    private class CursorResource(
+        val database: Database<JsonResourceManager>,
+        val manager: JsonResourceManager
+    ) {
+        var numberOfTrxs = 0
+    }
+
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -66,12 +145,33 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
         }
 
         var body: String? = null
+        var bytesBody: ByteArray? = null
 
         database.use {
             try {
                 val manager = database.openResourceManager(resource)
 
                 manager.use {
+                    val projection = ctx.queryParam("projection")
+
+                    // Top-level records are serialized as CBOR, unless a cursor kept open between the pages is used.
+                    val isCbor = acceptsCbor(ctx) && projection.isEmpty() && ctx.queryParam("cursor").isEmpty()
+                    val isProjection = projection.isNotEmpty() && ctx.queryParam("nextTopLevelNodes").isEmpty()
+
+                    if ((query == null || query.isEmpty()) && (isCbor || isProjection)) {
+                        val revisions: IntArray =
+                            Revisions.getRevisionsToSerialize(
+                                startRevision, endRevision, startRevisionTimestamp,
+                                endRevisionTimestamp, manager, revision, revisionTimestamp
+                            )
+
+                        bytesBody = if (projection.isEmpty())
+                            serializeResourceAsCbor(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        else
+                            serializeProjection(manager, revisions, nodeId?.toLongOrNull(), projection, ctx)
+                        return@use
+                    }
+
                     body = if (query != null && query.isNotEmpty()) {
                         queryResource(
                             databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
@@ -84,21 +184,32 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
                                 endRevisionTimestamp, manager, revision, revisionTimestamp
                             )
 
-                        serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        serializeResource(databaseName, resource, manager, revisions, nodeId?.toLongOrNull(), ctx)
                     }
                 }
             } catch (e: SirixUsageException) {
                 ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
+            } catch (e: IllegalArgumentException) {
+                ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
             }
         }
 
-        if (body != null) {
+        if (bytesBody != null) {
+            ctx.response().end(Buffer.buffer(bytesBody))
+        } else if (body != null) {
             ctx.response().end(body)
         } else {
             ctx.response().end()
         }
     }
 
+    private fun acceptsCbor(ctx: RoutingContext): Boolean {
+        val acceptHeader: String? = ctx.request().getHeader(HttpHeaders.ACCEPT)
+
+        return acceptHeader != null && acceptHeader.contains(JsonCborSerializer.MEDIA_TYPE)
+            && !acceptHeader.contains("application/json")
+    }
+
     private suspend fun queryResource(
         databaseName: String?, database: Database<JsonResourceManager>, revision: String?,
         revisionTimestamp: String?, manager: JsonResourceManager, ctx: RoutingContext,
@@ -251,34 +362,74 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
     ) {
-        SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
-            if (startResultSeqIndex == null) {
-                val serializer = JsonDBSerializer(out, false)
-                PermissionCheckingXQuery(
-                    sirixCompileChain,
-                    query,
-                    AuthRole.MODIFY,
-                    keycloak,
-                    routingContext.get("user")
-                ).prettyPrint().serialize(queryCtx, serializer)
-            } else {
-                QuerySerializer.serializePaginated(
-                    sirixCompileChain,
-                    query,
-                    queryCtx,
-                    startResultSeqIndex,
-                    endResultSeqIndex,
-                    AuthRole.MODIFY,
-                    keycloak,
-                    routingContext.get("user"),
-                    JsonDBSerializer(out, true)
-                ) { serializer, startItem -> serializer.serialize(startItem) }
+        SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(xmlDBStore, jsonDBStore, queryCache)
+            .use { sirixCompileChain ->
+                if (queryCtx.contextItem != null) {
+                    serializeQueryResult(
+                        routingContext,
+                        sirixCompileChain,
+                        out,
+                        startResultSeqIndex,
+                        query,
+                        queryCtx,
+                        endResultSeqIndex
+                    )
+                } else {
+                    // Results are cached per user, as resources opened in fixed revisions aren't looked up again.
+                    val variant = "${SirixDBUser.create(routingContext).id}/$startResultSeqIndex/$endResultSeqIndex"
+
+                    out.append(queryCache.getResult(sirixCompileChain, query, variant) {
+                        val result = StringBuilder()
+                        serializeQueryResult(
+                            routingContext,
+                            sirixCompileChain,
+                            result,
+                            startResultSeqIndex,
+                            query,
+                            queryCtx,
+                            endResultSeqIndex
+                        )
+                        result.toString()
+                    })
+                }
             }
+    }
+
+    private fun serializeQueryResult(
+        routingContext: RoutingContext,
+        sirixCompileChain: SirixCompileChain,
+        out: StringBuilder,
+        startResultSeqIndex: Long?,
+        query: String,
+        queryCtx: SirixQueryContext,
+        endResultSeqIndex: Long?
+    ) {
+        if (startResultSeqIndex == null) {
+            val serializer = JsonDBSerializer(out, false)
+            PermissionCheckingXQuery(
+                sirixCompileChain,
+                query,
+                AuthRole.MODIFY,
+                keycloak,
+                routingContext.get("user")
+            ).prettyPrint().serialize(queryCtx, serializer)
+        } else {
+            QuerySerializer.serializePaginated(
+                sirixCompileChain,
+                query,
+                queryCtx,
+                startResultSeqIndex,
+                endResultSeqIndex,
+                AuthRole.MODIFY,
+                keycloak,
+                routingContext.get("user"),
+                JsonDBSerializer(out, true)
+            ) { serializer, startItem -> serializer.serialize(startItem) }
         }
     }
 
     private fun serializeResource(
-        manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
+        databaseName: String, resource: String?, manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext
     ): String {
         val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
@@ -315,6 +466,14 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
 
             return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
         } else {
+            val cursor: String? = ctx.queryParam("cursor").getOrNull(0)
+
+            if (cursor != null) {
+                return serializeRecordsWithCursor(
+                    databaseName, resource, manager, revisions, nodeId, nextTopLevelNodes, cursor, ctx
+                )
+            }
+
             val serializerBuilder =
                 JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
 
@@ -345,4 +504,180 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth) {
             return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
         }
     }
+
+    /**
+     * Serialize the next page of top-level records with a read-only transaction, which is kept open
+     * between the pages. An empty cursor starts with the first record.
+     */
+    private fun serializeRecordsWithCursor(
+        databaseName: String, resource: String?, manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
+        nextTopLevelNodes: Int, cursor: String, ctx: RoutingContext
+    ): String {
+        val recordCursor = if (cursor.isEmpty()) null else JsonRecordCursor.fromToken(cursor)
+
+        val entry = (if (cursor.isEmpty()) null else recordCursors.take(cursorKey(databaseName, resource, cursor)))
+            ?: openRecordCursorEntry(databaseName, resource, recordCursor, revisions)
+        var isCached = false
+
+        try {
+            val out = StringWriter()
+
+            val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
+            val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
+            val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
+
+            val serializerBuilder =
+                JsonRecordSerializer.newBuilder(entry.trx.resourceManager, nextTopLevelNodes, out)
+                    .readOnlyTrx(entry.trx)
+
+            recordCursor?.let { serializerBuilder.cursor(it) }
+
+            if (withMetaData != null) {
+                when (withMetaData) {
+                    "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                    "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                    else -> serializerBuilder.withMetaData(true)
+                }
+            }
+
+            if (maxLevel != null) {
+                serializerBuilder.maxLevel(maxLevel.toLong())
+            }
+
+            if (prettyPrint != null) {
+                serializerBuilder.prettyPrint()
+            }
+
+            val serializer = serializerBuilder.build()
+
+            val body = JsonSerializeHelper().serialize(
+                serializer, out, ctx, manager, intArrayOf(entry.trx.revisionNumber), nodeId
+            )
+
+            serializer.nextCursor?.let {
+                val nextCursor = it.toToken()
+                ctx.response().putHeader(NEXT_CURSOR_HEADER, nextCursor)
+                recordCursors.put(cursorKey(databaseName, resource, nextCursor), entry)
+                isCached = true
+            }
+
+            return body
+        } finally {
+            if (!isCached) {
+                entry.close()
+            }
+        }
+    }
+
+    private fun openRecordCursorEntry(
+        databaseName: String, resource: String?, recordCursor: JsonRecordCursor?, revisions: IntArray
+    ): JsonRecordCursorCache.Entry {
+        require(recordCursor != null || revisions.size == 1) { "Cursors require a single revision." }
+
+        val revision = recordCursor?.revision ?: revisions[0]
+        val resourceKey = "$databaseName/$resource"
+
+        synchronized(cursorResources) {
+            // The transaction outlives the request, thus it's opened in a database instance, which is shared
+            // by the cursors of the resource only.
+            val cursorResource = cursorResources[resourceKey]
+                ?: openCursorResource(databaseName, resource).also { cursorResources[resourceKey] = it }
+
+            try {
+                val trx = cursorResource.manager.beginNodeReadOnlyTrx(revision)
+                cursorResource.numberOfTrxs++
+                return JsonRecordCursorCache.Entry(trx, AutoCloseable { releaseCursorResource(resourceKey) })
+            } catch (e: Exception) {
+                if (cursorResource.numberOfTrxs == 0) {
+                    cursorResources.remove(resourceKey)
+                    cursorResource.database.close()
+                }
+                throw e
+            }
+        }
+    }
+
+    private fun openCursorResource(databaseName: String, resource: String?): CursorResource {
+        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+
+        try {
+            return CursorResource(database, database.openResourceManager(resource))
+        } catch (e: Exception) {
+            database.close()
+            throw e
+        }
+    }
+
+    private fun serializeResourceAsCbor(
+        manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
+        ctx: RoutingContext
+    ): ByteArray {
+        val out = ByteArrayOutputStream()
+
+        val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
+        val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
+        val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
+        val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
+
+        val serializerBuilder = JsonCborSerializer.newBuilder(manager, out).revisions(revisions)
+
+        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+        nextTopLevelNodes?.let { serializerBuilder.numberOfRecords(nextTopLevelNodes) }
+        lastTopLevelNodeKey?.let { serializerBuilder.lastTopLevelNodeKey(lastTopLevelNodeKey) }
+
+        if (withMetaData != null) {
+            when (withMetaData) {
+                "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                else -> serializerBuilder.withMetaData(true)
+            }
+        }
+
+        if (maxLevel != null) {
+            serializerBuilder.maxLevel(maxLevel.toLong())
+        }
+
+        val serializer = serializerBuilder.build()
+
+        return JsonSerializeHelper().serialize(
+            serializer, out, ctx, manager, revisions, nodeId, JsonCborSerializer.MEDIA_TYPE
+        )
+    }
+
+    private fun serializeProjection(
+        manager: JsonResourceManager, revisions: IntArray, nodeId: Long?, projection: List<String>,
+        ctx: RoutingContext
+    ): ByteArray {
+        val out = ByteArrayOutputStream()
+
+        val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
+        val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
+        val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
+
+        val serializerBuilder = JsonByteSerializer.newBuilder(manager, out)
+            .revisions(revisions)
+            .projection(JsonProjection.of(projection))
+
+        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+
+        if (withMetaData != null) {
+            when (withMetaData) {
+                "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                else -> serializerBuilder.withMetaData(true)
+            }
+        }
+
+        if (maxLevel != null) {
+            serializerBuilder.maxLevel(maxLevel.toLong())
+        }
+
+        if (prettyPrint != null) {
+            serializerBuilder.prettyPrint()
+        }
+
+        val serializer = serializerBuilder.build()
+
+        return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId, "application/json")
+    }
 }
@@ -4,6 +4,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceManager
+import java.io.ByteArrayOutputStream
 import java.io.StringWriter
 import java.util.concurrent.Callable
 
@@ -20,25 +21,54 @@ class JsonSerializeHelper {
 
         val body = out.toString()
 
+        writeResponseHeaders(ctx, manager, revisions, nodeId, "application/json")
+
+        return body
+    }
+
+    fun serialize(
+        serializer: Callable<*>,
+        out: ByteArrayOutputStream,
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        revisions: IntArray,
+        nodeId: Long?,
+        contentType: String
+    ): ByteArray {
+        serializer.call()
+
+        val body = out.toByteArray()
+
+        writeResponseHeaders(ctx, manager, revisions, nodeId, contentType)
+
+        return body
+    }
+
+    private fun writeResponseHeaders(
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        revisions: IntArray,
+        nodeId: Long?,
+        contentType: String
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
-            writeResponseWithoutHashValue(ctx)
+            writeResponseWithoutHashValue(ctx, contentType)
         } else {
-            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
+            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId, contentType)
         }
-
-        return body
     }
 
-    private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
+    private fun writeResponseWithoutHashValue(ctx: RoutingContext, contentType: String) {
         ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
     }
 
     private fun writeResponseWithHashValue(
         manager: JsonResourceManager,
         revision: Int,
         ctx: RoutingContext,
-        nodeId: Long?
+        nodeId: Long?,
+        contentType: String
     ) {
         val rtx = manager.beginNodeReadOnlyTrx(revision)
 
@@ -49,7 +79,7 @@ class JsonSerializeHelper {
                 rtx.moveTo(nodeId).trx().hash
 
             ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
                 .putHeader(HttpHeaders.ETAG, hash.toString())
         }
     }
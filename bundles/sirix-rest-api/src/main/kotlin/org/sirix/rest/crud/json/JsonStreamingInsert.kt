@@ -0,0 +1,131 @@
+package org.sirix.rest.crud.json
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.http.HttpHeaders
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.ext.web.handler.impl.HttpStatusException
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.rest.crud.SirixDBUser
+import org.sirix.service.json.shredder.NdJsonShredder
+import java.io.InputStream
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+
+/**
+ * Appends a newline-delimited JSON (NDJSON) request body to an array of a resource. The records are
+ * appended to the array with the node key given by the `nodeId` query parameter, or to the top-level
+ * array. The database and the resource are created, if they don't exist.
+ *
+ * The optional query parameters `commitRecords`, `commitBytes` and `commitMillis` determine after
+ * how many records, bytes or milliseconds a new revision is committed. The body is inserted while it
+ * is received, so these are counted from the arrival of the records.
+ */
+class JsonStreamingInsert(private val location: Path) {
+    private class Parameters(
+        val nodeId: Long?,
+        val commitRecords: Long?,
+        val commitBytes: Long?,
+        val commitMillis: Long?
+    )
+
+    suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resource = ctx.pathParam("resource")
+
+        if (databaseName == null || resource == null) {
+            throw IllegalArgumentException("Database name and resource name not given.")
+        }
+
+        ctx.request().pause()
+
+        val parameters = try {
+            Parameters(
+                nodeId = longQueryParam(ctx, "nodeId", 0),
+                commitRecords = longQueryParam(ctx, "commitRecords", 1),
+                commitBytes = longQueryParam(ctx, "commitBytes", 1),
+                commitMillis = longQueryParam(ctx, "commitMillis", 1)
+            )
+        } catch (e: IllegalArgumentException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
+            return ctx.currentRoute()
+        }
+
+        val body = RequestBodyInputStream(ctx.request(), ctx.vertx().orCreateContext)
+        ctx.request().resume()
+
+        withContext(Dispatchers.IO) {
+            val (records, revision) = body.use {
+                insert(location.resolve(databaseName), resource, it, parameters, ctx)
+            }
+
+            ctx.response()
+                .setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end("{\"records\":$records,\"revision\":$revision}")
+        }
+
+        return ctx.currentRoute()
+    }
+
+    private fun longQueryParam(ctx: RoutingContext, name: String, minValue: Long): Long? {
+        val value = ctx.queryParam(name).getOrNull(0) ?: return null
+        val longValue = value.toLongOrNull()
+
+        if (longValue == null || longValue < minValue) {
+            throw IllegalArgumentException("Query parameter $name must be an integer >= $minValue, but is $value.")
+        }
+
+        return longValue
+    }
+
+    private fun insert(
+        dbFile: Path,
+        resource: String,
+        body: InputStream,
+        parameters: Parameters,
+        ctx: RoutingContext
+    ): Pair<Long, Int> {
+        if (!Databases.existsDatabase(dbFile)) {
+            Files.createDirectories(dbFile.parent)
+            Databases.createJsonDatabase(DatabaseConfiguration(dbFile))
+        }
+
+        val database = Databases.openJsonDatabase(dbFile, SirixDBUser.create(ctx))
+
+        return database.use {
+            if (!database.existsResource(resource)) {
+                database.createResource(ResourceConfiguration.Builder(resource).useDeweyIDs(true).build())
+            }
+
+            val manager = database.openResourceManager(resource)
+
+            manager.use {
+                val wtx = manager.beginNodeTrx()
+
+                wtx.use {
+                    val nodeId = parameters.nodeId
+
+                    if (nodeId != null && !wtx.moveTo(nodeId).hasMoved()) {
+                        throw IllegalArgumentException("Node with ID $nodeId doesn't exist.")
+                    }
+
+                    val builder = NdJsonShredder.Builder(wtx, body).commitAfterwards()
+
+                    parameters.commitRecords?.let { builder.commitAfterRecords(it) }
+                    parameters.commitBytes?.let { builder.commitAfterBytes(it) }
+                    parameters.commitMillis?.let { builder.commitAfterTime(it, TimeUnit.MILLISECONDS) }
+
+                    val records = builder.build().call()
+
+                    Pair(records, manager.mostRecentRevisionNumber)
+                }
+            }
+        }
+    }
+}
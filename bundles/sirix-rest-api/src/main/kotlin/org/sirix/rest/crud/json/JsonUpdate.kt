@@ -14,11 +14,14 @@ import org.sirix.api.json.JsonNodeTrx
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
 import org.sirix.service.json.JsonNumber
+import org.sirix.service.json.serialize.JsonCborSerializer
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
+import java.io.ByteArrayInputStream
 import java.io.IOException
 import java.io.StringWriter
 import java.math.BigInteger
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 @Suppress("unused")
@@ -150,16 +153,19 @@ class JsonUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.bodyAsString
+        val isCbor = ctx.request().getHeader(HttpHeaders.CONTENT_TYPE)
+            ?.startsWith(JsonCborSerializer.MEDIA_TYPE) ?: false
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        val body = if (isCbor) ctx.body.bytes else ctx.bodyAsString.toByteArray(StandardCharsets.UTF_8)
+
+        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, isCbor, ctx)
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionModeAsString: String?,
-        resFileToStore: String, ctx: RoutingContext
+        resFileToStore: ByteArray, isCbor: Boolean, ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
@@ -198,7 +204,10 @@ class JsonUpdate(private val location: Path) {
                             throw IllegalArgumentException("Insertion mode must be given.")
                         }
 
-                        val jsonReader = JsonShredder.createStringReader(resFileToStore)
+                        val jsonReader = if (isCbor)
+                            JsonShredder.createCborReader(ByteArrayInputStream(resFileToStore))
+                        else
+                            JsonShredder.createStringReader(String(resFileToStore, StandardCharsets.UTF_8))
 
                         val insertionModeByName = getInsertionModeByName(insertionModeAsString)
 
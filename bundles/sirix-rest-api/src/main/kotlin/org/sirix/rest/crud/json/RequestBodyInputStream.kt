@@ -0,0 +1,120 @@
+package org.sirix.rest.crud.json
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerRequest
+import java.io.IOException
+import java.io.InputStream
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Blocking input stream over the body of an HTTP request, which is read on a worker thread while the
+ * chunks of the body are still received on the event loop. The request is paused, as soon as more than
+ * [maxQueuedBytes] are queued, and resumed, once the reader has consumed half of them.
+ *
+ * The request must be paused, when the stream is created, and resumed afterwards.
+ */
+class RequestBodyInputStream(
+    private val request: HttpServerRequest,
+    private val context: Context,
+    private val maxQueuedBytes: Long = 1L shl 20
+) : InputStream() {
+    private val chunks = LinkedBlockingQueue<Any>()
+
+    private val queuedBytes = AtomicLong()
+
+    /** Only set on the event loop. */
+    @Volatile
+    private var paused = false
+
+    private var currentChunk: Buffer? = null
+
+    private var position = 0
+
+    private var ended = false
+
+    init {
+        request.handler { chunk ->
+            chunks.put(chunk)
+
+            if (queuedBytes.addAndGet(chunk.length().toLong()) > maxQueuedBytes && !paused) {
+                paused = true
+                request.pause()
+
+                // The reader might have consumed the chunks in the meantime without noticing the pause.
+                resumeIfDrained()
+            }
+        }
+        request.endHandler { chunks.put(END_OF_BODY) }
+        request.exceptionHandler { chunks.put(it) }
+    }
+
+    override fun read(): Int {
+        val chunk = nextChunk() ?: return -1
+        return chunk.getByte(position++).toInt() and 0xFF
+    }
+
+    override fun read(bytes: ByteArray, offset: Int, length: Int): Int {
+        if (length == 0) {
+            return 0
+        }
+
+        val chunk = nextChunk() ?: return -1
+        val numberOfBytes = minOf(length, chunk.length() - position)
+        chunk.getBytes(position, position + numberOfBytes, bytes, offset)
+        position += numberOfBytes
+        return numberOfBytes
+    }
+
+    override fun close() {
+        // Discard the rest of the body, if the reader stopped early.
+        context.runOnContext {
+            request.handler(null)
+            request.resume()
+        }
+    }
+
+    private fun nextChunk(): Buffer? {
+        var chunk = currentChunk
+
+        while (chunk == null || position == chunk.length()) {
+            if (ended) {
+                return null
+            }
+
+            when (val next = chunks.take()) {
+                is Buffer -> {
+                    chunk = next
+                    currentChunk = next
+                    position = 0
+
+                    queuedBytes.addAndGet(-next.length().toLong())
+
+                    if (paused) {
+                        context.runOnContext { resumeIfDrained() }
+                    }
+                }
+                is Throwable -> throw IOException(next)
+                else -> {
+                    ended = true
+                    currentChunk = null
+                    return null
+                }
+            }
+        }
+
+        return chunk
+    }
+
+    private fun resumeIfDrained() {
+        if (paused && queuedBytes.get() <= maxQueuedBytes / 2) {
+            paused = false
+            request.resume()
+        }
+    }
+
+    private companion object {
+        val END_OF_BODY = Any()
+    }
+}
@@ -21,6 +21,7 @@ import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.rest.crud.SirixDBUser
+import org.sirix.rest.crud.json.JsonGet
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
 import java.io.ByteArrayOutputStream
@@ -198,6 +199,7 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
             if (!database.createResource(resConfig)) {
                 database.removeResource(resPathName)
                 database.createResource(resConfig)
+                JsonGet.invalidateQueries(database.name, resPathName)
             }
         }
     }
@@ -11,6 +11,7 @@ import org.sirix.api.Database
 import org.sirix.api.ResourceManager
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.rest.crud.AbstractDeleteHandler
+import org.sirix.rest.crud.json.JsonGet
 import org.sirix.xquery.node.BasicXmlDBStore
 import java.nio.file.Path
 
@@ -26,6 +27,11 @@ class XmlDelete(location: Path) : AbstractDeleteHandler(location) {
             delete(databaseName, resource, nodeId?.toLongOrNull(), ctx)
         }
 
+        // JSON queries might open XML resources, too.
+        if (nodeId == null) {
+            JsonGet.invalidateQueries(databaseName, resource)
+        }
+
         return ctx.currentRoute()
     }
 
@@ -0,0 +1,382 @@
+package org.sirix.xquery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.compiler.AST;
+import org.brackit.xquery.compiler.XQ;
+import org.brackit.xquery.function.json.JSONFun;
+import org.brackit.xquery.module.Module;
+import org.brackit.xquery.module.Namespaces;
+import org.sirix.xquery.function.sdb.SDBFun;
+import org.sirix.xquery.function.xml.XMLFun;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * <p>
+ * A cache of compiled query plans and of serialized query results, which is shared by the
+ * {@link SirixCompileChain}s of the stores of one location.
+ * </p>
+ * <p>
+ * Committed revisions are immutable, so a plan or a result only has to be invalidated if the query
+ * depends on the most recent revision of a resource, that is if it opens a resource without a
+ * revision, opens revisions by point in time or uses temporal or transaction functions. The most
+ * recent revisions of these resources are stored with a plan or result and compared on lookup.
+ * Queries opening resources in fixed revisions only, for instance with
+ * {@code jn:doc('mycol.jn','mydoc.jn',3)}, are pinned to these revisions. As the revision numbers of
+ * a resource start again once it's removed and created anew, the plans and results of the queries
+ * opening a resource must be {@link #invalidate(String, String) invalidated} in this case.
+ * </p>
+ * <p>
+ * Results are only cached for queries, which aren't updating, don't have side effects and don't
+ * use the current time or resources which aren't identified by literals.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class QueryCache {
+
+  /**
+   * Sirix functions opening resources by their database and resource name.
+   */
+  private static final Set<String> DOCUMENT_FUNCTIONS = Set.of("doc", "open", "open-revisions");
+
+  /**
+   * Sirix functions with side effects.
+   */
+  private static final Set<String> SIDE_EFFECT_FUNCTIONS = Set.of("commit", "rollback", "store", "load", "import",
+      "create-cas-index", "create-name-index", "create-path-index");
+
+  /**
+   * Non-deterministic or context dependent standard functions.
+   */
+  private static final Set<String> NON_DETERMINISTIC_FUNCTIONS = Set.of("current-dateTime", "current-date",
+      "current-time", "implicit-timezone", "doc", "doc-available", "collection", "uri-collection", "unparsed-text",
+      "unparsed-text-lines", "unparsed-text-available", "environment-variable", "available-environment-variables",
+      "random-number-generator");
+
+  /**
+   * The compiled plans keyed by the queries.
+   */
+  private final Cache<String, Plan> plans;
+
+  /**
+   * The serialized results keyed by the queries and serialization variants, or {@code null}, if
+   * results aren't cached.
+   */
+  private final Cache<ResultKey, Result> results;
+
+  /**
+   * Constructor.
+   *
+   * @param maxNumberOfPlans the maximum number of cached plans
+   * @param maxResultBytes   the maximum size of the cached results in bytes or {@code 0}, if no results
+   *                         should be cached
+   */
+  public QueryCache(final @Nonnegative long maxNumberOfPlans, final @Nonnegative long maxResultBytes) {
+    checkArgument(maxNumberOfPlans >= 0, "maxNumberOfPlans must be >= 0!");
+    checkArgument(maxResultBytes >= 0, "maxResultBytes must be >= 0!");
+
+    plans = Caffeine.newBuilder().maximumSize(maxNumberOfPlans).build();
+    results = maxResultBytes == 0
+        ? null
+        : Caffeine.newBuilder()
+                  .maximumWeight(maxResultBytes)
+                  .weigher((ResultKey key, Result result) -> result.bytes().length)
+                  .build();
+  }
+
+  /**
+   * Get a cached plan, if the most recent revisions of the resources it depends on haven't changed.
+   *
+   * @param query              the query
+   * @param mostRecentRevision function to get the most recent revision of a resource
+   * @return the plan or {@code null}
+   */
+  Module getPlan(final String query, final ToIntFunction<Resource> mostRecentRevision) {
+    final Plan plan = plans.getIfPresent(query);
+
+    if (plan == null) {
+      return null;
+    }
+
+    if (!plan.revisions().equals(getRevisions(plan.dependencies(), mostRecentRevision))) {
+      plans.invalidate(query);
+      return null;
+    }
+
+    return plan.module();
+  }
+
+  /**
+   * Cache a plan.
+   *
+   * @param query        the query
+   * @param module       the compiled query
+   * @param dependencies the dependencies of the query
+   * @param revisions    the most recent revisions of the resources the query depends on, before it has
+   *                     been compiled
+   */
+  void putPlan(final String query, final Module module, final Dependencies dependencies,
+      final Map<Resource, Integer> revisions) {
+    final boolean isUpdating = module.getBody() != null && module.getBody().isUpdating();
+    final var planDependencies = isUpdating
+        ? new Dependencies(dependencies.resources(), dependencies.mostRecentResources(), false)
+        : dependencies;
+    plans.put(query, new Plan(module, planDependencies, revisions));
+  }
+
+  /**
+   * Get the serialized result of a query from the cache or evaluate and cache it. The result is
+   * evaluated, but not cached, if results aren't cached or if the result of the query isn't cacheable.
+   *
+   * @param chain      the compile chain to compile the query with
+   * @param query      the query
+   * @param variant    the variant of the serialization, for instance if it's pretty printed, and of the
+   *                   evaluation, for instance a range of result items
+   * @param evaluation the evaluation and serialization of the query
+   * @return the serialized result
+   */
+  public String getResult(final SirixCompileChain chain, final String query, final String variant,
+      final Supplier<String> evaluation) {
+    checkNotNull(chain);
+    checkNotNull(query);
+    checkNotNull(variant);
+
+    if (results == null) {
+      return evaluation.get();
+    }
+
+    // Compile the query to get its dependencies.
+    chain.compile(query);
+    final Plan plan = plans.getIfPresent(query);
+
+    if (plan == null || !plan.dependencies().isResultCacheable()) {
+      return evaluation.get();
+    }
+
+    // The revisions are determined before the evaluation, such that a result is never cached with
+    // more recent revisions than the ones it has been evaluated on.
+    final var revisions = getRevisions(plan.dependencies(), chain::getMostRecentRevision);
+    final var key = new ResultKey(query, variant);
+    final Result result = results.getIfPresent(key);
+
+    if (result != null && result.revisions().equals(revisions)) {
+      return new String(result.bytes(), StandardCharsets.UTF_8);
+    }
+
+    final String serializedResult = evaluation.get();
+    results.put(key, new Result(serializedResult.getBytes(StandardCharsets.UTF_8), plan.dependencies().resources(),
+                                revisions));
+    return serializedResult;
+  }
+
+  /**
+   * Remove the cached plans and results of the queries, which open a resource or a resource of a
+   * database, for instance because the resource or the database has been removed or replaced.
+   *
+   * @param databaseName the name of the database or {@code null} for all databases
+   * @param resourceName the name of the resource or {@code null} for all resources of the database
+   */
+  public void invalidate(final @Nullable String databaseName, final @Nullable String resourceName) {
+    final Predicate<Set<Resource>> opensResource = resources -> resources.stream().anyMatch(
+        resource -> (databaseName == null || databaseName.equals(resource.databaseName()))
+            && (resourceName == null || resourceName.equals(resource.resourceName())));
+
+    plans.asMap().values().removeIf(plan -> opensResource.test(plan.dependencies().resources()));
+
+    if (results != null) {
+      results.asMap().values().removeIf(result -> opensResource.test(result.resources()));
+    }
+  }
+
+  /**
+   * Remove all cached plans and results.
+   */
+  public void invalidateAll() {
+    plans.invalidateAll();
+
+    if (results != null) {
+      results.invalidateAll();
+    }
+  }
+
+  /**
+   * Get the number of cached plans.
+   *
+   * @return the number of cached plans
+   */
+  public long getNumberOfPlans() {
+    plans.cleanUp();
+    return plans.estimatedSize();
+  }
+
+  /**
+   * Get the number of cached results.
+   *
+   * @return the number of cached results
+   */
+  public long getNumberOfResults() {
+    if (results == null) {
+      return 0;
+    }
+
+    results.cleanUp();
+    return results.estimatedSize();
+  }
+
+  /**
+   * Get the most recent revisions of resources.
+   *
+   * @param dependencies       the dependencies of a query
+   * @param mostRecentRevision function to get the most recent revision of a resource
+   * @return the most recent revisions
+   */
+  static Map<Resource, Integer> getRevisions(final Dependencies dependencies,
+      final ToIntFunction<Resource> mostRecentRevision) {
+    final var revisions = new HashMap<Resource, Integer>();
+
+    for (final Resource resource : dependencies.mostRecentResources()) {
+      revisions.put(resource, mostRecentRevision.applyAsInt(resource));
+    }
+
+    return revisions;
+  }
+
+  /**
+   * Analyze the dependencies of a parsed query.
+   *
+   * @param ast the abstract syntax tree of the query
+   * @return the dependencies
+   */
+  static Dependencies analyze(final AST ast) {
+    final var analysis = new Analysis();
+    analysis.visit(ast);
+
+    final Set<Resource> mostRecentResources = analysis.dependsOnMostRecentRevisions
+        ? analysis.resources
+        : analysis.mostRecentResources;
+
+    return new Dependencies(Set.copyOf(analysis.resources), Set.copyOf(mostRecentResources),
+                            analysis.isResultCacheable);
+  }
+
+  /**
+   * The analysis of the function calls of a query.
+   */
+  private static final class Analysis {
+    private final Set<Resource> resources = new HashSet<>();
+
+    private final Set<Resource> mostRecentResources = new HashSet<>();
+
+    private boolean dependsOnMostRecentRevisions;
+
+    private boolean isResultCacheable = true;
+
+    void visit(final AST node) {
+      if (node.getType() == XQ.FunctionCall && node.getValue() instanceof QNm) {
+        visitFunctionCall(node, (QNm) node.getValue());
+      }
+
+      for (int i = 0, childCount = node.getChildCount(); i < childCount; i++) {
+        visit(node.getChild(i));
+      }
+    }
+
+    private void visitFunctionCall(final AST node, final QNm name) {
+      final String namespaceURI = name.getNamespaceURI();
+      final String localName = name.getLocalName();
+      final boolean isJson = JSONFun.JSON_NSURI.equals(namespaceURI);
+      final boolean isXml = XMLFun.XML_NSURI.equals(namespaceURI);
+
+      if (Namespaces.FN_NSURI.equals(namespaceURI)) {
+        if (NON_DETERMINISTIC_FUNCTIONS.contains(localName)) {
+          isResultCacheable = false;
+        }
+      } else if (isJson || isXml || SDBFun.SDB_NSURI.equals(namespaceURI)) {
+        if (SIDE_EFFECT_FUNCTIONS.contains(localName)) {
+          isResultCacheable = false;
+        } else if ((isJson || isXml) && DOCUMENT_FUNCTIONS.contains(localName)) {
+          visitDocumentFunctionCall(node, localName, isJson);
+        } else if (!isJson || localName.startsWith("find-") || localName.startsWith("scan-")
+            || isTemporalOrTransactionFunction(localName)) {
+          // Temporal and transaction functions as well as index lookups navigate to other revisions.
+          dependsOnMostRecentRevisions = true;
+        }
+      }
+    }
+
+    private void visitDocumentFunctionCall(final AST node, final String localName, final boolean isJson) {
+      if (node.getChildCount() < 2 || node.getChild(0).getType() != XQ.Str || node.getChild(1).getType() != XQ.Str) {
+        // The resource isn't known before the evaluation.
+        isResultCacheable = false;
+        return;
+      }
+
+      final var resource = new Resource(node.getChild(0).getStringValue(), node.getChild(1).getStringValue(), isJson);
+      resources.add(resource);
+
+      final boolean isPinned =
+          "doc".equals(localName) && node.getChildCount() > 2 && node.getChild(2).getType() == XQ.Int;
+
+      if (!isPinned) {
+        mostRecentResources.add(resource);
+      }
+    }
+
+    private static boolean isTemporalOrTransactionFunction(final String localName) {
+      return switch (localName) {
+        case "all-times", "first", "last", "previous", "next", "future", "past", "diff", "item-history",
+            "most-recent-revision", "select-json-item" -> true;
+        default -> false;
+      };
+    }
+  }
+
+  /**
+   * A resource a query depends on.
+   */
+  record Resource(String databaseName, String resourceName, boolean isJson) {
+  }
+
+  /**
+   * The dependencies of a query.
+   *
+   * @param resources           the resources the query opens
+   * @param mostRecentResources the resources the query depends on in their most recent revision
+   * @param isResultCacheable   determines if the result of the query can be cached
+   */
+  record Dependencies(Set<Resource> resources, Set<Resource> mostRecentResources, boolean isResultCacheable) {
+  }
+
+  /**
+   * A compiled query plan.
+   */
+  private record Plan(Module module, Dependencies dependencies, Map<Resource, Integer> revisions) {
+  }
+
+  /**
+   * The key of a serialized result.
+   */
+  private record ResultKey(String query, String variant) {
+  }
+
+  /**
+   * A serialized result.
+   */
+  private record Result(byte[] bytes, Set<Resource> resources, Map<Resource, Integer> revisions) {
+  }
+}
@@ -1,12 +1,17 @@
 package org.sirix.xquery;
 
 import java.util.Map;
+import org.brackit.xquery.QueryException;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.atomic.Str;
 import org.brackit.xquery.compiler.CompileChain;
 import org.brackit.xquery.compiler.optimizer.Optimizer;
 import org.brackit.xquery.compiler.translator.Translator;
+import org.brackit.xquery.module.Module;
 import org.brackit.xquery.util.Cfg;
+import org.sirix.api.Database;
+import org.sirix.xquery.QueryCache.Dependencies;
+import org.sirix.xquery.QueryCache.Resource;
 import org.sirix.xquery.compiler.optimizer.SirixOptimizer;
 import org.sirix.xquery.compiler.translator.SirixTranslator;
 import org.sirix.xquery.function.jn.JNFun;
@@ -39,6 +44,12 @@ public final class SirixCompileChain extends CompileChain implements AutoCloseab
   /** The JSON item store. */
   private final JsonDBStore jsonItemStore;
 
+  /** The cache of compiled plans and results, or {@code null}. */
+  private final QueryCache queryCache;
+
+  /** The dependencies of the query, which is currently compiled. */
+  private Dependencies dependencies;
+
   public static final SirixCompileChain create() {
     return new SirixCompileChain(null, null);
   }
@@ -56,6 +67,11 @@ public final class SirixCompileChain extends CompileChain implements AutoCloseab
     return new SirixCompileChain(nodeStore, jsonStore);
   }
 
+  public static final SirixCompileChain createWithNodeAndJsonStoreAndQueryCache(final XmlDBStore nodeStore,
+      final JsonDBStore jsonStore, final QueryCache queryCache) {
+    return new SirixCompileChain(nodeStore, jsonStore, queryCache);
+  }
+
   /**
    * Constructor.
    *
@@ -63,6 +79,20 @@ public final class SirixCompileChain extends CompileChain implements AutoCloseab
    * @param jsonItemStore the json item store.
    */
   public SirixCompileChain(final XmlDBStore nodeStore, final JsonDBStore jsonItemStore) {
+    this(nodeStore, jsonItemStore, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeStore the Sirix {@link BasicXmlDBStore}
+   * @param jsonItemStore the json item store.
+   * @param queryCache the cache of compiled plans and results, which must only be shared by compile
+   *        chains with stores of the same location, or {@code null}
+   */
+  public SirixCompileChain(final XmlDBStore nodeStore, final JsonDBStore jsonItemStore,
+      final QueryCache queryCache) {
+    this.queryCache = queryCache;
     this.nodeStore = nodeStore == null
         ? BasicXmlDBStore.newBuilder().build()
         : nodeStore;
@@ -78,10 +108,71 @@ public final class SirixCompileChain extends CompileChain implements AutoCloseab
 
   @Override
   protected Optimizer getOptimizer(Map<QNm, Str> options) {
-    if (!OPTIMIZE) {
-      return super.getOptimizer(options);
+    final Optimizer optimizer = OPTIMIZE
+        ? new SirixOptimizer(options, nodeStore, jsonItemStore)
+        : super.getOptimizer(options);
+
+    if (queryCache == null) {
+      return optimizer;
+    }
+
+    // The dependencies are analyzed before the index rewrites replace the document function calls.
+    return (sctx, ast) -> {
+      dependencies = QueryCache.analyze(ast);
+      return optimizer.optimize(sctx, ast);
+    };
+  }
+
+  @Override
+  public Module compile(final String query) throws QueryException {
+    if (queryCache == null) {
+      return super.compile(query);
     }
-    return new SirixOptimizer(options, nodeStore, jsonItemStore);
+
+    final Module cachedModule = queryCache.getPlan(query, this::getMostRecentRevision);
+
+    if (cachedModule != null) {
+      return cachedModule;
+    }
+
+    dependencies = null;
+    final Module module = super.compile(query);
+
+    if (dependencies != null) {
+      // Revisions committed during the compilation invalidate the plan on the next lookup, as the
+      // revisions might only be determined afterwards.
+      final var revisions = QueryCache.getRevisions(dependencies, this::getMostRecentRevision);
+      queryCache.putPlan(query, module, dependencies, revisions);
+      dependencies = null;
+    }
+
+    return module;
+  }
+
+  /**
+   * Get the most recent revision number of a resource.
+   *
+   * @param resource the resource
+   * @return the most recent revision number or {@code -1}, if the resource doesn't exist
+   */
+  int getMostRecentRevision(final Resource resource) {
+    final Database<?> database;
+
+    if (resource.isJson()) {
+      final var collection = jsonItemStore.lookup(resource.databaseName());
+      database = collection == null ? null : collection.getDatabase();
+    } else {
+      final var collection = nodeStore.lookup(resource.databaseName());
+      database = collection == null ? null : collection.getDatabase();
+    }
+
+    if (database == null || !database.existsResource(resource.resourceName())) {
+      return -1;
+    }
+
+    // The resource manager is shared by all users of the database and closed together with it, thus it
+    // must not be closed here.
+    return database.openResourceManager(resource.resourceName()).getMostRecentRevisionNumber();
   }
 
   @Override
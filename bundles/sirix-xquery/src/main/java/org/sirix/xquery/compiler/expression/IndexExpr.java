@@ -40,6 +40,12 @@ public final class IndexExpr implements Expr {
 
   private final Integer revision;
 
+  /**
+   * The revisions to evaluate the index lookups in, if a temporal function has been pushed down into
+   * this expression, {@code null} otherwise.
+   */
+  private final int[] revisions;
+
   private final Map<IndexDef, List<Path<QNm>>> indexDefsToPaths;
 
   private final Map<String, Object> properties;
@@ -50,6 +56,7 @@ public final class IndexExpr implements Expr {
     databaseName = (String) properties.get("databaseName");
     resourceName = (String) properties.get("resourceName");
     revision = (Integer) properties.get("revision");
+    revisions = (int[]) properties.get("revisions");
     indexDefsToPaths = (Map<IndexDef, List<Path<QNm>>>) properties.get("indexDefs");
   }
 
@@ -61,6 +68,47 @@ public final class IndexExpr implements Expr {
     final var database = jsonCollection.getDatabase();
 
     final var manager = database.openResourceManager(resourceName);
+    final var sequence = new ArrayList<Sequence>();
+
+    if (revisions == null) {
+      addIndexedItems(manager, jsonCollection, revision, sequence);
+    } else {
+      // One index lookup per revision, in ascending revision order, the same order a temporal function would produce.
+      for (final int currentRevision : revisions) {
+        addIndexedItems(manager, jsonCollection, currentRevision, sequence);
+      }
+    }
+
+    if (sequence.size() == 0) {
+      return null;
+    }
+
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          int i;
+
+          @Override
+          public Item next() {
+            if (i < sequence.size()) {
+              final var item = sequence.get(i++);
+
+              return item.evaluateToItem(ctx, tuple);
+            }
+            return null;
+          }
+
+          @Override
+          public void close() {
+          }
+        };
+      }
+    };
+  }
+
+  private void addIndexedItems(final JsonResourceManager manager, final JsonDBCollection jsonCollection,
+      final int revision, final List<Sequence> sequence) {
     final var indexController = revision == -1
         ? manager.getRtxIndexController(manager.getMostRecentRevisionNumber())
         : manager.getRtxIndexController(revision);
@@ -84,7 +132,7 @@ public final class IndexExpr implements Expr {
                                                                                                     pathStrings,
                                                                                                     rtx));
 
-          checkIfIndexNodeIsApplicable(manager, rtx, arrayIndexes, nodeReferencesIterator, nodeKeys);
+          checkIfIndexNodeIsApplicable(manager, rtx, revision, arrayIndexes, nodeReferencesIterator, nodeKeys);
         }
         case CAS -> {
           final var atomic = (Atomic) properties.get("atomic");
@@ -111,7 +159,7 @@ public final class IndexExpr implements Expr {
             final Iterator<NodeReferences> nodeReferencesIterator =
                 indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
 
-            checkIfIndexNodeIsApplicable(manager, rtx, arrayIndexes, nodeReferencesIterator, nodeKeys);
+            checkIfIndexNodeIsApplicable(manager, rtx, revision, arrayIndexes, nodeReferencesIterator, nodeKeys);
 
             indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
 
@@ -125,7 +173,7 @@ public final class IndexExpr implements Expr {
             final Iterator<NodeReferences> nodeReferencesIterator =
                 indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
 
-            checkIfIndexNodeIsApplicable(manager, rtx, arrayIndexes, nodeReferencesIterator, nodeKeys);
+            checkIfIndexNodeIsApplicable(manager, rtx, revision, arrayIndexes, nodeReferencesIterator, nodeKeys);
 
             indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
 
@@ -138,7 +186,6 @@ public final class IndexExpr implements Expr {
       }
     }
 
-    final var sequence = new ArrayList<Sequence>();
     final var jsonItemFactory = new JsonItemFactory();
 
     switch (indexType) {
@@ -169,33 +216,6 @@ public final class IndexExpr implements Expr {
       }
       default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
     }
-
-    if (sequence.size() == 0) {
-      return null;
-    }
-
-    return new LazySequence() {
-      @Override
-      public Iter iterate() {
-        return new BaseIter() {
-          int i;
-
-          @Override
-          public Item next() {
-            if (i < sequence.size()) {
-              final var item = sequence.get(i++);
-
-              return item.evaluateToItem(ctx, tuple);
-            }
-            return null;
-          }
-
-          @Override
-          public void close() {
-          }
-        };
-      }
-    };
   }
 
   private SearchMode getSearchMode(String comparisonType) {
@@ -218,7 +238,7 @@ public final class IndexExpr implements Expr {
     return searchMode;
   }
 
-  private void checkIfIndexNodeIsApplicable(JsonResourceManager manager, JsonNodeReadOnlyTrx rtx,
+  private void checkIfIndexNodeIsApplicable(JsonResourceManager manager, JsonNodeReadOnlyTrx rtx, int revision,
       Map<String, Deque<Integer>> arrayIndexes, Iterator<NodeReferences> nodeReferencesIterator, List<Long> nodeKeys) {
     try (final var pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision)) {
       nodeReferencesIterator.forEachRemaining(currentNodeReferences -> {
@@ -22,11 +22,14 @@ import org.sirix.xquery.json.JsonDBStore;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 abstract class AbstractJsonPathWalker extends ScopeWalker {
 
   private static final int MIN_NODE_NUMBER = Cfg.asInt("org.sirix.xquery.optimize.min.node.number", 0);
 
+  private static final Set<String> TEMPORAL_FUNCTIONS = Set.of("all-times", "first", "last", "previous", "next");
+
   private final JsonDBStore jsonDBStore;
 
   public AbstractJsonPathWalker(JsonDBStore jsonDBStore) {
@@ -52,40 +55,61 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
       return astNode;
     }
 
-    if (!(isDocumentNodeFunction(node) || isIndexExpr(node))) {
+    // A temporal function on a document, e.g. jn:all-times(jn:doc('db','res')), is pushed below the
+    // path steps: the index lookups are done once per revision instead of evaluating the path per revision.
+    final boolean isTemporal = isTemporalFunction(node);
+    final AST documentNode = isTemporal ? node.getChild(0) : node;
+
+    if (isTemporal ? !isDocumentNodeFunction(documentNode) : !(isDocumentNodeFunction(node) || isIndexExpr(node))) {
       return astNode;
     }
 
-    final RevisionData revisionData = getRevisionData(node);
+    final RevisionData revisionData = getRevisionData(documentNode);
 
     try (final var jsonCollection = jsonDBStore.lookup(revisionData.databaseName());
          final var resMgr = jsonCollection.getDatabase().openResourceManager(revisionData.resourceName());
          final var rtx = revisionData.revision() == -1
              ? resMgr.beginNodeReadOnlyTrx()
-             : resMgr.beginNodeReadOnlyTrx(revisionData.revision());
-         final var pathSummary = revisionData.revision() == -1
-             ? resMgr.openPathSummary()
-             : resMgr.openPathSummary(revisionData.revision())) {
+             : resMgr.beginNodeReadOnlyTrx(revisionData.revision())) {
       if (rtx.getDescendantCount() < MIN_NODE_NUMBER) {
         return astNode;
       }
 
-      final var pathSegmentNameToCheck = pathSegmentNames.removeFirst();
-      var pathNodeKeys = findFurthestFromRootPathNodes(astNode, pathSegmentNameToCheck, pathSummary);
+      final int[] revisions = isTemporal
+          ? getRevisions(node, rtx.getRevisionNumber(), resMgr.getMostRecentRevisionNumber())
+          : new int[] { revisionData.revision() };
+
+      final var foundIndexDefsToPaths = new HashMap<IndexDef, List<Path<QNm>>>();
+      final var foundIndexDefsToPredicateLevels = new HashMap<IndexDef, Integer>();
+      boolean foundPathNodeKeys = false;
+
+      for (final int revision : revisions) {
+        try (final var pathSummary = revision == -1 ? resMgr.openPathSummary() : resMgr.openPathSummary(revision)) {
+          final var pathNodeKeys = findPathNodeKeys(pathSegmentNames, pathSummary);
+
+          if (pathNodeKeys.isEmpty()) {
+            continue;
+          }
 
-      // re-add path segment
-      pathSegmentNames.addFirst(pathSegmentNameToCheck);
+          foundPathNodeKeys = true;
 
-      var pathNodeKeysToRemove = pathNodeKeys.stream()
-                                             .filter(pathNodeKey -> pathNodeKeyToRemove(pathSegmentNames,
-                                                                                     pathSummary,
-                                                                                     pathNodeKey))
-                                             .collect(Collectors.toList());
+          boolean notFound = findIndexDefsForPathNodeKeys(predicateNode,
+                                                          type,
+                                                          new ArrayDeque<>(predicateSegmentNames),
+                                                          revision,
+                                                          resMgr,
+                                                          pathSummary,
+                                                          pathNodeKeys,
+                                                          foundIndexDefsToPaths,
+                                                          foundIndexDefsToPredicateLevels);
 
-      // remove path node keys which do not belong to the query result
-      pathNodeKeys.removeIf(pathNodeKeysToRemove::contains);
+          if (notFound) {
+            return null;
+          }
+        }
+      }
 
-      if (pathNodeKeys.isEmpty()) {
+      if (!foundPathNodeKeys) {
         // no path node keys found: replace with empty sequence node
         final var parentASTNode = astNode.getParent();
         final var emptySequence = new AST(XQ.SequenceExpr);
@@ -93,30 +117,59 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
         return emptySequence;
       }
 
-      final var foundIndexDefsToPaths = new HashMap<IndexDef, List<Path<QNm>>>();
-      final var foundIndexDefsToPredicateLevels = new HashMap<IndexDef, Integer>();
+      final AST indexExpr = replaceFoundAST(astNode,
+                                            revisionData,
+                                            foundIndexDefsToPaths,
+                                            foundIndexDefsToPredicateLevels,
+                                            arrayIndexes,
+                                            pathSegmentNames);
 
-      boolean notFound = findIndexDefsForPathNodeKeys(predicateNode,
-                                                      type,
-                                                      predicateSegmentNames,
-                                                      revisionData,
-                                                      resMgr,
-                                                      pathSummary,
-                                                      pathNodeKeys,
-                                                      foundIndexDefsToPaths,
-                                                      foundIndexDefsToPredicateLevels);
-
-      if (!notFound) {
-        return replaceFoundAST(astNode,
-                               revisionData,
-                               foundIndexDefsToPaths,
-                               foundIndexDefsToPredicateLevels,
-                               arrayIndexes,
-                               pathSegmentNames);
+      if (indexExpr != null && isTemporal) {
+        indexExpr.setProperty("revisions", revisions);
       }
+
+      return indexExpr;
     }
+  }
 
-    return null;
+  private List<Integer> findPathNodeKeys(Deque<String> pathSegmentNames, PathSummaryReader pathSummary) {
+    final var pathSegmentNameToCheck = pathSegmentNames.removeFirst();
+    var pathNodeKeys = findFurthestFromRootPathNodes(pathSegmentNameToCheck, pathSummary);
+
+    // re-add path segment
+    pathSegmentNames.addFirst(pathSegmentNameToCheck);
+
+    var pathNodeKeysToRemove = pathNodeKeys.stream()
+                                           .filter(pathNodeKey -> pathNodeKeyToRemove(pathSegmentNames,
+                                                                                   pathSummary,
+                                                                                   pathNodeKey))
+                                           .collect(Collectors.toList());
+
+    // remove path node keys which do not belong to the query result
+    pathNodeKeys.removeIf(pathNodeKeysToRemove::contains);
+
+    return pathNodeKeys;
+  }
+
+  /**
+   * Get the revisions a temporal function selects for the document in the given revision.
+   *
+   * @param temporalFunction     the temporal function call
+   * @param revision             the revision of the document
+   * @param mostRecentRevision   the most recent revision of the resource
+   * @return the revisions in ascending order
+   */
+  private int[] getRevisions(AST temporalFunction, int revision, int mostRecentRevision) {
+    final var functionName = (QNm) temporalFunction.getValue();
+
+    return switch (functionName.getLocalName()) {
+      case "all-times" -> IntStream.rangeClosed(1, mostRecentRevision).toArray();
+      case "first" -> new int[] { 1 };
+      case "last" -> new int[] { mostRecentRevision };
+      case "previous" -> revision > 1 ? new int[] { revision - 1 } : new int[0];
+      case "next" -> revision < mostRecentRevision ? new int[] { revision + 1 } : new int[0];
+      default -> throw new IllegalStateException("Unexpected temporal function: " + functionName);
+    };
   }
 
   protected PathData traversePath(final AST node, final AST predicateNode) {
@@ -141,16 +194,11 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
     return new PathData(pathSegmentNames, arrayIndexes, predicateSegmentNames, newNode.get());
   }
 
-  private List<Integer> findFurthestFromRootPathNodes(AST astNode, String pathSegmentNameToCheck,
+  private List<Integer> findFurthestFromRootPathNodes(String pathSegmentNameToCheck,
       PathSummaryReader pathSummary) {
     var pathNodeKeys = new ArrayList<Integer>();
     var pathNodeKeyBitmap = pathSummary.match(new QNm(pathSegmentNameToCheck), 0, NodeKind.OBJECT_KEY);
 
-    if (pathNodeKeyBitmap.isEmpty()) {
-      final var parentASTNode = astNode.getParent();
-      parentASTNode.replaceChild(astNode.getChildIndex(), new AST(XQ.SequenceExpr));
-    }
-
     for (int i = pathNodeKeyBitmap.nextSetBit(0); i >= 0; i = pathNodeKeyBitmap.nextSetBit(i + 1)) {
       // operate on index i here
       pathNodeKeys.add(i);
@@ -164,7 +212,7 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
   }
 
   private boolean findIndexDefsForPathNodeKeys(AST predicateNode, Type type, Deque<String> predicateSegmentNames,
-      RevisionData revisionData, JsonResourceManager resMgr, PathSummaryReader pathSummary, List<Integer> pathNodeKeys,
+      int revision, JsonResourceManager resMgr, PathSummaryReader pathSummary, List<Integer> pathNodeKeys,
       Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, Map<IndexDef, Integer> foundIndexDefsToPredicateLevels) {
     boolean notFound = false;
 
@@ -173,9 +221,9 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
       assert foundPathNode != null;
       final var pathToFoundNode = foundPathNode.getPath(pathSummary);
 
-      final var indexController = revisionData.revision() == -1
+      final var indexController = revision == -1
           ? resMgr.getRtxIndexController(resMgr.getMostRecentRevisionNumber())
-          : resMgr.getRtxIndexController(revisionData.revision());
+          : resMgr.getRtxIndexController(revision);
 
       final var indexDef = findIndex(pathToFoundNode, indexController, type);
 
@@ -189,7 +237,11 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
         foundIndexDefsToPredicateLevels.put(indexDef.get(), predicateLevel);
       }
 
-      foundIndexDefsToPaths.computeIfAbsent(indexDef.get(), (unused) -> new ArrayList<>()).add(pathToFoundNode);
+      final var paths = foundIndexDefsToPaths.computeIfAbsent(indexDef.get(), (unused) -> new ArrayList<>());
+
+      if (!paths.contains(pathToFoundNode)) {
+        paths.add(pathToFoundNode);
+      }
     }
 
     return notFound;
@@ -250,7 +302,8 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
   }
 
   private boolean isIndexExpr(AST newChildNode) {
-    return newChildNode.getType() == XQExt.IndexExpr;
+    // Index expressions spanning several revisions can't be combined with other index lookups.
+    return newChildNode.getType() == XQExt.IndexExpr && newChildNode.getProperty("revisions") == null;
   }
 
   abstract int getPredicateLevel(Path<QNm> pathToFoundNode, Deque<String> predicateSegmentNames);
@@ -261,6 +314,17 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
   abstract Optional<IndexDef> findIndex(Path<QNm> pathToFoundNode,
       IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController, Type type);
 
+  private boolean isTemporalFunction(AST newChildNode) {
+    if (newChildNode.getType() != XQ.FunctionCall || newChildNode.getChildCount() != 1) {
+      return false;
+    }
+
+    final var functionName = newChildNode.getValue();
+    return TEMPORAL_FUNCTIONS.stream()
+                             .anyMatch(name -> new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, name).equals(
+                                 functionName));
+  }
+
   private boolean isDocumentNodeFunction(AST newChildNode) {
     return new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "doc").equals(newChildNode.getValue())
         || new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "open").equals(newChildNode.getValue());
@@ -25,6 +25,7 @@ import static org.sirix.xquery.function.sdb.trx.GetHash.HASH;
 import static org.sirix.xquery.function.sdb.trx.GetMostRecentRevision.MOST_RECENT_REVISION;
 import static org.sirix.xquery.function.xml.trx.GetNamespaceCount.GET_NAMESPACE_COUNT;
 import static org.sirix.xquery.function.sdb.trx.GetRevision.REVISION;
+import static org.sirix.xquery.function.sdb.trx.GetRevisionStatistics.REVISION_STATISTICS;
 import static org.sirix.xquery.function.sdb.trx.GetRevisionTimestamp.TIMESTAMP;
 import static org.sirix.xquery.function.sdb.trx.LevelOrder.LEVEL_ORDER;
 import static org.sirix.xquery.function.sdb.trx.Rollback.ROLLBACK;
@@ -198,6 +199,15 @@ public final class SDBFun {
     Functions.predefine(new GetMostRecentRevision(MOST_RECENT_REVISION,
                                                   new Signature(SequenceType.INTEGER, SequenceType.NODE)));
 
+    // revision-statistics
+    Functions.predefine(new GetRevisionStatistics(REVISION_STATISTICS,
+                                                  new Signature(SequenceType.ITEM, SequenceType.NODE)));
+    Functions.predefine(new GetRevisionStatistics(REVISION_STATISTICS,
+                                                  new Signature(SequenceType.ITEM_SEQUENCE,
+                                                                SequenceType.NODE,
+                                                                new SequenceType(AtomicType.INT, Cardinality.One),
+                                                                new SequenceType(AtomicType.INT, Cardinality.One))));
+
     // get-namespace-count
     Functions.predefine(new GetNamespaceCount(GET_NAMESPACE_COUNT,
                                               new Signature(SequenceType.INTEGER, SequenceType.NODE)));
@@ -0,0 +1,124 @@
+package org.sirix.xquery.function.sdb.trx;
+
+import org.brackit.xquery.QueryContext;
+import org.brackit.xquery.QueryException;
+import org.brackit.xquery.array.DArray;
+import org.brackit.xquery.atomic.Int32;
+import org.brackit.xquery.atomic.Int64;
+import org.brackit.xquery.atomic.IntNumeric;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.function.AbstractFunction;
+import org.brackit.xquery.module.StaticContext;
+import org.brackit.xquery.record.ArrayRecord;
+import org.brackit.xquery.xdm.Sequence;
+import org.brackit.xquery.xdm.Signature;
+import org.sirix.node.NodeKind;
+import org.sirix.page.RevisionStatistics;
+import org.sirix.xquery.StructuredDBItem;
+import org.sirix.xquery.function.sdb.SDBFun;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Function for getting the aggregate statistics of revisions, which are read from the revision root
+ * pages only. The statistics have to be enabled when creating the resource. Supported signatures
+ * are:
+ * </p>
+ * <ul>
+ * <li><code>sdb:revision-statistics($doc as xs:structured-item) as json-item?</code></li>
+ * <li><code>sdb:revision-statistics($doc as xs:structured-item, $from as xs:int, $to as xs:int) as json-item*</code></li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class GetRevisionStatistics extends AbstractFunction {
+
+  /**
+   * Get function name.
+   */
+  public final static QNm REVISION_STATISTICS = new QNm(SDBFun.SDB_NSURI, SDBFun.SDB_PREFIX, "revision-statistics");
+
+  private static final QNm REVISION = new QNm("revision");
+
+  private static final QNm NODE_COUNT = new QNm("nodeCount");
+
+  private static final QNm NODE_COUNTS = new QNm("nodeCounts");
+
+  private static final QNm PATH_NODE_REFERENCES = new QNm("pathNodeReferences");
+
+  private static final QNm TOTAL_VALUE_BYTES = new QNm("totalValueBytes");
+
+  /**
+   * Constructor.
+   *
+   * @param name      the name of the function
+   * @param signature the signature of the function
+   */
+  public GetRevisionStatistics(final QNm name, final Signature signature) {
+    super(name, signature, true);
+  }
+
+  @Override
+  public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
+    final StructuredDBItem<?> doc = ((StructuredDBItem<?>) args[0]);
+    final var resourceManager = doc.getTrx().getResourceManager();
+
+    if (args.length == 1) {
+      final int revision = doc.getTrx().getRevisionNumber();
+      return resourceManager.getRevisionStatistics(revision)
+                            .map(statistics -> toRecord(revision, statistics))
+                            .orElse(null);
+    }
+
+    final int fromRevision = ((IntNumeric) args[1]).intValue();
+    final int toRevision = ((IntNumeric) args[2]).intValue();
+
+    if (fromRevision < 0 || toRevision < fromRevision) {
+      throw new QueryException(SDBFun.ERR_INVALID_ARGUMENT,
+                               "Invalid revision range: %s to %s",
+                               fromRevision,
+                               toRevision);
+    }
+
+    // Revisions without statistics are skipped, the records contain the revision numbers.
+    final Map<Integer, RevisionStatistics> statistics =
+        resourceManager.getRevisionStatistics(fromRevision, toRevision);
+    final List<Sequence> records = new ArrayList<>(statistics.size());
+
+    for (final Map.Entry<Integer, RevisionStatistics> entry : statistics.entrySet()) {
+      records.add(toRecord(entry.getKey(), entry.getValue()));
+    }
+
+    return new DArray(records);
+  }
+
+  private static ArrayRecord toRecord(final int revision, final RevisionStatistics statistics) {
+    final Map<NodeKind, Long> nodeCounts = statistics.getNodeCounts();
+    final QNm[] kinds = new QNm[nodeCounts.size()];
+    final Sequence[] counts = new Sequence[nodeCounts.size()];
+    int i = 0;
+    for (final Map.Entry<NodeKind, Long> entry : nodeCounts.entrySet()) {
+      kinds[i] = new QNm(entry.getKey().name().toLowerCase());
+      counts[i] = new Int64(entry.getValue());
+      i++;
+    }
+
+    final Map<Long, Long> pathNodeReferences = statistics.getPathNodeReferences();
+    final QNm[] pathNodeKeys = new QNm[pathNodeReferences.size()];
+    final Sequence[] references = new Sequence[pathNodeReferences.size()];
+    i = 0;
+    for (final Map.Entry<Long, Long> entry : pathNodeReferences.entrySet()) {
+      pathNodeKeys[i] = new QNm(String.valueOf(entry.getKey()));
+      references[i] = new Int64(entry.getValue());
+      i++;
+    }
+
+    return new ArrayRecord(new QNm[] { REVISION, NODE_COUNT, NODE_COUNTS, PATH_NODE_REFERENCES, TOTAL_VALUE_BYTES },
+                           new Sequence[] { new Int32(revision), new Int64(statistics.getNodeCount()),
+                               new ArrayRecord(kinds, counts), new ArrayRecord(pathNodeKeys, references),
+                               new Int64(statistics.getTotalValueBytes()) });
+  }
+}
@@ -145,11 +145,7 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private void moveToIndex(int index, JsonNodeTrx trx) {
     // must have children
 
-    trx.moveToFirstChild();
-
-    for (int i = 1; i <= index; i++) {
-      trx.moveToRightSibling();
-    }
+    trx.moveToChildAtIndex(index);
   }
 
   private JsonNodeTrx getReadWriteTrx() {
@@ -382,15 +378,7 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.next();
-    }
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (index >= 0 && rtx.moveToChildAtIndex(index).hasMoved()) {
       return jsonItemFactory.getSequence(rtx, collection);
     }
 
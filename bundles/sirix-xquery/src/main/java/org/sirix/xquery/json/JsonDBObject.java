@@ -22,8 +22,6 @@ import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
 import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.filter.FilterAxis;
-import org.sirix.axis.filter.json.JsonNameFilter;
 import org.sirix.axis.temporal.*;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.xquery.StructuredDBItem;
@@ -352,18 +350,7 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private boolean findField(QNm field, JsonNodeTrx trx) {
-    trx.moveToFirstChild();
-
-    boolean isFound = false;
-
-    do {
-      if (trx.getName().equals(field)) {
-        isFound = true;
-        break;
-      }
-    } while (trx.moveToRightSibling().hasMoved());
-
-    return isFound;
+    return trx.moveToField(field.getLocalName()).hasMoved();
   }
 
   @Override
@@ -459,11 +446,7 @@ public final class JsonDBObject extends AbstractItem
     moveRtx();
 
     return fields.computeIfAbsent(field, (unused) -> {
-      final var axis = new FilterAxis<>(new ChildAxis(rtx), new JsonNameFilter(rtx, field));
-
-      if (axis.hasNext()) {
-        axis.next();
-
+      if (rtx.moveToField(field.getLocalName()).hasMoved()) {
         return jsonItemFactory.getSequence(rtx.moveToFirstChild().trx(), collection);
       }
 
@@ -0,0 +1,441 @@
+package org.sirix.xquery.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.brackit.xquery.XQuery;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.sequence.ItemSequence;
+import org.brackit.xquery.xdm.Item;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.PostCommitHook;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.node.NodeKind;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.utils.LogWrapper;
+import org.sirix.xquery.SirixCompileChain;
+import org.sirix.xquery.SirixQueryContext;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * <p>
+ * A materialized view of a JSON resource: the result of an XQuery aggregation over the resource is
+ * stored as a resource of its own, such that reading the view is a plain resource read instead of an
+ * evaluation of the query. The view is refreshed on each commit of the resource, once it has been
+ * {@link JsonNodeTrx#addPostCommitHook(PostCommitHook) added} as a post commit hook to the write
+ * transactions. Each refresh is committed as a new revision of the view resource.
+ * </p>
+ * <p>
+ * The query has to return a JSON object, which maps group keys to the aggregated values of the
+ * groups. If the top-level records of the resource, that is the children of the root array, are
+ * grouped by one of their fields (see {@link Builder#groupBy(String)}), the view is refreshed
+ * incrementally: the update operations of the commit are mapped to the group keys of the changed
+ * records in the old and the new revision and only these groups are re-evaluated and replaced in the
+ * view. The query thus gets the group keys to evaluate as strings bound to the external variable
+ * {@code $groups}, which is the empty sequence if all groups have to be evaluated. The databases are
+ * looked up in the directory of the database of the view, for instance:
+ * </p>
+ *
+ * <pre>
+ * declare variable $groups external;
+ * {| for $record in jn:doc('mycol.jn','mydoc.jn')[]
+ *    let $group := string($record=&gt;category)
+ *    where empty($groups) or $group = $groups
+ *    group by $group
+ *    return { $group: count($record) } |}
+ * </pre>
+ * <p>
+ * The view is completely re-evaluated if no field to group by is set, if the update operations of the
+ * commit aren't stored (see {@link ResourceConfiguration#storeDiffs()}), if a change isn't located
+ * in a top-level record, or if the group key of a changed record isn't a string or a boolean.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class MaterializedJsonView implements PostCommitHook, AutoCloseable {
+
+  /**
+   * {@link LogWrapper} reference.
+   */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(MaterializedJsonView.class));
+
+  /**
+   * The external variable the group keys to evaluate are bound to.
+   */
+  public static final QNm GROUPS = new QNm("groups");
+
+  /**
+   * The location of the databases the query is evaluated on.
+   */
+  private final Path location;
+
+  /**
+   * The resource manager of the view resource.
+   */
+  private final JsonResourceManager viewResourceManager;
+
+  /**
+   * The query.
+   */
+  private final String query;
+
+  /**
+   * The name of the field of the top-level records to group by or {@code null}.
+   */
+  private final String groupBy;
+
+  /**
+   * Determines if a refresh of the view failed, such that the view doesn't reflect the most recent
+   * revision of the resource anymore.
+   */
+  private volatile boolean stale;
+
+  /**
+   * Private constructor.
+   *
+   * @param builder the builder
+   */
+  private MaterializedJsonView(final Builder builder) {
+    location = builder.database.getDatabaseConfig().getDatabaseFile().getParent();
+    query = builder.query;
+    groupBy = builder.groupBy;
+
+    if (!builder.database.existsResource(builder.viewResourceName)) {
+      builder.database.createResource(ResourceConfiguration.newBuilder(builder.viewResourceName).build());
+    }
+
+    viewResourceManager = builder.database.openResourceManager(builder.viewResourceName);
+  }
+
+  /**
+   * Get a new builder instance.
+   *
+   * @param database         the database of the view resource
+   * @param viewResourceName the name of the view resource, which is created if it doesn't exist
+   * @param query            the query
+   * @return a new builder instance
+   */
+  public static Builder newBuilder(final Database<JsonResourceManager> database, final String viewResourceName,
+      final String query) {
+    return new Builder(database, viewResourceName, query);
+  }
+
+  /**
+   * Get the resource manager of the view resource to read the view.
+   *
+   * @return the resource manager of the view resource
+   */
+  public JsonResourceManager getViewResourceManager() {
+    return viewResourceManager;
+  }
+
+  /**
+   * Determines if a refresh of the view failed. A stale view is completely re-evaluated on the next
+   * commit of the resource or by {@link #materialize()}.
+   *
+   * @return {@code true}, if the view is stale, {@code false} otherwise
+   */
+  public boolean isStale() {
+    return stale;
+  }
+
+  /**
+   * Evaluate the query for all groups and replace the view, for instance to initially materialize it.
+   */
+  public synchronized void materialize() {
+    refresh(null, "Materialize view");
+    stale = false;
+  }
+
+  /**
+   * Refresh the view. The commit of the resource has already succeeded, thus a failing refresh is only
+   * logged and marks the view as {@link #isStale() stale}.
+   */
+  @Override
+  public synchronized void postCommit(final NodeReadOnlyTrx rtx) {
+    final var resourceManager = (JsonResourceManager) checkNotNull(rtx).getResourceManager();
+    final int revision = resourceManager.getMostRecentRevisionNumber();
+
+    try {
+      // The changes of the revisions, which a failed refresh missed, are unknown.
+      final Set<String> groups = groupBy == null || stale ? null : getChangedGroups(resourceManager, revision);
+
+      if (groups != null && groups.isEmpty()) {
+        return;
+      }
+
+      refresh(groups, "Refresh view after revision " + revision + " of resource "
+          + resourceManager.getResourceConfig().getName());
+      stale = false;
+    } catch (final RuntimeException e) {
+      stale = true;
+      LOGWRAPPER.error("Refreshing the view after revision {} of resource {} failed, the view is stale.",
+                       revision,
+                       resourceManager.getResourceConfig().getName(),
+                       e);
+    }
+  }
+
+  /**
+   * Get the keys of the groups with changed top-level records.
+   *
+   * @param resourceManager the resource manager of the resource
+   * @param revision        the committed revision
+   * @return the group keys or {@code null}, if the whole view has to be re-evaluated
+   */
+  private Set<String> getChangedGroups(final JsonResourceManager resourceManager, final int revision) {
+    if (revision < 2 || !resourceManager.getResourceConfig().storeDiffs()) {
+      return null;
+    }
+
+    try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(revision - 1);
+         final var newRtx = resourceManager.beginNodeReadOnlyTrx(revision)) {
+      final List<JsonObject> updateOperations;
+      try {
+        updateOperations = newRtx.getUpdateOperations();
+      } catch (final UncheckedIOException e) {
+        // No update operations have been stored, for instance after a bulk insert.
+        LOGWRAPPER.debug(e.getMessage(), e);
+        return null;
+      }
+
+      final Set<String> groups = new HashSet<>();
+
+      for (final JsonObject updateOperation : updateOperations) {
+        final boolean isInRecord;
+
+        if (updateOperation.has("insert")) {
+          isInRecord = addGroup(newRtx, nodeKey(updateOperation.get("insert"), "nodeKey"), groups);
+        } else if (updateOperation.has("delete")) {
+          isInRecord = addGroup(oldRtx, nodeKey(updateOperation.get("delete"), "nodeKey"), groups);
+        } else if (updateOperation.has("replace")) {
+          final JsonElement replace = updateOperation.get("replace");
+          isInRecord = addGroup(oldRtx, nodeKey(replace, "oldNodeKey"), groups)
+              && addGroup(newRtx, nodeKey(replace, "newNodeKey"), groups);
+        } else if (updateOperation.has("update")) {
+          final long nodeKey = nodeKey(updateOperation.get("update"), "nodeKey");
+          isInRecord = addGroup(oldRtx, nodeKey, groups) && addGroup(newRtx, nodeKey, groups);
+        } else {
+          isInRecord = true;
+        }
+
+        if (!isInRecord) {
+          return null;
+        }
+      }
+
+      return groups;
+    }
+  }
+
+  // Get the node key of an update operation, which is either an object or just the node key of a deleted node.
+  private static long nodeKey(final JsonElement updateOperation, final String name) {
+    return updateOperation.isJsonObject()
+        ? updateOperation.getAsJsonObject().get(name).getAsLong()
+        : updateOperation.getAsLong();
+  }
+
+  /**
+   * Add the key of the group of the top-level record the node belongs to.
+   *
+   * @param rtx     read-only transaction of the revision the node exists in
+   * @param nodeKey the node key of the changed node
+   * @param groups  the group keys
+   * @return {@code true}, if the node is located in a top-level record, {@code false} otherwise
+   */
+  private boolean addGroup(final JsonNodeReadOnlyTrx rtx, final long nodeKey, final Set<String> groups) {
+    rtx.moveToDocumentRoot();
+    if (!rtx.moveToFirstChild().hasMoved() || rtx.getKind() != NodeKind.ARRAY) {
+      return false;
+    }
+
+    final long rootArrayKey = rtx.getNodeKey();
+
+    if (!rtx.moveTo(nodeKey).hasMoved() || rtx.isDocumentRoot() || rtx.getNodeKey() == rootArrayKey) {
+      return false;
+    }
+
+    // Move up to the top-level record.
+    while (rtx.getParentKey() != rootArrayKey) {
+      if (!rtx.moveToParent().hasMoved() || rtx.isDocumentRoot()) {
+        return false;
+      }
+    }
+
+    if (rtx.getKind() != NodeKind.OBJECT || !rtx.moveToFirstChild().hasMoved()) {
+      return true;
+    }
+
+    do {
+      if (groupBy.equals(rtx.getName().getLocalName())) {
+        rtx.moveToFirstChild();
+
+        switch (rtx.getKind()) {
+          case OBJECT_STRING_VALUE -> groups.add(rtx.getValue());
+          case OBJECT_BOOLEAN_VALUE -> groups.add(String.valueOf(rtx.getBooleanValue()));
+          case OBJECT_NULL_VALUE -> {
+            // Records without a group key don't belong to a group.
+          }
+          // The string of a number depends on its type in the query (for instance "2" instead of "2.0"),
+          // objects and arrays aren't suitable as group keys.
+          default -> {
+            return false;
+          }
+        }
+
+        return true;
+      }
+    } while (rtx.moveToRightSibling().hasMoved());
+
+    return true;
+  }
+
+  /**
+   * Re-evaluate the query and replace the groups in the view.
+   *
+   * @param groups        the group keys or {@code null}, if the whole view has to be replaced
+   * @param commitMessage the commit message
+   */
+  private void refresh(final @Nullable Set<String> groups, final String commitMessage) {
+    final JsonObject result = evaluate(groups);
+
+    try (final var wtx = viewResourceManager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot();
+
+      final boolean hasView = wtx.moveToFirstChild().hasMoved() && wtx.getKind() == NodeKind.OBJECT;
+
+      if (groups == null || !hasView) {
+        if (wtx.getKind() != NodeKind.JSON_DOCUMENT) {
+          wtx.remove();
+          wtx.moveToDocumentRoot();
+        }
+
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(result.toString()), JsonNodeTrx.Commit.No);
+      } else {
+        final long viewKey = wtx.getNodeKey();
+
+        // Remove the records of the groups, which have been re-evaluated.
+        final List<Long> recordKeys = new ArrayList<>();
+        if (wtx.moveToFirstChild().hasMoved()) {
+          do {
+            if (groups.contains(wtx.getName().getLocalName())) {
+              recordKeys.add(wtx.getNodeKey());
+            }
+          } while (wtx.moveToRightSibling().hasMoved());
+        }
+
+        for (final long recordKey : recordKeys) {
+          wtx.moveTo(recordKey);
+          wtx.remove();
+        }
+
+        // Insert the records of the groups, which still exist.
+        if (result.size() > 0) {
+          wtx.moveTo(viewKey);
+          wtx.insertSubtreeAsLastChild(JsonShredder.createStringReader(result.toString()), JsonNodeTrx.Commit.No);
+        }
+      }
+
+      wtx.commit(commitMessage);
+    }
+  }
+
+  /**
+   * Evaluate the query. A new store is used for each evaluation, as the databases of a store don't
+   * see revisions committed by other database instances.
+   *
+   * @param groups the group keys to evaluate or {@code null} to evaluate all groups
+   * @return the JSON object, which maps the group keys to the values
+   */
+  private JsonObject evaluate(final @Nullable Set<String> groups) {
+    final var out = new ByteArrayOutputStream();
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(location).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store);
+         final var printStream = new PrintStream(out, false, StandardCharsets.UTF_8)) {
+      ctx.bind(GROUPS, groups == null ? null : new ItemSequence(groups.stream().map(Str::new).toArray(Item[]::new)));
+      new XQuery(chain, query).serialize(ctx, printStream);
+    }
+
+    final JsonElement result = JsonParser.parseString(out.toString(StandardCharsets.UTF_8));
+    checkState(result.isJsonObject(), "The query of a materialized view must return a JSON object.");
+    return result.getAsJsonObject();
+  }
+
+  /**
+   * Close the view resource. The view isn't refreshed anymore afterwards, so the post commit hook
+   * mustn't be used on further commits.
+   */
+  @Override
+  public void close() {
+    viewResourceManager.close();
+  }
+
+  /**
+   * Builder to create a {@link MaterializedJsonView}.
+   */
+  public static final class Builder {
+    private final Database<JsonResourceManager> database;
+
+    private final String viewResourceName;
+
+    private final String query;
+
+    private String groupBy;
+
+    /**
+     * Constructor.
+     *
+     * @param database         the database of the view resource
+     * @param viewResourceName the name of the view resource, which is created if it doesn't exist
+     * @param query            the query
+     */
+    public Builder(final Database<JsonResourceManager> database, final String viewResourceName,
+        final String query) {
+      this.database = checkNotNull(database);
+      this.viewResourceName = checkNotNull(viewResourceName);
+      this.query = checkNotNull(query);
+    }
+
+    /**
+     * Set the name of the field of the top-level records, which the query groups by, such that the view
+     * is refreshed incrementally.
+     *
+     * @param fieldName the name of the field
+     * @return this builder instance
+     */
+    public Builder groupBy(final String fieldName) {
+      groupBy = checkNotNull(fieldName);
+      return this;
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @return a new {@link MaterializedJsonView} instance
+     */
+    public MaterializedJsonView build() {
+      return new MaterializedJsonView(this);
+    }
+  }
+}
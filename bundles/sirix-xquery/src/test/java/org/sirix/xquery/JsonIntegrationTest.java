@@ -539,4 +539,24 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
          openQuery,
          Files.readString(JSON_RESOURCE_PATH.resolve("testNesting21").resolve("expectedOutput")));
   }
+
+  @Test
+  public void testTemporalPathIndexPushdownPrevious() throws IOException {
+    final String storeQuery = "jn:store('mycol.jn','mydoc.jn','{\"foo\":{\"bar\":1}}')";
+    final String indexQuery =
+        "let $doc := jn:doc('mycol.jn','mydoc.jn') let $stats := jn:create-path-index($doc, '/foo/bar') return {\"revision\": sdb:commit($doc)}";
+    final String updateQuery = "replace json value of jn:doc('mycol.jn','mydoc.jn')=>foo=>bar with 2";
+    final String query = "jn:previous(jn:doc('mycol.jn','mydoc.jn'))=>foo=>bar";
+    test(storeQuery, indexQuery, updateQuery, query, "1");
+  }
+
+  @Test
+  public void testTemporalPathIndexPushdownLast() throws IOException {
+    final String storeQuery = "jn:store('mycol.jn','mydoc.jn','{\"foo\":{\"bar\":1}}')";
+    final String indexQuery =
+        "let $doc := jn:doc('mycol.jn','mydoc.jn') let $stats := jn:create-path-index($doc, '/foo/bar') return {\"revision\": sdb:commit($doc)}";
+    final String updateQuery = "replace json value of jn:doc('mycol.jn','mydoc.jn')=>foo=>bar with 2";
+    final String query = "jn:last(jn:doc('mycol.jn','mydoc.jn'))=>foo=>bar";
+    test(storeQuery, indexQuery, updateQuery, query, "2");
+  }
 }
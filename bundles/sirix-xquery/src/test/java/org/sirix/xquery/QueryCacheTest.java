@@ -0,0 +1,160 @@
+package org.sirix.xquery;
+
+import junit.framework.TestCase;
+import org.brackit.xquery.XQuery;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.xquery.json.BasicJsonDBStore;
+import org.sirix.xquery.json.JsonDBStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class QueryCacheTest extends TestCase {
+
+  private final Path sirixPath = PATHS.PATH1.getFile();
+
+  @Override
+  protected void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Override
+  protected void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testPlanIsCached() {
+    final var queryCache = new QueryCache(16, 0);
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var chain = SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(null, store, queryCache)) {
+      final var module = chain.compile("for $i in (1, 2, 3) return $i * 2");
+
+      assertSame(module, chain.compile("for $i in (1, 2, 3) return $i * 2"));
+      assertEquals(1, queryCache.getNumberOfPlans());
+    }
+  }
+
+  @Test
+  public void testResultOfMostRecentRevisionIsInvalidated() {
+    final var queryCache = new QueryCache(16, 1024 * 1024);
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(null, store, queryCache)) {
+      new XQuery(chain, "jn:store('mycol.jn','mydoc.jn','{\"a\":1}')").evaluate(ctx);
+
+      final var evaluations = new AtomicInteger();
+      final String query = "jn:doc('mycol.jn','mydoc.jn')=>a";
+      final String pinnedQuery = "jn:doc('mycol.jn','mydoc.jn',1)=>a";
+
+      assertEquals("1", getResult(queryCache, chain, store, query, evaluations));
+      assertEquals("1", getResult(queryCache, chain, store, query, evaluations));
+      assertEquals(1, evaluations.get());
+
+      assertEquals("1", getResult(queryCache, chain, store, pinnedQuery, evaluations));
+      assertEquals(2, evaluations.get());
+
+      new XQuery(chain, "replace json value of jn:doc('mycol.jn','mydoc.jn')=>a with 5").evaluate(ctx);
+
+      // Only the result of the query on the most recent revision is evaluated again.
+      assertEquals("5", getResult(queryCache, chain, store, query, evaluations));
+      assertEquals("1", getResult(queryCache, chain, store, pinnedQuery, evaluations));
+      assertEquals(3, evaluations.get());
+    }
+  }
+
+  @Test
+  public void testTransactionStaysOpenAcrossCachedQuery() {
+    final var queryCache = new QueryCache(16, 1024 * 1024);
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(null, store, queryCache)) {
+      new XQuery(chain, "jn:store('mycol.jn','mydoc.jn','{\"a\":1}')").evaluate(ctx);
+
+      final var manager = store.lookup("mycol.jn").getDatabase().openResourceManager("mydoc.jn");
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        final var evaluations = new AtomicInteger();
+        final String query = "jn:doc('mycol.jn','mydoc.jn')=>a";
+
+        assertEquals("1", getResult(queryCache, chain, store, query, evaluations));
+        assertEquals("1", getResult(queryCache, chain, store, query, evaluations));
+        assertEquals(1, evaluations.get());
+
+        // The lookups of the most recent revision must not close the shared resource manager.
+        assertFalse(manager.isClosed());
+        assertFalse(rtx.isClosed());
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidateResource() {
+    final var queryCache = new QueryCache(16, 1024 * 1024);
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(null, store, queryCache)) {
+      new XQuery(chain, "jn:store('mycol.jn','mydoc.jn','{\"a\":1}')").evaluate(ctx);
+
+      final var evaluations = new AtomicInteger();
+      final String pinnedQuery = "jn:doc('mycol.jn','mydoc.jn',1)=>a";
+
+      assertEquals("1", getResult(queryCache, chain, store, pinnedQuery, evaluations));
+      assertEquals(1, evaluations.get());
+
+      // Other resources and databases don't affect the result.
+      queryCache.invalidate("mycol.jn", "otherdoc.jn");
+      queryCache.invalidate("othercol.jn", null);
+      assertEquals("1", getResult(queryCache, chain, store, pinnedQuery, evaluations));
+      assertEquals(1, evaluations.get());
+
+      // A resource created anew starts with revision 1 again, thus even pinned results are removed.
+      queryCache.invalidate("mycol.jn", "mydoc.jn");
+      assertEquals(0, queryCache.getNumberOfResults());
+      assertEquals("1", getResult(queryCache, chain, store, pinnedQuery, evaluations));
+      assertEquals(2, evaluations.get());
+
+      queryCache.invalidate("mycol.jn", null);
+      assertEquals(0, queryCache.getNumberOfResults());
+    }
+  }
+
+  @Test
+  public void testResultOfUpdatingQueryIsNotCached() {
+    final var queryCache = new QueryCache(16, 1024 * 1024);
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var chain = SirixCompileChain.createWithNodeAndJsonStoreAndQueryCache(null, store, queryCache)) {
+      final var evaluations = new AtomicInteger();
+      final String query = "jn:store('mycol.jn','mydoc.jn','[1,2,3]')";
+
+      getResult(queryCache, chain, store, query, evaluations);
+      getResult(queryCache, chain, store, query, evaluations);
+
+      assertEquals(2, evaluations.get());
+      assertEquals(0, queryCache.getNumberOfResults());
+    }
+  }
+
+  private static String getResult(final QueryCache queryCache, final SirixCompileChain chain,
+      final JsonDBStore store, final String query, final AtomicInteger evaluations) {
+    return queryCache.getResult(chain, query, "", () -> {
+      evaluations.incrementAndGet();
+
+      try (final var ctx = SirixQueryContext.createWithJsonStore(store)) {
+        final var out = new ByteArrayOutputStream();
+        new XQuery(chain, query).serialize(ctx, new PrintStream(out));
+        return out.toString();
+      }
+    });
+  }
+}
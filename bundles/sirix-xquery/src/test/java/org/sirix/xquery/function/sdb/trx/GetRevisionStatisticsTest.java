@@ -0,0 +1,86 @@
+package org.sirix.xquery.function.sdb.trx;
+
+import junit.framework.TestCase;
+import org.brackit.xquery.XQuery;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.xquery.SirixCompileChain;
+import org.sirix.xquery.SirixQueryContext;
+import org.sirix.xquery.json.BasicJsonDBStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+
+public final class GetRevisionStatisticsTest extends TestCase {
+
+  private final Path sirixPath = JsonTestHelper.PATHS.PATH1.getFile();
+
+  @Override
+  protected void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Override
+  protected void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testRevisionStatistics() throws IOException {
+    final Path databasePath = sirixPath.resolve("mycol.jn");
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder("mydoc.jn").storeStatistics(true).build());
+
+      try (final var manager = database.openResourceManager("mydoc.jn"); final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":\"bar\"}"));
+
+        // Remove the "foo" object key including its value.
+        wtx.moveTo(2);
+        wtx.remove();
+        wtx.commit();
+      }
+    }
+
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      assertEquals("4", query(chain, ctx, "sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn',1))=>nodeCount"));
+      assertEquals("3", query(chain, ctx, "sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn',1))=>totalValueBytes"));
+      assertEquals("1 4 2", query(chain, ctx, """
+          for $statistics in sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn'), 0, 2)[]
+          return $statistics=>nodeCount"""));
+      assertEquals("0 1 2", query(chain, ctx, """
+          for $statistics in sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn'), 0, 2)[]
+          return $statistics=>revision"""));
+    }
+  }
+
+  @Test
+  public void testRevisionStatisticsOfResourceWithoutStatistics() throws IOException {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      new XQuery(chain, "jn:store('mycol.jn','mydoc.jn','{\"foo\":\"bar\"}')").evaluate(ctx);
+
+      assertEquals("", query(chain, ctx, "sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn'))"));
+      assertEquals("0", query(chain, ctx, "count(sdb:revision-statistics(jn:doc('mycol.jn','mydoc.jn'), 0, 1)[])"));
+    }
+  }
+
+  private static String query(final SirixCompileChain chain, final SirixQueryContext ctx, final String query)
+      throws IOException {
+    try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+      new XQuery(chain, query).serialize(ctx, printWriter);
+      printWriter.flush();
+      return out.toString();
+    }
+  }
+}
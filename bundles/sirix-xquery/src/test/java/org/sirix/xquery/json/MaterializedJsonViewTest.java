@@ -0,0 +1,185 @@
+package org.sirix.xquery.json;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import junit.framework.TestCase;
+import org.brackit.xquery.XQuery;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.Databases;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.service.json.serialize.JsonSerializer;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.xquery.SirixCompileChain;
+import org.sirix.xquery.SirixQueryContext;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+public final class MaterializedJsonViewTest extends TestCase {
+
+  private static final String QUERY = """
+      declare variable $groups external;
+      {| for $record in jn:doc('mycol.jn','mydoc.jn')[]
+         let $group := string($record=>category)
+         where empty($groups) or $group = $groups
+         group by $group
+         return { $group: sum($record=>price) } |}""";
+
+  private final Path sirixPath = PATHS.PATH1.getFile();
+
+  @Override
+  protected void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Override
+  protected void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testRefreshOnCommit() {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      final String storeQuery = "jn:store('mycol.jn','mydoc.jn','[{\"category\":\"a\",\"price\":1},"
+          + "{\"category\":\"b\",\"price\":2},{\"category\":\"a\",\"price\":3}]')";
+      new XQuery(chain, storeQuery).evaluate(ctx);
+    }
+
+    try (final var database = Databases.openJsonDatabase(sirixPath.resolve("mycol.jn"));
+         final var view = MaterializedJsonView.newBuilder(database, "view", QUERY).groupBy("category").build();
+         final var manager = database.openResourceManager("mydoc.jn");
+         final var wtx = manager.beginNodeTrx()) {
+      view.materialize();
+      assertEquals(JsonParser.parseString("{\"a\":4,\"b\":2}"), serialize(view.getViewResourceManager()));
+
+      final long groupKeyOfB = getNodeKeyOfGroup(view.getViewResourceManager(), "b");
+
+      // Change the price of the first record, such that only group "a" is re-evaluated.
+      wtx.addPostCommitHook(view);
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.moveToRightSibling();
+      wtx.moveToFirstChild();
+      wtx.setNumberValue(10);
+      wtx.commit();
+
+      assertEquals(JsonParser.parseString("{\"a\":13,\"b\":2}"), serialize(view.getViewResourceManager()));
+      assertEquals(groupKeyOfB, getNodeKeyOfGroup(view.getViewResourceManager(), "b"));
+      assertEquals(2, view.getViewResourceManager().getMostRecentRevisionNumber());
+
+      // Add a record of a new group.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertSubtreeAsLastChild(JsonShredder.createStringReader("{\"category\":\"c\",\"price\":5}"));
+
+      assertEquals(JsonParser.parseString("{\"a\":13,\"b\":2,\"c\":5}"), serialize(view.getViewResourceManager()));
+    }
+  }
+
+  @Test
+  public void testRefreshOfNumericGroups() {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      final String storeQuery = "jn:store('mycol.jn','mydoc.jn','[{\"category\":1.0,\"price\":1},"
+          + "{\"category\":2.0,\"price\":2},{\"category\":1.0,\"price\":3}]')";
+      new XQuery(chain, storeQuery).evaluate(ctx);
+    }
+
+    try (final var database = Databases.openJsonDatabase(sirixPath.resolve("mycol.jn"));
+         final var view = MaterializedJsonView.newBuilder(database, "view", QUERY).groupBy("category").build();
+         final var manager = database.openResourceManager("mydoc.jn");
+         final var wtx = manager.beginNodeTrx()) {
+      view.materialize();
+
+      // The group keys are the strings of the numbers in the query, for instance "1" instead of "1.0".
+      final var expected = serialize(view.getViewResourceManager());
+      assertEquals(2, expected.size());
+      final String groupOfFirstRecord = expected.entrySet()
+                                                .stream()
+                                                .filter(group -> group.getValue().getAsInt() == 4)
+                                                .findAny()
+                                                .orElseThrow()
+                                                .getKey();
+      expected.addProperty(groupOfFirstRecord, 13);
+
+      // Change the price of the first record.
+      wtx.addPostCommitHook(view);
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.moveToRightSibling();
+      wtx.moveToFirstChild();
+      wtx.setNumberValue(10);
+      wtx.commit();
+
+      assertEquals(expected, serialize(view.getViewResourceManager()));
+    }
+  }
+
+  @Test
+  public void testFailedRefreshMarksViewAsStale() {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      final String storeQuery = "jn:store('mycol.jn','mydoc.jn','[{\"category\":\"a\",\"price\":1},"
+          + "{\"category\":\"b\",\"price\":2},{\"category\":\"a\",\"price\":3}]')";
+      new XQuery(chain, storeQuery).evaluate(ctx);
+    }
+
+    try (final var database = Databases.openJsonDatabase(sirixPath.resolve("mycol.jn"));
+         final var view = MaterializedJsonView.newBuilder(database, "view", QUERY).groupBy("category").build();
+         final var manager = database.openResourceManager("mydoc.jn");
+         final var wtx = manager.beginNodeTrx()) {
+      view.materialize();
+      wtx.addPostCommitHook(view);
+
+      // The sum of a record with a string price can't be evaluated, but the commit must succeed.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertSubtreeAsLastChild(JsonShredder.createStringReader("{\"category\":\"b\",\"price\":\"x\"}"));
+
+      assertEquals(2, manager.getMostRecentRevisionNumber());
+      assertTrue(view.isStale());
+      assertEquals(JsonParser.parseString("{\"a\":4,\"b\":2}"), serialize(view.getViewResourceManager()));
+
+      // The next refresh re-evaluates the whole view.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToLastChild();
+      wtx.remove();
+      wtx.commit();
+
+      assertFalse(view.isStale());
+      assertEquals(JsonParser.parseString("{\"a\":4,\"b\":2}"), serialize(view.getViewResourceManager()));
+      assertEquals(2, view.getViewResourceManager().getMostRecentRevisionNumber());
+    }
+  }
+
+  private static JsonObject serialize(final JsonResourceManager manager) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(manager, writer).build().call();
+    return JsonParser.parseString(writer.toString()).getAsJsonObject();
+  }
+
+  private static long getNodeKeyOfGroup(final JsonResourceManager manager, final String group) {
+    try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+      rtx.moveToDocumentRoot();
+      rtx.moveToFirstChild();
+      rtx.moveToFirstChild();
+      do {
+        if (group.equals(rtx.getName().getLocalName())) {
+          return rtx.getNodeKey();
+        }
+      } while (rtx.moveToRightSibling().hasMoved());
+      throw new AssertionError("Group " + group + " not found.");
+    }
+  }
+}